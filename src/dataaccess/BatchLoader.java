@@ -0,0 +1,187 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+public final class BatchLoader<K, V> {
+    private static final Logger logger = LogManager.getLogger(BatchLoader.class);
+    private static final long TICK_MILLIS = Math.max(0, ConfigLoader.getLong("db.batchLoader.tickMs", 2));
+
+    private final String name;
+    private final BatchFunction<K, V> batchFunction;
+    private final int maxBatchSize;
+    private final Executor tickExecutor;
+    private final Map<K, CompletableFuture<V>> loaded = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private boolean dispatchScheduled;
+
+    public BatchLoader(String name, BatchFunction<K, V> batchFunction) {
+        this(name, batchFunction, SqlBatch.getBatchSize());
+    }
+
+    public BatchLoader(String name, BatchFunction<K, V> batchFunction, int maxBatchSize) {
+        this(name, batchFunction, maxBatchSize, CompletableFuture.delayedExecutor(TICK_MILLIS, TimeUnit.MILLISECONDS,
+                task -> DatabaseExecutor.submit(() -> {
+                    task.run();
+                    return null;
+                })));
+    }
+
+    BatchLoader(String name, BatchFunction<K, V> batchFunction, int maxBatchSize, Executor tickExecutor) {
+        if (batchFunction == null) {
+            throw new IllegalArgumentException("La función de carga por lotes no puede ser nula");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor a cero");
+        }
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.tickExecutor = tickExecutor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CompletableFuture<V> load(K key) {
+        return load(key, true);
+    }
+
+    public CompletableFuture<Map<K, V>> loadMany(Collection<K> keys) {
+        return loadMany(keys, true);
+    }
+
+    public Map<K, V> getAll(Collection<K> keys) throws SQLException {
+        CompletableFuture<Map<K, V>> future = loadMany(keys, false);
+        dispatch();
+        return await(future);
+    }
+
+    public V get(K key) throws SQLException {
+        CompletableFuture<V> future = load(key, false);
+        dispatch();
+        return await(future);
+    }
+
+    private CompletableFuture<V> load(K key, boolean tick) {
+        if (key == null) {
+            throw new IllegalArgumentException("La clave a cargar no puede ser nula");
+        }
+        CompletableFuture<V> existing = loaded.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        boolean scheduleTick = false;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            future = loaded.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            loaded.put(key, future);
+            pending.put(key, future);
+            if (tick && !dispatchScheduled) {
+                dispatchScheduled = true;
+                scheduleTick = true;
+            }
+        }
+        if (scheduleTick) {
+            tickExecutor.execute(this::dispatch);
+        }
+        return future;
+    }
+
+    private CompletableFuture<Map<K, V>> loadMany(Collection<K> keys, boolean tick) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.putIfAbsent(key, load(key, tick));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<K, V> values = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> values.put(key, future.join()));
+                    return values;
+                });
+    }
+
+    public void dispatch() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            dispatchScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<K> keys = new ArrayList<>(batch.keySet());
+        for (List<K> chunk : SqlBatch.partition(keys, maxBatchSize)) {
+            try {
+                Map<K, V> values = batchFunction.load(chunk);
+                for (K key : chunk) {
+                    batch.get(key).complete(values != null ? values.get(key) : null);
+                }
+            } catch (Exception e) {
+                logger.error("Error al cargar en lote {} claves de {}", chunk.size(), name, e);
+                for (K key : chunk) {
+                    loaded.remove(key);
+                    batch.get(key).completeExceptionally(e);
+                }
+            }
+        }
+        logger.debug("Carga en lote de {}: {} claves en {} consultas", name, keys.size(),
+                (keys.size() + maxBatchSize - 1) / maxBatchSize);
+    }
+
+    public void clear(K key) {
+        loaded.remove(key);
+    }
+
+    public void clearAll() {
+        loaded.clear();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Carga en lote interrumpida", e);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException("Error en la carga en lote", cause);
+        }
+    }
+
+    @FunctionalInterface
+    public interface BatchFunction<K, V> {
+        Map<K, V> load(List<K> keys) throws SQLException;
+    }
+}
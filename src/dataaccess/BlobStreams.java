@@ -0,0 +1,79 @@
+package dataaccess;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public final class BlobStreams {
+    private static final Logger logger = LogManager.getLogger(BlobStreams.class);
+    private static final long TRANSFER_CHUNK = Math.max(8 * 1024L,
+            ConfigLoader.getLong("documents.stream.chunkBytes", 1024 * 1024L));
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private BlobStreams() {
+    }
+
+    public static InputStream openFile(Path source) throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("El archivo de origen no puede ser nulo");
+        }
+        return Channels.newInputStream(FileChannel.open(source, StandardOpenOption.READ));
+    }
+
+    public static PreparedStatement prepareUpload(Connection connection, String query) throws SQLException {
+        if (connection.isWrapperFor(JdbcConnection.class)) {
+            return connection.unwrap(JdbcConnection.class).serverPrepareStatement(query);
+        }
+        return connection.prepareStatement(query);
+    }
+
+    public static long copyToFile(InputStream input, Path target) throws IOException {
+        if (input == null || target == null) {
+            throw new IllegalArgumentException("El flujo y el archivo de destino no pueden ser nulos");
+        }
+
+        Path partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+        long position = 0;
+        try {
+            try (ReadableByteChannel source = Channels.newChannel(input);
+                 FileChannel destination = FileChannel.open(partial, StandardOpenOption.CREATE,
+                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = destination.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+                destination.force(false);
+            }
+            moveIntoPlace(partial, target);
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            logger.error("Error al escribir el archivo {}", target, e);
+            throw e;
+        }
+
+        logger.debug("Se escribieron {} bytes en {}", position, target);
+        return position;
+    }
+
+    private static void moveIntoPlace(Path partial, Path target) throws IOException {
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
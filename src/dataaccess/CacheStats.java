@@ -0,0 +1,14 @@
+package dataaccess;
+
+public record CacheStats(String name, long hits, long misses, long evictions, long expirations,
+                         int size, int maxSize, long ttlMillis) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRatio() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,15 @@
+package dataaccess;
+
+public record ChangeEvent(long id, String entity, String entityId, boolean local) {
+
+    public Integer entityIdAsInt() {
+        if (entityId == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(entityId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public final class ChangeLog {
+    private static final Logger logger = LogManager.getLogger(ChangeLog.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("db.changeLog.enabled", true);
+    private static final String CLIENT_ID = UUID.randomUUID().toString().substring(0, 8);
+    private static final int MYSQL_NO_SUCH_TABLE = 1146;
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS registro_cambios (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "entidad VARCHAR(64) NOT NULL, " +
+            "id_entidad VARCHAR(64) NULL, " +
+            "origen VARCHAR(16) NOT NULL, " +
+            "fecha TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "INDEX idx_registro_cambios_fecha (fecha))";
+    private static final String INSERT_CHANGE = "INSERT INTO registro_cambios (entidad, id_entidad, origen) VALUES (?, ?, ?)";
+    private static final Map<String, List<Consumer<ChangeEvent>>> listeners = new ConcurrentHashMap<>();
+    private static volatile boolean tableMissing;
+    private static ChangeLogPoller poller;
+
+    private ChangeLog() {
+    }
+
+    public static String getClientId() {
+        return CLIENT_ID;
+    }
+
+    public static void recordChange(String entity, Object entityId) {
+        String id = entityId != null ? String.valueOf(entityId) : null;
+        if (ENABLED && !tableMissing) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(INSERT_CHANGE)) {
+                statement.setString(1, entity);
+                statement.setString(2, id);
+                statement.setString(3, CLIENT_ID);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                if (e.getErrorCode() == MYSQL_NO_SUCH_TABLE) {
+                    tableMissing = true;
+                    logger.warn("No existe la tabla registro_cambios; los demás clientes no recibirán notificaciones");
+                } else {
+                    logger.warn("No se pudo registrar el cambio de {} {}", entity, id, e);
+                }
+            }
+        }
+
+        ChangeEvent event = new ChangeEvent(0, entity, id, true);
+        if (!TransactionScope.runAfterCompletion(() -> publish(event))) {
+            publish(event);
+        }
+    }
+
+    public static Subscription subscribe(Consumer<ChangeEvent> listener, String... entities) {
+        if (entities.length == 0) {
+            throw new IllegalArgumentException("Debe indicarse al menos una entidad a observar");
+        }
+        for (String entity : entities) {
+            listeners.computeIfAbsent(entity, key -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+        Set<String> observed = Set.copyOf(Arrays.asList(entities));
+        return () -> {
+            for (String entity : observed) {
+                List<Consumer<ChangeEvent>> registered = listeners.get(entity);
+                if (registered != null) {
+                    registered.remove(listener);
+                }
+            }
+        };
+    }
+
+    public static synchronized void startPolling() {
+        if (!ENABLED || poller != null) {
+            return;
+        }
+        if (!ensureTable()) {
+            return;
+        }
+        poller = new ChangeLogPoller(
+                Math.max(200, ConfigLoader.getLong("db.changeLog.pollMs", 2_000)),
+                Math.max(1, ConfigLoader.getInt("db.changeLog.batchSize", 500)),
+                Math.max(1, ConfigLoader.getInt("db.changeLog.retentionHours", 24)),
+                Math.max(0, ConfigLoader.getLong("db.changeLog.gapTimeoutMs", 10_000)));
+        poller.start();
+        logger.info("Escucha de cambios iniciada para el cliente {}", CLIENT_ID);
+    }
+
+    public static synchronized void stopPolling() {
+        if (poller != null) {
+            poller.shutdown();
+            poller = null;
+        }
+    }
+
+    static void publishRemote(Collection<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            publish(event);
+        }
+    }
+
+    private static void publish(ChangeEvent event) {
+        List<Consumer<ChangeEvent>> registered = listeners.get(event.entity());
+        if (registered == null) {
+            return;
+        }
+        for (Consumer<ChangeEvent> listener : registered) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                logger.warn("Error al notificar el cambio de {} {}", event.entity(), event.entityId(), e);
+            }
+        }
+    }
+
+    private static boolean ensureTable() {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            tableMissing = false;
+            return true;
+        } catch (SQLException e) {
+            logger.warn("No se pudo preparar la tabla registro_cambios; se desactiva la escucha de cambios", e);
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
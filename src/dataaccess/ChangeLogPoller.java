@@ -0,0 +1,154 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class ChangeLogPoller {
+    private static final Logger logger = LogManager.getLogger(ChangeLogPoller.class);
+    private static final int MAX_TRACKED_GAPS = 1_000;
+    private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final String SELECT_COLUMNS = "SELECT id, entidad, id_entidad, origen FROM registro_cambios ";
+
+    private final long pollMillis;
+    private final int batchSize;
+    private final int retentionHours;
+    private final long gapTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, Long> gapDeadlines = new LinkedHashMap<>();
+    private long lastSeenId = -1;
+    private long lastPruneAt;
+
+    ChangeLogPoller(long pollMillis, int batchSize, int retentionHours, long gapTimeoutMillis) {
+        this.pollMillis = pollMillis;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-change-log-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            if (lastSeenId < 0) {
+                lastSeenId = findLatestId();
+                lastPruneAt = System.currentTimeMillis();
+                logger.debug("Registro de cambios posicionado en el id {}", lastSeenId);
+                return;
+            }
+            poll();
+            pruneIfDue();
+        } catch (SQLException e) {
+            logger.debug("No se pudo consultar el registro de cambios: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Error inesperado al procesar el registro de cambios", e);
+        }
+    }
+
+    private void poll() throws SQLException {
+        expireGaps();
+        List<Long> gaps = new ArrayList<>(gapDeadlines.keySet());
+        String query = SELECT_COLUMNS + "WHERE id > ?"
+                + (gaps.isEmpty() ? "" : " OR id IN (" + SqlBatch.placeholders(gaps.size()) + ")")
+                + " ORDER BY id LIMIT " + batchSize;
+
+        Map<String, ChangeEvent> events = new LinkedHashMap<>();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, lastSeenId);
+            for (int i = 0; i < gaps.size(); i++) {
+                statement.setLong(i + 2, gaps.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong("id");
+                    trackPosition(id);
+                    if (ChangeLog.getClientId().equals(resultSet.getString("origen"))) {
+                        continue;
+                    }
+                    String entity = resultSet.getString("entidad");
+                    String entityId = resultSet.getString("id_entidad");
+                    events.putIfAbsent(entity + '#' + entityId, new ChangeEvent(id, entity, entityId, false));
+                }
+            }
+        }
+
+        if (!events.isEmpty()) {
+            logger.debug("Se recibieron {} cambios de otros clientes", events.size());
+            ChangeLog.publishRemote(events.values());
+        }
+    }
+
+    private void trackPosition(long id) {
+        if (gapDeadlines.remove(id) != null || id <= lastSeenId) {
+            return;
+        }
+        long deadline = System.nanoTime() + gapTimeoutNanos;
+        for (long missing = lastSeenId + 1; missing < id && gapTimeoutNanos > 0; missing++) {
+            if (gapDeadlines.size() >= MAX_TRACKED_GAPS) {
+                break;
+            }
+            gapDeadlines.put(missing, deadline);
+        }
+        lastSeenId = id;
+    }
+
+    private void expireGaps() {
+        long now = System.nanoTime();
+        Iterator<Long> deadlines = gapDeadlines.values().iterator();
+        while (deadlines.hasNext()) {
+            if (now - deadlines.next() >= 0) {
+                deadlines.remove();
+            }
+        }
+    }
+
+    private long findLatestId() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM registro_cambios")) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private void pruneIfDue() throws SQLException {
+        long now = System.currentTimeMillis();
+        if (now - lastPruneAt < PRUNE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPruneAt = now;
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "DELETE FROM registro_cambios WHERE fecha < NOW() - INTERVAL ? HOUR LIMIT 5000")) {
+            statement.setInt(1, retentionHours);
+            int removed = statement.executeUpdate();
+            if (removed > 0) {
+                logger.debug("Se depuraron {} registros de cambios antiguos", removed);
+            }
+        }
+    }
+}
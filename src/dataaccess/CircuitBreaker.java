@@ -0,0 +1,168 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class CircuitBreaker {
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long probeIntervalMillis;
+    private final Probe probe;
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService prober;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private ScheduledFuture<?> probeTask;
+
+    public CircuitBreaker(int failureThreshold, long probeIntervalMillis, Probe probe) {
+        if (failureThreshold <= 0 || probeIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Parámetros del circuit breaker inválidos");
+        }
+        this.failureThreshold = failureThreshold;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.probe = probe;
+        this.prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-circuit-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static CircuitBreaker fromConfig(Probe probe) {
+        return new CircuitBreaker(
+                ConfigLoader.getInt("db.circuit.failureThreshold", 3),
+                ConfigLoader.getLong("db.circuit.probeIntervalMs", 5_000),
+                probe);
+    }
+
+    public void checkAvailable() throws CircuitBreakerOpenException {
+        State current;
+        long openMillis;
+        synchronized (this) {
+            current = state;
+            openMillis = System.currentTimeMillis() - openedAt;
+        }
+        if (current != State.CLOSED) {
+            throw new CircuitBreakerOpenException("Base de datos fuera de línea desde hace "
+                    + openMillis + " ms; se reintentará automáticamente");
+        }
+    }
+
+    public void recordSuccess() {
+        synchronized (this) {
+            consecutiveFailures = 0;
+        }
+    }
+
+    public void recordFailure(SQLException exception) {
+        if (!SQLErrorClassifier.isConnectionFailure(exception) || exception instanceof CircuitBreakerOpenException) {
+            return;
+        }
+
+        boolean opened = false;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = System.currentTimeMillis();
+                probeTask = prober.scheduleWithFixedDelay(this::runProbe,
+                        probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+                opened = true;
+            }
+        }
+
+        if (opened) {
+            logger.warn("Circuit breaker abierto tras {} fallos consecutivos: {}",
+                    failureThreshold, exception.getMessage());
+            notifyListeners(State.OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public boolean isOpen() {
+        return getState() != State.CLOSED;
+    }
+
+    public void addStateListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeStateListener(Consumer<State> listener) {
+        listeners.remove(listener);
+    }
+
+    public void shutdown() {
+        prober.shutdownNow();
+    }
+
+    private void runProbe() {
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            state = State.HALF_OPEN;
+        }
+        notifyListeners(State.HALF_OPEN);
+
+        boolean healthy;
+        try {
+            healthy = probe.isHealthy();
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Sondeo de base de datos fallido: {}", e.getMessage());
+            healthy = false;
+        }
+
+        State next = healthy ? State.CLOSED : State.OPEN;
+        synchronized (this) {
+            state = next;
+            if (healthy) {
+                consecutiveFailures = 0;
+                if (probeTask != null) {
+                    probeTask.cancel(false);
+                    probeTask = null;
+                }
+            }
+        }
+
+        if (healthy) {
+            logger.info("Circuit breaker cerrado: la base de datos responde de nuevo");
+        }
+        notifyListeners(next);
+    }
+
+    private void notifyListeners(State newState) {
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(newState);
+            } catch (RuntimeException e) {
+                logger.warn("Error en listener del circuit breaker", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Probe {
+        boolean isHealthy() throws SQLException;
+    }
+}
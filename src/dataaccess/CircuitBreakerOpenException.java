@@ -0,0 +1,9 @@
+package dataaccess;
+
+import java.sql.SQLTransientConnectionException;
+
+public class CircuitBreakerOpenException extends SQLTransientConnectionException {
+    public CircuitBreakerOpenException(String message) {
+        super(message, "08S01");
+    }
+}
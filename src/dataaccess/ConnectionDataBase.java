@@ -5,27 +5,85 @@ import org.apache.logging.log4j.Logger;
 import logic.services.ExceptionManager;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 public class ConnectionDataBase {
     private static final Logger logger = LogManager.getLogger(ConnectionDataBase.class);
+    private static final int PROBE_TIMEOUT_SECONDS = 2;
+    private static final CircuitBreaker circuitBreaker = CircuitBreaker.fromConfig(ConnectionDataBase::probe);
+    private static final RetryPolicy retryPolicy = RetryPolicy.fromConfig();
+    private static volatile ConnectionPool pool;
 
     public static Connection getConnection() throws SQLException {
-        if (ConfigLoader.get("db.url") == null) {
-            throw new SQLException("Database configuration not available");
+        Connection transactional = TransactionScope.joinCurrent();
+        if (transactional != null) {
+            return transactional;
         }
 
-        String url = ConfigLoader.get("db.url");
-        String user = ConfigLoader.get("db.user");
-        String password = ConfigLoader.get("db.password");
+        try {
+            circuitBreaker.checkAvailable();
+        } catch (CircuitBreakerOpenException e) {
+            logger.debug(e.getMessage());
+            throw e;
+        }
 
         try {
-            return DriverManager.getConnection(url, user, password);
+            Connection connection = getPool().getConnection();
+            circuitBreaker.recordSuccess();
+            return InstrumentedConnection.wrapIfEnabled(connection);
         } catch (SQLException e) {
+            circuitBreaker.recordFailure(e);
             String errorMessage = ExceptionManager.handleException(e);
             logger.error(errorMessage);
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    public static <T> T readWithRetry(DatabaseExecutor.DatabaseCall<T> read) throws Exception {
+        return retryPolicy.executeRead(read);
+    }
+
+    public static CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public static boolean isDatabaseOnline() {
+        return !circuitBreaker.isOpen();
+    }
+
+    public static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (ConnectionDataBase.class) {
+                current = pool;
+                if (current == null) {
+                    if (ConfigLoader.get("db.url") == null) {
+                        throw new SQLException("Database configuration not available");
+                    }
+                    current = ConnectionPool.fromConfig();
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public static void shutdown() {
+        ChangeLog.stopPolling();
+        QueryMetrics.dumpToConfiguredFile();
+        EntityCaches.logStatistics();
+        synchronized (ConnectionDataBase.class) {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+        circuitBreaker.shutdown();
+    }
+
+    private static boolean probe() throws SQLException {
+        try (Connection connection = getPool().getConnection()) {
+            return connection.isValid(PROBE_TIMEOUT_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConnectionPool {
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+    private final String url;
+    private final Properties connectionProperties;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMillis;
+
+    private final Deque<PooledEntry> idleEntries = new ArrayDeque<>();
+    private final Set<PooledEntry> borrowedEntries = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final ScheduledExecutorService housekeeper;
+    private int totalConnections;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds,
+                          long leakDetectionThresholdMillis, long housekeepingIntervalMillis) {
+        if (url == null || url.trim().isEmpty()) {
+            throw new IllegalArgumentException("La URL de la base de datos no puede ser nula o vacía");
+        }
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Tamaños de pool inválidos - mínimo: " + minSize + ", máximo: " + maxSize);
+        }
+
+        this.url = url;
+        this.connectionProperties = new Properties();
+        if (user != null) {
+            connectionProperties.setProperty("user", user);
+        }
+        if (password != null) {
+            connectionProperties.setProperty("password", password);
+        }
+        connectionProperties.setProperty("connectTimeout",
+                String.valueOf(ConfigLoader.getInt("db.connectTimeoutMs", 5_000)));
+        connectionProperties.setProperty("rewriteBatchedStatements",
+                String.valueOf(ConfigLoader.getBoolean("db.rewriteBatchedStatements", true)));
+        if (ResultStreams.usesCursorFetch()) {
+            connectionProperties.setProperty("useCursorFetch", "true");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep,
+                housekeepingIntervalMillis, housekeepingIntervalMillis, TimeUnit.MILLISECONDS);
+
+        logger.info("Pool de conexiones creado - mínimo: {}, máximo: {}, inactividad: {} ms, fuga: {} ms",
+                minSize, maxSize, idleTimeoutMillis, leakDetectionThresholdMillis);
+    }
+
+    public static ConnectionPool fromConfig() {
+        return new ConnectionPool(
+                ConfigLoader.get("db.url"),
+                ConfigLoader.get("db.user"),
+                ConfigLoader.get("db.password"),
+                ConfigLoader.getInt("db.pool.minSize", 2),
+                ConfigLoader.getInt("db.pool.maxSize", 10),
+                ConfigLoader.getLong("db.pool.idleTimeoutMs", 300_000),
+                ConfigLoader.getLong("db.pool.borrowTimeoutMs", 10_000),
+                ConfigLoader.getInt("db.pool.validationTimeoutSeconds", 2),
+                ConfigLoader.getLong("db.pool.leakDetectionThresholdMs", 60_000),
+                ConfigLoader.getLong("db.pool.housekeepingIntervalMs", 30_000)
+        );
+    }
+
+    public Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+        while (true) {
+            PooledEntry entry = takeIdleOrReserveSlot(deadline);
+            if (entry == null) {
+                entry = openEntry();
+            } else if (!isUsable(entry)) {
+                logger.debug("Conexión inválida descartada del pool");
+                discard(entry);
+                continue;
+            }
+            return lease(entry);
+        }
+    }
+
+    public int prefill(int targetSize, Executor executor) {
+        List<CompletableFuture<Boolean>> openings = new ArrayList<>();
+        while (reserveSlotBelow(targetSize)) {
+            openings.add(CompletableFuture.supplyAsync(this::openValidatedIdleEntry, executor));
+        }
+
+        int opened = 0;
+        for (CompletableFuture<Boolean> opening : openings) {
+            if (opening.join()) {
+                opened++;
+            }
+        }
+        logger.info("Pool precargado con {} de {} conexiones solicitadas", opened, openings.size());
+        return opened;
+    }
+
+    private boolean openValidatedIdleEntry() {
+        PooledEntry entry;
+        try {
+            entry = openEntry();
+        } catch (SQLException e) {
+            logger.warn("No se pudo abrir conexión durante la precarga: {}", e.getMessage());
+            return false;
+        }
+        if (!isUsable(entry)) {
+            discard(entry);
+            return false;
+        }
+        addIdle(entry);
+        return true;
+    }
+
+    public int getTotalConnections() {
+        lock.lock();
+        try {
+            return totalConnections;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleConnections() {
+        lock.lock();
+        try {
+            return idleEntries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getActiveConnections() {
+        return borrowedEntries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void shutdown() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        housekeeper.shutdownNow();
+
+        List<PooledEntry> toClose;
+        lock.lock();
+        try {
+            toClose = new ArrayList<>(idleEntries);
+            idleEntries.clear();
+            totalConnections -= toClose.size();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        toClose.forEach(this::closePhysical);
+        logger.info("Pool de conexiones cerrado - {} conexiones en uso se cerrarán al devolverse",
+                borrowedEntries.size());
+    }
+
+    private PooledEntry takeIdleOrReserveSlot(long deadline) throws SQLException {
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new SQLException("El pool de conexiones está cerrado");
+                }
+
+                PooledEntry entry = idleEntries.pollFirst();
+                if (entry != null) {
+                    return entry;
+                }
+                if (totalConnections < maxSize) {
+                    totalConnections++;
+                    return null;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new PoolExhaustedException("No hay conexiones disponibles después de "
+                            + borrowTimeoutMillis + " ms (máximo " + maxSize + ")");
+                }
+                available.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrumpido mientras se esperaba una conexión", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PooledEntry openEntry() throws SQLException {
+        long start = System.currentTimeMillis();
+        try {
+            Connection physical = DriverManager.getConnection(url, connectionProperties);
+            logger.debug("Nueva conexión física abierta [{} ms]", System.currentTimeMillis() - start);
+            return new PooledEntry(physical);
+        } catch (SQLException e) {
+            releaseSlot();
+            throw e;
+        }
+    }
+
+    private boolean isUsable(PooledEntry entry) {
+        if (entry.broken) {
+            return false;
+        }
+        if (System.currentTimeMillis() - entry.lastReturnedAt < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection lease(PooledEntry entry) {
+        entry.borrowedAt = System.currentTimeMillis();
+        entry.borrowingThread = Thread.currentThread().getName();
+        entry.borrowTrace = leakDetectionThresholdMillis > 0 ? new Exception("Conexión obtenida aquí") : null;
+        entry.leakReported = false;
+        borrowedEntries.add(entry);
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new LeaseHandler(entry));
+    }
+
+    private void release(PooledEntry entry) {
+        borrowedEntries.remove(entry);
+        if (entry.leakReported) {
+            logger.info("Conexión reportada como posible fuga fue devuelta tras {} ms",
+                    System.currentTimeMillis() - entry.borrowedAt);
+        }
+
+        if (closed || entry.broken || !resetState(entry)) {
+            discard(entry);
+            return;
+        }
+
+        entry.lastReturnedAt = System.currentTimeMillis();
+        entry.borrowTrace = null;
+        lock.lock();
+        try {
+            idleEntries.offerFirst(entry);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean resetState(PooledEntry entry) {
+        Connection physical = entry.physical;
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly()) {
+                physical.setReadOnly(false);
+            }
+            if (physical.getTransactionIsolation() != entry.defaultIsolation) {
+                physical.setTransactionIsolation(entry.defaultIsolation);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            logger.warn("No se pudo restablecer el estado de la conexión, se descartará", e);
+            return false;
+        }
+    }
+
+    private void discard(PooledEntry entry) {
+        closePhysical(entry);
+        releaseSlot();
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            totalConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closePhysical(PooledEntry entry) {
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Error al cerrar conexión física", e);
+        }
+    }
+
+    private void housekeep() {
+        try {
+            evictIdle();
+            detectLeaks();
+            fillToMinimum();
+        } catch (RuntimeException e) {
+            logger.error("Error en el mantenimiento del pool de conexiones", e);
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        List<PooledEntry> evicted = new ArrayList<>();
+
+        lock.lock();
+        try {
+            Iterator<PooledEntry> oldestFirst = idleEntries.descendingIterator();
+            while (oldestFirst.hasNext() && totalConnections > minSize) {
+                PooledEntry entry = oldestFirst.next();
+                if (now - entry.lastReturnedAt < idleTimeoutMillis) {
+                    break;
+                }
+                oldestFirst.remove();
+                totalConnections--;
+                evicted.add(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!evicted.isEmpty()) {
+            evicted.forEach(this::closePhysical);
+            logger.debug("Se desalojaron {} conexiones inactivas", evicted.size());
+        }
+    }
+
+    private void detectLeaks() {
+        if (leakDetectionThresholdMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PooledEntry entry : borrowedEntries) {
+            long heldMillis = now - entry.borrowedAt;
+            if (!entry.leakReported && heldMillis > leakDetectionThresholdMillis) {
+                entry.leakReported = true;
+                logger.warn("Posible fuga de conexión: prestada hace {} ms al hilo {}",
+                        heldMillis, entry.borrowingThread, entry.borrowTrace);
+            }
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed && reserveSlotBelow(minSize)) {
+            try {
+                addIdle(openEntry());
+            } catch (SQLException e) {
+                logger.warn("No se pudo completar el mínimo de conexiones del pool: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void addIdle(PooledEntry entry) {
+        entry.lastReturnedAt = System.currentTimeMillis();
+        lock.lock();
+        try {
+            idleEntries.offerLast(entry);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean reserveSlotBelow(int limit) {
+        lock.lock();
+        try {
+            if (!closed && totalConnections < Math.min(limit, maxSize)) {
+                totalConnections++;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class PooledEntry {
+        private final Connection physical;
+        private final int defaultIsolation;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt;
+        private volatile String borrowingThread;
+        private volatile Exception borrowTrace;
+        private volatile boolean leakReported;
+        private volatile boolean broken;
+
+        private PooledEntry(Connection physical) throws SQLException {
+            this.physical = physical;
+            this.defaultIsolation = physical.getTransactionIsolation();
+        }
+    }
+
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private final AtomicBoolean returned = new AtomicBoolean(false);
+
+        private LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned.get()) {
+                throw new SQLException("La conexión ya fue devuelta al pool");
+            }
+
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String sqlState = ((SQLException) cause).getSQLState();
+                    if (sqlState != null && sqlState.startsWith("08")) {
+                        entry.broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class DatabaseExecutor {
+    private static final Logger logger = LogManager.getLogger(DatabaseExecutor.class);
+    private static final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("db-task-", 0).factory());
+    private static final int MAX_CONCURRENCY = Math.max(1, ConfigLoader.getInt("db.async.maxConcurrency",
+            ConfigLoader.getInt("db.pool.maxSize", 10)));
+    private static final Semaphore permits = new Semaphore(MAX_CONCURRENCY, true);
+
+    private DatabaseExecutor() {
+    }
+
+    public static <T> CompletableFuture<T> submit(DatabaseCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        executor.execute(() -> run(call, future, runner));
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                synchronized (runner) {
+                    Thread thread = runner.get();
+                    if (thread != null) {
+                        thread.interrupt();
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
+    public static int getMaxConcurrency() {
+        return MAX_CONCURRENCY;
+    }
+
+    public static int getRunningTasks() {
+        return MAX_CONCURRENCY - permits.availablePermits();
+    }
+
+    public static int getQueuedTasks() {
+        return permits.getQueueLength();
+    }
+
+    private static <T> void run(DatabaseCall<T> call, CompletableFuture<T> future, AtomicReference<Thread> runner) {
+        if (future.isDone()) {
+            return;
+        }
+        synchronized (runner) {
+            runner.set(Thread.currentThread());
+        }
+
+        boolean acquired = false;
+        try {
+            permits.acquire();
+            acquired = true;
+            synchronized (runner) {
+                runner.set(null);
+                if (Thread.interrupted() || future.isDone()) {
+                    future.cancel(false);
+                    return;
+                }
+            }
+            future.complete(call.call());
+        } catch (InterruptedException e) {
+            future.cancel(false);
+        } catch (Throwable e) {
+            if (!future.isCancelled()) {
+                logger.debug("Operación de base de datos asíncrona fallida", e);
+            }
+            future.completeExceptionally(e);
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            synchronized (runner) {
+                runner.set(null);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface DatabaseCall<T> {
+        T call() throws Exception;
+    }
+}
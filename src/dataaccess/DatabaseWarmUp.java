@@ -0,0 +1,99 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DatabaseWarmUp {
+    private static final Logger logger = LogManager.getLogger(DatabaseWarmUp.class);
+    private static final String DRIVER_CLASS = "com.mysql.cj.jdbc.Driver";
+    private static final String LOGIN_WARM_UP_QUERY = "SELECT c.contraseña, u.estado FROM cuenta c " +
+            "JOIN usuario u ON c.id_usuario = u.id_usuario " +
+            "WHERE c.correo_e = ?";
+
+    private static volatile CompletableFuture<Boolean> readiness;
+
+    public static synchronized CompletableFuture<Boolean> start() {
+        if (readiness != null) {
+            return readiness;
+        }
+
+        long start = System.currentTimeMillis();
+        readiness = CompletableFuture
+                .supplyAsync(DatabaseWarmUp::warmUp, DatabaseWarmUp::startWarmUpThread)
+                .exceptionally(e -> {
+                    logger.error("Error durante el calentamiento de la base de datos", e);
+                    return false;
+                })
+                .whenComplete((ready, e) -> logger.info("Calentamiento de base de datos finalizado - listo: {} [{} ms]",
+                        ready, System.currentTimeMillis() - start));
+        return readiness;
+    }
+
+    public static CompletableFuture<Boolean> getReadiness() {
+        CompletableFuture<Boolean> current = readiness;
+        return current != null ? current : CompletableFuture.completedFuture(false);
+    }
+
+    private static void startWarmUpThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "db-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static boolean warmUp() {
+        try {
+            Class.forName(DRIVER_CLASS);
+        } catch (ClassNotFoundException e) {
+            logger.error("No se encontró el driver JDBC de MySQL", e);
+            return false;
+        }
+
+        if (ConfigLoader.get("db.url") == null) {
+            logger.error("Configuración de base de datos no disponible para el calentamiento");
+            return false;
+        }
+
+        int connections = ConfigLoader.getInt("db.warmup.connections", 2);
+        int threads = Math.max(1, Math.min(connections, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "db-warmup-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            ConnectionPool pool = ConnectionDataBase.getPool();
+            if (pool.prefill(connections, executor) == 0 && pool.getIdleConnections() == 0) {
+                return false;
+            }
+            runLoginWarmUpQuery();
+            return true;
+        } catch (SQLException e) {
+            logger.warn("No se pudo calentar la conexión con la base de datos: {}", e.getMessage());
+            return false;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void runLoginWarmUpQuery() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(LOGIN_WARM_UP_QUERY)) {
+
+            statement.setString(1, "");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package dataaccess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+public enum DocumentCodec {
+    NONE("none", ""),
+    DEFLATE("deflate", ".deflate");
+
+    public static final int SAMPLE_SIZE = 64 * 1024;
+
+    private static final boolean ENABLED = ConfigLoader.getBoolean("documents.compression.enabled", true);
+    private static final int LEVEL = Math.max(Deflater.BEST_SPEED, Math.min(Deflater.BEST_COMPRESSION,
+            ConfigLoader.getInt("documents.compression.level", 6)));
+    private static final long MIN_BYTES = ConfigLoader.getLong("documents.compression.minBytes", 4 * 1024L);
+    private static final double MAX_ENTROPY = ConfigLoader.getDouble("documents.compression.maxEntropyBits", 7.5);
+    private static final double MIN_SAVINGS = ConfigLoader.getDouble("documents.compression.minSavings", 0.10);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "JPG", "JPEG", "PNG", "GIF", "DOCX", "XLSX", "PPTX", "ZIP", "GZ", "7Z", "RAR");
+
+    private final String id;
+    private final String suffix;
+
+    DocumentCodec(String id, String suffix) {
+        this.id = id;
+        this.suffix = suffix;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public static DocumentCodec fromId(String id) {
+        for (DocumentCodec codec : values()) {
+            if (codec.id.equalsIgnoreCase(id)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Códec de documento desconocido: " + id);
+    }
+
+    public OutputStream encode(OutputStream output) {
+        return switch (this) {
+            case NONE -> output;
+            case DEFLATE -> {
+                Deflater deflater = new Deflater(LEVEL);
+                yield new DeflaterOutputStream(output, deflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            deflater.end();
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    public InputStream decode(InputStream input) {
+        return switch (this) {
+            case NONE -> input;
+            case DEFLATE -> {
+                Inflater inflater = new Inflater();
+                yield new InflaterInputStream(input, inflater, BUFFER_SIZE) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            inflater.end();
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    public static DocumentCodec choose(byte[] sample, int length, String fileType) {
+        if (!ENABLED || length < Math.min(MIN_BYTES, SAMPLE_SIZE)) {
+            return NONE;
+        }
+        if (fileType != null && COMPRESSED_TYPES.contains(fileType.trim().toUpperCase(Locale.ROOT))) {
+            return NONE;
+        }
+        if (hasCompressedSignature(sample, length)) {
+            return NONE;
+        }
+        return entropy(sample, length) <= MAX_ENTROPY ? DEFLATE : NONE;
+    }
+
+    public static boolean isWorthKeeping(long originalSize, long encodedSize) {
+        return encodedSize <= originalSize * (1 - MIN_SAVINGS);
+    }
+
+    public static double entropy(byte[] data, int length) {
+        if (length <= 0) {
+            return 0;
+        }
+        int[] counts = new int[256];
+        for (int i = 0; i < length; i++) {
+            counts[data[i] & 0xFF]++;
+        }
+        double entropy = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                double probability = (double) count / length;
+                entropy -= probability * (Math.log(probability) / Math.log(2));
+            }
+        }
+        return entropy;
+    }
+
+    public static Estimate estimate(InputStream input, String fileType) throws IOException {
+        byte[] sample = input.readNBytes(SAMPLE_SIZE);
+        DocumentCodec codec = choose(sample, sample.length, fileType);
+        CountingOutputStream counter = new CountingOutputStream();
+        long originalSize = sample.length;
+        try (OutputStream output = codec.encode(counter)) {
+            output.write(sample);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+                originalSize += read;
+            }
+        }
+        if (codec != NONE && !isWorthKeeping(originalSize, counter.count)) {
+            return new Estimate(NONE, originalSize, originalSize);
+        }
+        return new Estimate(codec, originalSize, counter.count);
+    }
+
+    private static boolean hasCompressedSignature(byte[] sample, int length) {
+        if (length < 4) {
+            return false;
+        }
+        int b0 = sample[0] & 0xFF;
+        int b1 = sample[1] & 0xFF;
+        int b2 = sample[2] & 0xFF;
+        int b3 = sample[3] & 0xFF;
+        return (b0 == 0xFF && b1 == 0xD8 && b2 == 0xFF)
+                || (b0 == 0x89 && b1 == 'P' && b2 == 'N' && b3 == 'G')
+                || (b0 == 'P' && b1 == 'K' && b2 == 0x03 && b3 == 0x04)
+                || (b0 == 0x1F && b1 == 0x8B);
+    }
+
+    public record Estimate(DocumentCodec codec, long originalSize, long storedSize) {}
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int value) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
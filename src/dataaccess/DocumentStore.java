@@ -0,0 +1,260 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+public final class DocumentStore {
+    private static final Logger logger = LogManager.getLogger(DocumentStore.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String STAGING_DIRECTORY = "tmp";
+    private static final String IDENTITY_FILE = ".almacen-id";
+
+    private static volatile DocumentStore defaultStore;
+    private static volatile boolean defaultResolved;
+
+    private final Path root;
+    private final Path staging;
+
+    public DocumentStore(Path root) {
+        if (root == null) {
+            throw new IllegalArgumentException("El directorio del almacén no puede ser nulo");
+        }
+        this.root = root.toAbsolutePath().normalize();
+        this.staging = this.root.resolve(STAGING_DIRECTORY);
+    }
+
+    public static DocumentStore getDefault() {
+        if (defaultResolved) {
+            return defaultStore;
+        }
+        synchronized (DocumentStore.class) {
+            if (!defaultResolved) {
+                String directory = ConfigLoader.get("documents.store.dir");
+                if (directory == null || directory.isBlank()) {
+                    logger.info("Sin almacén de documentos compartido configurado; los documentos se guardan en la base de datos");
+                } else {
+                    defaultStore = new DocumentStore(Paths.get(directory.trim()));
+                    logger.info("Almacén de documentos compartido en {}", defaultStore.getRoot());
+                }
+                defaultResolved = true;
+            }
+        }
+        return defaultStore;
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public String readIdentity() throws IOException {
+        Path file = root.resolve(IDENTITY_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        return Files.readString(file, StandardCharsets.UTF_8).trim();
+    }
+
+    public String createIdentity() throws IOException {
+        Files.createDirectories(root);
+        try {
+            Files.writeString(root.resolve(IDENTITY_FILE), UUID.randomUUID().toString(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+        } catch (FileAlreadyExistsException e) {
+            logger.debug("El almacén {} ya tiene identificador", root);
+        }
+        return readIdentity();
+    }
+
+    public StagedDocument stage(InputStream input) throws IOException {
+        return stage(input, null);
+    }
+
+    public StagedDocument stage(InputStream input, String fileType) throws IOException {
+        if (input == null) {
+            throw new IllegalArgumentException("El flujo del documento no puede ser nulo");
+        }
+
+        Files.createDirectories(staging);
+        byte[] sample = input.readNBytes(DocumentCodec.SAMPLE_SIZE);
+        DocumentCodec codec = DocumentCodec.choose(sample, sample.length, fileType);
+        MessageDigest digest = newDigest();
+        digest.update(sample);
+        long size = sample.length;
+
+        Path temp = Files.createTempFile(staging, "doc-", ".tmp");
+        try {
+            try (OutputStream output = codec.encode(Files.newOutputStream(temp))) {
+                output.write(sample);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            long storedSize = Files.size(temp);
+            if (codec != DocumentCodec.NONE && !DocumentCodec.isWorthKeeping(size, storedSize)) {
+                temp = decodeInPlace(temp, codec);
+                codec = DocumentCodec.NONE;
+                storedSize = size;
+            }
+            return new StagedDocument(HexFormat.of().formatHex(digest.digest()), size, storedSize, codec, temp);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            logger.error("Error al preparar un documento para el almacén", e);
+            throw e;
+        }
+    }
+
+    public StagedDocument stage(Path file, String fileType) throws IOException {
+        try (InputStream input = BlobStreams.openFile(file)) {
+            return stage(input, fileType);
+        }
+    }
+
+    public StagedDocument stage(byte[] content, String fileType) throws IOException {
+        if (content == null) {
+            throw new IllegalArgumentException("El contenido del documento no puede ser nulo");
+        }
+        return stage(new ByteArrayInputStream(content), fileType);
+    }
+
+    public boolean publish(StagedDocument staged) throws IOException {
+        return publish(staged, false);
+    }
+
+    public boolean publish(StagedDocument staged, boolean replace) throws IOException {
+        if (replace) {
+            for (DocumentCodec codec : DocumentCodec.values()) {
+                if (codec != staged.codec()) {
+                    Files.deleteIfExists(pathOf(staged.hash(), codec));
+                }
+            }
+        } else if (contains(staged.hash())) {
+            Files.deleteIfExists(staged.file());
+            logger.debug("Documento {} ya existe en el almacén", staged.hash());
+            return false;
+        }
+
+        Path target = pathOf(staged.hash(), staged.codec());
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged.file(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staged.file(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        logger.debug("Documento {} agregado al almacén ({} bytes, {} en disco con {})",
+                staged.hash(), staged.size(), staged.storedSize(), staged.codec().getId());
+        return true;
+    }
+
+    public Path pathOf(String hash) {
+        return pathOf(hash, DocumentCodec.NONE);
+    }
+
+    public Path pathOf(String hash, DocumentCodec codec) {
+        if (!isValidHash(hash)) {
+            throw new IllegalArgumentException("Hash de documento inválido: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + codec.getSuffix());
+    }
+
+    public boolean contains(String hash) {
+        return codecOf(hash) != null;
+    }
+
+    public DocumentCodec codecOf(String hash) {
+        for (DocumentCodec codec : DocumentCodec.values()) {
+            if (Files.exists(pathOf(hash, codec))) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    public InputStream open(String hash) throws IOException {
+        DocumentCodec codec = codecOf(hash);
+        if (codec == null) {
+            throw new NoSuchFileException(pathOf(hash).toString(), null, "El documento no existe en el almacén");
+        }
+        return codec.decode(BlobStreams.openFile(pathOf(hash, codec)));
+    }
+
+    public byte[] readAllBytes(String hash) throws IOException {
+        try (InputStream input = open(hash)) {
+            return input.readAllBytes();
+        }
+    }
+
+    public long copyTo(String hash, Path target) throws IOException {
+        return BlobStreams.copyToFile(open(hash), target);
+    }
+
+    public boolean delete(String hash) throws IOException {
+        boolean deleted = false;
+        for (DocumentCodec codec : DocumentCodec.values()) {
+            deleted |= Files.deleteIfExists(pathOf(hash, codec));
+        }
+        if (deleted) {
+            logger.debug("Documento {} eliminado del almacén", hash);
+        }
+        return deleted;
+    }
+
+    private Path decodeInPlace(Path encoded, DocumentCodec codec) throws IOException {
+        Path raw = Files.createTempFile(staging, "doc-", ".tmp");
+        try (InputStream input = codec.decode(Files.newInputStream(encoded))) {
+            Files.copy(input, raw, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(raw);
+            throw e;
+        } finally {
+            Files.deleteIfExists(encoded);
+        }
+        return raw;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+
+    public record StagedDocument(String hash, long size, long storedSize, DocumentCodec codec, Path file)
+            implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dataaccess;
+
+import java.sql.SQLException;
+
+public interface EntityCache<K, V> {
+    String getName();
+
+    V get(K key, Loader<V> loader) throws SQLException;
+
+    void invalidate(K key);
+
+    void invalidateAll();
+
+    CacheStats getStats();
+
+    @FunctionalInterface
+    interface Loader<V> {
+        V load() throws SQLException;
+    }
+}
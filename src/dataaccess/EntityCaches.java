@@ -0,0 +1,102 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EntityCaches {
+    private static final Logger logger = LogManager.getLogger(EntityCaches.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("cache.enabled", true);
+    private static final Map<String, EntityCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    private EntityCaches() {
+    }
+
+    public static <K, V> EntityCache<K, V> create(String name, long defaultTtlMillis, int defaultMaxSize) {
+        boolean enabled = ENABLED && ConfigLoader.getBoolean("cache." + name + ".enabled", true);
+        long ttlMillis = ConfigLoader.getLong("cache." + name + ".ttlMs", defaultTtlMillis);
+        int maxSize = ConfigLoader.getInt("cache." + name + ".maxSize", defaultMaxSize);
+
+        EntityCache<K, V> cache = enabled && ttlMillis > 0 && maxSize > 0
+                ? new LruEntityCache<>(name, ttlMillis, maxSize)
+                : new PassThroughCache<>(name);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Ya existe una caché registrada con el nombre " + name);
+        }
+        logger.debug("Caché {} registrada (activa: {}, ttl: {} ms, máximo: {})",
+                name, cache instanceof LruEntityCache, ttlMillis, maxSize);
+        return cache;
+    }
+
+    public static List<CacheStats> getAllStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (EntityCache<?, ?> cache : caches.values()) {
+            stats.add(cache.getStats());
+        }
+        stats.sort(Comparator.comparing(CacheStats::name));
+        return Collections.unmodifiableList(stats);
+    }
+
+    public static void invalidateAll() {
+        for (EntityCache<?, ?> cache : caches.values()) {
+            cache.invalidateAll();
+        }
+    }
+
+    public static String report() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%10s %10s %9s %9s %7s %7s %8s  %s%n",
+                "aciertos", "fallos", "desalojos", "expirados", "tamaño", "máximo", "tasa", "caché"));
+        for (CacheStats stat : getAllStats()) {
+            builder.append(String.format(Locale.ROOT, "%10d %10d %9d %9d %7d %7d %7.1f%%  %s%n",
+                    stat.hits(), stat.misses(), stat.evictions(), stat.expirations(),
+                    stat.size(), stat.maxSize(), stat.hitRatio() * 100, stat.name()));
+        }
+        return builder.toString();
+    }
+
+    static void logStatistics() {
+        if (!caches.isEmpty()) {
+            logger.info("Estadísticas de cachés de entidades:{}{}", System.lineSeparator(), report());
+        }
+    }
+
+    private static final class PassThroughCache<K, V> implements EntityCache<K, V> {
+        private final String name;
+
+        private PassThroughCache(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public V get(K key, Loader<V> loader) throws SQLException {
+            return loader.load();
+        }
+
+        @Override
+        public void invalidate(K key) {
+        }
+
+        @Override
+        public void invalidateAll() {
+        }
+
+        @Override
+        public CacheStats getStats() {
+            return new CacheStats(name, 0, 0, 0, 0, 0, 0, 0);
+        }
+    }
+}
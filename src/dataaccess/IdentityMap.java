@@ -0,0 +1,119 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class IdentityMap implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(IdentityMap.class);
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+    private static final Set<IdentityMap> openMaps = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+    private final Binding ownBinding;
+    private volatile boolean closed;
+
+    private IdentityMap(boolean bindToCurrentThread) {
+        openMaps.add(this);
+        this.ownBinding = bindToCurrentThread ? bind() : null;
+    }
+
+    public static IdentityMap open() {
+        return new IdentityMap(true);
+    }
+
+    public static IdentityMap create() {
+        return new IdentityMap(false);
+    }
+
+    public static <T> T lookup(Class<T> type, Object id, EntityCache.Loader<T> loader) throws SQLException {
+        IdentityMap current = CURRENT.get();
+        if (current == null || current.closed || TransactionScope.isActive()) {
+            return loader.load();
+        }
+        return current.get(type, id, loader);
+    }
+
+    public static void evictEverywhere(Class<?> type, Object id) {
+        for (IdentityMap map : openMaps) {
+            if (id != null) {
+                map.evict(type, id);
+            } else {
+                map.evictAll(type);
+            }
+        }
+    }
+
+    public Binding bind() {
+        if (closed) {
+            throw new IllegalStateException("El mapa de identidad ya fue cerrado");
+        }
+        IdentityMap previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public <T> T get(Class<T> type, Object id, EntityCache.Loader<T> loader) throws SQLException {
+        Map<Object, Object> instances = entities.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+        Object existing = instances.get(id);
+        if (existing != null) {
+            return type.cast(existing);
+        }
+
+        T loaded = loader.load();
+        if (loaded == null || closed) {
+            return loaded;
+        }
+        Object winner = instances.putIfAbsent(id, loaded);
+        return winner != null ? type.cast(winner) : loaded;
+    }
+
+    public void evict(Class<?> type, Object id) {
+        Map<Object, Object> instances = entities.get(type);
+        if (instances != null) {
+            instances.remove(id);
+        }
+    }
+
+    public void evictAll(Class<?> type) {
+        entities.remove(type);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<Object, Object> instances : entities.values()) {
+            size += instances.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        openMaps.remove(this);
+        if (ownBinding != null) {
+            ownBinding.close();
+        }
+        logger.debug("Mapa de identidad cerrado con {} entidades", size());
+        entities.clear();
+    }
+
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,335 @@
+package dataaccess;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class InstrumentedConnection {
+
+    private InstrumentedConnection() {
+    }
+
+    public static Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    public static Connection wrapIfEnabled(Connection connection) {
+        return QueryMetrics.isEnabled() || SlowQueryLog.isEnabled() ? wrap(connection) : connection;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+
+            Object result = invokeTarget(target, method, args);
+            String caller;
+            switch (name) {
+                case "prepareStatement":
+                    caller = QueryMetrics.findCaller();
+                    return proxy(PreparedStatement.class,
+                            new StatementHandler((Statement) result, (String) args[0], caller, proxy));
+                case "prepareCall":
+                    caller = QueryMetrics.findCaller();
+                    return proxy(CallableStatement.class,
+                            new StatementHandler((Statement) result, (String) args[0], caller, proxy));
+                case "createStatement":
+                    caller = QueryMetrics.findCaller();
+                    return proxy(Statement.class, new StatementHandler((Statement) result, null, caller, proxy));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Object connectionProxy;
+        private final String preparedSql;
+        private final String caller;
+        private final QueryMetrics.StatementStats preparedStats;
+        private final QueryMetrics.StatementStats callerStats;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private QueryMetrics.StatementStats lastStatementStats;
+        private SlowQueryCandidate lastCandidate;
+
+        private StatementHandler(Statement target, String preparedSql, String caller, Object connectionProxy) {
+            this.target = target;
+            this.connectionProxy = connectionProxy;
+            this.preparedSql = preparedSql;
+            this.caller = caller;
+            this.preparedStats = preparedSql != null ? QueryMetrics.forStatement(preparedSql) : null;
+            this.callerStats = QueryMetrics.forCaller(caller);
+            this.lastStatementStats = preparedStats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connectionProxy;
+                case "getResultSet":
+                    Object resultSet = invokeTarget(target, method, args);
+                    return resultSet == null ? null : wrapResultSet((ResultSet) resultSet);
+                case "clearParameters":
+                    finishPendingQuery();
+                    parameters.clear();
+                    return invokeTarget(target, method, args);
+                case "close":
+                    finishPendingQuery();
+                    return invokeTarget(target, method, args);
+                default:
+                    break;
+            }
+
+            if (isParameterSetter(name, args)) {
+                finishPendingQuery();
+                parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return invokeTarget(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            boolean directSql = args != null && args.length > 0 && args[0] instanceof String;
+            String sql = directSql ? (String) args[0] : preparedSql;
+            QueryMetrics.StatementStats statementStats = directSql
+                    ? QueryMetrics.forStatement(sql) : preparedStats;
+            if (statementStats == null) {
+                return invokeTarget(target, method, args);
+            }
+            lastStatementStats = statementStats;
+            finishPendingQuery();
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(target, method, args);
+            } catch (Throwable e) {
+                long elapsed = System.nanoTime() - start;
+                statementStats.recordExecution(elapsed, true);
+                callerStats.recordExecution(elapsed, true);
+                if (SlowQueryLog.isSlow(elapsed)) {
+                    SlowQueryLog.record(sql, parameters, elapsed, elapsed, 0, caller, true);
+                }
+                throw e;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            statementStats.recordExecution(elapsed, false);
+            callerStats.recordExecution(elapsed, false);
+
+            long affected = affectedRows(result);
+            if (affected > 0) {
+                statementStats.recordRows(affected);
+                callerStats.recordRows(affected);
+            }
+
+            if (result instanceof ResultSet || Boolean.TRUE.equals(result)) {
+                lastCandidate = new SlowQueryCandidate(sql, parameters, caller, start, elapsed);
+            } else if (SlowQueryLog.isSlow(elapsed)) {
+                SlowQueryLog.record(sql, parameters, elapsed, elapsed, affected, caller, false);
+            }
+            return result instanceof ResultSet ? wrapResultSet((ResultSet) result) : result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            return proxy(ResultSet.class,
+                    new ResultSetHandler(resultSet, lastStatementStats, callerStats, lastCandidate));
+        }
+
+        private void finishPendingQuery() {
+            if (lastCandidate != null) {
+                lastCandidate.finish();
+                lastCandidate = null;
+            }
+        }
+
+        private static boolean isParameterSetter(String name, Object[] args) {
+            return name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+        }
+
+        private static long affectedRows(Object result) {
+            if (result instanceof Integer) {
+                return (Integer) result;
+            }
+            if (result instanceof Long) {
+                return (Long) result;
+            }
+            if (result instanceof int[]) {
+                long total = 0;
+                for (int count : (int[]) result) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            if (result instanceof long[]) {
+                long total = 0;
+                for (long count : (long[]) result) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            return 0;
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final QueryMetrics.StatementStats statementStats;
+        private final QueryMetrics.StatementStats callerStats;
+        private final SlowQueryCandidate candidate;
+
+        private ResultSetHandler(ResultSet target, QueryMetrics.StatementStats statementStats,
+                                 QueryMetrics.StatementStats callerStats, SlowQueryCandidate candidate) {
+            this.target = target;
+            this.statementStats = statementStats;
+            this.callerStats = callerStats;
+            this.candidate = candidate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("equals".equals(name)) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+
+            Object result = invokeTarget(target, method, args);
+            switch (name) {
+                case "next":
+                    if (Boolean.TRUE.equals(result)) {
+                        statementStats.recordRows(1);
+                        callerStats.recordRows(1);
+                        if (candidate != null) {
+                            candidate.rows++;
+                        }
+                    }
+                    return result;
+                case "close":
+                    if (candidate != null) {
+                        candidate.finish();
+                    }
+                    return result;
+                case "getBytes":
+                    if (result != null) {
+                        recordBlobBytes(((byte[]) result).length);
+                    }
+                    return result;
+                case "getBlob":
+                    if (result != null) {
+                        recordBlobBytes(((Blob) result).length());
+                    }
+                    return result;
+                case "getBinaryStream":
+                    return result == null ? null : new CountingInputStream((InputStream) result);
+                default:
+                    return result;
+            }
+        }
+
+        private void recordBlobBytes(long bytes) {
+            statementStats.recordBlobBytes(bytes);
+            callerStats.recordBlobBytes(bytes);
+        }
+
+        private final class CountingInputStream extends FilterInputStream {
+            private CountingInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    recordBlobBytes(1);
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    recordBlobBytes(read);
+                }
+                return read;
+            }
+        }
+    }
+
+    private static final class SlowQueryCandidate {
+        private final String sql;
+        private final Map<Integer, Object> parameters;
+        private final String caller;
+        private final long start;
+        private final long executeNanos;
+        private long rows;
+        private boolean finished;
+
+        private SlowQueryCandidate(String sql, Map<Integer, Object> parameters, String caller,
+                                   long start, long executeNanos) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.caller = caller;
+            this.start = start;
+            this.executeNanos = executeNanos;
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            long totalNanos = System.nanoTime() - start;
+            if (SlowQueryLog.isSlow(totalNanos)) {
+                SlowQueryLog.record(sql, parameters, executeNanos, totalNanos, rows, caller, false);
+            }
+        }
+    }
+}
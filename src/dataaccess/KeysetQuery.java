@@ -0,0 +1,149 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class KeysetQuery {
+    private static final Logger logger = LogManager.getLogger(KeysetQuery.class);
+    private static final String SORT_ALIAS = "keyset_sort";
+    private static final String ID_ALIAS = "keyset_id";
+
+    private final String columns;
+    private final String from;
+    private final String idColumn;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> conditionParameters = new ArrayList<>();
+    private final Map<String, String> sortColumns = new LinkedHashMap<>();
+    private final List<String> searchColumns = new ArrayList<>();
+
+    public KeysetQuery(String columns, String from, String idColumn) {
+        this.columns = columns;
+        this.from = from;
+        this.idColumn = idColumn;
+    }
+
+    public KeysetQuery where(String condition, Object... parameters) {
+        conditions.add(condition);
+        conditionParameters.addAll(Arrays.asList(parameters));
+        return this;
+    }
+
+    public KeysetQuery sortable(String key, String column) {
+        sortColumns.put(key, column);
+        return this;
+    }
+
+    public KeysetQuery searchable(String... columnsToSearch) {
+        searchColumns.addAll(Arrays.asList(columnsToSearch));
+        return this;
+    }
+
+    public <T> Page<T> fetch(PageRequest request, ResultStreams.RowMapper<T> mapper) throws SQLException {
+        String sortColumn = resolveSortColumn(request.getSortKey());
+        List<Object> parameters = new ArrayList<>(conditionParameters);
+        String query = buildQuery(request, sortColumn, parameters);
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+
+            List<T> items = new ArrayList<>(request.getSize());
+            PageCursor lastCursor = null;
+            boolean hasMore = false;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (items.size() == request.getSize()) {
+                        hasMore = true;
+                        break;
+                    }
+                    items.add(mapper.map(resultSet));
+                    Object sortValue = sortColumn != null ? resultSet.getObject(SORT_ALIAS) : null;
+                    lastCursor = new PageCursor(sortValue, resultSet.getLong(ID_ALIAS));
+                }
+            }
+            return new Page<>(items, hasMore ? lastCursor : null);
+        } catch (SQLException e) {
+            logger.error("Error al obtener página de resultados: {}", query, e);
+            throw e;
+        }
+    }
+
+    private String resolveSortColumn(String sortKey) {
+        if (sortKey == null) {
+            return null;
+        }
+        String column = sortColumns.get(sortKey);
+        if (column == null) {
+            throw new IllegalArgumentException("Criterio de ordenamiento no permitido: " + sortKey);
+        }
+        return column;
+    }
+
+    private String buildQuery(PageRequest request, String sortColumn, List<Object> parameters) {
+        StringBuilder query = new StringBuilder("SELECT ").append(columns);
+        if (sortColumn != null) {
+            query.append(", ").append(sortColumn).append(" AS ").append(SORT_ALIAS);
+        }
+        query.append(", ").append(idColumn).append(" AS ").append(ID_ALIAS);
+        query.append(" FROM ").append(from);
+
+        List<String> predicates = new ArrayList<>(conditions);
+        if (request.getFilter() != null && !searchColumns.isEmpty()) {
+            String pattern = escapeLike(request.getFilter()) + "%";
+            List<String> matches = new ArrayList<>();
+            for (String column : searchColumns) {
+                matches.add(column + " LIKE ?");
+                parameters.add(pattern);
+            }
+            predicates.add("(" + String.join(" OR ", matches) + ")");
+        }
+
+        String comparison = request.isDescending() ? "<" : ">";
+        PageCursor cursor = request.getCursor();
+        if (cursor != null) {
+            if (sortColumn != null && cursor.sortValue() == null) {
+                String remaining = request.isDescending() ? "" : " OR " + sortColumn + " IS NOT NULL";
+                predicates.add("((" + sortColumn + " IS NULL AND " + idColumn + " " + comparison + " ?)"
+                        + remaining + ")");
+            } else if (sortColumn != null) {
+                String remaining = request.isDescending() ? " OR " + sortColumn + " IS NULL" : "";
+                predicates.add("(" + sortColumn + " " + comparison + " ? OR (" + sortColumn + " = ? AND "
+                        + idColumn + " " + comparison + " ?)" + remaining + ")");
+                parameters.add(cursor.sortValue());
+                parameters.add(cursor.sortValue());
+            } else {
+                predicates.add(idColumn + " " + comparison + " ?");
+            }
+            parameters.add(cursor.id());
+        }
+
+        if (!predicates.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+
+        String direction = request.isDescending() ? " DESC" : " ASC";
+        query.append(" ORDER BY ");
+        if (sortColumn != null) {
+            query.append(sortColumn).append(direction).append(", ");
+        }
+        query.append(idColumn).append(direction);
+        query.append(" LIMIT ").append(request.getSize() + 1);
+        return query.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
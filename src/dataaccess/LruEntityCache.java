@@ -0,0 +1,120 @@
+package dataaccess;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LruEntityCache<K, V> implements EntityCache<K, V> {
+    private final String name;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Object lock = new Object();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private long generation;
+
+    LruEntityCache(String name, long ttlMillis, int maxSize) {
+        if (ttlMillis <= 0 || maxSize <= 0) {
+            throw new IllegalArgumentException("El TTL y el tamaño máximo de la caché deben ser positivos");
+        }
+        this.name = name;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public V get(K key, Loader<V> loader) throws SQLException {
+        if (TransactionScope.isActive()) {
+            return loader.load();
+        }
+
+        long loadGeneration;
+        synchronized (lock) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        V value = loader.load();
+
+        synchronized (lock) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidate(K key) {
+        Runnable invalidation = () -> {
+            synchronized (lock) {
+                generation++;
+                entries.remove(key);
+            }
+        };
+        invalidation.run();
+        TransactionScope.runAfterCompletion(invalidation);
+    }
+
+    @Override
+    public void invalidateAll() {
+        Runnable invalidation = () -> {
+            synchronized (lock) {
+                generation++;
+                entries.clear();
+            }
+        };
+        invalidation.run();
+        TransactionScope.runAfterCompletion(invalidation);
+    }
+
+    @Override
+    public CacheStats getStats() {
+        int size;
+        synchronized (lock) {
+            size = entries.size();
+        }
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                size, maxSize, TimeUnit.NANOSECONDS.toMillis(ttlNanos));
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dataaccess;
+
+import java.util.List;
+
+public record Page<T>(List<T> items, PageCursor nextCursor) {
+
+    public Page {
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
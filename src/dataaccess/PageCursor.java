@@ -0,0 +1,3 @@
+package dataaccess;
+
+public record PageCursor(Object sortValue, long id) {}
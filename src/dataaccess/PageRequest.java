@@ -0,0 +1,63 @@
+package dataaccess;
+
+public final class PageRequest {
+    public static final int DEFAULT_SIZE = 50;
+    private static final int MAX_SIZE = 500;
+
+    private final int size;
+    private final PageCursor cursor;
+    private final String filter;
+    private final String sortKey;
+    private final boolean descending;
+
+    private PageRequest(int size, PageCursor cursor, String filter, String sortKey, boolean descending) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_SIZE);
+        }
+        this.size = size;
+        this.cursor = cursor;
+        this.filter = filter == null || filter.trim().isEmpty() ? null : filter.trim();
+        this.sortKey = sortKey;
+        this.descending = descending;
+    }
+
+    public static PageRequest first(int size) {
+        return new PageRequest(size, null, null, null, false);
+    }
+
+    public static PageRequest first() {
+        return first(DEFAULT_SIZE);
+    }
+
+    public PageRequest after(PageCursor nextCursor) {
+        return new PageRequest(size, nextCursor, filter, sortKey, descending);
+    }
+
+    public PageRequest withFilter(String newFilter) {
+        return new PageRequest(size, null, newFilter, sortKey, descending);
+    }
+
+    public PageRequest sortedBy(String newSortKey, boolean newDescending) {
+        return new PageRequest(size, null, filter, newSortKey, newDescending);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public PageCursor getCursor() {
+        return cursor;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+}
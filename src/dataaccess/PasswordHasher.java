@@ -0,0 +1,270 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public final class PasswordHasher {
+    private static final Logger logger = LogManager.getLogger(PasswordHasher.class);
+    private static final int MIN_COST = 10;
+    private static final int MAX_COST = 16;
+    private static final int DEFAULT_COST = 12;
+    private static final int CALIBRATION_COST = MIN_COST;
+    private static final String WORKER_PREFIX = "bcrypt-";
+
+    private static final int POOL_SIZE = Math.max(1, ConfigLoader.getInt("security.bcrypt.threads",
+            Runtime.getRuntime().availableProcessors()));
+    private static final int QUEUE_SIZE = Math.max(1, ConfigLoader.getInt("security.bcrypt.queueSize", 256));
+    private static final long TARGET_MILLIS = Math.max(50, ConfigLoader.getLong("security.bcrypt.targetMs", 250));
+    private static final String CONFIGURED_COST = ConfigLoader.get("security.bcrypt.cost", String.valueOf(DEFAULT_COST));
+    private static final ThreadPoolExecutor pool = createPool();
+
+    private static volatile int cost = parseConfiguredCost();
+    private static volatile CompletableFuture<Integer> calibration;
+
+    private PasswordHasher() {
+    }
+
+    public static int getCost() {
+        return cost;
+    }
+
+    public static int getPoolSize() {
+        return POOL_SIZE;
+    }
+
+    public static CompletableFuture<String> hashAsync(String plainPassword) {
+        if (plainPassword == null || plainPassword.trim().isEmpty()) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("La contraseña no puede ser nula o vacía"));
+        }
+        int currentCost = cost;
+        return submit(() -> BCrypt.hashpw(plainPassword, BCrypt.gensalt(currentCost)));
+    }
+
+    public static CompletableFuture<Boolean> verifyAsync(String plainPassword, String hashedPassword) {
+        if (plainPassword == null || plainPassword.trim().isEmpty() ||
+                hashedPassword == null || hashedPassword.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return submit(() -> checkQuietly(plainPassword, hashedPassword));
+    }
+
+    public static String hash(String plainPassword) {
+        return await(hashAsync(plainPassword));
+    }
+
+    public static boolean verify(String plainPassword, String hashedPassword) {
+        return await(verifyAsync(plainPassword, hashedPassword));
+    }
+
+    public static boolean needsRehash(String hashedPassword) {
+        int storedCost = costOf(hashedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    public static int costOf(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int separator = hashedPassword.indexOf('$', 1);
+        if (separator < 0 || separator + 3 > hashedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(separator + 1, separator + 3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public static synchronized CompletableFuture<Integer> calibrate() {
+        if (calibration != null) {
+            return calibration;
+        }
+        calibration = submit(() -> {
+            int recommended = recommendCost(measureMillis(CALIBRATION_COST), TARGET_MILLIS);
+            if ("auto".equalsIgnoreCase(CONFIGURED_COST)) {
+                cost = recommended;
+                logger.info("Costo de BCrypt calibrado en {} (objetivo: {} ms por hash)", recommended, TARGET_MILLIS);
+            } else if (recommended != cost) {
+                logger.info("Costo de BCrypt configurado: {}; recomendado para este equipo: {} (objetivo: {} ms)",
+                        cost, recommended, TARGET_MILLIS);
+            }
+            return recommended;
+        });
+        return calibration;
+    }
+
+    static int recommendCost(double millisAtCalibrationCost, long targetMillis) {
+        int recommended = CALIBRATION_COST;
+        double estimated = Math.max(millisAtCalibrationCost, 0.01);
+        while (recommended < MAX_COST && estimated * 2 <= targetMillis) {
+            estimated *= 2;
+            recommended++;
+        }
+        return recommended;
+    }
+
+    public static BenchmarkResult benchmark(int benchmarkCost, int hashesPerThread) {
+        if (benchmarkCost < 4 || benchmarkCost > 31) {
+            throw new IllegalArgumentException("El costo de BCrypt debe estar entre 4 y 31");
+        }
+        if (hashesPerThread <= 0) {
+            throw new IllegalArgumentException("La cantidad de hashes debe ser mayor a cero");
+        }
+
+        List<CompletableFuture<String>> hashes = new ArrayList<>(POOL_SIZE * hashesPerThread);
+        long start = System.nanoTime();
+        for (int i = 0; i < POOL_SIZE * hashesPerThread; i++) {
+            String sample = "benchmark-" + i;
+            hashes.add(submit(() -> BCrypt.hashpw(sample, BCrypt.gensalt(benchmarkCost))));
+        }
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture<?>[0])).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        BenchmarkResult result = new BenchmarkResult(benchmarkCost, POOL_SIZE,
+                Runtime.getRuntime().availableProcessors(), hashes.size(), elapsedNanos);
+        logger.info(result.describe());
+        return result;
+    }
+
+    public static void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (Thread.currentThread().getName().startsWith(WORKER_PREFIX)) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            pool.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operación de contraseña interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static boolean checkQuietly(String plainPassword, String hashedPassword) {
+        try {
+            boolean match = BCrypt.checkpw(plainPassword, hashedPassword);
+            logger.debug("Resultado comparación contraseña: {}", match ? "VÁLIDA" : "INVÁLIDA");
+            return match;
+        } catch (Exception e) {
+            logger.error("Error al verificar contraseña", e);
+            return false;
+        }
+    }
+
+    private static double measureMillis(int measuredCost) {
+        BCrypt.hashpw("calibracion", BCrypt.gensalt(measuredCost));
+        int samples = 3;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) {
+            BCrypt.hashpw("calibracion-" + i, BCrypt.gensalt(measuredCost));
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / samples;
+    }
+
+    private static int parseConfiguredCost() {
+        if ("auto".equalsIgnoreCase(CONFIGURED_COST)) {
+            return DEFAULT_COST;
+        }
+        try {
+            int configured = Integer.parseInt(CONFIGURED_COST.trim());
+            if (configured < MIN_COST || configured > MAX_COST) {
+                logger.warn("Costo de BCrypt fuera de rango ({}); se usará {}", configured, DEFAULT_COST);
+                return DEFAULT_COST;
+            }
+            return configured;
+        } catch (NumberFormatException e) {
+            logger.warn("Costo de BCrypt inválido '{}'; se usará {}", CONFIGURED_COST, DEFAULT_COST);
+            return DEFAULT_COST;
+        }
+    }
+
+    private static ThreadPoolExecutor createPool() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, WORKER_PREFIX + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, rejectingExecutor) -> {
+                    if (rejectingExecutor.isShutdown()) {
+                        throw new RejectedExecutionException("El servicio de contraseñas está detenido");
+                    }
+                    try {
+                        rejectingExecutor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Espera interrumpida en la cola de contraseñas", e);
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public record BenchmarkResult(int cost, int threads, int cores, int hashes, long elapsedNanos) {
+
+        public double hashesPerSecond() {
+            return elapsedNanos > 0 ? hashes / (elapsedNanos / 1_000_000_000.0) : 0;
+        }
+
+        public double hashesPerSecondPerCore() {
+            return hashesPerSecond() / Math.max(1, Math.min(threads, cores));
+        }
+
+        public double millisPerHash() {
+            return hashes > 0 ? elapsedNanos / 1_000_000.0 * Math.min(threads, cores) / hashes : 0;
+        }
+
+        public String describe() {
+            return String.format(Locale.ROOT,
+                    "BCrypt costo %d: %d hashes en %.1f ms con %d hilos (%d núcleos) - %.2f hashes/s, %.2f hashes/s por núcleo",
+                    cost, hashes, elapsedNanos / 1_000_000.0, threads, cores, hashesPerSecond(), hashesPerSecondPerCore());
+        }
+    }
+}
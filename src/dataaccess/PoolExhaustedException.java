@@ -0,0 +1,9 @@
+package dataaccess;
+
+import java.sql.SQLTimeoutException;
+
+public class PoolExhaustedException extends SQLTimeoutException {
+    public PoolExhaustedException(String message) {
+        super(message, "HYT00");
+    }
+}
@@ -0,0 +1,220 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+public final class QueryMetrics {
+    private static final Logger logger = LogManager.getLogger(QueryMetrics.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("db.metrics.enabled", true);
+    private static final String DUMP_FILE = ConfigLoader.get("db.metrics.dumpFile", "logs/query-metrics.txt");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final int MAX_CACHED_STATEMENTS = 2_000;
+
+    private static final Map<String, StatementStats> statementStats = new ConcurrentHashMap<>();
+    private static final Map<String, StatementStats> callerStats = new ConcurrentHashMap<>();
+    private static final Map<String, String> normalizedCache = new ConcurrentHashMap<>();
+
+    private QueryMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static StatementStats forStatement(String sql) {
+        return statementStats.computeIfAbsent(normalize(sql), StatementStats::new);
+    }
+
+    public static StatementStats forCaller(String caller) {
+        return callerStats.computeIfAbsent(caller, StatementStats::new);
+    }
+
+    public static Optional<StatementStats> getStatementStats(String sql) {
+        return Optional.ofNullable(statementStats.get(normalize(sql)));
+    }
+
+    public static Optional<StatementStats> getCallerStats(String caller) {
+        return Optional.ofNullable(callerStats.get(caller));
+    }
+
+    public static List<StatementStats> getAllStatementStats() {
+        return sortedByTotalTime(statementStats);
+    }
+
+    public static List<StatementStats> getAllCallerStats() {
+        return sortedByTotalTime(callerStats);
+    }
+
+    public static void reset() {
+        statementStats.clear();
+        callerStats.clear();
+    }
+
+    public static String findCaller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("desconocido"));
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String cached = normalizedCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?+)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        if (normalizedCache.size() < MAX_CACHED_STATEMENTS) {
+            normalizedCache.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    public static String report() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Métricas de consultas - ").append(LocalDateTime.now()).append(System.lineSeparator());
+        appendSection(builder, "Por sentencia", getAllStatementStats());
+        appendSection(builder, "Por método DAO", getAllCallerStats());
+        return builder.toString();
+    }
+
+    public static void dumpTo(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(report());
+        }
+    }
+
+    public static void dumpToConfiguredFile() {
+        if (!ENABLED || DUMP_FILE == null || DUMP_FILE.trim().isEmpty() || statementStats.isEmpty()) {
+            return;
+        }
+        try {
+            dumpTo(Paths.get(DUMP_FILE));
+            logger.info("Métricas de consultas guardadas en {}", DUMP_FILE);
+        } catch (IOException e) {
+            logger.warn("No se pudieron guardar las métricas de consultas en {}", DUMP_FILE, e);
+        }
+    }
+
+    private static void appendSection(StringBuilder builder, String title, List<StatementStats> stats) {
+        builder.append(System.lineSeparator()).append("== ").append(title).append(" ==").append(System.lineSeparator());
+        builder.append(String.format(Locale.ROOT, "%8s %6s %9s %12s %9s %9s %9s %9s %9s  %s%n",
+                "llamadas", "errores", "filas", "bytes_blob", "media_ms", "p50_ms", "p95_ms", "p99_ms", "max_ms", "clave"));
+        for (StatementStats stat : stats) {
+            LatencyHistogram latency = stat.getLatency();
+            builder.append(String.format(Locale.ROOT, "%8d %6d %9d %12d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    stat.getExecutions(), stat.getErrors(), stat.getRows(), stat.getBlobBytes(),
+                    latency.getMeanMillis(),
+                    latency.getPercentileMillis(50), latency.getPercentileMillis(95),
+                    latency.getPercentileMillis(99), latency.getMaxMillis(),
+                    stat.getKey()));
+        }
+    }
+
+    private static List<StatementStats> sortedByTotalTime(Map<String, StatementStats> source) {
+        List<StatementStats> sorted = new ArrayList<>(source.values());
+        sorted.sort(Comparator.comparingDouble((StatementStats stat) -> stat.getLatency().getTotalMillis()).reversed());
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return !className.startsWith("dataaccess.")
+                && !className.startsWith("java.")
+                && !className.startsWith("jdk.")
+                && !className.startsWith("sun.")
+                && !className.startsWith("com.sun.")
+                && !className.startsWith("com.mysql.")
+                && !className.contains("$Proxy");
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int lambdaMarker = name.indexOf("$$Lambda");
+        return lambdaMarker >= 0 ? name.substring(0, lambdaMarker) : name;
+    }
+
+    public static final class StatementStats {
+        private final String key;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder blobBytes = new LongAdder();
+
+        private StatementStats(String key) {
+            this.key = key;
+        }
+
+        void recordExecution(long nanos, boolean failed) {
+            latency.record(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        void recordRows(long count) {
+            rows.add(count);
+        }
+
+        void recordBlobBytes(long bytes) {
+            blobBytes.add(bytes);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getExecutions() {
+            return latency.getCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getBlobBytes() {
+            return blobBytes.sum();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class ResultStreams {
+    private static final Logger logger = LogManager.getLogger(ResultStreams.class);
+    private static final int FETCH_SIZE = Math.max(1, ConfigLoader.getInt("db.stream.fetchSize", 500));
+    private static final boolean USE_CURSOR_FETCH = ConfigLoader.getBoolean("db.stream.useCursorFetch", false);
+
+    private ResultStreams() {
+    }
+
+    public static boolean usesCursorFetch() {
+        return USE_CURSOR_FETCH;
+    }
+
+    public static void enableStreaming(Statement statement) throws SQLException {
+        if (USE_CURSOR_FETCH) {
+            statement.setFetchSize(FETCH_SIZE);
+        } else if (!TransactionScope.isActive()) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+        }
+    }
+
+    public static <T> Stream<T> stream(String query, ParameterBinder binder, RowMapper<T> mapper) throws SQLException {
+        Connection connection = ConnectionDataBase.getConnection();
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = prepare(connection, query);
+            if (binder != null) {
+                binder.bind(statement);
+            }
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(resultSet, statement, connection);
+            logger.error("Error al abrir el flujo de resultados: {}", query, e);
+            throw e;
+        }
+
+        ResultSet rows = resultSet;
+        PreparedStatement openStatement = statement;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rows.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rows));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeQuietly(rows, openStatement, connection));
+    }
+
+    public static <T> long forEach(String query, ParameterBinder binder, RowMapper<T> mapper,
+                                   RowConsumer<? super T> consumer) throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = prepare(connection, query)) {
+            if (binder != null) {
+                binder.bind(statement);
+            }
+            long count = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(mapper.map(resultSet));
+                    count++;
+                }
+            }
+            return count;
+        } catch (SQLException e) {
+            logger.error("Error al recorrer los resultados: {}", query, e);
+            throw e;
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String query) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        enableStreaming(statement);
+        return statement;
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                logger.warn("Error al cerrar recurso del flujo de resultados", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ParameterBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer<T> {
+        void accept(T value) throws SQLException;
+    }
+}
@@ -0,0 +1,77 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RetryPolicy {
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        if (maxAttempts <= 0 || baseDelayMillis < 0 || maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("Parámetros de reintento inválidos");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(
+                ConfigLoader.getInt("db.retry.maxAttempts", 3),
+                ConfigLoader.getLong("db.retry.baseDelayMs", 100),
+                ConfigLoader.getLong("db.retry.maxDelayMs", 2_000));
+    }
+
+    public <T> T executeRead(DatabaseExecutor.DatabaseCall<T> read) throws Exception {
+        int attempt = 1;
+        while (true) {
+            try {
+                return read.call();
+            } catch (SQLException e) {
+                if (!shouldRetry(e, attempt)) {
+                    throw e;
+                }
+                long delay = backoffMillis(attempt);
+                logger.debug("Lectura fallida por error transitorio ({}), reintento {} de {} en {} ms",
+                        e.getSQLState(), attempt, maxAttempts - 1, delay);
+                sleep(delay, e);
+                attempt++;
+            }
+        }
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    long backoffMillis(int attempt) {
+        long exponential = baseDelayMillis << Math.min(attempt - 1, 20);
+        long ceiling = Math.min(maxDelayMillis, exponential);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private boolean shouldRetry(SQLException exception, int attempt) {
+        return attempt < maxAttempts
+                && !TransactionScope.isActive()
+                && !(exception instanceof CircuitBreakerOpenException)
+                && SQLErrorClassifier.isTransient(exception);
+    }
+
+    private void sleep(long delay, SQLException cause) throws SQLException {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            SQLException interrupted = new SQLException("Reintento interrumpido", e);
+            interrupted.addSuppressed(cause);
+            throw interrupted;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dataaccess;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+
+public final class SQLErrorClassifier {
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_CANNOT_CONNECT = 2003;
+    private static final int MYSQL_SOCKET_ERROR = 2002;
+    private static final int MYSQL_SERVER_GONE = 2006;
+    private static final int MYSQL_LOST_CONNECTION = 2013;
+
+    public enum Category {
+        TRANSIENT,
+        CONSTRAINT,
+        FATAL
+    }
+
+    private SQLErrorClassifier() {
+    }
+
+    public static Category classify(SQLException exception) {
+        if (exception == null) {
+            return Category.FATAL;
+        }
+        if (exception instanceof SQLIntegrityConstraintViolationException) {
+            return Category.CONSTRAINT;
+        }
+        if (exception instanceof SQLTransientException || exception instanceof SQLRecoverableException) {
+            return Category.TRANSIENT;
+        }
+
+        switch (exception.getErrorCode()) {
+            case MYSQL_LOCK_WAIT_TIMEOUT:
+            case MYSQL_DEADLOCK:
+            case MYSQL_CANNOT_CONNECT:
+            case MYSQL_SOCKET_ERROR:
+            case MYSQL_SERVER_GONE:
+            case MYSQL_LOST_CONNECTION:
+                return Category.TRANSIENT;
+            default:
+                break;
+        }
+
+        String sqlState = exception.getSQLState();
+        if (sqlState == null) {
+            String message = exception.getMessage();
+            return message != null && message.contains("Communications link failure")
+                    ? Category.TRANSIENT : Category.FATAL;
+        }
+        if (sqlState.startsWith("08") || sqlState.startsWith("40") || "HYT00".equals(sqlState)) {
+            return Category.TRANSIENT;
+        }
+        if (sqlState.startsWith("23")) {
+            return Category.CONSTRAINT;
+        }
+        return Category.FATAL;
+    }
+
+    public static boolean isTransient(SQLException exception) {
+        return classify(exception) == Category.TRANSIENT;
+    }
+
+    public static boolean isConnectionFailure(SQLException exception) {
+        if (exception == null || exception instanceof PoolExhaustedException) {
+            return false;
+        }
+
+        switch (exception.getErrorCode()) {
+            case MYSQL_CANNOT_CONNECT:
+            case MYSQL_SOCKET_ERROR:
+            case MYSQL_SERVER_GONE:
+            case MYSQL_LOST_CONNECTION:
+                return true;
+            default:
+                break;
+        }
+
+        String sqlState = exception.getSQLState();
+        if (sqlState == null) {
+            String message = exception.getMessage();
+            return message != null && message.contains("Communications link failure");
+        }
+        return sqlState.startsWith("08");
+    }
+}
@@ -0,0 +1,351 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+public final class SlowQueryLog {
+    private static final Logger logger = LogManager.getLogger(SlowQueryLog.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("db.slowQuery.enabled", true);
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Math.max(0, ConfigLoader.getLong("db.slowQuery.thresholdMs", 500)));
+    private static final Path LOG_FILE = Paths.get(ConfigLoader.get("db.slowQuery.file", "logs/slow-queries.log"));
+    private static final long MAX_FILE_BYTES = Math.max(64 * 1024,
+            ConfigLoader.getLong("db.slowQuery.maxFileBytes", 5L * 1024 * 1024));
+    private static final int MAX_ARCHIVES = Math.max(1, ConfigLoader.getInt("db.slowQuery.maxArchives", 10));
+    private static final double EXPLAIN_SAMPLE_RATE = Math.min(1.0, Math.max(0.0,
+            ConfigLoader.getDouble("db.slowQuery.explainSampleRate", 0.25)));
+    private static final long EXPLAIN_MIN_INTERVAL_MILLIS = Math.max(0,
+            ConfigLoader.getLong("db.slowQuery.explainMinIntervalMs", 60_000));
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int MAX_PARAMETER_LENGTH = 120;
+    private static final String REDACTED = "<oculto>";
+
+    private static final Pattern PROTECTED_COMPARISON = Pattern.compile(
+            "contraseña`?\\s*(?:=|<>|!=|LIKE)\\s*$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INSERT_COLUMNS = Pattern.compile(
+            "INSERT\\s+INTO\\s+\\S+\\s*\\(([^)]*)\\)\\s*VALUES\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*SELECT\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final ThreadPoolExecutor writer = createWriter();
+    private static final Map<String, Long> lastExplainMillis = new ConcurrentHashMap<>();
+    private static final AtomicLong droppedEntries = new AtomicLong();
+
+    private SlowQueryLog() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static long getThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(THRESHOLD_NANOS);
+    }
+
+    public static long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    static boolean isSlow(long elapsedNanos) {
+        return ENABLED && elapsedNanos >= THRESHOLD_NANOS;
+    }
+
+    static void record(String sql, Map<Integer, Object> parameters, long executeNanos, long totalNanos,
+                       long rows, String caller, boolean failed) {
+        if (!ENABLED || sql == null) {
+            return;
+        }
+        Map<Integer, Object> snapshot = parameters != null ? new TreeMap<>(parameters) : Map.of();
+        Map<Integer, Object> explainParameters = EXPLAINABLE.matcher(sql).find() ? snapshot : Map.of();
+        Entry entry = new Entry(LocalDateTime.now(), sql, redactParameters(sql, snapshot),
+                explainParameters, executeNanos, totalNanos, rows, caller, failed);
+        try {
+            writer.execute(() -> write(entry));
+        } catch (RuntimeException e) {
+            droppedEntries.incrementAndGet();
+        }
+    }
+
+    static String redactParameters(String sql, Map<Integer, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return "[]";
+        }
+        Set<Integer> protectedIndexes = protectedParameterIndexes(sql);
+        StringBuilder builder = new StringBuilder("[");
+        for (Map.Entry<Integer, Object> parameter : parameters.entrySet()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(parameter.getKey()).append('=');
+            builder.append(protectedIndexes.contains(parameter.getKey())
+                    ? REDACTED : describe(parameter.getValue()));
+        }
+        return builder.append(']').toString();
+    }
+
+    private static Set<Integer> protectedParameterIndexes(String sql) {
+        Set<Integer> indexes = new HashSet<>();
+        if (sql.toLowerCase(Locale.ROOT).indexOf("contraseña") < 0) {
+            return indexes;
+        }
+
+        List<Integer> placeholderOffsets = placeholderOffsets(sql);
+        for (int i = 0; i < placeholderOffsets.size(); i++) {
+            if (PROTECTED_COMPARISON.matcher(sql.substring(0, placeholderOffsets.get(i))).find()) {
+                indexes.add(i + 1);
+            }
+        }
+
+        Matcher insert = INSERT_COLUMNS.matcher(sql);
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            String[] values = insert.group(2).split(",");
+            int placeholderIndex = placeholderCountBefore(placeholderOffsets, insert.start(2));
+            for (int i = 0; i < values.length; i++) {
+                if (!"?".equals(values[i].trim())) {
+                    continue;
+                }
+                placeholderIndex++;
+                if (i < columns.length && columns[i].replace("`", "").trim().equalsIgnoreCase("contraseña")) {
+                    indexes.add(placeholderIndex);
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static List<Integer> placeholderOffsets(String sql) {
+        List<Integer> offsets = new ArrayList<>();
+        boolean inString = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char current = sql.charAt(i);
+            if (current == '\'') {
+                inString = !inString;
+            } else if (current == '?' && !inString) {
+                offsets.add(i);
+            }
+        }
+        return offsets;
+    }
+
+    private static int placeholderCountBefore(List<Integer> offsets, int position) {
+        int count = 0;
+        for (int offset : offsets) {
+            if (offset < position) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String describe(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof byte[]) {
+            return "<" + ((byte[]) value).length + " bytes>";
+        }
+        if (value instanceof InputStream || value instanceof java.io.Reader || value instanceof java.sql.Blob) {
+            return "<flujo>";
+        }
+        String text = value.toString();
+        if (text.length() > MAX_PARAMETER_LENGTH) {
+            text = text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+
+    private static void write(Entry entry) {
+        String plan = shouldExplain(entry) ? explain(entry) : null;
+        String text = entry.format(plan);
+        try {
+            rollIfNeeded(text.getBytes(StandardCharsets.UTF_8).length);
+            try (Writer output = Files.newBufferedWriter(LOG_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                output.write(text);
+            }
+        } catch (IOException e) {
+            logger.warn("No se pudo escribir en el registro de consultas lentas {}", LOG_FILE, e);
+        }
+    }
+
+    private static boolean shouldExplain(Entry entry) {
+        if (entry.failed || EXPLAIN_SAMPLE_RATE <= 0 || !EXPLAINABLE.matcher(entry.sql).find()
+                || ConnectionDataBase.getCircuitBreaker().isOpen()) {
+            return false;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= EXPLAIN_SAMPLE_RATE) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        String key = QueryMetrics.normalize(entry.sql);
+        Long previous = lastExplainMillis.get(key);
+        if (previous != null && now - previous < EXPLAIN_MIN_INTERVAL_MILLIS) {
+            return false;
+        }
+        lastExplainMillis.put(key, now);
+        return true;
+    }
+
+    private static String explain(Entry entry) {
+        try (Connection connection = ConnectionDataBase.getPool().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + entry.sql)) {
+            for (Map.Entry<Integer, Object> parameter : entry.parameters.entrySet()) {
+                Object value = parameter.getValue();
+                boolean consumable = value instanceof InputStream || value instanceof java.io.Reader;
+                statement.setObject(parameter.getKey(), consumable ? null : value);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append("  ");
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        Object value = resultSet.getObject(column);
+                        if (value != null) {
+                            plan.append(metaData.getColumnLabel(column)).append('=').append(value).append(' ');
+                        }
+                    }
+                    plan.append(System.lineSeparator());
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            logger.debug("No se pudo obtener el plan de ejecución: {}", e.getMessage());
+            return "  no disponible: " + e.getMessage() + System.lineSeparator();
+        }
+    }
+
+    private static void rollIfNeeded(long incomingBytes) throws IOException {
+        Path parent = LOG_FILE.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (!Files.exists(LOG_FILE) || Files.size(LOG_FILE) + incomingBytes <= MAX_FILE_BYTES) {
+            return;
+        }
+
+        Path archiveDirectory = parent != null ? parent.resolve("archivos") : Paths.get("archivos");
+        Files.createDirectories(archiveDirectory);
+        String baseName = LOG_FILE.getFileName().toString().replaceFirst("\\.log$", "");
+        String prefix = baseName + "-" + LocalDate.now() + "-";
+        int sequence = 1;
+        Path archive;
+        do {
+            archive = archiveDirectory.resolve(prefix + sequence++ + ".log.gz");
+        } while (Files.exists(archive));
+
+        try (InputStream input = Files.newInputStream(LOG_FILE);
+             OutputStream output = new GZIPOutputStream(Files.newOutputStream(archive))) {
+            input.transferTo(output);
+        }
+        Files.delete(LOG_FILE);
+        pruneArchives(archiveDirectory, baseName + "-");
+    }
+
+    private static void pruneArchives(Path archiveDirectory, String prefix) throws IOException {
+        List<Path> archives = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(archiveDirectory, prefix + "*.log.gz")) {
+            stream.forEach(archives::add);
+        }
+        if (archives.size() <= MAX_ARCHIVES) {
+            return;
+        }
+        archives.sort((first, second) -> {
+            try {
+                return Files.getLastModifiedTime(first).compareTo(Files.getLastModifiedTime(second));
+            } catch (IOException e) {
+                return 0;
+            }
+        });
+        for (int i = 0; i < archives.size() - MAX_ARCHIVES; i++) {
+            Files.deleteIfExists(archives.get(i));
+        }
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "db-slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executorService) -> {
+                    if (droppedEntries.incrementAndGet() % 100 == 1) {
+                        logger.warn("Registro de consultas lentas saturado, entradas descartadas: {}",
+                                droppedEntries.get());
+                    }
+                });
+    }
+
+    private static final class Entry {
+        private final LocalDateTime timestamp;
+        private final String sql;
+        private final String redactedParameters;
+        private final Map<Integer, Object> parameters;
+        private final long executeNanos;
+        private final long totalNanos;
+        private final long rows;
+        private final String caller;
+        private final boolean failed;
+
+        private Entry(LocalDateTime timestamp, String sql, String redactedParameters, Map<Integer, Object> parameters,
+                      long executeNanos, long totalNanos, long rows, String caller, boolean failed) {
+            this.timestamp = timestamp;
+            this.sql = sql;
+            this.redactedParameters = redactedParameters;
+            this.parameters = parameters;
+            this.executeNanos = executeNanos;
+            this.totalNanos = totalNanos;
+            this.rows = rows;
+            this.caller = caller;
+            this.failed = failed;
+        }
+
+        private String format(String plan) {
+            String separator = System.lineSeparator();
+            StringBuilder builder = new StringBuilder();
+            builder.append(String.format(Locale.ROOT, "%s | total %.2f ms | ejecución %.2f ms | filas %d | %s%s",
+                    timestamp, totalNanos / 1_000_000.0, executeNanos / 1_000_000.0, rows, caller,
+                    failed ? " | ERROR" : "")).append(separator);
+            builder.append("SQL: ").append(sql.replaceAll("\\s+", " ").trim()).append(separator);
+            builder.append("Parámetros: ").append(redactedParameters).append(separator);
+            if (plan != null) {
+                builder.append("EXPLAIN:").append(separator).append(plan);
+            }
+            return builder.append(separator).toString();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dataaccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class SqlBatch {
+    private static final int BATCH_SIZE = Math.max(1, ConfigLoader.getInt("db.batch.size", 500));
+
+    private SqlBatch() {
+    }
+
+    public static int getBatchSize() {
+        return BATCH_SIZE;
+    }
+
+    public static String placeholders(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("La cantidad de parámetros debe ser mayor a cero");
+        }
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public static <T> List<List<T>> partition(List<T> values, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor a cero");
+        }
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += size) {
+            chunks.add(values.subList(start, Math.min(values.size(), start + size)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,191 @@
+package dataaccess;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TransactionScope implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(TransactionScope.class);
+    private static final ThreadLocal<Transaction> CURRENT = new ThreadLocal<>();
+
+    private final Transaction transaction;
+    private final boolean owner;
+    private boolean committed;
+    private boolean closed;
+
+    private TransactionScope(Transaction transaction, boolean owner) {
+        this.transaction = transaction;
+        this.owner = owner;
+    }
+
+    public static TransactionScope begin() throws SQLException {
+        Transaction current = CURRENT.get();
+        if (current != null) {
+            return new TransactionScope(current, false);
+        }
+
+        Connection connection = ConnectionDataBase.getPool().getConnection();
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+
+        Transaction transaction = new Transaction(connection);
+        CURRENT.set(transaction);
+        logger.debug("Transacción iniciada en el hilo {}", Thread.currentThread().getName());
+        return new TransactionScope(transaction, true);
+    }
+
+    public static <T> T execute(Work<T> work) throws SQLException {
+        try (TransactionScope scope = begin()) {
+            T result = work.execute();
+            scope.commit();
+            return result;
+        }
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static Connection joinCurrent() {
+        Transaction current = CURRENT.get();
+        return current != null ? current.sharedConnection : null;
+    }
+
+    static boolean runAfterCompletion(Runnable callback) {
+        Transaction current = CURRENT.get();
+        if (current == null) {
+            return false;
+        }
+        current.completionCallbacks.add(callback);
+        return true;
+    }
+
+    public static void afterCommit(Runnable callback) {
+        Transaction current = CURRENT.get();
+        if (current == null) {
+            callback.run();
+            return;
+        }
+        current.commitCallbacks.add(callback);
+    }
+
+    public void commit() throws SQLException {
+        if (closed) {
+            throw new SQLException("La transacción ya fue cerrada");
+        }
+        committed = true;
+        if (!owner) {
+            return;
+        }
+        if (transaction.rollbackOnly) {
+            throw new SQLException("La transacción fue marcada para revertirse por una operación anidada");
+        }
+        transaction.connection.commit();
+        transaction.committed = true;
+        logger.debug("Transacción confirmada");
+    }
+
+    public void setRollbackOnly() {
+        transaction.rollbackOnly = true;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (!committed) {
+            transaction.rollbackOnly = true;
+        }
+        if (!owner) {
+            return;
+        }
+
+        CURRENT.remove();
+        try {
+            if (!committed || transaction.rollbackOnly) {
+                transaction.connection.rollback();
+                logger.debug("Transacción revertida");
+            }
+        } finally {
+            try {
+                transaction.connection.close();
+            } finally {
+                if (transaction.committed) {
+                    runCallbacks(transaction.commitCallbacks);
+                }
+                transaction.commitCallbacks.clear();
+                runCallbacks(transaction.completionCallbacks);
+            }
+        }
+    }
+
+    private void runCallbacks(List<Runnable> callbacks) {
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                logger.warn("Error al ejecutar una acción posterior a la transacción", e);
+            }
+        }
+        callbacks.clear();
+    }
+
+    @FunctionalInterface
+    public interface Work<T> {
+        T execute() throws SQLException;
+    }
+
+    private static final class Transaction {
+        private final Connection connection;
+        private final Connection sharedConnection;
+        private final List<Runnable> completionCallbacks = new ArrayList<>();
+        private final List<Runnable> commitCallbacks = new ArrayList<>();
+        private boolean rollbackOnly;
+        private boolean committed;
+
+        private Transaction(Connection connection) {
+            this.connection = connection;
+            Connection nonClosing = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                return null;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "commit":
+                            case "rollback":
+                            case "setAutoCommit":
+                                if (args == null || args.length == 0 || args[0] instanceof Boolean) {
+                                    throw new SQLException("El control de la transacción pertenece a TransactionScope");
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+            this.sharedConnection = InstrumentedConnection.wrapIfEnabled(nonClosing);
+        }
+    }
+}
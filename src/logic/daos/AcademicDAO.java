@@ -1,6 +1,14 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import dataaccess.KeysetQuery;
+import dataaccess.Page;
+import dataaccess.PageRequest;
+import dataaccess.TransactionScope;
 import logic.exceptions.RepeatedStaffNumberException;
 import logic.logicclasses.Academic;
 import logic.enums.AcademicType;
@@ -15,13 +23,29 @@ import java.util.Collections;
 import java.util.List;
 
 public class AcademicDAO implements IAcademicDAO {
+    public static final String CHANGE_ENTITY = "academico";
     private static final Academic EMPTY_ACADEMIC = new Academic(-1, "", "", "",'I', "", AcademicType.NONE);
+    private static final EntityCache<Integer, Academic> academicCache =
+            EntityCaches.create("academicos", 300_000, 500);
+
+    static {
+        ChangeLog.subscribe(AcademicDAO::onAcademicChanged, CHANGE_ENTITY, UserDAO.CHANGE_ENTITY);
+    }
     private final UserDAO userDAO;
 
     public AcademicDAO() {
         this.userDAO = new UserDAO();
     }
 
+    private static void onAcademicChanged(ChangeEvent event) {
+        Integer idUser = event.entityIdAsInt();
+        if (idUser != null) {
+            academicCache.invalidate(idUser);
+        } else {
+            academicCache.invalidateAll();
+        }
+    }
+
     @Override
     public boolean addAcademic(Academic academic) throws SQLException, RepeatedStaffNumberException, IllegalArgumentException {
         validateAcademic(academic);
@@ -34,7 +58,9 @@ public class AcademicDAO implements IAcademicDAO {
             preparedStatement.setString(2, academic.getStaffNumber());
             preparedStatement.setString(3, academic.getAcademicType().toString());
 
-            return preparedStatement.executeUpdate() > 0;
+            boolean added = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, academic.getIdUser());
+            return added;
         }
     }
 
@@ -102,19 +128,26 @@ public class AcademicDAO implements IAcademicDAO {
             throw new IllegalArgumentException("Academic must not be null");
         }
 
-        if (!userDAO.updateUser(academic)) {
-            return false;
-        }
-
         String query = "UPDATE academico SET numero_personal = ?, tipo = ? WHERE id_usuario = ?";
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            if (!userDAO.updateUser(academic)) {
+                return false;
+            }
 
-            statement.setString(1, academic.getStaffNumber());
-            statement.setString(2, academic.getAcademicType().toString());
-            statement.setInt(3, academic.getIdUser());
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
 
-            return statement.executeUpdate() > 0;
+                statement.setString(1, academic.getStaffNumber());
+                statement.setString(2, academic.getAcademicType().toString());
+                statement.setInt(3, academic.getIdUser());
+
+                boolean result = statement.executeUpdate() > 0;
+                ChangeLog.recordChange(CHANGE_ENTITY, academic.getIdUser());
+                if (result) {
+                    transaction.commit();
+                }
+                return result;
+            }
         }
     }
 
@@ -125,14 +158,17 @@ public class AcademicDAO implements IAcademicDAO {
         }
 
         String query = "DELETE FROM academico WHERE id_usuario = ?";
-        try (Connection connection = ConnectionDataBase.getConnection();
+        try (TransactionScope transaction = TransactionScope.begin();
+             Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
 
             statement.setInt(1, academic.getIdUser());
             int rowsAffected = statement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, academic.getIdUser());
 
-            if (rowsAffected > 0) {
-                return userDAO.deleteUser(academic.getIdUser());
+            if (rowsAffected > 0 && userDAO.deleteUser(academic.getIdUser())) {
+                transaction.commit();
+                return true;
             }
             return false;
         }
@@ -173,6 +209,10 @@ public class AcademicDAO implements IAcademicDAO {
 
     @Override
     public Academic getAcademicById(int idUser) throws SQLException {
+        return academicCache.get(idUser, () -> loadAcademicById(idUser));
+    }
+
+    private Academic loadAcademicById(int idUser) throws SQLException {
         String query = "SELECT u.id_usuario, u.nombre_completo, u.telefono, u.extension_telefono, u.estado, " +
                 "a.numero_personal, a.tipo FROM academico a " +
                 "JOIN usuario u ON a.id_usuario = u.id_usuario " +
@@ -237,7 +277,9 @@ public class AcademicDAO implements IAcademicDAO {
             statement.setString(1, academic.getAcademicType().toString());
             statement.setString(2, academic.getStaffNumber());
 
-            return statement.executeUpdate() > 0;
+            boolean changed = statement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
+            return changed;
         }
     }
 
@@ -293,21 +335,35 @@ public class AcademicDAO implements IAcademicDAO {
             statement.setString(1, String.valueOf(estado));
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    academics.add(new Academic(
-                            resultSet.getInt("id_usuario"),
-                            resultSet.getString("nombre_completo"),
-                            resultSet.getString("telefono"),
-                            resultSet.getString("extension_telefono"),
-                            resultSet.getString("estado").charAt(0),
-                            resultSet.getString("numero_personal"),
-                            AcademicType.valueOf(resultSet.getString("tipo_academico"))
-                    ));
+                    academics.add(mapAcademicFromView(resultSet));
                 }
             }
         }
         return academics;
     }
 
+    public Page<Academic> getAcademicsByStatusPage(char estado, PageRequest request) throws SQLException {
+        return new KeysetQuery("id_usuario, nombre_completo, telefono, extension_telefono, estado, " +
+                "numero_personal, tipo_academico", "vista_academicos_completa", "id_usuario")
+                .where("estado = ?", String.valueOf(estado))
+                .sortable("nombre", "nombre_completo")
+                .sortable("numero_personal", "numero_personal")
+                .searchable("nombre_completo", "numero_personal")
+                .fetch(request, this::mapAcademicFromView);
+    }
+
+    private Academic mapAcademicFromView(ResultSet resultSet) throws SQLException {
+        return new Academic(
+                resultSet.getInt("id_usuario"),
+                resultSet.getString("nombre_completo"),
+                resultSet.getString("telefono"),
+                resultSet.getString("extension_telefono"),
+                resultSet.getString("estado").charAt(0),
+                resultSet.getString("numero_personal"),
+                AcademicType.valueOf(resultSet.getString("tipo_academico"))
+        );
+    }
+
     @Override
     public boolean existsAcademic(int userId) throws SQLException {
         String query = "SELECT 1 FROM academico WHERE id_usuario = ?";
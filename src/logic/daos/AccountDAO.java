@@ -2,8 +2,16 @@ package logic.daos;
 
 import dataaccess.ConnectionDataBase;
 import dataaccess.PasswordUtils;
+import dataaccess.ResultStreams;
+import dataaccess.SqlBatch;
 import logic.exceptions.RepeatedEmailException;
+import logic.enums.AcademicType;
+import logic.logicclasses.Academic;
 import logic.logicclasses.Account;
+import logic.logicclasses.Coordinator;
+import logic.logicclasses.LoginProfile;
+import logic.logicclasses.Student;
+import logic.logicclasses.User;
 import logic.interfaces.IAccountDAO;
 import userinterface.utilities.Validators;
 import org.apache.logging.log4j.LogManager;
@@ -14,15 +22,23 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class AccountDAO implements IAccountDAO {
     private static final Logger logger = LogManager.getLogger(AccountDAO.class);
     private static final Account EMPTY_ACCOUNT = new Account(-1, "", "");
+    private static final LoginProfile EMPTY_LOGIN_PROFILE = new LoginProfile(-1, "", 'I', null, 0, 0);
     private final UserDAO userDAO;
+    private final LoginLockoutDAO lockoutDAO;
 
     public AccountDAO() {
         this.userDAO = new UserDAO();
+        this.lockoutDAO = new LoginLockoutDAO();
     }
 
     @Override
@@ -35,11 +51,7 @@ public class AccountDAO implements IAccountDAO {
              ResultSet resultSet = statement.executeQuery(query)) {
 
             while (resultSet.next()) {
-                accounts.add(new Account(
-                        resultSet.getInt("id_usuario"),
-                        resultSet.getString("correo_e"),
-                        resultSet.getString("contraseña")
-                ));
+                accounts.add(mapAccount(resultSet));
             }
         } catch (SQLException e) {
             logger.error("Error retrieving accounts", e);
@@ -64,6 +76,91 @@ public class AccountDAO implements IAccountDAO {
         }
     }
 
+    public Stream<Account> streamAllAccounts() throws SQLException {
+        String query = "SELECT id_usuario, correo_e, contraseña FROM cuenta";
+        return ResultStreams.stream(query, null, this::mapAccount);
+    }
+
+    private Account mapAccount(ResultSet resultSet) throws SQLException {
+        return new Account(
+                resultSet.getInt("id_usuario"),
+                resultSet.getString("correo_e"),
+                resultSet.getString("contraseña")
+        );
+    }
+
+    public int addAccounts(List<Account> accounts) throws SQLException, RepeatedEmailException, IllegalArgumentException {
+        if (accounts == null || accounts.isEmpty()) {
+            return 0;
+        }
+
+        List<String> emails = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            if (account == null) {
+                throw new IllegalArgumentException("La cuenta no debe ser nula");
+            }
+            if (account.getEmail() == null || account.getEmail().trim().isEmpty()) {
+                throw new IllegalArgumentException("Correo electrónico no debe ser nulo o vacío");
+            }
+            emails.add(account.getEmail());
+        }
+        if (new HashSet<>(emails).size() != emails.size()) {
+            throw new RepeatedEmailException("El lote contiene correos repetidos");
+        }
+        Set<String> existingEmails = findExistingEmails(emails);
+        if (!existingEmails.isEmpty()) {
+            throw new RepeatedEmailException("Correos ya registrados: " + existingEmails);
+        }
+
+        String query = "INSERT INTO cuenta (id_usuario, correo_e, contraseña) VALUES (?, ?, ?)";
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+            for (List<Account> chunk : SqlBatch.partition(accounts, SqlBatch.getBatchSize())) {
+                for (Account account : chunk) {
+                    preparedStatement.setInt(1, account.getIdUser());
+                    preparedStatement.setString(2, account.getEmail());
+                    preparedStatement.setString(3, account.getPassword());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+            logger.info("Se agregaron {} cuentas en lote", accounts.size());
+            return accounts.size();
+        } catch (SQLException e) {
+            logger.error("Error al agregar lote de {} cuentas", accounts.size(), e);
+            throw e;
+        }
+    }
+
+    private Set<String> findExistingEmails(Collection<String> emails) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        if (emails == null || emails.isEmpty()) {
+            return existing;
+        }
+
+        List<String> distinctEmails = new ArrayList<>(new LinkedHashSet<>(emails));
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (List<String> chunk : SqlBatch.partition(distinctEmails, SqlBatch.getBatchSize())) {
+                String query = "SELECT correo_e FROM cuenta WHERE correo_e IN (" + SqlBatch.placeholders(chunk.size()) + ")";
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            existing.add(resultSet.getString("correo_e"));
+                        }
+                    }
+                }
+            }
+            return existing;
+        } catch (SQLException e) {
+            logger.error("Error al verificar correos en lote", e);
+            throw e;
+        }
+    }
+
     private void validateAccountData(Account account) throws SQLException, RepeatedEmailException, IllegalArgumentException {
         if (account == null) {
             throw new IllegalArgumentException("La cuenta no debe ser nula");
@@ -165,6 +262,109 @@ public class AccountDAO implements IAccountDAO {
         }
     }
 
+    public LoginProfile getLoginProfile(String email) throws SQLException, IllegalArgumentException {
+        if (email == null || email.trim().isEmpty()) {
+            throw new IllegalArgumentException("El correo electrónico no debe ser nulo o vacío");
+        }
+
+        try {
+            return queryLoginProfile(email);
+        } catch (SQLException e) {
+            if (!LoginLockoutDAO.isMissingTable(e)) {
+                logger.error("Error al obtener el perfil de inicio de sesión", e);
+                throw e;
+            }
+        }
+        lockoutDAO.ensureTable();
+        try {
+            return queryLoginProfile(email);
+        } catch (SQLException e) {
+            logger.error("Error al obtener el perfil de inicio de sesión", e);
+            throw e;
+        }
+    }
+
+    private LoginProfile queryLoginProfile(String email) throws SQLException {
+        final String query = "SELECT c.id_usuario, c.contraseña, u.nombre_completo, u.telefono, " +
+                "u.extension_telefono, u.estado, " +
+                "co.id_usuario AS id_coordinador, co.numero_personal AS numero_personal_coordinador, " +
+                "a.id_usuario AS id_academico, a.numero_personal AS numero_personal_academico, a.tipo, " +
+                "e.id_usuario AS id_estudiante, e.matricula, e.calificacion, " +
+                "COALESCE(b.bloqueos, 0) AS bloqueos, " +
+                "COALESCE(GREATEST(TIMESTAMPDIFF(SECOND, NOW(), b.bloqueado_hasta), 0), 0) AS segundos_bloqueo " +
+                "FROM cuenta c " +
+                "JOIN usuario u ON c.id_usuario = u.id_usuario " +
+                "LEFT JOIN coordinador co ON co.id_usuario = u.id_usuario " +
+                "LEFT JOIN academico a ON a.id_usuario = u.id_usuario " +
+                "LEFT JOIN estudiante e ON e.id_usuario = u.id_usuario " +
+                "LEFT JOIN bloqueo_acceso b ON b.clave = CONCAT('" + LoginLockoutDAO.EMAIL_PREFIX + "', LOWER(c.correo_e)) " +
+                "WHERE c.correo_e = ?";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, email);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return EMPTY_LOGIN_PROFILE;
+                }
+
+                String status = resultSet.getString("estado");
+                char statusCode = status != null && !status.isEmpty() ? status.charAt(0) : 'I';
+                return new LoginProfile(
+                        resultSet.getInt("id_usuario"),
+                        resultSet.getString("contraseña"),
+                        statusCode,
+                        mapLoginUser(resultSet, statusCode),
+                        resultSet.getInt("bloqueos"),
+                        resultSet.getLong("segundos_bloqueo")
+                );
+            }
+        }
+    }
+
+    private User mapLoginUser(ResultSet resultSet, char status) throws SQLException {
+        int userId = resultSet.getInt("id_usuario");
+        String fullName = resultSet.getString("nombre_completo");
+        String cellPhone = resultSet.getString("telefono");
+        String phoneExtension = resultSet.getString("extension_telefono");
+
+        if (resultSet.getObject("id_coordinador") != null) {
+            return new Coordinator(userId, fullName, cellPhone, phoneExtension,
+                    resultSet.getString("numero_personal_coordinador"), status);
+        }
+        if (resultSet.getObject("id_academico") != null) {
+            return new Academic(userId, fullName, cellPhone, phoneExtension, status,
+                    resultSet.getString("numero_personal_academico"),
+                    AcademicType.valueOf(resultSet.getString("tipo")));
+        }
+        if (resultSet.getObject("id_estudiante") != null) {
+            return new Student(userId, fullName, cellPhone, phoneExtension, status,
+                    resultSet.getString("matricula"), resultSet.getInt("calificacion"));
+        }
+        return null;
+    }
+
+    public boolean replacePasswordHash(int userId, String currentHash, String newHash) throws SQLException, IllegalArgumentException {
+        if (currentHash == null || currentHash.trim().isEmpty() || newHash == null || newHash.trim().isEmpty()) {
+            throw new IllegalArgumentException("Los hashes de contraseña no deben ser nulos o vacíos");
+        }
+
+        String query = "UPDATE cuenta SET contraseña = ? WHERE id_usuario = ? AND contraseña = ?";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+            preparedStatement.setString(1, newHash);
+            preparedStatement.setInt(2, userId);
+            preparedStatement.setString(3, currentHash);
+            return preparedStatement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            logger.error("Error al actualizar el hash de contraseña del usuario {}", userId, e);
+            throw e;
+        }
+    }
+
     @Override
     public Account getAccountByUserId(int userId) throws SQLException {
         String query = "SELECT id_usuario, correo_e, contraseña FROM cuenta WHERE id_usuario = ?";
@@ -1,12 +1,14 @@
 package logic.daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.TransactionScope;
 import logic.enums.ActivityStatus;
 import logic.logicclasses.Activity;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.logging.Logger;
 public class ActivityTrackingDAO {
 
     private static final Logger logger = Logger.getLogger(ActivityTrackingDAO.class.getName());
+    private final StatisticsSnapshotDAO statisticsSnapshotDAO = new StatisticsSnapshotDAO();
 
     public boolean assignCronogramToStudent(int studentId, int cronogramId) throws SQLException {
         String query = "INSERT INTO estudiante_cronograma (id_estudiante, id_cronograma) VALUES (?, ?)";
@@ -31,16 +34,33 @@ public class ActivityTrackingDAO {
     }
 
     public boolean markActivityAsCompleted(int studentId, int activityId) throws SQLException {
+        String statusQuery = "SELECT completada FROM seguimiento_actividad WHERE id_estudiante = ? AND id_actividad = ?";
         String query = "UPDATE seguimiento_actividad SET completada = TRUE, fecha_completado = CURRENT_TIMESTAMP "
                 + "WHERE id_estudiante = ? AND id_actividad = ?";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean updated;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statusStatement = connection.prepareStatement(statusQuery);
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                statusStatement.setInt(1, studentId);
+                statusStatement.setInt(2, activityId);
+                boolean alreadyCompleted;
+                try (ResultSet resultSet = statusStatement.executeQuery()) {
+                    alreadyCompleted = resultSet.next() && resultSet.getBoolean("completada");
+                }
 
-            statement.setInt(1, studentId);
-            statement.setInt(2, activityId);
+                statement.setInt(1, studentId);
+                statement.setInt(2, activityId);
 
-            return statement.executeUpdate() > 0;
+                updated = statement.executeUpdate() > 0;
+                if (updated && !alreadyCompleted) {
+                    statisticsSnapshotDAO.recordActivityCompleted(studentId);
+                }
+            }
+            transaction.commit();
+            return updated;
         }
     }
 
@@ -94,18 +114,49 @@ public class ActivityTrackingDAO {
     }
 
     public boolean updateActivityStatus(int studentId, int activityId, ActivityStatus status) throws SQLException {
-        String query = "UPDATE seguimiento_actividad SET estado = ?, completada = ? " +
+        String statusQuery = "SELECT completada, fecha_completado FROM seguimiento_actividad " +
+                "WHERE id_estudiante = ? AND id_actividad = ? FOR UPDATE";
+        String query = "UPDATE seguimiento_actividad SET estado = ?, completada = ?, fecha_completado = ? " +
                 "WHERE id_estudiante = ? AND id_actividad = ?";
+        boolean completed = status == ActivityStatus.Completada;
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean updated;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statusStatement = connection.prepareStatement(statusQuery);
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                statusStatement.setInt(1, studentId);
+                statusStatement.setInt(2, activityId);
+                boolean wasCompleted = false;
+                Timestamp completedAt = null;
+                try (ResultSet resultSet = statusStatement.executeQuery()) {
+                    if (resultSet.next()) {
+                        wasCompleted = resultSet.getBoolean("completada");
+                        completedAt = resultSet.getTimestamp("fecha_completado");
+                    }
+                }
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
-
-            statement.setString(1, status.getDbValue());
-            statement.setBoolean(2, status == ActivityStatus.Completada);
-            statement.setInt(3, studentId);
-            statement.setInt(4, activityId);
+                Timestamp newCompletedAt = null;
+                if (completed) {
+                    newCompletedAt = wasCompleted ? completedAt : new Timestamp(System.currentTimeMillis());
+                }
 
-            return statement.executeUpdate() > 0;
+                statement.setString(1, status.getDbValue());
+                statement.setBoolean(2, completed);
+                statement.setTimestamp(3, newCompletedAt);
+                statement.setInt(4, studentId);
+                statement.setInt(5, activityId);
+
+                updated = statement.executeUpdate() > 0;
+                if (updated && completed && !wasCompleted) {
+                    statisticsSnapshotDAO.recordActivityCompleted(studentId, newCompletedAt);
+                } else if (updated && !completed && wasCompleted) {
+                    statisticsSnapshotDAO.recordActivityReopened(studentId, completedAt);
+                }
+            }
+            transaction.commit();
+            return updated;
         }
     }
 
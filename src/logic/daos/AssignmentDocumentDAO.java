@@ -1,32 +1,159 @@
 package logic.daos;
 
 import logic.interfaces.IAssignmentDocumentDAO;
+import logic.logicclasses.AssignmentDocument;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import dataaccess.BlobStreams;
 import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentStore;
+import dataaccess.DocumentStore.StagedDocument;
+import dataaccess.SqlBatch;
+import dataaccess.TransactionScope;
 
 public class AssignmentDocumentDAO implements IAssignmentDocumentDAO {
     private static final byte[] EMPTY_DOCUMENT = new byte[0];
+    private static final String DOCUMENT_TYPE = "PDF";
+
+    private final DocumentStore documentStore;
+    private final DocumentReferenceDAO referenceDAO;
+
+    public AssignmentDocumentDAO() {
+        this(DocumentStore.getDefault(), new DocumentReferenceDAO());
+    }
+
+    public AssignmentDocumentDAO(DocumentStore documentStore, DocumentReferenceDAO referenceDAO) {
+        this.documentStore = documentStore;
+        this.referenceDAO = referenceDAO;
+    }
 
     @Override
     public void saveAssignmentDocument(int projectId, int studentId, byte[] pdfContent) throws SQLException {
+        if (documentStore == null) {
+            saveInDatabase(List.of(new AssignmentDocument(projectId, studentId, pdfContent)));
+            return;
+        }
+
+        referenceDAO.verifyStore(documentStore);
+        try (StagedDocument staged = documentStore.stage(pdfContent, DOCUMENT_TYPE)) {
+            saveStaged(List.of(new StagedAssignment(projectId, studentId, staged)));
+        } catch (IOException e) {
+            throw new SQLException("No se pudo guardar el documento en el almacén", e);
+        }
+    }
+
+    @Override
+    public void saveAssignmentDocument(int projectId, int studentId, Path pdfFile) throws SQLException, IOException {
+        if (documentStore == null) {
+            String query = "INSERT INTO documentos_asignacion (id_proyecto, id_estudiante, contenido) VALUES (?, ?, ?)";
+
+            try (InputStream content = BlobStreams.openFile(pdfFile);
+                 Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = BlobStreams.prepareUpload(connection, query)) {
+
+                statement.setInt(1, projectId);
+                statement.setInt(2, studentId);
+                statement.setBinaryStream(3, content, Files.size(pdfFile));
+                statement.executeUpdate();
+            }
+            return;
+        }
+
+        referenceDAO.verifyStore(documentStore);
+        try (StagedDocument staged = documentStore.stage(pdfFile, DOCUMENT_TYPE)) {
+            saveStaged(List.of(new StagedAssignment(projectId, studentId, staged)));
+        }
+    }
+
+    @Override
+    public int saveAssignmentDocuments(List<AssignmentDocument> documents) throws SQLException {
+        if (documents == null || documents.isEmpty()) {
+            return 0;
+        }
+        if (documentStore == null) {
+            saveInDatabase(documents);
+            return documents.size();
+        }
+
+        referenceDAO.verifyStore(documentStore);
+        List<StagedAssignment> staged = new ArrayList<>(documents.size());
+        try {
+            for (AssignmentDocument document : documents) {
+                staged.add(new StagedAssignment(document.projectId(), document.studentId(),
+                        documentStore.stage(document.content(), DOCUMENT_TYPE)));
+            }
+            saveStaged(staged);
+        } catch (IOException e) {
+            throw new SQLException("No se pudieron guardar los documentos en el almacén", e);
+        } finally {
+            for (StagedAssignment assignment : staged) {
+                try {
+                    assignment.document().close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        return documents.size();
+    }
+
+    private void saveInDatabase(List<AssignmentDocument> documents) throws SQLException {
         String query = "INSERT INTO documentos_asignacion (id_proyecto, id_estudiante, contenido) VALUES (?, ?, ?)";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                for (List<AssignmentDocument> chunk : SqlBatch.partition(documents, SqlBatch.getBatchSize())) {
+                    for (AssignmentDocument document : chunk) {
+                        statement.setInt(1, document.projectId());
+                        statement.setInt(2, document.studentId());
+                        statement.setBytes(3, document.content());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    private void saveStaged(List<StagedAssignment> documents) throws SQLException, IOException {
+        String query = "INSERT INTO documentos_asignacion (id_proyecto, id_estudiante, hash_contenido, tamano) VALUES (?, ?, ?, ?)";
 
-            statement.setInt(1, projectId);
-            statement.setInt(2, studentId);
-            statement.setBytes(3, pdfContent);
-            statement.executeUpdate();
+        referenceDAO.ensureSchema();
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                for (List<StagedAssignment> chunk : SqlBatch.partition(documents, SqlBatch.getBatchSize())) {
+                    for (StagedAssignment assignment : chunk) {
+                        statement.setInt(1, assignment.projectId());
+                        statement.setInt(2, assignment.studentId());
+                        statement.setString(3, assignment.document().hash());
+                        statement.setLong(4, assignment.document().size());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            for (StagedAssignment assignment : documents) {
+                referenceDAO.acquire(documentStore, assignment.document());
+            }
+            transaction.commit();
         }
     }
 
     @Override
     public byte[] getAssignmentDocument(int studentId) throws SQLException {
-        String query = "SELECT contenido FROM documentos_asignacion WHERE id_estudiante = ? ORDER BY fecha_creacion DESC LIMIT 1";
+        String query = "SELECT contenido, " + hashColumn() + " FROM documentos_asignacion WHERE id_estudiante = ? ORDER BY fecha_creacion DESC LIMIT 1";
 
         try (Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -34,20 +161,93 @@ public class AssignmentDocumentDAO implements IAssignmentDocumentDAO {
             statement.setInt(1, studentId);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    byte[] content = resultSet.getBytes("contenido");
+                    String hash = resultSet.getString("hash_contenido");
+                    byte[] content;
+                    if (hash != null) {
+                        referenceDAO.verifyStore(documentStore);
+                        content = documentStore.readAllBytes(hash);
+                    } else {
+                        content = resultSet.getBytes("contenido");
+                    }
                     return content != null ? content : EMPTY_DOCUMENT;
                 }
                 return EMPTY_DOCUMENT;
             }
+        } catch (IOException e) {
+            throw new SQLException("No se pudo leer el documento del almacén", e);
         }
     }
 
-    public void deleteAssignmentDocument(int studentId) throws SQLException {
-        String query = "DELETE FROM documentos_asignacion WHERE id_estudiante = ?";
+    @Override
+    public long exportAssignmentDocument(int studentId, Path target) throws SQLException, IOException {
+        String query = "SELECT contenido, " + hashColumn() + " FROM documentos_asignacion WHERE id_estudiante = ? ORDER BY fecha_creacion DESC LIMIT 1";
+
         try (Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
+
             statement.setInt(1, studentId);
-            statement.executeUpdate();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    String hash = resultSet.getString("hash_contenido");
+                    InputStream content;
+                    if (hash != null) {
+                        referenceDAO.verifyStore(documentStore);
+                        content = documentStore.open(hash);
+                    } else {
+                        content = resultSet.getBinaryStream("contenido");
+                    }
+                    if (content != null) {
+                        return BlobStreams.copyToFile(content, target);
+                    }
+                }
+                return 0;
+            }
+        }
+    }
+
+    public void deleteAssignmentDocument(int studentId) throws SQLException {
+        String selectQuery = "SELECT hash_contenido FROM documentos_asignacion WHERE id_estudiante = ? AND hash_contenido IS NOT NULL FOR UPDATE";
+        String query = "DELETE FROM documentos_asignacion WHERE id_estudiante = ?";
+
+        if (documentStore == null) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                statement.setInt(1, studentId);
+                statement.executeUpdate();
+            }
+            return;
+        }
+
+        referenceDAO.ensureSchema();
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            List<String> hashes = new ArrayList<>();
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement selectStatement = connection.prepareStatement(selectQuery);
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                selectStatement.setInt(1, studentId);
+                try (ResultSet resultSet = selectStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        hashes.add(resultSet.getString("hash_contenido"));
+                    }
+                }
+
+                statement.setInt(1, studentId);
+                statement.executeUpdate();
+            }
+            referenceDAO.release(documentStore, hashes);
+            transaction.commit();
         }
     }
+
+    private String hashColumn() throws SQLException {
+        if (documentStore == null) {
+            return "NULL AS hash_contenido";
+        }
+        referenceDAO.ensureSchema();
+        return "hash_contenido";
+    }
+
+    private record StagedAssignment(int projectId, int studentId, StagedDocument document) {}
 }
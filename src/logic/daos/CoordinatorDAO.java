@@ -1,6 +1,7 @@
 package logic.daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.TransactionScope;
 import logic.logicclasses.Coordinator;
 import logic.interfaces.ICoordinatorDAO;
 import java.sql.Connection;
@@ -22,19 +23,25 @@ public class CoordinatorDAO implements ICoordinatorDAO {
     public boolean addCoordinator(Coordinator coordinator) throws SQLException, IllegalArgumentException {
         validateCoordinator(coordinator);
 
-        boolean userAdded = userDAO.addUser(coordinator);
-        if (!userAdded) {
-            return false;
-        }
-
         String query = "INSERT INTO coordinador (id_usuario, numero_personal) VALUES (?, ?)";
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean userAdded = userDAO.addUser(coordinator);
+            if (!userAdded) {
+                return false;
+            }
+
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
-            preparedStatement.setInt(1, coordinator.getIdUser());
-            preparedStatement.setString(2, coordinator.getStaffNumber());
+                preparedStatement.setInt(1, coordinator.getIdUser());
+                preparedStatement.setString(2, coordinator.getStaffNumber());
 
-            return preparedStatement.executeUpdate() > 0;
+                boolean result = preparedStatement.executeUpdate() > 0;
+                if (result) {
+                    transaction.commit();
+                }
+                return result;
+            }
         }
     }
 
@@ -43,14 +50,16 @@ public class CoordinatorDAO implements ICoordinatorDAO {
             throw new IllegalArgumentException("El coordinador no debe ser nulo");
         }
         String query = "DELETE FROM coordinador WHERE id_usuario = ?";
-        try (Connection connection = ConnectionDataBase.getConnection();
+        try (TransactionScope transaction = TransactionScope.begin();
+             Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
 
             statement.setInt(1, coordinator.getIdUser());
             int rowsAffected = statement.executeUpdate();
 
-            if (rowsAffected > 0) {
-                return userDAO.deleteUser(coordinator.getIdUser());
+            if (rowsAffected > 0 && userDAO.deleteUser(coordinator.getIdUser())) {
+                transaction.commit();
+                return true;
             }
             return false;
         }
@@ -64,19 +73,25 @@ public class CoordinatorDAO implements ICoordinatorDAO {
             throw new IllegalArgumentException("Los datos del coordinador no deben ser nulos o vacíos");
         }
 
-        boolean userUpdated = userDAO.updateUser(coordinator);
-        if (!userUpdated) {
-            return false;
-        }
-
         String query = "UPDATE coordinador SET numero_personal = ? WHERE id_usuario = ?";
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean userUpdated = userDAO.updateUser(coordinator);
+            if (!userUpdated) {
+                return false;
+            }
+
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
 
-            statement.setString(1, coordinator.getStaffNumber());
-            statement.setInt(2, coordinator.getIdUser());
+                statement.setString(1, coordinator.getStaffNumber());
+                statement.setInt(2, coordinator.getIdUser());
 
-            return statement.executeUpdate() > 0;
+                boolean result = statement.executeUpdate() > 0;
+                if (result) {
+                    transaction.commit();
+                }
+                return result;
+            }
         }
     }
 
@@ -0,0 +1,286 @@
+package logic.daos;
+
+import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentStore;
+import dataaccess.DocumentStore.StagedDocument;
+import dataaccess.TransactionScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class DocumentReferenceDAO {
+    public static final String ORGANIZATION_TABLE = "documentos_organizacion";
+    public static final String ASSIGNMENT_TABLE = "documentos_asignacion";
+    public static final Map<String, String> DOCUMENT_TABLES = Map.of(
+            ORGANIZATION_TABLE, "archivo",
+            ASSIGNMENT_TABLE, "contenido"
+    );
+
+    private static final Logger logger = LogManager.getLogger(DocumentReferenceDAO.class);
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS almacen_documentos (" +
+            "hash_contenido CHAR(64) NOT NULL PRIMARY KEY, " +
+            "tamano BIGINT NOT NULL, " +
+            "tamano_almacenado BIGINT NULL, " +
+            "codec VARCHAR(16) NOT NULL DEFAULT 'none', " +
+            "referencias INT NOT NULL DEFAULT 0, " +
+            "actualizado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)";
+
+    private static final String CREATE_REGISTRY = "CREATE TABLE IF NOT EXISTS almacen_registro (" +
+            "id TINYINT NOT NULL PRIMARY KEY, " +
+            "identificador CHAR(36) NOT NULL, " +
+            "registrado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)";
+
+    private static volatile boolean schemaReady;
+    private static volatile Path verifiedRoot;
+
+    public void ensureSchema() throws SQLException {
+        if (schemaReady) {
+            return;
+        }
+        synchronized (DocumentReferenceDAO.class) {
+            if (schemaReady) {
+                return;
+            }
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE);
+                statement.execute(CREATE_REGISTRY);
+                if (!hasColumn(connection, "almacen_documentos", "codec")) {
+                    statement.execute("ALTER TABLE almacen_documentos ADD COLUMN tamano_almacenado BIGINT NULL, " +
+                            "ADD COLUMN codec VARCHAR(16) NOT NULL DEFAULT 'none'");
+                }
+                for (Map.Entry<String, String> table : DOCUMENT_TABLES.entrySet()) {
+                    if (!hasColumn(connection, table.getKey(), "hash_contenido")) {
+                        statement.execute("ALTER TABLE " + table.getKey() +
+                                " ADD COLUMN hash_contenido CHAR(64) NULL, ADD COLUMN tamano BIGINT NULL, " +
+                                "MODIFY " + table.getValue() + " LONGBLOB NULL, " +
+                                "ADD INDEX idx_" + table.getKey() + "_hash (hash_contenido)");
+                        logger.info("Tabla {} preparada para el almacén de documentos", table.getKey());
+                    }
+                }
+                schemaReady = true;
+            } catch (SQLException e) {
+                logger.error("No se pudo preparar el esquema del almacén de documentos", e);
+                throw e;
+            }
+        }
+    }
+
+    public void verifyStore(DocumentStore store) throws SQLException {
+        if (store == null) {
+            throw new SQLException("El almacén de documentos compartido no está configurado en este equipo (documents.store.dir)");
+        }
+        if (store.getRoot().equals(verifiedRoot)) {
+            return;
+        }
+
+        ensureSchema();
+        synchronized (DocumentReferenceDAO.class) {
+            try {
+                String registered = getRegisteredStore();
+                if (registered == null) {
+                    registerStore(store.createIdentity());
+                    registered = getRegisteredStore();
+                }
+                if (!registered.equals(store.readIdentity())) {
+                    logger.error("El directorio {} no es el almacén de documentos compartido registrado", store.getRoot());
+                    throw new SQLException("El directorio " + store.getRoot() +
+                            " no es el almacén de documentos compartido registrado en la base de datos");
+                }
+            } catch (IOException e) {
+                logger.error("No se pudo acceder al almacén de documentos en {}", store.getRoot(), e);
+                throw new SQLException("No se pudo acceder al almacén de documentos compartido", e);
+            }
+            verifiedRoot = store.getRoot();
+            logger.info("Almacén de documentos compartido verificado en {}", store.getRoot());
+        }
+    }
+
+    public boolean acquire(DocumentStore store, StagedDocument staged) throws SQLException, IOException {
+        String query = "INSERT INTO almacen_documentos (hash_contenido, tamano, tamano_almacenado, codec, referencias) " +
+                "VALUES (?, ?, ?, ?, 1) ON DUPLICATE KEY UPDATE referencias = referencias + 1";
+
+        verifyStore(store);
+        boolean created;
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, staged.hash());
+            statement.setLong(2, staged.size());
+            statement.setLong(3, staged.storedSize());
+            statement.setString(4, staged.codec().getId());
+            created = statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            logger.error("Error al registrar la referencia del documento {}", staged.hash(), e);
+            throw e;
+        }
+        return store.publish(staged, created);
+    }
+
+    public int release(DocumentStore store, Collection<String> hashes) throws SQLException {
+        String decrement = "UPDATE almacen_documentos SET referencias = GREATEST(referencias - 1, 0) WHERE hash_contenido = ?";
+        String remove = "DELETE FROM almacen_documentos WHERE hash_contenido = ? AND referencias = 0";
+        List<String> unreferenced = new ArrayList<>();
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+
+        verifyStore(store);
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement decrementStatement = connection.prepareStatement(decrement);
+             PreparedStatement removeStatement = connection.prepareStatement(remove)) {
+
+            for (String hash : hashes) {
+                decrementStatement.setString(1, hash);
+                decrementStatement.executeUpdate();
+                removeStatement.setString(1, hash);
+                if (removeStatement.executeUpdate() > 0) {
+                    unreferenced.add(hash);
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al liberar referencias de documentos", e);
+            throw e;
+        }
+
+        if (!unreferenced.isEmpty()) {
+            TransactionScope.afterCommit(() -> {
+                for (String hash : unreferenced) {
+                    deleteQuietly(store, hash);
+                }
+            });
+        }
+        return unreferenced.size();
+    }
+
+    public boolean hasSchema() throws SQLException {
+        if (schemaReady) {
+            return true;
+        }
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            if (!hasColumn(connection, "almacen_documentos", "codec")) {
+                return false;
+            }
+            for (String table : DOCUMENT_TABLES.keySet()) {
+                if (!hasColumn(connection, table, "hash_contenido")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    public int getReferenceCount(String hash) throws SQLException {
+        String query = "SELECT referencias FROM almacen_documentos WHERE hash_contenido = ?";
+
+        ensureSchema();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, hash);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt("referencias") : 0;
+            }
+        }
+    }
+
+    public StoreUsage getUsage() throws SQLException {
+        String query = "SELECT COUNT(*) AS documentos, COALESCE(SUM(tamano), 0) AS almacenado, " +
+                "COALESCE(SUM(tamano * referencias), 0) AS referenciado, " +
+                "COALESCE(SUM(COALESCE(tamano_almacenado, tamano)), 0) AS en_disco " +
+                "FROM almacen_documentos WHERE referencias > 0";
+
+        ensureSchema();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            resultSet.next();
+            return new StoreUsage(resultSet.getInt("documentos"), resultSet.getLong("almacenado"),
+                    resultSet.getLong("referenciado"), resultSet.getLong("en_disco"));
+        } catch (SQLException e) {
+            logger.error("Error al consultar el uso del almacén de documentos", e);
+            throw e;
+        }
+    }
+
+    private String getRegisteredStore() throws SQLException {
+        String query = "SELECT identificador FROM almacen_registro WHERE id = 1";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            return resultSet.next() ? resultSet.getString("identificador") : null;
+        }
+    }
+
+    private void registerStore(String identity) throws SQLException {
+        String query = "INSERT IGNORE INTO almacen_registro (id, identificador) VALUES (1, ?)";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, identity);
+            statement.executeUpdate();
+        }
+    }
+
+    private boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        String query = "SELECT 1 FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, table);
+            statement.setString(2, column);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private void deleteQuietly(DocumentStore store, String hash) {
+        String query = "SELECT referencias FROM almacen_documentos WHERE hash_contenido = ? FOR UPDATE";
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query)) {
+
+                statement.setString(1, hash);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getInt("referencias") > 0) {
+                        logger.debug("Documento {} referenciado de nuevo; se conserva en el almacén", hash);
+                        return;
+                    }
+                }
+            }
+            store.delete(hash);
+            transaction.commit();
+        } catch (SQLException | IOException e) {
+            logger.warn("No se pudo eliminar el documento {} del almacén", hash, e);
+        }
+    }
+
+    public record StoreUsage(int documents, long storedBytes, long referencedBytes, long diskBytes) {
+
+        public long savedBytes() {
+            return referencedBytes - storedBytes;
+        }
+
+        public long compressionSavedBytes() {
+            return storedBytes - diskBytes;
+        }
+    }
+}
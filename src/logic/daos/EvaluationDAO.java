@@ -1,6 +1,8 @@
 package logic.daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.ResultStreams;
+import dataaccess.TransactionScope;
 import logic.logicclasses.Evaluation;
 import logic.logicclasses.Academic;
 import logic.logicclasses.Presentation;
@@ -15,15 +17,18 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class EvaluationDAO implements IEvaluationDAO {
     private static final Evaluation EMPTY_EVALUATION = new Evaluation();
     private final AcademicDAO academicDAO;
     private final PresentationDAO presentationDAO;
+    private final StatisticsSnapshotDAO statisticsSnapshotDAO;
 
     public EvaluationDAO() {
         this.academicDAO = new AcademicDAO();
         this.presentationDAO = new PresentationDAO();
+        this.statisticsSnapshotDAO = new StatisticsSnapshotDAO();
     }
 
     @Override
@@ -34,27 +39,33 @@ public class EvaluationDAO implements IEvaluationDAO {
 
         String query = "INSERT INTO evaluacion (calificacion, comentarios, fecha, id_academicoevaluador, id_presentacion) VALUES (?, ?, ?, ?, ?)";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
-
-            preparedStatement.setInt(1, evaluation.getCalification());
-            preparedStatement.setString(2, evaluation.getDescription());
-            preparedStatement.setTimestamp(3, evaluation.getEvaluationDate());
-            preparedStatement.setInt(4, evaluation.getAcademic().getIdUser());
-            preparedStatement.setInt(5, evaluation.getPresentation().getIdPresentation());
-
-            int affectedRows = preparedStatement.executeUpdate();
-
-            if (affectedRows > 0) {
-                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        int generatedId = generatedKeys.getInt(1);
-                        evaluation.setIdEvaluation(generatedId);
-                        return true;
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean added = false;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+
+                preparedStatement.setInt(1, evaluation.getCalification());
+                preparedStatement.setString(2, evaluation.getDescription());
+                preparedStatement.setTimestamp(3, evaluation.getEvaluationDate());
+                preparedStatement.setInt(4, evaluation.getAcademic().getIdUser());
+                preparedStatement.setInt(5, evaluation.getPresentation().getIdPresentation());
+
+                int affectedRows = preparedStatement.executeUpdate();
+
+                if (affectedRows > 0) {
+                    try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            int generatedId = generatedKeys.getInt(1);
+                            evaluation.setIdEvaluation(generatedId);
+                            statisticsSnapshotDAO.recordEvaluation(evaluation.getPresentation().getIdPresentation(),
+                                    evaluation.getCalification(), evaluation.getEvaluationDate());
+                            added = true;
+                        }
                     }
                 }
             }
-            return false;
+            transaction.commit();
+            return added;
         }
     }
 
@@ -106,7 +117,7 @@ public class EvaluationDAO implements IEvaluationDAO {
 
     @Override
     public List<Evaluation> getAllEvaluations() throws SQLException {
-        String query = "SELECT e.*, a.numero_personal, p.fecha, p.tipo, p.id_estudiante " +
+        String query = "SELECT e.*, a.numero_personal, p.fecha as p_fecha, p.tipo, p.id_estudiante " +
                 "FROM evaluacion e " +
                 "JOIN academico a ON e.id_academicoevaluador = a.id_usuario " +
                 "JOIN presentacion p ON e.id_presentacion = p.id_presentacion";
@@ -118,33 +129,46 @@ public class EvaluationDAO implements IEvaluationDAO {
              ResultSet resultSet = statement.executeQuery(query)) {
 
             while (resultSet.next()) {
-                Evaluation evaluation = new Evaluation();
-                evaluation.setIdEvaluation(resultSet.getInt("id_evaluacion"));
-                evaluation.setCalification(resultSet.getInt("calificacion"));
-                evaluation.setDescription(resultSet.getString("comentarios"));
-                evaluation.setEvaluationDate(resultSet.getTimestamp("fecha"));
-
-                Academic academic = new Academic();
-                academic.setIdUser(resultSet.getInt("id_academicoevaluador"));
-                academic.setStaffNumber(resultSet.getString("numero_personal"));
-                evaluation.setAcademic(academic);
-
-                Presentation presentation = new Presentation();
-                presentation.setIdPresentation(resultSet.getInt("id_presentacion"));
-                presentation.setPresentationDate(resultSet.getTimestamp("fecha"));
-                presentation.setPresentationType(PresentationType.valueOf(resultSet.getString("tipo")));
-
-                Student student = new Student();
-                student.setIdUser(resultSet.getInt("id_estudiante"));
-                presentation.setStudent(student);
-
-                evaluation.setPresentation(presentation);
-                evaluations.add(evaluation);
+                evaluations.add(mapEvaluationWithPresentation(resultSet));
             }
         }
         return evaluations;
     }
 
+    public Stream<Evaluation> streamAllEvaluations() throws SQLException {
+        String query = "SELECT e.id_evaluacion, e.calificacion, e.comentarios, e.id_academicoevaluador, " +
+                "e.fecha, e.id_presentacion, a.numero_personal, p.fecha as p_fecha, p.tipo, p.id_estudiante " +
+                "FROM evaluacion e " +
+                "JOIN academico a ON e.id_academicoevaluador = a.id_usuario " +
+                "JOIN presentacion p ON e.id_presentacion = p.id_presentacion";
+        return ResultStreams.stream(query, null, this::mapEvaluationWithPresentation);
+    }
+
+    private Evaluation mapEvaluationWithPresentation(ResultSet resultSet) throws SQLException {
+        Evaluation evaluation = new Evaluation();
+        evaluation.setIdEvaluation(resultSet.getInt("id_evaluacion"));
+        evaluation.setCalification(resultSet.getInt("calificacion"));
+        evaluation.setDescription(resultSet.getString("comentarios"));
+        evaluation.setEvaluationDate(resultSet.getTimestamp("fecha"));
+
+        Academic academic = new Academic();
+        academic.setIdUser(resultSet.getInt("id_academicoevaluador"));
+        academic.setStaffNumber(resultSet.getString("numero_personal"));
+        evaluation.setAcademic(academic);
+
+        Presentation presentation = new Presentation();
+        presentation.setIdPresentation(resultSet.getInt("id_presentacion"));
+        presentation.setPresentationDate(resultSet.getTimestamp("p_fecha"));
+        presentation.setPresentationType(PresentationType.valueOf(resultSet.getString("tipo")));
+
+        Student student = new Student();
+        student.setIdUser(resultSet.getInt("id_estudiante"));
+        presentation.setStudent(student);
+
+        evaluation.setPresentation(presentation);
+        return evaluation;
+    }
+
     @Override
     public List<Evaluation> getEvaluationsByAcademic(int academicId) throws SQLException {
         if (academicId <= 0) {
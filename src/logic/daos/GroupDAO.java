@@ -1,6 +1,11 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import dataaccess.IdentityMap;
 import logic.enums.AcademicType;
 import logic.logicclasses.Group;
 import logic.logicclasses.Student;
@@ -16,14 +21,34 @@ import java.util.Collections;
 import java.util.List;
 
 public class GroupDAO implements IGroupDAO {
+    public static final String CHANGE_ENTITY = "grupo";
     private static final Group EMPTY_GROUP = new Group(-1, "", Collections.emptyList(), null);
     private static final Academic EMPTY_ACADEMIC = new Academic(-1, "", "", "", 'I', "", AcademicType.EE);
+    private static final EntityCache<Integer, Group> groupByAcademicCache =
+            EntityCaches.create("grupos.porAcademico", 300_000, 200);
     private final StudentDAO studentDAO;
 
+    static {
+        ChangeLog.subscribe(GroupDAO::onGroupChanged,
+                CHANGE_ENTITY, AcademicDAO.CHANGE_ENTITY, UserDAO.CHANGE_ENTITY);
+    }
+
     public GroupDAO() {
         this.studentDAO = new StudentDAO();
     }
 
+    private static void onGroupChanged(ChangeEvent event) {
+        Integer academicId = event.entityIdAsInt();
+        if (!CHANGE_ENTITY.equals(event.entity()) && academicId != null) {
+            groupByAcademicCache.invalidate(academicId);
+        } else {
+            groupByAcademicCache.invalidateAll();
+        }
+        if (CHANGE_ENTITY.equals(event.entity())) {
+            IdentityMap.evictEverywhere(Group.class, event.entityIdAsInt());
+        }
+    }
+
     public boolean assignEeAcademic(int nrc, int academicId) throws SQLException {
         String checkQuery = "SELECT Tipo FROM academico WHERE id_usuario = ? AND Tipo = 'EE'";
         String existsQuery = "SELECT 1 FROM grupo_academico WHERE nrc = ?";
@@ -49,15 +74,18 @@ public class GroupDAO implements IGroupDAO {
                 exists = resultSet.next();
             }
 
+            boolean assigned;
             if (exists) {
                 updateStament.setInt(1, academicId);
                 updateStament.setInt(2, nrc);
-                return updateStament.executeUpdate() > 0;
+                assigned = updateStament.executeUpdate() > 0;
             } else {
                 insertStatement.setInt(1, nrc);
                 insertStatement.setInt(2, academicId);
-                return insertStatement.executeUpdate() > 0;
+                assigned = insertStatement.executeUpdate() > 0;
             }
+            ChangeLog.recordChange(CHANGE_ENTITY, nrc);
+            return assigned;
         }
     }
 
@@ -69,7 +97,9 @@ public class GroupDAO implements IGroupDAO {
 
             preparedStatement.setInt(1, nrc);
             preparedStatement.setInt(2, academicId);
-            return preparedStatement.executeUpdate() > 0;
+            boolean removed = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, nrc);
+            return removed;
         }
     }
 
@@ -158,7 +188,9 @@ public class GroupDAO implements IGroupDAO {
              PreparedStatement preparedStatement = connection.prepareStatement(deleteQuery)) {
 
             preparedStatement.setInt(1, group.getNrc());
-            return preparedStatement.executeUpdate() > 0;
+            boolean deleted = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, group.getNrc());
+            return deleted;
         }
     }
 
@@ -175,7 +207,9 @@ public class GroupDAO implements IGroupDAO {
             preparedStatement.setString(1, group.getGroupName());
             preparedStatement.setInt(2, group.getNrc());
 
-            return preparedStatement.executeUpdate() > 0;
+            boolean updated = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, group.getNrc());
+            return updated;
         }
     }
 
@@ -213,6 +247,10 @@ public class GroupDAO implements IGroupDAO {
         if (nrc <= 0) {
             return EMPTY_GROUP;
         }
+        return IdentityMap.lookup(Group.class, nrc, () -> loadGroupByNrc(nrc));
+    }
+
+    private Group loadGroupByNrc(int nrc) throws SQLException {
 
         String query = "SELECT nrc, nombre FROM grupo WHERE nrc = ?";
 
@@ -289,6 +327,19 @@ public class GroupDAO implements IGroupDAO {
     }
 
     public Group getGroupByAcademicId(int academicId) throws SQLException {
+        Group group = groupByAcademicCache.get(academicId, () -> loadGroupByAcademicId(academicId));
+        if (group.getNrc() <= 0) {
+            return EMPTY_GROUP;
+        }
+        return new Group(
+                group.getNrc(),
+                group.getGroupName(),
+                studentDAO.getStudentsByGroup(group.getNrc()),
+                group.getAcademic()
+        );
+    }
+
+    private Group loadGroupByAcademicId(int academicId) throws SQLException {
         String query = "SELECT g.nrc, g.nombre FROM grupo g " +
                 "JOIN grupo_academico ga ON g.nrc = ga.nrc " +
                 "WHERE ga.id_usuario = ?";
@@ -303,7 +354,7 @@ public class GroupDAO implements IGroupDAO {
                     return new Group(
                             nrc,
                             resultSet.getString("nombre"),
-                            studentDAO.getStudentsByGroup(nrc),
+                            Collections.emptyList(),
                             getEeAcademicByGroup(nrc)
                     );
                 }
@@ -1,6 +1,13 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import dataaccess.KeysetQuery;
+import dataaccess.Page;
+import dataaccess.PageRequest;
 import logic.logicclasses.LinkedOrganization;
 import logic.interfaces.ILinkedOrganizationDAO;
 import java.sql.Connection;
@@ -12,7 +19,27 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
+    public static final String CHANGE_ENTITY = "organizacion_vinculada";
     private static final LinkedOrganization EMPTY_ORGANIZATION = new LinkedOrganization(-1, "", "", "", "", "", 'I');
+    private static final String ALL_ORGANIZATIONS_KEY = "todas";
+    private static final EntityCache<Integer, LinkedOrganization> organizationCache =
+            EntityCaches.create("organizaciones", 300_000, 500);
+    private static final EntityCache<String, List<LinkedOrganization>> organizationListCache =
+            EntityCaches.create("organizaciones.lista", 300_000, 1);
+
+    static {
+        ChangeLog.subscribe(LinkedOrganizationDAO::onOrganizationChanged, CHANGE_ENTITY);
+    }
+
+    private static void onOrganizationChanged(ChangeEvent event) {
+        Integer id = event.entityIdAsInt();
+        if (id != null) {
+            organizationCache.invalidate(id);
+        } else {
+            organizationCache.invalidateAll();
+        }
+        organizationListCache.invalidateAll();
+    }
 
     public boolean addLinkedOrganization(LinkedOrganization linkedOrganization) throws SQLException, IllegalArgumentException {
         if (linkedOrganization == null) {
@@ -33,6 +60,7 @@ public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
             preparedStatement.setString(6, String.valueOf(linkedOrganization.getStatus()));
 
             int affectedRows = preparedStatement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
 
             if (affectedRows > 0) {
                 try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
@@ -58,7 +86,9 @@ public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
             preparedStatement.setInt(1, linkedOrganization.getIdLinkedOrganization());
-            return preparedStatement.executeUpdate() > 0;
+            boolean deleted = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, linkedOrganization.getIdLinkedOrganization());
+            return deleted;
         }
     }
 
@@ -81,11 +111,17 @@ public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
             preparedStatement.setString(6, String.valueOf(linkedOrganization.getStatus()));
             preparedStatement.setInt(7, linkedOrganization.getIdLinkedOrganization());
 
-            return preparedStatement.executeUpdate() > 0;
+            boolean updated = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, linkedOrganization.getIdLinkedOrganization());
+            return updated;
         }
     }
 
     public List<LinkedOrganization> getAllLinkedOrganizations() throws SQLException {
+        return new ArrayList<>(organizationListCache.get(ALL_ORGANIZATIONS_KEY, this::loadAllLinkedOrganizations));
+    }
+
+    private List<LinkedOrganization> loadAllLinkedOrganizations() throws SQLException {
         String query = "SELECT id_empresa, nombre_empresa, telefono, extension_telefono, departamento, " +
                     "correo_empresarial, estado FROM organizacion_vinculada";
         List<LinkedOrganization> organizations = new ArrayList<>();
@@ -95,20 +131,32 @@ public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
              ResultSet resultSet = statement.executeQuery(query)) {
 
             while (resultSet.next()) {
-                organizations.add(new LinkedOrganization(
-                    resultSet.getInt("id_empresa"),
-                    resultSet.getString("nombre_empresa"),
-                    resultSet.getString("telefono"),
-                    resultSet.getString("extension_telefono"),
-                    resultSet.getString("departamento"),
-                    resultSet.getString("correo_empresarial"),
-                    resultSet.getString("estado").charAt(0)
-                ));
+                organizations.add(mapLinkedOrganization(resultSet));
             }
         }
         return organizations;
     }
 
+    public Page<LinkedOrganization> getLinkedOrganizationsPage(PageRequest request) throws SQLException {
+        return new KeysetQuery("id_empresa, nombre_empresa, telefono, extension_telefono, departamento, " +
+                "correo_empresarial, estado", "organizacion_vinculada", "id_empresa")
+                .sortable("nombre", "nombre_empresa")
+                .searchable("nombre_empresa")
+                .fetch(request, this::mapLinkedOrganization);
+    }
+
+    private LinkedOrganization mapLinkedOrganization(ResultSet resultSet) throws SQLException {
+        return new LinkedOrganization(
+            resultSet.getInt("id_empresa"),
+            resultSet.getString("nombre_empresa"),
+            resultSet.getString("telefono"),
+            resultSet.getString("extension_telefono"),
+            resultSet.getString("departamento"),
+            resultSet.getString("correo_empresarial"),
+            resultSet.getString("estado").charAt(0)
+        );
+    }
+
     public LinkedOrganization getLinkedOrganizationByTitle(String title) throws SQLException, IllegalArgumentException {
         if (title == null || title.isEmpty()) {
             throw new IllegalArgumentException("El nombre de la organización no debe ser nulo o vacío");
@@ -142,6 +190,10 @@ public class LinkedOrganizationDAO implements ILinkedOrganizationDAO {
         if (id <= 0) {
             return EMPTY_ORGANIZATION;
         }
+        return organizationCache.get(id, () -> loadLinkedOrganizationById(id));
+    }
+
+    private LinkedOrganization loadLinkedOrganizationById(int id) throws SQLException {
 
         String query = "SELECT id_empresa, nombre_empresa, telefono, extension_telefono, departamento, " +
                     "correo_empresarial, estado FROM organizacion_vinculada WHERE id_empresa = ?";
@@ -1,12 +1,23 @@
 package logic.daos;
 
+import dataaccess.BlobStreams;
 import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentStore;
+import dataaccess.DocumentStore.StagedDocument;
+import dataaccess.TransactionScope;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class LinkedOrganizationDocumentDAO {
     private static final Logger logger = LogManager.getLogger(LinkedOrganizationDocumentDAO.class);
@@ -14,32 +25,112 @@ public class LinkedOrganizationDocumentDAO {
     private static final String EMPTY_STRING = "";
     private static final String NO_INFO = "No hay información disponible";
 
+    private final DocumentStore documentStore;
+    private final DocumentReferenceDAO referenceDAO;
+
+    public LinkedOrganizationDocumentDAO() {
+        this(DocumentStore.getDefault(), new DocumentReferenceDAO());
+    }
+
+    public LinkedOrganizationDocumentDAO(DocumentStore documentStore, DocumentReferenceDAO referenceDAO) {
+        this.documentStore = documentStore;
+        this.referenceDAO = referenceDAO;
+    }
+
     public boolean insertDocument(int organizationId, String fileName, String fileType, byte[] fileBytes) throws SQLException, IllegalArgumentException {
         if (organizationId <= 0 || fileName == null || fileType == null || fileBytes == null) {
             throw new IllegalArgumentException("Parámetros inválidos para insertar documento");
         }
+        if (documentStore == null) {
+            return insertInDatabase(organizationId, fileName, fileType, new ByteArrayInputStream(fileBytes), fileBytes.length);
+        }
+
+        referenceDAO.verifyStore(documentStore);
+        try (StagedDocument staged = documentStore.stage(fileBytes, fileType)) {
+            return insertStaged(organizationId, fileName, fileType, staged);
+        } catch (IOException e) {
+            logger.error("Error al guardar en el almacén el documento de la organización ID: {}", organizationId, e);
+            throw new SQLException("No se pudo guardar el documento en el almacén", e);
+        }
+    }
+
+    public boolean insertDocument(int organizationId, String fileName, String fileType, Path file)
+            throws SQLException, IOException, IllegalArgumentException {
+        if (organizationId <= 0 || fileName == null || fileType == null || file == null) {
+            throw new IllegalArgumentException("Parámetros inválidos para insertar documento");
+        }
+        if (documentStore == null) {
+            try (InputStream content = BlobStreams.openFile(file)) {
+                return insertInDatabase(organizationId, fileName, fileType, content, Files.size(file));
+            }
+        }
 
-        logger.debug("Insertando documento para organización ID: {} - Nombre archivo: {}", organizationId, fileName);
+        referenceDAO.verifyStore(documentStore);
+        try (StagedDocument staged = documentStore.stage(file, fileType)) {
+            return insertStaged(organizationId, fileName, fileType, staged);
+        }
+    }
+
+    private boolean insertInDatabase(int organizationId, String fileName, String fileType, InputStream content, long size)
+            throws SQLException {
+        logger.debug("Insertando documento para organización ID: {} - Nombre archivo: {} ({} bytes)",
+                organizationId, fileName, size);
 
         String query = "INSERT INTO documentos_organizacion (id_empresa, nombre_archivo, tipo_archivo, archivo) VALUES (?, ?, ?, ?)";
 
         try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+             PreparedStatement preparedStatement = BlobStreams.prepareUpload(connection, query)) {
 
             preparedStatement.setInt(1, organizationId);
             preparedStatement.setString(2, fileName);
             preparedStatement.setString(3, fileType);
-            preparedStatement.setBytes(4, fileBytes);
-
-            int affectedRows = preparedStatement.executeUpdate();
-            boolean success = affectedRows > 0;
+            preparedStatement.setBinaryStream(4, content, size);
 
+            boolean success = preparedStatement.executeUpdate() > 0;
             if (success) {
                 logger.info("Documento insertado exitosamente para organización ID: {} - Archivo: {}", organizationId, fileName);
             } else {
                 logger.warn("No se pudo insertar documento para organización ID: {}", organizationId);
             }
+            return success;
+        } catch (SQLException e) {
+            logger.error("Error al insertar documento para organización ID: {}", organizationId, e);
+            throw e;
+        }
+    }
+
+    private boolean insertStaged(int organizationId, String fileName, String fileType, StagedDocument staged)
+            throws SQLException, IOException {
+        logger.debug("Insertando documento para organización ID: {} - Nombre archivo: {} ({} bytes)",
+                organizationId, fileName, staged.size());
+
+        String query = "INSERT INTO documentos_organizacion (id_empresa, nombre_archivo, tipo_archivo, hash_contenido, tamano) " +
+                "VALUES (?, ?, ?, ?, ?)";
+
+        referenceDAO.ensureSchema();
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean success;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+                preparedStatement.setInt(1, organizationId);
+                preparedStatement.setString(2, fileName);
+                preparedStatement.setString(3, fileType);
+                preparedStatement.setString(4, staged.hash());
+                preparedStatement.setLong(5, staged.size());
+                success = preparedStatement.executeUpdate() > 0;
+            }
 
+            if (success) {
+                referenceDAO.acquire(documentStore, staged);
+            }
+            transaction.commit();
+
+            if (success) {
+                logger.info("Documento insertado exitosamente para organización ID: {} - Archivo: {}", organizationId, fileName);
+            } else {
+                logger.warn("No se pudo insertar documento para organización ID: {}", organizationId);
+            }
             return success;
         } catch (SQLException e) {
             logger.error("Error al insertar documento para organización ID: {}", organizationId, e);
@@ -54,7 +145,7 @@ public class LinkedOrganizationDocumentDAO {
 
         logger.debug("Obteniendo documento para organización ID: {}", organizationId);
 
-        String query = "SELECT archivo FROM documentos_organizacion WHERE id_empresa = ?";
+        String query = "SELECT archivo, " + hashColumn() + " FROM documentos_organizacion WHERE id_empresa = ?";
 
         try (Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
@@ -62,7 +153,14 @@ public class LinkedOrganizationDocumentDAO {
             preparedStatement.setInt(1, organizationId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    byte[] document = resultSet.getBytes("archivo");
+                    String hash = resultSet.getString("hash_contenido");
+                    byte[] document;
+                    if (hash != null) {
+                        referenceDAO.verifyStore(documentStore);
+                        document = documentStore.readAllBytes(hash);
+                    } else {
+                        document = resultSet.getBytes("archivo");
+                    }
                     logger.debug("Documento encontrado para organización ID: {}", organizationId);
                     return document != null ? document : EMPTY_DOCUMENT;
                 }
@@ -70,12 +168,54 @@ public class LinkedOrganizationDocumentDAO {
         } catch (SQLException e) {
             logger.error("Error al obtener documento para organización ID: {}", organizationId, e);
             throw e;
+        } catch (IOException e) {
+            logger.error("Error al leer del almacén el documento de la organización ID: {}", organizationId, e);
+            throw new SQLException("No se pudo leer el documento del almacén", e);
         }
 
         logger.info("No se encontró documento para organización ID: {}", organizationId);
         return EMPTY_DOCUMENT;
     }
 
+    public long exportDocumentByOrganizationId(int organizationId, Path target) throws SQLException, IOException {
+        if (organizationId <= 0) {
+            return 0;
+        }
+
+        logger.debug("Exportando documento de organización ID: {} a {}", organizationId, target);
+
+        String query = "SELECT archivo, " + hashColumn() + " FROM documentos_organizacion WHERE id_empresa = ?";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+            preparedStatement.setInt(1, organizationId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    String hash = resultSet.getString("hash_contenido");
+                    InputStream document;
+                    if (hash != null) {
+                        referenceDAO.verifyStore(documentStore);
+                        document = documentStore.open(hash);
+                    } else {
+                        document = resultSet.getBinaryStream("archivo");
+                    }
+                    if (document != null) {
+                        long written = BlobStreams.copyToFile(document, target);
+                        logger.info("Documento de organización ID: {} exportado ({} bytes)", organizationId, written);
+                        return written;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al exportar documento para organización ID: {}", organizationId, e);
+            throw e;
+        }
+
+        logger.info("No se encontró documento para organización ID: {}", organizationId);
+        return 0;
+    }
+
     public boolean deleteDocument(int organizationId) throws SQLException, IllegalArgumentException {
         if (organizationId <= 0) {
             throw new IllegalArgumentException("ID de organización inválido para eliminar documento");
@@ -83,14 +223,49 @@ public class LinkedOrganizationDocumentDAO {
 
         logger.debug("Eliminando documento para organización ID: {}", organizationId);
 
+        String selectQuery = "SELECT hash_contenido FROM documentos_organizacion " +
+                "WHERE id_empresa = ? AND hash_contenido IS NOT NULL FOR UPDATE";
         String query = "DELETE FROM documentos_organizacion WHERE id_empresa = ?";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        if (documentStore == null) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
-            preparedStatement.setInt(1, organizationId);
-            int affectedRows = preparedStatement.executeUpdate();
-            boolean success = affectedRows > 0;
+                preparedStatement.setInt(1, organizationId);
+                boolean success = preparedStatement.executeUpdate() > 0;
+                if (success) {
+                    logger.info("Documento eliminado exitosamente para organización ID: {}", organizationId);
+                } else {
+                    logger.warn("No se encontró documento para organización ID: {} para eliminar", organizationId);
+                }
+                return success;
+            } catch (SQLException e) {
+                logger.error("Error al eliminar documento para organización ID: {}", organizationId, e);
+                throw e;
+            }
+        }
+
+        referenceDAO.ensureSchema();
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            List<String> hashes = new ArrayList<>();
+            boolean success;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement selectStatement = connection.prepareStatement(selectQuery);
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+
+                selectStatement.setInt(1, organizationId);
+                try (ResultSet resultSet = selectStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        hashes.add(resultSet.getString("hash_contenido"));
+                    }
+                }
+
+                preparedStatement.setInt(1, organizationId);
+                success = preparedStatement.executeUpdate() > 0;
+            }
+
+            referenceDAO.release(documentStore, hashes);
+            transaction.commit();
 
             if (success) {
                 logger.info("Documento eliminado exitosamente para organización ID: {}", organizationId);
@@ -181,4 +356,12 @@ public class LinkedOrganizationDocumentDAO {
         }
         return EMPTY_STRING;
     }
+
+    private String hashColumn() throws SQLException {
+        if (documentStore == null) {
+            return "NULL AS hash_contenido";
+        }
+        referenceDAO.ensureSchema();
+        return "hash_contenido";
+    }
 }
@@ -0,0 +1,155 @@
+package logic.daos;
+
+import dataaccess.ConnectionDataBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoginLockoutDAO {
+    public static final String EMAIL_PREFIX = "correo:";
+    public static final String SOURCE_PREFIX = "origen:";
+
+    private static final Logger logger = LogManager.getLogger(LoginLockoutDAO.class);
+    private static final int MYSQL_NO_SUCH_TABLE = 1146;
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS bloqueo_acceso (" +
+            "clave VARCHAR(160) NOT NULL PRIMARY KEY, " +
+            "bloqueos INT NOT NULL DEFAULT 0, " +
+            "bloqueado_hasta TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "actualizado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)";
+
+    private static volatile boolean tableReady;
+
+    public static boolean isMissingTable(SQLException e) {
+        return e.getErrorCode() == MYSQL_NO_SUCH_TABLE;
+    }
+
+    public void saveLockout(String key, int lockouts, long lockSeconds) throws SQLException {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("La clave del bloqueo no puede ser nula o vacía");
+        }
+
+        String query = "INSERT INTO bloqueo_acceso (clave, bloqueos, bloqueado_hasta) " +
+                "VALUES (?, ?, DATE_ADD(NOW(), INTERVAL ? SECOND)) " +
+                "ON DUPLICATE KEY UPDATE bloqueos = GREATEST(bloqueos, VALUES(bloqueos)), " +
+                "bloqueado_hasta = GREATEST(bloqueado_hasta, VALUES(bloqueado_hasta))";
+
+        ensureTable();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, key);
+            statement.setInt(2, lockouts);
+            statement.setLong(3, lockSeconds);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Error al guardar el bloqueo de acceso de {}", key, e);
+            throw e;
+        }
+    }
+
+    public boolean clearLockout(String key) throws SQLException {
+        String query = "DELETE FROM bloqueo_acceso WHERE clave = ?";
+
+        ensureTable();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, key);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            logger.error("Error al eliminar el bloqueo de acceso de {}", key, e);
+            throw e;
+        }
+    }
+
+    public Lockout getLockout(String key) throws SQLException {
+        String query = "SELECT clave, bloqueos, " +
+                "GREATEST(TIMESTAMPDIFF(SECOND, NOW(), bloqueado_hasta), 0) AS segundos_restantes " +
+                "FROM bloqueo_acceso WHERE clave = ?";
+
+        ensureTable();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? mapLockout(resultSet) : null;
+            }
+        } catch (SQLException e) {
+            logger.error("Error al consultar el bloqueo de acceso de {}", key, e);
+            throw e;
+        }
+    }
+
+    public Map<String, Lockout> getActiveLockouts() throws SQLException {
+        String query = "SELECT clave, bloqueos, TIMESTAMPDIFF(SECOND, NOW(), bloqueado_hasta) AS segundos_restantes " +
+                "FROM bloqueo_acceso WHERE bloqueado_hasta > NOW()";
+        Map<String, Lockout> lockouts = new LinkedHashMap<>();
+
+        ensureTable();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+
+            while (resultSet.next()) {
+                Lockout lockout = mapLockout(resultSet);
+                lockouts.put(lockout.key(), lockout);
+            }
+        } catch (SQLException e) {
+            logger.error("Error al obtener los bloqueos de acceso activos", e);
+            throw e;
+        }
+        return lockouts;
+    }
+
+    public int purgeExpired(int retentionHours) throws SQLException {
+        String query = "DELETE FROM bloqueo_acceso WHERE bloqueado_hasta < DATE_SUB(NOW(), INTERVAL ? HOUR)";
+
+        ensureTable();
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setInt(1, retentionHours);
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.error("Error al depurar los bloqueos de acceso vencidos", e);
+            throw e;
+        }
+    }
+
+    public void ensureTable() throws SQLException {
+        if (tableReady) {
+            return;
+        }
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            tableReady = true;
+        } catch (SQLException e) {
+            logger.error("No se pudo preparar la tabla bloqueo_acceso", e);
+            throw e;
+        }
+    }
+
+    private Lockout mapLockout(ResultSet resultSet) throws SQLException {
+        return new Lockout(
+                resultSet.getString("clave"),
+                resultSet.getInt("bloqueos"),
+                resultSet.getLong("segundos_restantes")
+        );
+    }
+
+    public record Lockout(String key, int lockouts, long remainingSeconds) {
+
+        public boolean isActive() {
+            return remainingSeconds > 0;
+        }
+    }
+}
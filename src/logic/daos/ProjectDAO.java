@@ -1,5 +1,14 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import dataaccess.IdentityMap;
+import dataaccess.KeysetQuery;
+import dataaccess.Page;
+import dataaccess.PageRequest;
+import dataaccess.SqlBatch;
 import logic.logicclasses.Project;
 import logic.interfaces.IProjectDAO;
 import logic.logicclasses.User;
@@ -11,13 +20,38 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import static dataaccess.ConnectionDataBase.getConnection;
 
 public class ProjectDAO implements IProjectDAO {
+    public static final String CHANGE_ENTITY = "proyecto";
     private static final Logger logger = LogManager.getLogger(ProjectDAO.class);
     private static final Project EMPTY_PROJECT = new Project(-1, "", "", null, null, 'I', 0, 0);
+    private static final String ALL_PROJECTS_KEY = "todos";
+    private static final EntityCache<Integer, Project> projectCache =
+            EntityCaches.create("proyectos", 120_000, 500);
+    private static final EntityCache<String, List<Project>> projectListCache =
+            EntityCaches.create("proyectos.lista", 120_000, 1);
+
+    static {
+        ChangeLog.subscribe(ProjectDAO::onProjectChanged, CHANGE_ENTITY);
+    }
+
+    private static void onProjectChanged(ChangeEvent event) {
+        Integer projectId = event.entityIdAsInt();
+        if (projectId != null) {
+            projectCache.invalidate(projectId);
+        } else {
+            projectCache.invalidateAll();
+        }
+        projectListCache.invalidateAll();
+        IdentityMap.evictEverywhere(Project.class, projectId);
+    }
 
     public boolean addProyect(Project project) throws SQLException, IllegalArgumentException {
         if (project == null) {
@@ -39,6 +73,7 @@ public class ProjectDAO implements IProjectDAO {
             preparedStatement.setInt(6, project.getCapacity());
 
             int affectedRows = preparedStatement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
 
             if (affectedRows > 0) {
                 try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
@@ -83,6 +118,7 @@ public class ProjectDAO implements IProjectDAO {
             preparedStatement.setInt(8, project.getIdProyect());
 
             boolean result = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, project.getIdProyect());
             if (result) {
                 logger.info("Proyecto actualizado exitosamente - ID: {}", project.getIdProyect());
             } else {
@@ -109,6 +145,7 @@ public class ProjectDAO implements IProjectDAO {
 
             preparedStatement.setInt(1, project.getIdProyect());
             boolean result = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, project.getIdProyect());
             if (result) {
                 logger.info("Proyecto eliminado exitosamente - ID: {}", project.getIdProyect());
             } else {
@@ -122,6 +159,10 @@ public class ProjectDAO implements IProjectDAO {
     }
 
     public List<Project> getAllProyects() throws SQLException {
+        return new ArrayList<>(projectListCache.get(ALL_PROJECTS_KEY, this::loadAllProyects));
+    }
+
+    private List<Project> loadAllProyects() throws SQLException {
         logger.info("Obteniendo todos los proyectos");
 
         String query = "SELECT id_proyecto, titulo, descripcion, fecha_inicial, fecha_terminal, estado, cupo, estudiantes_actuales FROM proyecto";
@@ -164,17 +205,7 @@ public class ProjectDAO implements IProjectDAO {
             preparedStatement.setString(1, String.valueOf(status));
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    Project project = new Project(
-                            resultSet.getInt("id_proyecto"),
-                            resultSet.getString("titulo"),
-                            resultSet.getString("descripcion"),
-                            resultSet.getTimestamp("fecha_inicial"),
-                            resultSet.getTimestamp("fecha_terminal"),
-                            resultSet.getString("estado").charAt(0),
-                            resultSet.getInt("cupo"),
-                            resultSet.getInt("estudiantes_actuales")
-                    );
-                    projects.add(project);
+                    projects.add(mapProject(resultSet));
                 }
             }
         } catch (SQLException e) {
@@ -185,7 +216,33 @@ public class ProjectDAO implements IProjectDAO {
         return projects;
     }
 
+    public Page<Project> getProjectsByStatusPage(char status, PageRequest request) throws SQLException {
+        return new KeysetQuery("id_proyecto, titulo, descripcion, fecha_inicial, fecha_terminal, estado, cupo, estudiantes_actuales",
+                "proyecto", "id_proyecto")
+                .where("estado = ?", String.valueOf(status))
+                .sortable("titulo", "titulo")
+                .searchable("titulo")
+                .fetch(request, this::mapProject);
+    }
+
+    private Project mapProject(ResultSet resultSet) throws SQLException {
+        return new Project(
+                resultSet.getInt("id_proyecto"),
+                resultSet.getString("titulo"),
+                resultSet.getString("descripcion"),
+                resultSet.getTimestamp("fecha_inicial"),
+                resultSet.getTimestamp("fecha_terminal"),
+                resultSet.getString("estado").charAt(0),
+                resultSet.getInt("cupo"),
+                resultSet.getInt("estudiantes_actuales")
+        );
+    }
+
     public Project getProyectById(int id) throws SQLException {
+        return IdentityMap.lookup(Project.class, id, () -> projectCache.get(id, () -> loadProyectById(id)));
+    }
+
+    private Project loadProyectById(int id) throws SQLException {
         String query = "SELECT id_proyecto, titulo, descripcion, fecha_inicial, fecha_terminal, estado, cupo, estudiantes_actuales " +
                 "FROM proyecto WHERE id_proyecto = ?";
 
@@ -211,6 +268,37 @@ public class ProjectDAO implements IProjectDAO {
         return EMPTY_PROJECT;
     }
 
+    public Map<Integer, Project> getProjectsByStudents(Collection<Integer> studentIds) throws SQLException {
+        Map<Integer, Project> projectsByStudent = new LinkedHashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) {
+            return projectsByStudent;
+        }
+
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        try (Connection connection = getConnection()) {
+            for (List<Integer> chunk : SqlBatch.partition(distinctIds, SqlBatch.getBatchSize())) {
+                String query = "SELECT pe.id_estudiante, p.id_proyecto, p.titulo, p.descripcion, p.fecha_inicial, " +
+                        "p.fecha_terminal, p.estado, p.cupo, p.estudiantes_actuales " +
+                        "FROM proyecto_estudiante pe JOIN proyecto p ON pe.id_proyecto = p.id_proyecto " +
+                        "WHERE pe.id_estudiante IN (" + SqlBatch.placeholders(chunk.size()) + ")";
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            projectsByStudent.putIfAbsent(resultSet.getInt("id_estudiante"), mapProject(resultSet));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al obtener proyectos por estudiantes", e);
+            throw e;
+        }
+        return projectsByStudent;
+    }
+
     public Project getProyectByTitle(String title) throws SQLException, IllegalArgumentException {
         if (title == null || title.isEmpty()) {
             throw new IllegalArgumentException("El título no debe ser nulo o vacío");
@@ -306,6 +394,7 @@ public class ProjectDAO implements IProjectDAO {
             preparedStatement.setInt(2, project.getIdProyect());
 
             boolean result = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, project.getIdProyect());
             if (result) {
                 logger.info("Estado de proyecto ID {} cambiado a {}",
                         project.getIdProyect(), project.getStatus());
@@ -339,6 +428,7 @@ public class ProjectDAO implements IProjectDAO {
             statement.setInt(6, project.getCapacity());
 
             int affectedRows = statement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
 
             if (affectedRows == 0) {
                 throw new SQLException("Creating project failed, no rows affected.");
@@ -427,7 +517,9 @@ public class ProjectDAO implements IProjectDAO {
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
             preparedStatement.setInt(1, projectId);
-            return preparedStatement.executeUpdate() > 0;
+            boolean incremented = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, projectId);
+            return incremented;
         }
     }
 }
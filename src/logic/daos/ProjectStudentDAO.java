@@ -1,6 +1,8 @@
 package logic.daos;
 
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.TransactionScope;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import java.sql.*;
@@ -11,6 +13,7 @@ import logic.interfaces.IProjectStudentDAO;
 public class ProjectStudentDAO implements IProjectStudentDAO {
     private static final Logger logger = LogManager.getLogger(ProjectStudentDAO.class);
     private static final int NO_PROJECT = -1;
+    private final StatisticsSnapshotDAO statisticsSnapshotDAO = new StatisticsSnapshotDAO();
 
     public boolean assignStudentToProject(int projectId, int studentId) throws SQLException {
         logger.debug("Asignando estudiante {} al proyecto {}", studentId, projectId);
@@ -26,6 +29,7 @@ public class ProjectStudentDAO implements IProjectStudentDAO {
             statement.registerOutParameter(4, Types.VARCHAR);
 
             statement.execute();
+            ChangeLog.recordChange(ProjectDAO.CHANGE_ENTITY, projectId);
 
             boolean success = statement.getBoolean(3);
             String message = statement.getString(4);
@@ -35,6 +39,7 @@ public class ProjectStudentDAO implements IProjectStudentDAO {
                 throw new SQLException(message);
             }
 
+            statisticsSnapshotDAO.recordAssignment(studentId, projectId);
             logger.info("Asignación exitosa: {}", message);
             return true;
         } catch (SQLException e) {
@@ -49,26 +54,28 @@ public class ProjectStudentDAO implements IProjectStudentDAO {
         String deleteQuery = "DELETE FROM proyecto_estudiante WHERE id_proyecto = ? AND id_estudiante = ?";
         String updateQuery = "UPDATE proyecto SET estudiantes_actuales = estudiantes_actuales - 1 WHERE id_proyecto = ?";
 
-        try (Connection connection = ConnectionDataBase.getConnection()) {
-            connection.setAutoCommit(false);
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement deleteStatement = connection.prepareStatement(deleteQuery);
+                 PreparedStatement updateStatement = connection.prepareStatement(updateQuery)) {
 
-            try (PreparedStatement deleteStatement = connection.prepareStatement(deleteQuery)) {
                 deleteStatement.setInt(1, proyectId);
                 deleteStatement.setInt(2, studentId);
                 int affectedRows = deleteStatement.executeUpdate();
 
                 if (affectedRows == 0) {
                     logger.warn("No se encontró la asignación estudiante-proyecto");
+                    transaction.commit();
                     return false;
                 }
-            }
 
-            try (PreparedStatement updateStatement = connection.prepareStatement(updateQuery)) {
                 updateStatement.setInt(1, proyectId);
                 updateStatement.executeUpdate();
             }
 
-            connection.commit();
+            ChangeLog.recordChange(ProjectDAO.CHANGE_ENTITY, proyectId);
+            statisticsSnapshotDAO.recordUnassignment(studentId, proyectId);
+            transaction.commit();
             logger.info("Estudiante {} eliminado del proyecto {}", studentId, proyectId);
             return true;
         } catch (SQLException e) {
@@ -1,7 +1,11 @@
 package logic.daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.ResultStreams;
+import dataaccess.SqlBatch;
+import dataaccess.TransactionScope;
 import logic.logicclasses.Report;
+import logic.logicclasses.Student;
 import logic.enums.ReportType;
 import logic.interfaces.IReportDAO;
 import java.sql.Connection;
@@ -10,16 +14,24 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class ReportDAO implements IReportDAO {
     private static final Report EMPTY_REPORT = new Report();
     private final StudentDAO studentDAO;
+    private final StatisticsSnapshotDAO statisticsSnapshotDAO;
 
     public ReportDAO() {
         this.studentDAO = new StudentDAO();
+        this.statisticsSnapshotDAO = new StatisticsSnapshotDAO();
     }
 
     @Override
@@ -31,27 +43,33 @@ public class ReportDAO implements IReportDAO {
         String query = "INSERT INTO reporte (tipo, horas, fecha_reporte, metodologia, descripcion, id_estudiante) " +
                 "VALUES (?, ?, ?, ?, ?, ?)";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
-
-            statement.setString(1, report.getReportType().toString());
-            statement.setInt(2, report.getHoursReport());
-            statement.setDate(3, new Date(report.getReportDate().getTime()));
-            statement.setString(4, report.getMethodology());
-            statement.setString(5, report.getDescription());
-            statement.setInt(6, report.getStudent().getIdUser());
-
-            int affectedRows = statement.executeUpdate();
-
-            if (affectedRows > 0) {
-                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        report.setIdReport(generatedKeys.getInt(1));
-                        return true;
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            boolean added = false;
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+
+                statement.setString(1, report.getReportType().toString());
+                statement.setInt(2, report.getHoursReport());
+                statement.setDate(3, new Date(report.getReportDate().getTime()));
+                statement.setString(4, report.getMethodology());
+                statement.setString(5, report.getDescription());
+                statement.setInt(6, report.getStudent().getIdUser());
+
+                int affectedRows = statement.executeUpdate();
+
+                if (affectedRows > 0) {
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            report.setIdReport(generatedKeys.getInt(1));
+                            statisticsSnapshotDAO.recordReport(report.getStudent().getIdUser(), report.getHoursReport(),
+                                    new Timestamp(report.getReportDate().getTime()));
+                            added = true;
+                        }
                     }
                 }
             }
-            return false;
+            transaction.commit();
+            return added;
         }
     }
 
@@ -91,6 +109,15 @@ public class ReportDAO implements IReportDAO {
         return reports;
     }
 
+    public Stream<Report> streamAllReports() throws SQLException {
+        String query = "SELECT r.id_reporte, r.fecha_reporte, r.horas, r.tipo, r.metodologia, r.descripcion, " +
+                "r.id_estudiante, u.nombre_completo, u.telefono, u.estado, e.matricula, e.calificacion " +
+                "FROM reporte r " +
+                "LEFT JOIN estudiante e ON r.id_estudiante = e.id_usuario " +
+                "LEFT JOIN usuario u ON e.id_usuario = u.id_usuario";
+        return ResultStreams.stream(query, null, this::mapReportWithStudent);
+    }
+
     @Override
     public List<Report> getReportsByStudent(int studentId) throws SQLException {
         if (studentId <= 0) {
@@ -113,6 +140,42 @@ public class ReportDAO implements IReportDAO {
         return reports;
     }
 
+    public Map<Integer, List<Report>> getReportsByStudents(Collection<Integer> studentIds) throws SQLException {
+        Map<Integer, List<Report>> reportsByStudent = new LinkedHashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) {
+            return reportsByStudent;
+        }
+
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        for (Integer studentId : distinctIds) {
+            reportsByStudent.put(studentId, new ArrayList<>());
+        }
+
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (List<Integer> chunk : SqlBatch.partition(distinctIds, SqlBatch.getBatchSize())) {
+                String query = "SELECT r.id_reporte, r.fecha_reporte, r.horas, r.tipo, r.metodologia, r.descripcion, " +
+                        "r.id_estudiante, u.nombre_completo, u.telefono, u.estado, e.matricula, e.calificacion " +
+                        "FROM reporte r " +
+                        "LEFT JOIN estudiante e ON r.id_estudiante = e.id_usuario " +
+                        "LEFT JOIN usuario u ON e.id_usuario = u.id_usuario " +
+                        "WHERE r.id_estudiante IN (" + SqlBatch.placeholders(chunk.size()) + ") " +
+                        "ORDER BY r.id_estudiante, r.fecha_reporte";
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            Report report = mapReportWithStudent(resultSet);
+                            reportsByStudent.get(report.getStudent().getIdUser()).add(report);
+                        }
+                    }
+                }
+            }
+        }
+        return reportsByStudent;
+    }
+
     @Override
     public boolean updateReport(Report report) throws SQLException, IllegalArgumentException {
         if (report == null || report.getIdReport() <= 0 ||
@@ -185,6 +248,28 @@ public class ReportDAO implements IReportDAO {
         }
     }
 
+    private Report mapReportWithStudent(ResultSet resultSet) throws SQLException {
+        Report report = new Report();
+        report.setIdReport(resultSet.getInt("id_reporte"));
+        report.setReportDate(resultSet.getTimestamp("fecha_reporte"));
+        report.setHoursReport(resultSet.getInt("horas"));
+        report.setReportType(ReportType.valueOf(resultSet.getString("tipo")));
+        report.setMethodology(resultSet.getString("metodologia"));
+        report.setDescription(resultSet.getString("descripcion"));
+
+        Student student = new Student();
+        student.setIdUser(resultSet.getInt("id_estudiante"));
+        if (resultSet.getString("matricula") != null) {
+            student.setFullName(resultSet.getString("nombre_completo"));
+            student.setCellphone(resultSet.getString("telefono"));
+            student.setStatus(resultSet.getString("estado").charAt(0));
+            student.setEnrollment(resultSet.getString("matricula"));
+            student.setGrade(resultSet.getInt("calificacion"));
+        }
+        report.setStudent(student);
+        return report;
+    }
+
     private Report mapResultSetToReport(ResultSet resultSet) throws SQLException {
         Report report = new Report();
         report.setIdReport(resultSet.getInt("id_reporte"));
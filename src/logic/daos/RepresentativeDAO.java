@@ -1,6 +1,14 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import dataaccess.KeysetQuery;
+import dataaccess.Page;
+import dataaccess.PageRequest;
+import dataaccess.SqlBatch;
 import logic.logicclasses.LinkedOrganization;
 import logic.logicclasses.Representative;
 import logic.interfaces.IRepresentativeDAO;
@@ -12,12 +20,37 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 public class RepresentativeDAO implements IRepresentativeDAO {
+    public static final String CHANGE_ENTITY = "representante";
     private static final Logger logger = LogManager.getLogger(RepresentativeDAO.class);
     private static final Representative EMPTY_REPRESENTATIVE = new Representative(-1, "", "", "", null);
+    private static final String ALL_REPRESENTATIVES_KEY = "todos";
+    private static final EntityCache<Integer, Representative> representativeCache =
+            EntityCaches.create("representantes", 300_000, 500);
+    private static final EntityCache<String, List<Representative>> representativeListCache =
+            EntityCaches.create("representantes.lista", 300_000, 1);
+
+    static {
+        ChangeLog.subscribe(RepresentativeDAO::onRepresentativeChanged,
+                CHANGE_ENTITY, LinkedOrganizationDAO.CHANGE_ENTITY);
+    }
+
+    private static void onRepresentativeChanged(ChangeEvent event) {
+        Integer id = event.entityIdAsInt();
+        if (CHANGE_ENTITY.equals(event.entity()) && id != null) {
+            representativeCache.invalidate(id);
+        } else {
+            representativeCache.invalidateAll();
+        }
+        representativeListCache.invalidateAll();
+    }
 
     public boolean addRepresentative(Representative representative) throws SQLException, IllegalArgumentException {
         if (representative == null || representative.getFullName() == null ||
@@ -35,6 +68,7 @@ public class RepresentativeDAO implements IRepresentativeDAO {
             preparedStatement.setInt(4, representative.getLinkedOrganization().getIdLinkedOrganization());
 
             int affectedRows = preparedStatement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
             if (affectedRows > 0) {
                 try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
@@ -60,6 +94,7 @@ public class RepresentativeDAO implements IRepresentativeDAO {
             preparedStatement.setString(3, representative.getCellPhone());
 
             int affectedRows = preparedStatement.executeUpdate();
+            ChangeLog.recordChange(CHANGE_ENTITY, null);
             if (affectedRows > 0) {
                 try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
@@ -79,7 +114,9 @@ public class RepresentativeDAO implements IRepresentativeDAO {
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setInt(1, organizationId);
             preparedStatement.setInt(2, representativeId);
-            return preparedStatement.executeUpdate() > 0;
+            boolean linked = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, representativeId);
+            return linked;
         }
     }
 
@@ -91,7 +128,9 @@ public class RepresentativeDAO implements IRepresentativeDAO {
         try (Connection connection = ConnectionDataBase.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setInt(1, representative.getIdRepresentative());
-            return preparedStatement.executeUpdate() > 0;
+            boolean deleted = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, representative.getIdRepresentative());
+            return deleted;
         }
     }
 
@@ -109,11 +148,17 @@ public class RepresentativeDAO implements IRepresentativeDAO {
             preparedStatement.setString(3, representative.getCellPhone());
             preparedStatement.setInt(4, representative.getLinkedOrganization().getIdLinkedOrganization());
             preparedStatement.setInt(5, representative.getIdRepresentative());
-            return preparedStatement.executeUpdate() > 0;
+            boolean updated = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, representative.getIdRepresentative());
+            return updated;
         }
     }
 
     public List<Representative> getAllRepresentatives() throws SQLException {
+        return new ArrayList<>(representativeListCache.get(ALL_REPRESENTATIVES_KEY, this::loadAllRepresentatives));
+    }
+
+    private List<Representative> loadAllRepresentatives() throws SQLException {
         String query = "SELECT r.*, o.nombre_empresa, o.telefono as org_telefono, " +
                 "o.extension_telefono, o.departamento, o.correo_empresarial, o.estado " +
                 "FROM representante r " +
@@ -133,6 +178,10 @@ public class RepresentativeDAO implements IRepresentativeDAO {
         if (id <= 0) {
             return EMPTY_REPRESENTATIVE;
         }
+        return representativeCache.get(id, () -> loadRepresentativeById(id));
+    }
+
+    private Representative loadRepresentativeById(int id) throws SQLException {
         String query = "SELECT r.*, o.nombre_empresa, o.telefono as org_telefono, " +
                 "o.extension_telefono, o.departamento, o.correo_empresarial, o.estado " +
                 "FROM representante r " +
@@ -244,6 +293,16 @@ public class RepresentativeDAO implements IRepresentativeDAO {
         return getAllRepresentatives();
     }
 
+    public Page<Representative> getRepresentativesPage(PageRequest request) throws SQLException {
+        return new KeysetQuery("r.*, o.nombre_empresa, o.telefono as org_telefono, " +
+                "o.extension_telefono, o.departamento, o.correo_empresarial, o.estado",
+                "representante r LEFT JOIN organizacion_vinculada o ON r.Id_empresa = o.id_empresa",
+                "r.id_representante")
+                .sortable("nombre", "r.nombre_completo")
+                .searchable("r.nombre_completo")
+                .fetch(request, this::mapRepresentativeFromResultSet);
+    }
+
     public Representative getRepresentativeByNameWithOrganization(String name) throws SQLException {
         if (name == null || name.isEmpty()) {
             return EMPTY_REPRESENTATIVE;
@@ -265,6 +324,39 @@ public class RepresentativeDAO implements IRepresentativeDAO {
         return EMPTY_REPRESENTATIVE;
     }
 
+    public Map<Integer, String> getRepresentativeNamesByProjectIds(Collection<Integer> projectIds) throws SQLException {
+        Map<Integer, String> names = new HashMap<>();
+        if (projectIds == null || projectIds.isEmpty()) {
+            return names;
+        }
+
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(projectIds));
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (List<Integer> chunk : SqlBatch.partition(distinctIds, SqlBatch.getBatchSize())) {
+                String query = "SELECT p.id_proyecto, r.nombre_completo FROM proyecto p " +
+                        "JOIN representante r ON r.id_representante = p.id_representante " +
+                        "WHERE p.id_proyecto IN (" + SqlBatch.placeholders(chunk.size()) + ")";
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            names.put(resultSet.getInt("id_proyecto"), resultSet.getString("nombre_completo"));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al obtener representantes de {} proyectos", distinctIds.size(), e);
+            throw e;
+        }
+        for (Integer projectId : distinctIds) {
+            names.putIfAbsent(projectId, "N/A");
+        }
+        return names;
+    }
+
     public String getRepresentativeNameByProjectId(int projectId) throws SQLException {
         if (projectId <= 0) {
             return "N/A";
@@ -0,0 +1,187 @@
+package logic.daos;
+
+import dataaccess.ConnectionDataBase;
+import logic.interfaces.IStatisticsDAO;
+import logic.logicclasses.DashboardStatistics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StatisticsDAO implements IStatisticsDAO {
+    private static final Logger logger = LogManager.getLogger(StatisticsDAO.class);
+    private static final int HOUR_BUCKETS = 4;
+
+    private static final String STUDENT_SUMMARY_TEMPLATE =
+            "SELECT COUNT(*) AS activos, " +
+            "COALESCE(SUM(COALESCE(pe.asignado, 0) > 0), 0) AS con_proyecto, " +
+            "COALESCE(SUM(COALESCE(r.horas, 0) < ?), 0) AS rango_1, " +
+            "COALESCE(SUM(COALESCE(r.horas, 0) >= ? AND COALESCE(r.horas, 0) < ?), 0) AS rango_2, " +
+            "COALESCE(SUM(COALESCE(r.horas, 0) >= ? AND COALESCE(r.horas, 0) < ?), 0) AS rango_3, " +
+            "COALESCE(SUM(COALESCE(r.horas, 0) >= ? AND COALESCE(r.horas, 0) < ?), 0) AS rango_4, " +
+            "COALESCE(SUM(COALESCE(r.horas, 0) >= ?), 0) AS completados, " +
+            "COALESCE(AVG(COALESCE(r.horas, 0)), 0) AS promedio_horas " +
+            "FROM usuario u " +
+            "JOIN estudiante e ON u.id_usuario = e.id_usuario %s " +
+            "WHERE u.estado = 'A'";
+
+    private static final String SCANNED_STUDENT_TOTALS =
+            "LEFT JOIN (SELECT id_estudiante, COUNT(*) AS asignado FROM proyecto_estudiante GROUP BY id_estudiante) pe " +
+            "ON pe.id_estudiante = e.id_usuario " +
+            "LEFT JOIN (SELECT id_estudiante, SUM(horas) AS horas FROM reporte GROUP BY id_estudiante) r " +
+            "ON r.id_estudiante = e.id_usuario";
+
+    private static final String SNAPSHOT_STUDENT_TOTALS =
+            "LEFT JOIN (SELECT id_ambito, valor AS asignado FROM estadisticas_resumen " +
+            "WHERE ambito = 'estudiante' AND metrica = 'estudiantes_asignados') pe " +
+            "ON pe.id_ambito = CAST(e.id_usuario AS CHAR) " +
+            "LEFT JOIN (SELECT id_ambito, valor AS horas FROM estadisticas_resumen " +
+            "WHERE ambito = 'estudiante' AND metrica = 'horas_reportadas') r " +
+            "ON r.id_ambito = CAST(e.id_usuario AS CHAR)";
+
+    private static final String PROJECT_OCCUPANCY_QUERY =
+            "SELECT p.id_proyecto, p.titulo, p.cupo, p.estudiantes_actuales, " +
+            "COALESCE(sp.pendientes, 0) AS pendientes " +
+            "FROM proyecto p " +
+            "LEFT JOIN (SELECT id_proyecto, COUNT(*) AS pendientes FROM solicitud_proyecto " +
+            "WHERE estado = 'pendiente' GROUP BY id_proyecto) sp ON sp.id_proyecto = p.id_proyecto " +
+            "WHERE p.estado = 'A' " +
+            "ORDER BY p.titulo";
+
+    private static final String GROUP_GRADES_QUERY =
+            "SELECT g.nrc, g.nombre, COUNT(e.id_usuario) AS estudiantes, " +
+            "COALESCE(SUM(e.id_usuario IS NOT NULL AND COALESCE(e.calificacion, 0) = 0), 0) AS sin_calificar, " +
+            "COALESCE(SUM(e.calificacion BETWEEN 1 AND 5), 0) AS reprobados, " +
+            "COALESCE(SUM(e.calificacion BETWEEN 6 AND 7), 0) AS suficientes, " +
+            "COALESCE(SUM(e.calificacion = 8), 0) AS buenos, " +
+            "COALESCE(SUM(e.calificacion >= 9), 0) AS excelentes, " +
+            "COALESCE(AVG(NULLIF(e.calificacion, 0)), 0) AS promedio " +
+            "FROM grupo g " +
+            "LEFT JOIN grupo_estudiante ge ON ge.nrc = g.nrc " +
+            "LEFT JOIN estudiante e ON e.id_usuario = ge.id_usuario " +
+            "GROUP BY g.nrc, g.nombre " +
+            "ORDER BY g.nrc";
+
+    @Override
+    public DashboardStatistics.StudentSummary getStudentSummary(int requiredHours) throws SQLException {
+        return getStudentSummary(requiredHours, SCANNED_STUDENT_TOTALS);
+    }
+
+    @Override
+    public DashboardStatistics.StudentSummary getStudentSummaryFromSnapshot(int requiredHours) throws SQLException {
+        return getStudentSummary(requiredHours, SNAPSHOT_STUDENT_TOTALS);
+    }
+
+    private DashboardStatistics.StudentSummary getStudentSummary(int requiredHours, String studentTotals)
+            throws SQLException {
+        if (requiredHours <= 0) {
+            throw new IllegalArgumentException("Las horas requeridas deben ser mayores a cero");
+        }
+
+        int[] limits = hourLimits(requiredHours);
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     String.format(STUDENT_SUMMARY_TEMPLATE, studentTotals))) {
+
+            statement.setInt(1, limits[0]);
+            statement.setInt(2, limits[0]);
+            statement.setInt(3, limits[1]);
+            statement.setInt(4, limits[1]);
+            statement.setInt(5, limits[2]);
+            statement.setInt(6, limits[2]);
+            statement.setInt(7, requiredHours);
+            statement.setInt(8, requiredHours);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                Map<String, Integer> distribution = new LinkedHashMap<>();
+                int lowerLimit = 0;
+                for (int i = 0; i < HOUR_BUCKETS; i++) {
+                    int upperLimit = i < HOUR_BUCKETS - 1 ? limits[i] : requiredHours;
+                    distribution.put(lowerLimit + "-" + (upperLimit - 1), resultSet.getInt("rango_" + (i + 1)));
+                    lowerLimit = upperLimit;
+                }
+                distribution.put(requiredHours + "+", resultSet.getInt("completados"));
+
+                return new DashboardStatistics.StudentSummary(
+                        resultSet.getInt("activos"),
+                        resultSet.getInt("con_proyecto"),
+                        requiredHours,
+                        resultSet.getInt("completados"),
+                        resultSet.getDouble("promedio_horas"),
+                        distribution
+                );
+            }
+        } catch (SQLException e) {
+            logger.error("Error al calcular el resumen de estudiantes", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<DashboardStatistics.ProjectOccupancy> getProjectOccupancy() throws SQLException {
+        List<DashboardStatistics.ProjectOccupancy> projects = new ArrayList<>();
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PROJECT_OCCUPANCY_QUERY)) {
+
+            while (resultSet.next()) {
+                projects.add(new DashboardStatistics.ProjectOccupancy(
+                        resultSet.getInt("id_proyecto"),
+                        resultSet.getString("titulo"),
+                        resultSet.getInt("estudiantes_actuales"),
+                        resultSet.getInt("cupo"),
+                        resultSet.getInt("pendientes")
+                ));
+            }
+        } catch (SQLException e) {
+            logger.error("Error al calcular la ocupación de proyectos", e);
+            throw e;
+        }
+        return projects;
+    }
+
+    @Override
+    public List<DashboardStatistics.GroupGrades> getGradeDistributionByGroup() throws SQLException {
+        List<DashboardStatistics.GroupGrades> groups = new ArrayList<>();
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(GROUP_GRADES_QUERY)) {
+
+            while (resultSet.next()) {
+                groups.add(new DashboardStatistics.GroupGrades(
+                        resultSet.getInt("nrc"),
+                        resultSet.getString("nombre"),
+                        resultSet.getInt("estudiantes"),
+                        resultSet.getInt("sin_calificar"),
+                        resultSet.getInt("reprobados"),
+                        resultSet.getInt("suficientes"),
+                        resultSet.getInt("buenos"),
+                        resultSet.getInt("excelentes"),
+                        resultSet.getDouble("promedio")
+                ));
+            }
+        } catch (SQLException e) {
+            logger.error("Error al calcular la distribución de calificaciones por grupo", e);
+            throw e;
+        }
+        return groups;
+    }
+
+    private static int[] hourLimits(int requiredHours) {
+        int[] limits = new int[HOUR_BUCKETS - 1];
+        for (int i = 0; i < limits.length; i++) {
+            limits[i] = requiredHours * (i + 1) / HOUR_BUCKETS;
+        }
+        return limits;
+    }
+}
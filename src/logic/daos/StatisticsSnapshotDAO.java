@@ -0,0 +1,368 @@
+package logic.daos;
+
+import dataaccess.ConfigLoader;
+import dataaccess.ConnectionDataBase;
+import dataaccess.TransactionScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StatisticsSnapshotDAO {
+    public static final String SCOPE_GLOBAL = "global";
+    public static final String SCOPE_STUDENT = "estudiante";
+    public static final String SCOPE_PERIOD = "periodo";
+    public static final String SCOPE_GROUP = "grupo";
+    public static final String SCOPE_PROJECT = "proyecto";
+
+    public static final String METRIC_ASSIGNED_STUDENTS = "estudiantes_asignados";
+    public static final String METRIC_REPORTS = "reportes";
+    public static final String METRIC_REPORTED_HOURS = "horas_reportadas";
+    public static final String METRIC_EVALUATIONS = "evaluaciones";
+    public static final String METRIC_GRADE_SUM = "suma_calificaciones";
+    public static final String METRIC_COMPLETED_ACTIVITIES = "actividades_completadas";
+
+    private static final Logger logger = LogManager.getLogger(StatisticsSnapshotDAO.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("statistics.snapshot.enabled", true);
+    private static final long READY_CHECK_INTERVAL_MS = ConfigLoader.getLong("statistics.snapshot.checkIntervalMs", 30_000);
+    private static final int MYSQL_NO_SUCH_TABLE = 1146;
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_NOWAIT = 3572;
+    private static final String GLOBAL_ID = "todos";
+    private static final String CONTROL_SCOPE = "control";
+    private static final String CONTROL_METRIC = "reconstruccion";
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS estadisticas_resumen (" +
+            "ambito VARCHAR(16) NOT NULL, " +
+            "id_ambito VARCHAR(32) NOT NULL, " +
+            "metrica VARCHAR(32) NOT NULL, " +
+            "valor BIGINT NOT NULL DEFAULT 0, " +
+            "actualizado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (ambito, id_ambito, metrica))";
+
+    private static final String SCOPE_ROWS =
+            "SELECT '" + SCOPE_GLOBAL + "' AS c_ambito, '" + GLOBAL_ID + "' AS c_id, ? AS c_metrica, ? AS c_valor " +
+            "UNION ALL SELECT '" + SCOPE_STUDENT + "', CAST(? AS CHAR), ?, ? " +
+            "UNION ALL SELECT '" + SCOPE_PERIOD + "', " + periodOf("f") + ", ?, ? FROM (SELECT ? AS f) fecha WHERE f IS NOT NULL " +
+            "UNION ALL SELECT '" + SCOPE_GROUP + "', CAST(nrc AS CHAR), ?, ? FROM grupo_estudiante WHERE id_usuario = ? ";
+    private static final String PROJECT_LOOKUP_ROWS =
+            "UNION ALL SELECT '" + SCOPE_PROJECT + "', CAST(id_proyecto AS CHAR), ?, ? FROM proyecto_estudiante WHERE id_estudiante = ?";
+    private static final String PROJECT_EXPLICIT_ROWS =
+            "UNION ALL SELECT '" + SCOPE_PROJECT + "', CAST(? AS CHAR), ?, ?";
+    private static final String INCREMENT_TEMPLATE =
+            "INSERT INTO estadisticas_resumen (ambito, id_ambito, metrica, valor) " +
+            "SELECT c_ambito, c_id, c_metrica, c_valor FROM (%s) cambios " +
+            "ON DUPLICATE KEY UPDATE valor = valor + cambios.c_valor";
+
+    private static final List<Source> SOURCES = List.of(
+            new Source(METRIC_ASSIGNED_STUDENTS, "COUNT(*)", "proyecto_estudiante x",
+                    "x.id_estudiante", "x.id_proyecto", null),
+            new Source(METRIC_REPORTS, "COUNT(*)", "reporte x",
+                    "x.id_estudiante", null, "x.fecha_reporte"),
+            new Source(METRIC_REPORTED_HOURS, "COALESCE(SUM(x.horas), 0)", "reporte x",
+                    "x.id_estudiante", null, "x.fecha_reporte"),
+            new Source(METRIC_EVALUATIONS, "COUNT(*)",
+                    "evaluacion x JOIN presentacion p ON p.id_presentacion = x.id_presentacion",
+                    "p.id_estudiante", null, "x.fecha"),
+            new Source(METRIC_GRADE_SUM, "COALESCE(SUM(x.calificacion), 0)",
+                    "evaluacion x JOIN presentacion p ON p.id_presentacion = x.id_presentacion",
+                    "p.id_estudiante", null, "x.fecha"),
+            new Source(METRIC_COMPLETED_ACTIVITIES, "COUNT(*)",
+                    "(SELECT * FROM seguimiento_actividad WHERE completada = TRUE) x",
+                    "x.id_estudiante", null, "x.fecha_completado")
+    );
+
+    private static volatile boolean built;
+    private static volatile long readyCheckedAt;
+    private static volatile boolean outOfSync;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public void recordAssignment(int studentId, int projectId) throws SQLException {
+        increment(studentId, projectId, null, Map.of(METRIC_ASSIGNED_STUDENTS, 1L));
+    }
+
+    public void recordUnassignment(int studentId, int projectId) throws SQLException {
+        increment(studentId, projectId, null, Map.of(METRIC_ASSIGNED_STUDENTS, -1L));
+    }
+
+    public void recordReport(int studentId, int hours, Timestamp reportDate) throws SQLException {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put(METRIC_REPORTS, 1L);
+        deltas.put(METRIC_REPORTED_HOURS, (long) hours);
+        increment(studentId, null, reportDate, deltas);
+    }
+
+    public void recordEvaluation(int presentationId, int grade, Timestamp evaluationDate) throws SQLException {
+        if (!ENABLED || outOfSync) {
+            return;
+        }
+        String query = "SELECT id_estudiante FROM presentacion WHERE id_presentacion = ?";
+        int studentId;
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setInt(1, presentationId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    logger.warn("No se encontró la presentación {} para actualizar las estadísticas", presentationId);
+                    return;
+                }
+                studentId = resultSet.getInt("id_estudiante");
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_DEADLOCK) {
+                throw e;
+            }
+            markOutOfSync(e);
+            return;
+        }
+
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        deltas.put(METRIC_EVALUATIONS, 1L);
+        deltas.put(METRIC_GRADE_SUM, (long) grade);
+        increment(studentId, null, evaluationDate, deltas);
+    }
+
+    public void recordActivityCompleted(int studentId) throws SQLException {
+        recordActivityCompleted(studentId, new Timestamp(System.currentTimeMillis()));
+    }
+
+    public void recordActivityCompleted(int studentId, Timestamp completedAt) throws SQLException {
+        increment(studentId, null, completedAt, Map.of(METRIC_COMPLETED_ACTIVITIES, 1L));
+    }
+
+    public void recordActivityReopened(int studentId, Timestamp completedAt) throws SQLException {
+        increment(studentId, null, completedAt, Map.of(METRIC_COMPLETED_ACTIVITIES, -1L));
+    }
+
+    public boolean isReady() {
+        if (!ENABLED || outOfSync) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (built && now - readyCheckedAt < READY_CHECK_INTERVAL_MS) {
+            return true;
+        }
+
+        String query = "SELECT 1 FROM estadisticas_resumen WHERE ambito = ? AND id_ambito = ? AND metrica = ?";
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, CONTROL_SCOPE);
+            statement.setString(2, GLOBAL_ID);
+            statement.setString(3, CONTROL_METRIC);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                built = resultSet.next();
+                readyCheckedAt = now;
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() != MYSQL_NO_SUCH_TABLE) {
+                logger.warn("No se pudo verificar el resumen de estadísticas", e);
+            }
+            return false;
+        }
+        return built;
+    }
+
+    public Map<String, Map<String, Long>> getCounters(String scope) throws SQLException {
+        String query = "SELECT id_ambito, metrica, valor FROM estadisticas_resumen WHERE ambito = ? ORDER BY id_ambito";
+        Map<String, Map<String, Long>> counters = new LinkedHashMap<>();
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, scope);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    counters.computeIfAbsent(resultSet.getString("id_ambito"), id -> new LinkedHashMap<>())
+                            .put(resultSet.getString("metrica"), resultSet.getLong("valor"));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al consultar el resumen de estadísticas del ámbito {}", scope, e);
+            throw e;
+        }
+        return counters;
+    }
+
+    public void rebuild() throws SQLException {
+        long start = System.nanoTime();
+        ensureTable();
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 Statement statement = connection.createStatement()) {
+
+                statement.executeUpdate("DELETE FROM estadisticas_resumen");
+                statement.executeUpdate("INSERT INTO estadisticas_resumen (ambito, id_ambito, metrica, valor) " +
+                        "VALUES ('" + CONTROL_SCOPE + "', '" + GLOBAL_ID + "', '" + CONTROL_METRIC + "', UNIX_TIMESTAMP())");
+                for (Source source : SOURCES) {
+                    for (String query : source.rebuildQueries()) {
+                        statement.executeUpdate(query);
+                    }
+                }
+            }
+            transaction.commit();
+        } catch (SQLException e) {
+            logger.error("Error al reconstruir el resumen de estadísticas", e);
+            throw e;
+        }
+
+        built = true;
+        readyCheckedAt = System.currentTimeMillis();
+        outOfSync = false;
+        logger.info("Resumen de estadísticas reconstruido en {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void increment(int studentId, Integer projectId, Timestamp date, Map<String, Long> deltas)
+            throws SQLException {
+        if (!ENABLED || outOfSync || studentId <= 0) {
+            return;
+        }
+
+        String rows = SCOPE_ROWS + (projectId != null ? PROJECT_EXPLICIT_ROWS : PROJECT_LOOKUP_ROWS);
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(String.format(INCREMENT_TEMPLATE, rows))) {
+
+                if (lockSnapshot(connection)) {
+                    for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+                        String metric = delta.getKey();
+                        long value = delta.getValue();
+                        int index = 1;
+                        statement.setString(index++, metric);
+                        statement.setLong(index++, value);
+                        statement.setInt(index++, studentId);
+                        statement.setString(index++, metric);
+                        statement.setLong(index++, value);
+                        statement.setString(index++, metric);
+                        statement.setLong(index++, value);
+                        if (date != null) {
+                            statement.setTimestamp(index++, date);
+                        } else {
+                            statement.setNull(index++, Types.TIMESTAMP);
+                        }
+                        statement.setString(index++, metric);
+                        statement.setLong(index++, value);
+                        statement.setInt(index++, studentId);
+                        if (projectId != null) {
+                            statement.setInt(index++, projectId);
+                            statement.setString(index++, metric);
+                            statement.setLong(index, value);
+                        } else {
+                            statement.setString(index++, metric);
+                            statement.setLong(index++, value);
+                            statement.setInt(index, studentId);
+                        }
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            } catch (SQLException e) {
+                if (e.getErrorCode() == MYSQL_DEADLOCK) {
+                    throw e;
+                }
+                markOutOfSync(e);
+            }
+            transaction.commit();
+        }
+    }
+
+    private boolean lockSnapshot(Connection connection) throws SQLException {
+        String query = "SELECT valor FROM estadisticas_resumen WHERE ambito = ? AND id_ambito = ? AND metrica = ? " +
+                "FOR SHARE NOWAIT";
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, CONTROL_SCOPE);
+            statement.setString(2, GLOBAL_ID);
+            statement.setString(3, CONTROL_METRIC);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_LOCK_NOWAIT || e.getErrorCode() == MYSQL_NO_SUCH_TABLE) {
+                logger.debug("Resumen de estadísticas en reconstrucción o inexistente; se omite el incremento");
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void markOutOfSync(SQLException e) {
+        built = false;
+        if (e.getErrorCode() == MYSQL_NO_SUCH_TABLE) {
+            logger.debug("No existe la tabla estadisticas_resumen; se requiere una reconstrucción");
+            return;
+        }
+        logger.warn("No se pudo actualizar el resumen de estadísticas; se requiere una reconstrucción", e);
+
+        String query = "DELETE FROM estadisticas_resumen WHERE ambito = ? AND id_ambito = ? AND metrica = ?";
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, CONTROL_SCOPE);
+            statement.setString(2, GLOBAL_ID);
+            statement.setString(3, CONTROL_METRIC);
+            statement.executeUpdate();
+        } catch (SQLException deleteError) {
+            outOfSync = true;
+            logger.error("No se pudo invalidar el resumen de estadísticas; este equipo usará consultas agregadas", deleteError);
+        }
+    }
+
+    private void ensureTable() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        } catch (SQLException e) {
+            logger.error("No se pudo preparar la tabla estadisticas_resumen", e);
+            throw e;
+        }
+    }
+
+    private static String periodOf(String dateColumn) {
+        return "CONCAT(YEAR(" + dateColumn + ") - (MONTH(" + dateColumn + ") = 1), '-', " +
+                "IF(MONTH(" + dateColumn + ") BETWEEN 2 AND 7, 1, 2))";
+    }
+
+    private record Source(String metric, String aggregate, String from, String studentColumn,
+                          String projectColumn, String dateColumn) {
+
+        List<String> rebuildQueries() {
+            String insert = "INSERT INTO estadisticas_resumen (ambito, id_ambito, metrica, valor) ";
+            String metricLiteral = "'" + metric + "'";
+            String projectQuery = projectColumn != null
+                    ? insert + "SELECT '" + SCOPE_PROJECT + "', CAST(" + projectColumn + " AS CHAR), " + metricLiteral +
+                            ", " + aggregate + " FROM " + from + " GROUP BY " + projectColumn
+                    : insert + "SELECT '" + SCOPE_PROJECT + "', CAST(pe.id_proyecto AS CHAR), " + metricLiteral +
+                            ", " + aggregate + " FROM " + from +
+                            " JOIN proyecto_estudiante pe ON pe.id_estudiante = " + studentColumn +
+                            " GROUP BY pe.id_proyecto";
+
+            List<String> queries = new ArrayList<>(List.of(
+                    insert + "SELECT '" + SCOPE_GLOBAL + "', '" + GLOBAL_ID + "', " + metricLiteral +
+                            ", " + aggregate + " FROM " + from,
+                    insert + "SELECT '" + SCOPE_STUDENT + "', CAST(" + studentColumn + " AS CHAR), " + metricLiteral +
+                            ", " + aggregate + " FROM " + from + " GROUP BY " + studentColumn,
+                    insert + "SELECT '" + SCOPE_GROUP + "', CAST(ge.nrc AS CHAR), " + metricLiteral +
+                            ", " + aggregate + " FROM " + from +
+                            " JOIN grupo_estudiante ge ON ge.id_usuario = " + studentColumn +
+                            " GROUP BY ge.nrc",
+                    projectQuery
+            ));
+            if (dateColumn != null) {
+                queries.add(insert + "SELECT '" + SCOPE_PERIOD + "', " + periodOf(dateColumn) + ", " + metricLiteral +
+                        ", " + aggregate + " FROM " + from + " WHERE " + dateColumn + " IS NOT NULL GROUP BY 2");
+            }
+            return queries;
+        }
+    }
+}
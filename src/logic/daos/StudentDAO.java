@@ -1,6 +1,15 @@
 package logic.daos;
 
+import dataaccess.ChangeEvent;
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.IdentityMap;
+import dataaccess.KeysetQuery;
+import dataaccess.Page;
+import dataaccess.PageRequest;
+import dataaccess.ResultStreams;
+import dataaccess.SqlBatch;
+import dataaccess.TransactionScope;
 import logic.exceptions.RepeatedEnrollmentException;
 import logic.logicclasses.Student;
 import logic.interfaces.IStudentDAO;
@@ -12,14 +21,32 @@ import java.sql.SQLException;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class StudentDAO implements IStudentDAO {
+    public static final String CHANGE_ENTITY = "estudiante";
     private static final Logger logger = LogManager.getLogger(StudentDAO.class);
+    private static final String STUDENT_PAGE_COLUMNS =
+            "u.id_usuario, u.nombre_completo, u.telefono, u.estado, e.matricula, e.calificacion";
     private static final Student EMPTY_STUDENT = new Student(-1, "", "", "",'I', "", 0);
     private final UserDAO userDAO;
 
+    static {
+        ChangeLog.subscribe(StudentDAO::onStudentChanged, CHANGE_ENTITY, UserDAO.CHANGE_ENTITY);
+    }
+
+    private static void onStudentChanged(ChangeEvent event) {
+        IdentityMap.evictEverywhere(Student.class, event.entityIdAsInt());
+    }
+
     public StudentDAO() {
         this.userDAO = new UserDAO();
     }
@@ -71,6 +98,68 @@ public class StudentDAO implements IStudentDAO {
         }
     }
 
+    public int addStudents(List<Student> students, int academicId) throws SQLException {
+        if (students == null || students.isEmpty()) {
+            return 0;
+        }
+
+        logger.debug("Agregando lote de {} estudiantes", students.size());
+        String query = "INSERT INTO estudiante (id_usuario, matricula, calificacion) VALUES (?, ?, ?)";
+
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                for (List<Student> chunk : SqlBatch.partition(students, SqlBatch.getBatchSize())) {
+                    for (Student student : chunk) {
+                        preparedStatement.setInt(1, student.getIdUser());
+                        preparedStatement.setString(2, student.getEnrollment());
+                        preparedStatement.setInt(3, student.getGrade());
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+
+            if (academicId > 0) {
+                assignStudentsToAcademicGroup(connection, students, academicId);
+            }
+
+            logger.info("Se agregaron {} estudiantes en lote", students.size());
+            return students.size();
+        } catch (SQLException e) {
+            logger.error("Error al agregar lote de {} estudiantes", students.size(), e);
+            throw e;
+        }
+    }
+
+    private void assignStudentsToAcademicGroup(Connection connection, List<Student> students, int academicId)
+            throws SQLException {
+        String groupSql = "SELECT nrc FROM grupo_academico WHERE id_usuario = ?";
+        int nrc;
+        try (PreparedStatement groupStmt = connection.prepareStatement(groupSql)) {
+            groupStmt.setInt(1, academicId);
+            try (ResultSet resultSet = groupStmt.executeQuery()) {
+                if (!resultSet.next()) {
+                    logger.warn("El académico con ID {} no tiene un grupo asignado", academicId);
+                    return;
+                }
+                nrc = resultSet.getInt("nrc");
+            }
+        }
+
+        String query = "INSERT INTO grupo_estudiante (nrc, id_usuario) VALUES (?, ?)";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            for (List<Student> chunk : SqlBatch.partition(students, SqlBatch.getBatchSize())) {
+                for (Student student : chunk) {
+                    preparedStatement.setInt(1, nrc);
+                    preparedStatement.setInt(2, student.getIdUser());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+        logger.info("{} estudiantes asignados al grupo NRC: {}", students.size(), nrc);
+    }
+
     public Student getStudentByEnrollment(String enrollment) throws SQLException {
         if (enrollment == null || enrollment.isEmpty()) {
             logger.warn("Intento de buscar estudiante con matrícula nula o vacía");
@@ -123,14 +212,7 @@ public class StudentDAO implements IStudentDAO {
              ResultSet resultSet = statement.executeQuery(query)) {
 
             while (resultSet.next()) {
-                Student student = new Student();
-                student.setIdUser(resultSet.getInt("id_usuario"));
-                student.setFullName(resultSet.getString("nombre_completo"));
-                student.setCellphone(resultSet.getString("telefono"));
-                student.setStatus(resultSet.getString("estado").charAt(0));
-                student.setEnrollment(resultSet.getString("matricula"));
-                student.setGrade(resultSet.getInt("calificacion"));
-                students.add(student);
+                students.add(mapStudent(resultSet));
             }
             logger.debug("Se encontraron {} estudiantes", students.size());
         } catch (SQLException e) {
@@ -140,6 +222,45 @@ public class StudentDAO implements IStudentDAO {
         return students;
     }
 
+    public Stream<Student> streamAllStudents() throws SQLException {
+        logger.debug("Abriendo flujo de todos los estudiantes");
+        String query = "SELECT u.id_usuario, u.nombre_completo, u.telefono, u.estado, e.matricula, e.calificacion " +
+                "FROM usuario u JOIN estudiante e ON u.id_usuario = e.id_usuario";
+        return ResultStreams.stream(query, null, this::mapStudent);
+    }
+
+    public Page<Student> getStudentsPage(PageRequest request) throws SQLException {
+        return new KeysetQuery(STUDENT_PAGE_COLUMNS,
+                "usuario u JOIN estudiante e ON u.id_usuario = e.id_usuario", "u.id_usuario")
+                .sortable("nombre", "u.nombre_completo")
+                .sortable("matricula", "e.matricula")
+                .searchable("u.nombre_completo", "e.matricula")
+                .fetch(request, this::mapStudent);
+    }
+
+    public Page<Student> getActiveStudentsByGroupPage(int nrc, PageRequest request) throws SQLException {
+        return new KeysetQuery(STUDENT_PAGE_COLUMNS,
+                "usuario u JOIN estudiante e ON u.id_usuario = e.id_usuario " +
+                        "JOIN grupo_estudiante ge ON e.id_usuario = ge.id_usuario", "u.id_usuario")
+                .where("ge.nrc = ?", nrc)
+                .where("u.estado = 'A'")
+                .sortable("nombre", "u.nombre_completo")
+                .sortable("matricula", "e.matricula")
+                .searchable("u.nombre_completo", "e.matricula")
+                .fetch(request, this::mapStudent);
+    }
+
+    private Student mapStudent(ResultSet resultSet) throws SQLException {
+        Student student = new Student();
+        student.setIdUser(resultSet.getInt("id_usuario"));
+        student.setFullName(resultSet.getString("nombre_completo"));
+        student.setCellphone(resultSet.getString("telefono"));
+        student.setStatus(resultSet.getString("estado").charAt(0));
+        student.setEnrollment(resultSet.getString("matricula"));
+        student.setGrade(resultSet.getInt("calificacion"));
+        return student;
+    }
+
     public List<Student> getSudentsByStatus(char status) throws SQLException {
         logger.info("Obteniendo estudiantes con estado: {}", status);
 
@@ -176,7 +297,10 @@ public class StudentDAO implements IStudentDAO {
             logger.warn("Intento de buscar estudiante con ID inválido: {}", id);
             return EMPTY_STUDENT;
         }
+        return IdentityMap.lookup(Student.class, id, () -> loadStudentById(id));
+    }
 
+    private Student loadStudentById(int id) throws SQLException {
         logger.debug("Buscando estudiante por ID: {}", id);
 
         String query = "SELECT u.*, e.matricula, e.calificacion FROM usuario u JOIN estudiante e ON u.id_usuario = e.id_usuario WHERE u.id_usuario = ?";
@@ -206,6 +330,44 @@ public class StudentDAO implements IStudentDAO {
         return EMPTY_STUDENT;
     }
 
+    public Map<Integer, Student> getStudentsByIds(Collection<Integer> ids) throws SQLException {
+        Map<Integer, Student> students = new LinkedHashMap<>();
+        if (ids == null || ids.isEmpty()) {
+            return students;
+        }
+
+        List<Integer> distinctIds = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            if (id != null && id > 0) {
+                distinctIds.add(id);
+            }
+        }
+
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (List<Integer> chunk : SqlBatch.partition(distinctIds, SqlBatch.getBatchSize())) {
+                String query = "SELECT u.*, e.matricula, e.calificacion FROM usuario u " +
+                        "JOIN estudiante e ON u.id_usuario = e.id_usuario " +
+                        "WHERE u.id_usuario IN (" + SqlBatch.placeholders(chunk.size()) + ")";
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setInt(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            Student student = mapStudent(resultSet);
+                            students.put(student.getIdUser(), student);
+                        }
+                    }
+                }
+            }
+            logger.debug("Estudiantes encontrados en lote: {} de {}", students.size(), distinctIds.size());
+        } catch (SQLException e) {
+            logger.error("Error al obtener estudiantes por IDs", e);
+            throw e;
+        }
+        return students;
+    }
+
     public boolean updateStudent(Student student) throws SQLException {
         if (student == null) {
             logger.warn("Intento de actualizar estudiante nulo");
@@ -214,28 +376,31 @@ public class StudentDAO implements IStudentDAO {
 
         logger.debug("Actualizando estudiante ID: {}", student.getIdUser());
 
-        if (!userDAO.updateUser(student)) {
-            logger.warn("No se pudo actualizar el usuario asociado al estudiante ID: {}", student.getIdUser());
-            return false;
-        }
-
         String query = "UPDATE estudiante SET matricula = ?, calificacion = ? WHERE id_usuario = ?";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            if (!userDAO.updateUser(student)) {
+                logger.warn("No se pudo actualizar el usuario asociado al estudiante ID: {}", student.getIdUser());
+                return false;
+            }
 
-            preparedStatement.setString(1, student.getEnrollment());
-            preparedStatement.setInt(2, student.getGrade());
-            preparedStatement.setInt(3, student.getIdUser());
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
-            boolean result = preparedStatement.executeUpdate() > 0;
-            if (result) {
-                logger.info("Estudiante actualizado exitosamente - ID: {}, Calificación: {}",
-                        student.getIdUser(), student.getGrade());
-            } else {
-                logger.warn("No se encontró estudiante con ID: {} para actualizar", student.getIdUser());
+                preparedStatement.setString(1, student.getEnrollment());
+                preparedStatement.setInt(2, student.getGrade());
+                preparedStatement.setInt(3, student.getIdUser());
+
+                boolean result = preparedStatement.executeUpdate() > 0;
+                if (result) {
+                    transaction.commit();
+                    logger.info("Estudiante actualizado exitosamente - ID: {}, Calificación: {}",
+                            student.getIdUser(), student.getGrade());
+                } else {
+                    logger.warn("No se encontró estudiante con ID: {} para actualizar", student.getIdUser());
+                }
+                return result;
             }
-            return result;
         } catch (SQLException e) {
             logger.error("Error al actualizar estudiante ID: {}", student.getIdUser(), e);
             throw e;
@@ -259,6 +424,7 @@ public class StudentDAO implements IStudentDAO {
             preparedStatement.setInt(2, studentId);
 
             boolean result = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, studentId);
             if (result) {
                 logger.info("Calificación actualizada exitosamente - ID: {}, Nueva calificación: {}",
                         studentId, grade);
@@ -282,23 +448,26 @@ public class StudentDAO implements IStudentDAO {
 
         String query = "DELETE FROM estudiante WHERE id_usuario = ?";
 
-        try (Connection connection = ConnectionDataBase.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(query)) {
 
-            preparedStatement.setInt(1, id);
-            preparedStatement.executeUpdate();
-        } catch (SQLException e) {
-            logger.error("Error al eliminar estudiante de la tabla estudiante ID: {}", id, e);
-            throw e;
-        }
+                preparedStatement.setInt(1, id);
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                logger.error("Error al eliminar estudiante de la tabla estudiante ID: {}", id, e);
+                throw e;
+            }
 
-        boolean userDeleted = userDAO.deleteUser(id);
-        if (userDeleted) {
-            logger.info("Estudiante eliminado exitosamente - ID: {}", id);
-        } else {
-            logger.warn("No se pudo eliminar el usuario asociado al estudiante ID: {}", id);
+            boolean userDeleted = userDAO.deleteUser(id);
+            if (userDeleted) {
+                transaction.commit();
+                logger.info("Estudiante eliminado exitosamente - ID: {}", id);
+            } else {
+                logger.warn("No se pudo eliminar el usuario asociado al estudiante ID: {}", id);
+            }
+            return userDeleted;
         }
-        return userDeleted;
     }
 
     public List<Student> getStudentsByGroup(int nrc) throws SQLException {
@@ -355,6 +524,7 @@ public class StudentDAO implements IStudentDAO {
             preparedStatement.setInt(2, studentId);
 
             boolean result = preparedStatement.executeUpdate() > 0;
+            ChangeLog.recordChange(GroupDAO.CHANGE_ENTITY, nrcGrupo);
             if (result) {
                 logger.info("Estudiante ID: {} asignado exitosamente al grupo NRC: {}", studentId, nrcGrupo);
             } else {
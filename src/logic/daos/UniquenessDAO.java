@@ -0,0 +1,158 @@
+package logic.daos;
+
+import dataaccess.ConnectionDataBase;
+import dataaccess.SqlBatch;
+import logic.enums.UniqueField;
+import logic.logicclasses.UniquenessResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class UniquenessDAO {
+    private static final Logger logger = LogManager.getLogger(UniquenessDAO.class);
+
+    public UniquenessResult findConflicts(Map<UniqueField, String> candidates) throws SQLException {
+        if (candidates == null) {
+            throw new IllegalArgumentException("Los valores a verificar no deben ser nulos");
+        }
+
+        List<UniqueField> fields = new ArrayList<>();
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<UniqueField, String> candidate : candidates.entrySet()) {
+            if (candidate.getValue() == null || candidate.getValue().isEmpty()) {
+                continue;
+            }
+            if (!fields.isEmpty()) {
+                query.append(" UNION ALL ");
+            }
+            query.append("SELECT ? AS campo FROM DUAL WHERE EXISTS (SELECT 1 FROM ")
+                    .append(tableOf(candidate.getKey())).append(" WHERE ")
+                    .append(columnOf(candidate.getKey())).append(" = ?)");
+            fields.add(candidate.getKey());
+        }
+        if (fields.isEmpty()) {
+            return UniquenessResult.unique();
+        }
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query.toString())) {
+
+            int index = 1;
+            for (UniqueField field : fields) {
+                statement.setString(index++, field.name());
+                statement.setString(index++, candidates.get(field));
+            }
+
+            Set<UniqueField> conflicts = EnumSet.noneOf(UniqueField.class);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    conflicts.add(UniqueField.valueOf(resultSet.getString("campo")));
+                }
+            }
+            logger.debug("Verificación de unicidad de {} campos: {} en conflicto", fields.size(), conflicts.size());
+            return new UniquenessResult(conflicts);
+        } catch (SQLException e) {
+            logger.error("Error al verificar la unicidad de los datos", e);
+            throw e;
+        }
+    }
+
+    public Map<UniqueField, Set<String>> findExisting(Map<UniqueField, ? extends Collection<String>> candidates)
+            throws SQLException {
+        if (candidates == null) {
+            throw new IllegalArgumentException("Los valores a verificar no deben ser nulos");
+        }
+
+        Map<UniqueField, List<List<String>>> chunksByField = new EnumMap<>(UniqueField.class);
+        Map<UniqueField, Set<String>> existing = new EnumMap<>(UniqueField.class);
+        int rounds = 0;
+        int totalKeys = 0;
+        for (Map.Entry<UniqueField, ? extends Collection<String>> candidate : candidates.entrySet()) {
+            existing.put(candidate.getKey(), new HashSet<>());
+            if (candidate.getValue() == null || candidate.getValue().isEmpty()) {
+                continue;
+            }
+            List<String> distinct = new ArrayList<>(new LinkedHashSet<>(candidate.getValue()));
+            distinct.removeIf(value -> value == null || value.isEmpty());
+            List<List<String>> chunks = SqlBatch.partition(distinct, SqlBatch.getBatchSize());
+            chunksByField.put(candidate.getKey(), chunks);
+            rounds = Math.max(rounds, chunks.size());
+            totalKeys += distinct.size();
+        }
+        if (totalKeys == 0) {
+            return existing;
+        }
+
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (int round = 0; round < rounds; round++) {
+                StringBuilder query = new StringBuilder();
+                List<String> parameters = new ArrayList<>();
+                for (Map.Entry<UniqueField, List<List<String>>> entry : chunksByField.entrySet()) {
+                    if (round >= entry.getValue().size()) {
+                        continue;
+                    }
+                    List<String> chunk = entry.getValue().get(round);
+                    if (!parameters.isEmpty()) {
+                        query.append(" UNION ALL ");
+                    }
+                    String column = columnOf(entry.getKey());
+                    query.append("SELECT ? AS campo, ").append(column).append(" AS valor FROM ")
+                            .append(tableOf(entry.getKey())).append(" WHERE ").append(column)
+                            .append(" IN (").append(SqlBatch.placeholders(chunk.size())).append(")");
+                    parameters.add(entry.getKey().name());
+                    parameters.addAll(chunk);
+                }
+
+                try (PreparedStatement statement = connection.prepareStatement(query.toString())) {
+                    for (int i = 0; i < parameters.size(); i++) {
+                        statement.setString(i + 1, parameters.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            existing.get(UniqueField.valueOf(resultSet.getString("campo")))
+                                    .add(resultSet.getString("valor"));
+                        }
+                    }
+                }
+            }
+            logger.debug("Verificación de unicidad en lote: {} valores en {} consultas", totalKeys, rounds);
+            return existing;
+        } catch (SQLException e) {
+            logger.error("Error al verificar la unicidad de {} valores en lote", totalKeys, e);
+            throw e;
+        }
+    }
+
+    private static String tableOf(UniqueField field) {
+        return switch (field) {
+            case CELL_PHONE -> "usuario";
+            case EMAIL -> "cuenta";
+            case ENROLLMENT -> "estudiante";
+            case STAFF_NUMBER -> "academico";
+            case ORGANIZATION_NAME, ORGANIZATION_PHONE, ORGANIZATION_EMAIL -> "organizacion_vinculada";
+        };
+    }
+
+    private static String columnOf(UniqueField field) {
+        return switch (field) {
+            case CELL_PHONE, ORGANIZATION_PHONE -> "telefono";
+            case EMAIL -> "correo_e";
+            case ENROLLMENT -> "matricula";
+            case STAFF_NUMBER -> "numero_personal";
+            case ORGANIZATION_NAME -> "nombre_empresa";
+            case ORGANIZATION_EMAIL -> "correo_empresarial";
+        };
+    }
+}
@@ -1,6 +1,9 @@
 package logic.daos;
 
+import dataaccess.ChangeLog;
 import dataaccess.ConnectionDataBase;
+import dataaccess.ResultStreams;
+import dataaccess.SqlBatch;
 import logic.exceptions.InvalidCellPhoneException;
 import logic.exceptions.RepeatedCellPhoneException;
 import logic.logicclasses.User;
@@ -13,10 +16,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class UserDAO implements IUserDAO {
+    public static final String CHANGE_ENTITY = "usuario";
     private static final Logger logger = LogManager.getLogger(UserDAO.class);
     private static final User EMPTY_USER = new User(-1, "", "", "",'I');
 
@@ -53,6 +62,91 @@ public class UserDAO implements IUserDAO {
         }
     }
 
+    public int addUsers(List<User> users) throws SQLException, IllegalArgumentException, RepeatedCellPhoneException {
+        if (users == null || users.isEmpty()) {
+            return 0;
+        }
+
+        List<String> cleanPhones = new ArrayList<>(users.size());
+        for (User user : users) {
+            cleanPhones.add(validateUserFormat(user));
+        }
+        if (new HashSet<>(cleanPhones).size() != cleanPhones.size()) {
+            logger.warn("El lote de usuarios contiene teléfonos repetidos");
+            throw new RepeatedCellPhoneException("El lote contiene teléfonos repetidos");
+        }
+        Set<String> existingPhones = findExistingCellPhones(cleanPhones);
+        if (!existingPhones.isEmpty()) {
+            logger.warn("Teléfonos celulares ya registrados en el lote: {}", existingPhones);
+            throw new RepeatedCellPhoneException("Teléfonos ya registrados: " + existingPhones);
+        }
+
+        String query = "INSERT INTO usuario (nombre_completo, telefono, extension_telefono, estado) VALUES (?, ?, ?, ?)";
+        int inserted = 0;
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+
+            for (int start = 0; start < users.size(); start += SqlBatch.getBatchSize()) {
+                int end = Math.min(users.size(), start + SqlBatch.getBatchSize());
+                for (int i = start; i < end; i++) {
+                    User user = users.get(i);
+                    preparedStatement.setString(1, user.getFullName());
+                    preparedStatement.setString(2, cleanPhones.get(i));
+                    preparedStatement.setString(3, user.getPhoneExtension());
+                    preparedStatement.setString(4, String.valueOf(user.getStatus()));
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+
+                int index = start;
+                try (ResultSet generatedKeys = preparedStatement.getGeneratedKeys()) {
+                    while (generatedKeys.next() && index < end) {
+                        users.get(index++).setIdUser(generatedKeys.getInt(1));
+                    }
+                }
+                if (index != end) {
+                    throw new SQLException("No se recibieron todos los identificadores generados del lote de usuarios");
+                }
+                inserted += end - start;
+            }
+            logger.info("Se agregaron {} usuarios en lote", inserted);
+            return inserted;
+        } catch (SQLException e) {
+            logger.error("Error al agregar lote de {} usuarios", users.size(), e);
+            throw e;
+        }
+    }
+
+    public Set<String> findExistingCellPhones(Collection<String> cellPhones) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        if (cellPhones == null || cellPhones.isEmpty()) {
+            return existing;
+        }
+
+        List<String> distinctPhones = new ArrayList<>(new LinkedHashSet<>(cellPhones));
+        try (Connection connection = ConnectionDataBase.getConnection()) {
+            for (List<String> chunk : SqlBatch.partition(distinctPhones, SqlBatch.getBatchSize())) {
+                String query = "SELECT telefono FROM usuario WHERE telefono IN (" + SqlBatch.placeholders(chunk.size()) + ")";
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        preparedStatement.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            existing.add(resultSet.getString("telefono"));
+                        }
+                    }
+                }
+            }
+            logger.debug("Teléfonos ya registrados: {} de {}", existing.size(), distinctPhones.size());
+            return existing;
+        } catch (SQLException e) {
+            logger.error("Error al verificar teléfonos celulares en lote", e);
+            throw e;
+        }
+    }
+
     public List<User> getAllUsers() throws SQLException {
         logger.debug("Obteniendo todos los usuarios");
         String query = "SELECT * FROM usuario";
@@ -63,13 +157,7 @@ public class UserDAO implements IUserDAO {
              ResultSet resultSet = statement.executeQuery(query)) {
 
             while (resultSet.next()) {
-                User user = new User();
-                user.setIdUser(resultSet.getInt("id_usuario"));
-                user.setFullName(resultSet.getString("nombre_completo"));
-                user.setCellphone(resultSet.getString("telefono"));
-                user.setPhoneExtension(resultSet.getString("extension_telefono"));
-                user.setStatus(resultSet.getString("estado").charAt(0));
-                users.add(user);
+                users.add(mapUser(resultSet));
             }
             logger.debug("Se encontraron {} usuarios", users.size());
         } catch (SQLException e) {
@@ -79,6 +167,22 @@ public class UserDAO implements IUserDAO {
         return users;
     }
 
+    public Stream<User> streamAllUsers() throws SQLException {
+        logger.debug("Abriendo flujo de todos los usuarios");
+        String query = "SELECT id_usuario, nombre_completo, telefono, extension_telefono, estado FROM usuario";
+        return ResultStreams.stream(query, null, this::mapUser);
+    }
+
+    private User mapUser(ResultSet resultSet) throws SQLException {
+        User user = new User();
+        user.setIdUser(resultSet.getInt("id_usuario"));
+        user.setFullName(resultSet.getString("nombre_completo"));
+        user.setCellphone(resultSet.getString("telefono"));
+        user.setPhoneExtension(resultSet.getString("extension_telefono"));
+        user.setStatus(resultSet.getString("estado").charAt(0));
+        return user;
+    }
+
     public User getUserById(int id) throws SQLException {
         if (id <= 0) {
             logger.warn("Intento de buscar usuario con ID inválido: {}", id);
@@ -135,6 +239,7 @@ public class UserDAO implements IUserDAO {
             statement.setInt(5, user.getIdUser());
 
             boolean result = statement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, user.getIdUser());
             if (result) {
                 logger.info("Usuario actualizado exitosamente - ID: {}", user.getIdUser());
             } else {
@@ -161,6 +266,7 @@ public class UserDAO implements IUserDAO {
 
             statement.setInt(1, id);
             boolean result = statement.executeUpdate() > 0;
+            ChangeLog.recordChange(CHANGE_ENTITY, id);
             if (result) {
                 logger.info("Usuario eliminado exitosamente - ID: {}", id);
             } else {
@@ -272,6 +378,15 @@ public class UserDAO implements IUserDAO {
     }
 
     private void validateUser(User user) throws IllegalArgumentException, SQLException, RepeatedCellPhoneException {
+        String cleanPhone = validateUserFormat(user);
+
+        if (cellPhoneExists(cleanPhone)) {
+            logger.warn("Teléfono celular ya registrado: {}", cleanPhone);
+            throw new RepeatedCellPhoneException();
+        }
+    }
+
+    private String validateUserFormat(User user) throws IllegalArgumentException {
         if (user == null) {
             logger.warn("Intento de agregar usuario nulo");
             throw new IllegalArgumentException("El usuario no puede ser nulo");
@@ -284,10 +399,6 @@ public class UserDAO implements IUserDAO {
             logger.warn("Teléfono celular inválido: {}", cleanPhone);
             throw new IllegalArgumentException("El teléfono celular debe tener 10 dígitos");
         }
-
-        if (cellPhoneExists(cleanPhone)) {
-            logger.warn("Teléfono celular ya registrado: {}", cleanPhone);
-            throw new RepeatedCellPhoneException();
-        }
+        return cleanPhone;
     }
 }
@@ -0,0 +1,21 @@
+package logic.enums;
+
+public enum UniqueField {
+    CELL_PHONE("El número de teléfono ya está registrado"),
+    EMAIL("El email ya está registrado"),
+    ENROLLMENT("La matrícula ya está registrada"),
+    STAFF_NUMBER("El número de personal ya está registrado"),
+    ORGANIZATION_NAME("La organización ya está registrada"),
+    ORGANIZATION_PHONE("El número de teléfono ya está registrado"),
+    ORGANIZATION_EMAIL("El correo electrónico ya está registrado");
+
+    private final String conflictMessage;
+
+    UniqueField(String conflictMessage) {
+        this.conflictMessage = conflictMessage;
+    }
+
+    public String getConflictMessage() {
+        return conflictMessage;
+    }
+}
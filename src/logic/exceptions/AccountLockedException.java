@@ -0,0 +1,22 @@
+package logic.exceptions;
+
+public class AccountLockedException extends InvalidCredentialsException {
+    private final long remainingSeconds;
+
+    public AccountLockedException(long remainingSeconds) {
+        super("Demasiados intentos fallidos. Intente de nuevo en " + describe(remainingSeconds) + ".");
+        this.remainingSeconds = remainingSeconds;
+    }
+
+    public long getRemainingSeconds() {
+        return remainingSeconds;
+    }
+
+    private static String describe(long seconds) {
+        if (seconds < 60) {
+            return Math.max(1, seconds) + " segundos";
+        }
+        long minutes = (seconds + 59) / 60;
+        return minutes == 1 ? "1 minuto" : minutes + " minutos";
+    }
+}
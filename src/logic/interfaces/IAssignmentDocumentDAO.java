@@ -1,9 +1,16 @@
 package logic.interfaces;
 
+import logic.logicclasses.AssignmentDocument;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.util.List;
 
 public interface IAssignmentDocumentDAO {
     void saveAssignmentDocument(int projectId, int studentId, byte[] pdfContent) throws SQLException;
+    void saveAssignmentDocument(int projectId, int studentId, Path pdfFile) throws SQLException, IOException;
+    int saveAssignmentDocuments(List<AssignmentDocument> documents) throws SQLException;
     byte[] getAssignmentDocument(int studentId) throws SQLException;
+    long exportAssignmentDocument(int studentId, Path target) throws SQLException, IOException;
     void deleteAssignmentDocument(int studentId) throws SQLException;
 }
\ No newline at end of file
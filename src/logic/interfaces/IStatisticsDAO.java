@@ -0,0 +1,13 @@
+package logic.interfaces;
+
+import logic.logicclasses.DashboardStatistics;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public interface IStatisticsDAO {
+    DashboardStatistics.StudentSummary getStudentSummary(int requiredHours) throws SQLException;
+    DashboardStatistics.StudentSummary getStudentSummaryFromSnapshot(int requiredHours) throws SQLException;
+    List<DashboardStatistics.ProjectOccupancy> getProjectOccupancy() throws SQLException;
+    List<DashboardStatistics.GroupGrades> getGradeDistributionByGroup() throws SQLException;
+}
@@ -0,0 +1,4 @@
+package logic.logicclasses;
+
+public record AssignmentDocument(int projectId, int studentId, byte[] content) {
+}
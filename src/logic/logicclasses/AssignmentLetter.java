@@ -0,0 +1,23 @@
+package logic.logicclasses;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public record AssignmentLetter(String studentName, String enrollment, String projectTitle,
+                               String representativeName, LocalDate date) {
+
+    public AssignmentLetter {
+        Objects.requireNonNull(studentName, "El nombre del estudiante no puede ser nulo");
+        Objects.requireNonNull(enrollment, "La matrícula no puede ser nula");
+        Objects.requireNonNull(projectTitle, "El título del proyecto no puede ser nulo");
+        Objects.requireNonNull(date, "La fecha no puede ser nula");
+        if (representativeName == null || representativeName.isBlank()) {
+            representativeName = "N/A";
+        }
+    }
+
+    public static AssignmentLetter of(Student student, Project project, String representativeName) {
+        return new AssignmentLetter(student.getFullName(), student.getEnrollment(), project.getTitle(),
+                representativeName, LocalDate.now());
+    }
+}
@@ -0,0 +1,49 @@
+package logic.logicclasses;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record DashboardStatistics(StudentSummary students, List<ProjectOccupancy> projects,
+                                  List<GroupGrades> groups, List<PeriodActivity> periods,
+                                  LocalDateTime generatedAt) {
+
+    public DashboardStatistics {
+        projects = List.copyOf(projects);
+        groups = List.copyOf(groups);
+        periods = List.copyOf(periods);
+    }
+
+    public record StudentSummary(int activeStudents, int withProject, int requiredHours,
+                                 int studentsCompleted, double averageHours, Map<String, Integer> hoursDistribution) {
+
+        public StudentSummary {
+            hoursDistribution = Collections.unmodifiableMap(new LinkedHashMap<>(hoursDistribution));
+        }
+
+        public int withoutProject() {
+            return activeStudents - withProject;
+        }
+    }
+
+    public record ProjectOccupancy(int projectId, String title, int currentStudents, int capacity, int pendingRequests) {
+
+        public int availableSpots() {
+            return Math.max(0, capacity - currentStudents);
+        }
+    }
+
+    public record PeriodActivity(String period, long reports, long reportedHours, long evaluations,
+                                 long gradeSum, long completedActivities) {
+
+        public double averageEvaluation() {
+            return evaluations > 0 ? (double) gradeSum / evaluations : 0;
+        }
+    }
+
+    public record GroupGrades(int nrc, String groupName, int students, int ungraded, int failing,
+                              int sufficient, int good, int excellent, double averageGrade) {
+    }
+}
@@ -0,0 +1,17 @@
+package logic.logicclasses;
+
+public record LoginProfile(int userId, String passwordHash, char status, User user,
+                           int lockouts, long lockedSeconds) {
+
+    public boolean isFound() {
+        return userId > 0;
+    }
+
+    public boolean isActive() {
+        return status == 'A';
+    }
+
+    public boolean isLocked() {
+        return lockedSeconds > 0;
+    }
+}
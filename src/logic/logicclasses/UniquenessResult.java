@@ -0,0 +1,38 @@
+package logic.logicclasses;
+
+import logic.enums.UniqueField;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+public record UniquenessResult(Set<UniqueField> conflicts) {
+    private static final UniquenessResult UNIQUE = new UniquenessResult(EnumSet.noneOf(UniqueField.class));
+
+    public UniquenessResult {
+        conflicts = conflicts.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(conflicts));
+    }
+
+    public static UniquenessResult unique() {
+        return UNIQUE;
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    public boolean isConflict(UniqueField field) {
+        return conflicts.contains(field);
+    }
+
+    public String describe() {
+        StringJoiner message = new StringJoiner(". ", "", conflicts.isEmpty() ? "" : ".");
+        for (UniqueField field : conflicts) {
+            message.add(field.getConflictMessage());
+        }
+        return message.toString();
+    }
+}
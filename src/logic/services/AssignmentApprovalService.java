@@ -0,0 +1,286 @@
+package logic.services;
+
+import dataaccess.ConfigLoader;
+import logic.daos.AssignmentDocumentDAO;
+import logic.daos.ProjectRequestDAO;
+import logic.daos.ProjectStudentDAO;
+import logic.daos.RepresentativeDAO;
+import logic.daos.StudentDAO;
+import logic.logicclasses.AssignmentDocument;
+import logic.logicclasses.AssignmentLetter;
+import logic.logicclasses.Project;
+import logic.logicclasses.ProjectRequest;
+import logic.logicclasses.Student;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AssignmentApprovalService {
+    private static final Logger logger = LogManager.getLogger(AssignmentApprovalService.class);
+    private static final int RENDER_THREADS = Math.max(1, ConfigLoader.getInt("documents.render.threads",
+            Runtime.getRuntime().availableProcessors()));
+
+    private final ProjectRequestDAO requestDAO;
+    private final ProjectStudentDAO projectStudentDAO;
+    private final StudentDAO studentDAO;
+    private final RepresentativeDAO representativeDAO;
+    private final AssignmentDocumentDAO assignmentDocumentDAO;
+
+    public AssignmentApprovalService() {
+        this(new ProjectRequestDAO(), new ProjectStudentDAO(), new StudentDAO(), new RepresentativeDAO(),
+                new AssignmentDocumentDAO());
+    }
+
+    public AssignmentApprovalService(ProjectRequestDAO requestDAO, ProjectStudentDAO projectStudentDAO,
+                                     StudentDAO studentDAO, RepresentativeDAO representativeDAO,
+                                     AssignmentDocumentDAO assignmentDocumentDAO) {
+        this.requestDAO = Objects.requireNonNull(requestDAO, "ProjectRequestDAO no puede ser nulo");
+        this.projectStudentDAO = Objects.requireNonNull(projectStudentDAO, "ProjectStudentDAO no puede ser nulo");
+        this.studentDAO = Objects.requireNonNull(studentDAO, "StudentDAO no puede ser nulo");
+        this.representativeDAO = Objects.requireNonNull(representativeDAO, "RepresentativeDAO no puede ser nulo");
+        this.assignmentDocumentDAO = Objects.requireNonNull(assignmentDocumentDAO, "AssignmentDocumentDAO no puede ser nulo");
+    }
+
+    public ApprovalReport approveRequests(Collection<Project> projects, List<ProjectRequest> requests,
+                                          ProgressListener listener) {
+        Objects.requireNonNull(requests, "Las solicitudes no pueden ser nulas");
+        ProgressListener progress = listener != null ? listener : (stage, completed, total) -> { };
+        Map<Integer, Project> projectsById = new HashMap<>();
+        for (Project project : projects) {
+            projectsById.put(project.getIdProyect(), project);
+        }
+
+        ApprovalReport report = new ApprovalReport();
+        long start = System.nanoTime();
+        List<ProjectRequest> approved = approve(requests, projectsById, report, progress);
+        if (approved.isEmpty()) {
+            return report;
+        }
+
+        Set<Integer> studentIds = new LinkedHashSet<>();
+        Set<Integer> projectIds = new LinkedHashSet<>();
+        for (ProjectRequest request : approved) {
+            studentIds.add(request.getStudentId());
+            projectIds.add(request.getProjectId());
+        }
+        progress.onProgress(Stage.PREFETCH, 0, approved.size());
+        Map<Integer, Student> students;
+        Map<Integer, String> representatives;
+        try {
+            students = studentDAO.getStudentsByIds(studentIds);
+            representatives = representativeDAO.getRepresentativeNamesByProjectIds(projectIds);
+        } catch (SQLException e) {
+            logger.error("Error al consultar los datos de {} solicitudes aprobadas", approved.size(), e);
+            String message = ExceptionManager.handleException(e);
+            for (ProjectRequest request : approved) {
+                report.addFailure(request, Stage.PREFETCH, message);
+            }
+            return report;
+        }
+
+        List<AssignmentDocument> documents = render(approved, projectsById, students, representatives, report, progress);
+        if (!documents.isEmpty()) {
+            progress.onProgress(Stage.SAVE, 0, documents.size());
+            try {
+                assignmentDocumentDAO.saveAssignmentDocuments(documents);
+                report.savedDocuments = documents.size();
+            } catch (SQLException e) {
+                logger.error("Error al guardar {} documentos de asignación", documents.size(), e);
+                String message = ExceptionManager.handleException(e);
+                for (ProjectRequest request : approved) {
+                    if (!report.failedRequestIds.contains(request.getRequestId())) {
+                        report.addFailure(request, Stage.SAVE, message);
+                    }
+                }
+            }
+            progress.onProgress(Stage.SAVE, documents.size(), documents.size());
+        }
+
+        logger.info("Aprobación en lote terminada en {} ms - aprobadas: {}, rechazadas: {}, documentos: {}, fallas: {}",
+                (System.nanoTime() - start) / 1_000_000, report.approvedRequests, report.rejectedRequests,
+                report.savedDocuments, report.failures.size());
+        return report;
+    }
+
+    private List<ProjectRequest> approve(List<ProjectRequest> requests, Map<Integer, Project> projectsById,
+                                         ApprovalReport report, ProgressListener progress) {
+        List<ProjectRequest> approved = new ArrayList<>();
+        int completed = 0;
+        for (ProjectRequest request : requests) {
+            Project project = projectsById.get(request.getProjectId());
+            try {
+                if (project == null) {
+                    report.addFailure(request, Stage.APPROVAL, "El proyecto de la solicitud no está disponible");
+                } else if (project.getCapacity() <= 0) {
+                    requestDAO.rejectRequest(request.getRequestId());
+                    report.rejectedRequests++;
+                } else if (!request.isPending()) {
+                    report.skippedRequests++;
+                } else if (requestDAO.approveRequest(request.getRequestId(), projectStudentDAO)) {
+                    report.approvedRequests++;
+                    approved.add(request);
+                } else {
+                    report.addFailure(request, Stage.APPROVAL, "Sin cupo o ya procesada");
+                }
+            } catch (SQLException e) {
+                report.addFailure(request, Stage.APPROVAL, e.getMessage() != null
+                        ? e.getMessage() : ExceptionManager.handleException(e));
+            }
+            progress.onProgress(Stage.APPROVAL, ++completed, requests.size());
+        }
+        return approved;
+    }
+
+    private List<AssignmentDocument> render(List<ProjectRequest> approved, Map<Integer, Project> projectsById,
+                                            Map<Integer, Student> students, Map<Integer, String> representatives,
+                                            ApprovalReport report, ProgressListener progress) {
+        ExecutorService renderPool = Executors.newFixedThreadPool(Math.min(RENDER_THREADS, approved.size()), runnable -> {
+            Thread thread = new Thread(runnable, "assignment-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalDate date = LocalDate.now();
+        AtomicInteger rendered = new AtomicInteger();
+        List<CompletableFuture<AssignmentDocument>> futures = new ArrayList<>(approved.size());
+
+        try {
+            for (ProjectRequest request : approved) {
+                Student student = students.get(request.getStudentId());
+                Project project = projectsById.get(request.getProjectId());
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    if (student == null) {
+                        throw new IllegalStateException("No se encontró al estudiante de la solicitud");
+                    }
+                    try {
+                        AssignmentLetter letter = new AssignmentLetter(student.getFullName(), student.getEnrollment(),
+                                project.getTitle(), representatives.get(project.getIdProyect()), date);
+                        return new AssignmentDocument(project.getIdProyect(), student.getIdUser(),
+                                PDFAssignmentGenerator.generateAssignmentPDF(letter));
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        progress.onProgress(Stage.RENDER, rendered.incrementAndGet(), approved.size());
+                    }
+                }, renderPool));
+            }
+
+            List<AssignmentDocument> documents = new ArrayList<>(approved.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    documents.add(futures.get(i).join());
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    logger.error("Error al generar el documento de la solicitud {}", approved.get(i).getRequestId(), cause);
+                    report.addFailure(approved.get(i), Stage.RENDER, cause.getMessage());
+                }
+            }
+            return documents;
+        } finally {
+            renderPool.shutdownNow();
+        }
+    }
+
+    public enum Stage {
+        APPROVAL("aprobación"),
+        PREFETCH("consulta"),
+        RENDER("generación del documento"),
+        SAVE("guardado del documento");
+
+        private final String displayName;
+
+        Stage(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(Stage stage, int completed, int total);
+    }
+
+    public record RequestFailure(int requestId, String studentName, Stage stage, String message) {}
+
+    public static final class ApprovalReport {
+        private final List<RequestFailure> failures = new ArrayList<>();
+        private final Set<Integer> failedRequestIds = new LinkedHashSet<>();
+        private int approvedRequests;
+        private int rejectedRequests;
+        private int skippedRequests;
+        private int savedDocuments;
+
+        private void addFailure(ProjectRequest request, Stage stage, String message) {
+            failedRequestIds.add(request.getRequestId());
+            failures.add(new RequestFailure(request.getRequestId(), request.getStudentName(), stage, message));
+        }
+
+        public List<RequestFailure> getFailures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        public int getApprovedRequests() {
+            return approvedRequests;
+        }
+
+        public int getRejectedRequests() {
+            return rejectedRequests;
+        }
+
+        public int getSkippedRequests() {
+            return skippedRequests;
+        }
+
+        public int getSavedDocuments() {
+            return savedDocuments;
+        }
+
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+
+        public String describe() {
+            StringBuilder summary = new StringBuilder()
+                    .append(approvedRequests).append(" aprobadas, ")
+                    .append(savedDocuments).append(" documentos generados");
+            if (rejectedRequests > 0) {
+                summary.append(", ").append(rejectedRequests).append(" rechazadas por falta de cupo");
+            }
+            int withoutLetter = 0;
+            for (RequestFailure failure : failures) {
+                if (failure.stage() != Stage.APPROVAL) {
+                    withoutLetter++;
+                }
+            }
+            if (withoutLetter > 0) {
+                summary.append("\n").append(withoutLetter)
+                        .append(" estudiantes quedaron asignados sin oficio de asignación; ")
+                        .append("el oficio se generará cuando lo descarguen desde su proyecto asignado");
+            }
+            for (RequestFailure failure : failures) {
+                summary.append("\n- ").append(failure.studentName() != null ? failure.studentName() : "Solicitud " + failure.requestId())
+                        .append(": error en ").append(failure.stage().getDisplayName())
+                        .append(" (").append(failure.message()).append(")");
+            }
+            return summary.toString();
+        }
+    }
+}
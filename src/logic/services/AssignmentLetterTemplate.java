@@ -0,0 +1,349 @@
+package logic.services;
+
+import logic.logicclasses.AssignmentLetter;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+import org.apache.pdfbox.pdmodel.font.encoding.WinAnsiEncoding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+final class AssignmentLetterTemplate {
+    static final float MARGIN = 72;
+    static final float LEADING = 14;
+    static final float FONT_SIZE_REGULAR = 12;
+    static final float FONT_SIZE_SMALL = 10;
+    static final float FOOTER_THRESHOLD = 150;
+    static final Locale SPANISH = Locale.forLanguageTag("es-ES");
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd 'de' MMMM 'de' yyyy", SPANISH);
+
+    static final String HEADER = "Facultad de Estadística e Informática";
+    static final String[] ADDRESS_LINES = {
+            "Dirección",
+            "Av. Xalapa esq. Ávila Camacho",
+            "S/N",
+            "Col. Obrero Campesina",
+            "CP 91020",
+            "Xalapa de Enríquez",
+            "Veracruz, México"
+    };
+    static final String DATE_PREFIX = "Xalapa-Enríquez, Veracruz, a ";
+    static final String[] INSTITUTION_LINES = {
+            "FACULTAD DE ESTADÍSTICA E INFORMATICA",
+            "AVENIDA XALAPA CASI ESQUINA CON AVENIDA MANUEL AVILA CAMACHO"
+    };
+    static final String OPENING_LINE =
+            "En atención a su solicitud expresada a la Coordinación de Prácticas Profesionales de la";
+    static final String ASSIGNMENT_PARAGRAPH =
+            "Licenciatura en Ingeniería de Software, hacemos de su conocimiento que el C. %s, " +
+            "estudiante de la Licenciatura con matrícula %s, ha sido asignado al proyecto de %s, " +
+            "a su digno cargo a partir del %s del presente hasta cubrir 420 HORAS. Cabe mencionar " +
+            "que el estudiante cuenta con la formación y el perfil para las actividades a desempeñar.";
+    static final String[] CLOSING_PARAGRAPHS = {
+            "",
+            "Anexo a este documento usted encontrará una copia del horario de las experiencias " +
+                    "educativas que el estudiante asignado se encuentra cursando para que sea respetado y " +
+                    "tomado en cuenta al momento de establecer el horario de realización de sus Prácticas " +
+                    "Profesionales. Por otra parte, le solicito de la manera más atenta, haga llegar a la " +
+                    "brevedad con el estudiante, el oficio de aceptación así como el plan de trabajo " +
+                    "detallado del estudiante, además el horario que cubrirá. Deberá indicar además, la " +
+                    "forma en que se registrará la evidencia de asistencia y número de horas cubiertas. " +
+                    "Es importante mencionar que el estudiante deberá presentar mensualmente un reporte " +
+                    "de avances de sus prácticas. Este reporte de avances puede entregarse hasta con una " +
+                    "semana de atraso por lo que le solicito de la manera más atenta sean elaborados y " +
+                    "avalados (incluyendo sello si aplica) de manera oportuna para su entrega al académico " +
+                    "responsable de la experiencia de Prácticas de Ingeniería de Software. En relación con " +
+                    "lo anterior, es importante que en el oficio de aceptación proporcione el nombre de la " +
+                    "persona que supervisará y avalará en su dependencia la prestación de las prácticas " +
+                    "profesionales así como número telefónico, extensión (cuando aplique) y correo " +
+                    "electrónico. Lo anterior con el fin de contar con el canal de comunicación que permita " +
+                    "dar seguimiento al desempeño del estudiante.",
+            "",
+            "Le informo que las Prácticas de Ingeniería de Software forman parte de la currícula " +
+                    "de la Licenciatura en Ingeniería de Software, por lo cual es necesaria su evaluación " +
+                    "y de ahí la necesidad de realizar el seguimiento correspondiente. Es por ello que, " +
+                    "durante el semestre, el coordinador de Prácticas de Ingeniería de Software realizará " +
+                    "al menos un seguimiento de las actividades del estudiante por lo que será necesario " +
+                    "mostrar evidencias de la asistencia del estudiante, así como de sus actividades. Este " +
+                    "seguimiento podrá ser vía correo electrónico, teléfono o incluso mediante una visita " +
+                    "a sus oficinas, por lo que le solicito de la manera más atenta, proporcione las " +
+                    "facilidades requeridas en su caso.",
+            "",
+            "Sin más por el momento, agradezco su atención al presente reiterándome a sus " +
+                    "apreciables órdenes."
+    };
+    static final String[] SIGNATURE_LINES = {
+            "Dr. Ángel Juan Sánchez García",
+            "Coordinador de Servicio Social y Prácticas Profesionales"
+    };
+
+    private static final COSName REGULAR = COSName.getPDFName("F1");
+    private static final COSName BOLD = COSName.getPDFName("F2");
+    private static final float PAGE_TOP = PDRectangle.LETTER.getHeight() - MARGIN;
+    private static final float TEXT_WIDTH = PDRectangle.LETTER.getWidth() - 2 * MARGIN;
+    private static final float DATE_Y = PAGE_TOP - LEADING * (ADDRESS_LINES.length + 2);
+    private static final float REPRESENTATIVE_Y = DATE_Y - LEADING * 2;
+    private static final float BODY_Y = REPRESENTATIVE_Y - LEADING * (INSTITUTION_LINES.length + 2);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private final short[] winAnsiCodes;
+    private final float[] regularWidths;
+    private final byte[] firstPageFragment;
+    private final byte[] datePrefix;
+    private final byte[] openingLine;
+    private final List<byte[]> closingLines;
+    private final List<byte[]> signatureLines;
+    private volatile DateSpans dateSpans;
+
+    private AssignmentLetterTemplate() throws IOException {
+        winAnsiCodes = buildWinAnsiTable();
+        regularWidths = widthsOf(new PDType1Font(Standard14Fonts.FontName.HELVETICA));
+
+        ByteArrayOutputStream firstPage = new ByteArrayOutputStream();
+        writeText(firstPage, BOLD, FONT_SIZE_REGULAR, PAGE_TOP, encode(HEADER));
+        float y = PAGE_TOP - LEADING;
+        for (String line : ADDRESS_LINES) {
+            writeText(firstPage, REGULAR, FONT_SIZE_SMALL, y, encode(line));
+            y -= LEADING;
+        }
+        y = REPRESENTATIVE_Y - LEADING;
+        for (String line : INSTITUTION_LINES) {
+            writeText(firstPage, REGULAR, FONT_SIZE_REGULAR, y, encode(line));
+            y -= LEADING;
+        }
+        firstPageFragment = firstPage.toByteArray();
+
+        datePrefix = encode(DATE_PREFIX);
+        openingLine = encode(OPENING_LINE);
+        closingLines = new ArrayList<>();
+        for (String paragraph : CLOSING_PARAGRAPHS) {
+            if (paragraph.isEmpty()) {
+                closingLines.add(null);
+                continue;
+            }
+            for (String line : wrap(paragraph, regularWidths, FONT_SIZE_REGULAR)) {
+                closingLines.add(encode(line));
+            }
+        }
+
+        signatureLines = new ArrayList<>();
+        for (String line : SIGNATURE_LINES) {
+            signatureLines.add(encode(line));
+        }
+    }
+
+    static AssignmentLetterTemplate compile() throws IOException {
+        return new AssignmentLetterTemplate();
+    }
+
+    byte[] render(AssignmentLetter letter) throws IOException {
+        DateSpans dates = datesFor(letter.date());
+        PageWriter pages = new PageWriter();
+
+        pages.current().write(firstPageFragment);
+        writeText(pages.current(), REGULAR, FONT_SIZE_REGULAR, DATE_Y, concat(datePrefix, dates.letterDate()));
+        writeText(pages.current(), BOLD, FONT_SIZE_REGULAR, REPRESENTATIVE_Y, encode(letter.representativeName()));
+
+        pages.y = BODY_Y;
+        pages.bodyLine(openingLine);
+        String assignment = String.format(ASSIGNMENT_PARAGRAPH, letter.studentName().toUpperCase(),
+                letter.enrollment(), letter.projectTitle().toUpperCase(), dates.startDate());
+        for (String line : wrap(assignment, regularWidths, FONT_SIZE_REGULAR)) {
+            pages.bodyLine(encode(line));
+        }
+        for (byte[] line : closingLines) {
+            if (line == null) {
+                pages.y -= LEADING;
+            } else {
+                pages.bodyLine(line);
+            }
+        }
+
+        if (pages.y < FOOTER_THRESHOLD) {
+            pages.newPage();
+        }
+        pages.signature(signatureLines);
+
+        return pages.toPdf();
+    }
+
+    private DateSpans datesFor(LocalDate date) {
+        DateSpans cached = dateSpans;
+        if (cached != null && cached.date().equals(date)) {
+            return cached;
+        }
+        String formatted = date.format(DATE_FORMAT);
+        String[] parts = formatted.split(" ");
+        DateSpans spans = new DateSpans(date, encode(formatted), parts[0] + " DE " + parts[2].toUpperCase(SPANISH));
+        dateSpans = spans;
+        return spans;
+    }
+
+    private List<String> wrap(String text, float[] widths, float fontSize) {
+        List<String> lines = new ArrayList<>();
+        float spaceWidth = widths[' '] / 1000 * fontSize;
+        StringBuilder line = new StringBuilder();
+        float lineWidth = 0;
+
+        for (String word : text.split(" ")) {
+            float wordWidth = measure(word, widths, fontSize);
+            if (line.length() == 0) {
+                line.append(word);
+                lineWidth = wordWidth;
+            } else if (lineWidth + spaceWidth + wordWidth < TEXT_WIDTH) {
+                line.append(' ').append(word);
+                lineWidth += spaceWidth + wordWidth;
+            } else {
+                lines.add(line.toString());
+                line.setLength(0);
+                line.append(word);
+                lineWidth = wordWidth;
+            }
+        }
+        lines.add(line.toString());
+        return lines;
+    }
+
+    private float measure(String text, float[] widths, float fontSize) {
+        float width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += widths[codeOf(text.charAt(i))];
+        }
+        return width / 1000 * fontSize;
+    }
+
+    private byte[] encode(String text) {
+        byte[] encoded = new byte[text.length() * 2 + 2];
+        encoded[0] = '<';
+        int position = 1;
+        for (int i = 0; i < text.length(); i++) {
+            int code = codeOf(text.charAt(i));
+            encoded[position++] = HEX[code >> 4];
+            encoded[position++] = HEX[code & 0xF];
+        }
+        encoded[position] = '>';
+        return encoded;
+    }
+
+    private int codeOf(char character) {
+        int code = character < winAnsiCodes.length ? winAnsiCodes[character] : -1;
+        if (code < 0) {
+            throw new IllegalArgumentException("El carácter '" + character + "' no puede representarse en la carta de asignación");
+        }
+        return code;
+    }
+
+    private static short[] buildWinAnsiTable() {
+        short[] codes = new short[0x2200];
+        Arrays.fill(codes, (short) -1);
+        GlyphList glyphs = GlyphList.getAdobeGlyphList();
+        for (int code = 0; code < 256; code++) {
+            String name = WinAnsiEncoding.INSTANCE.getName(code);
+            String unicode = name != null && !".notdef".equals(name) ? glyphs.toUnicode(name) : null;
+            if (unicode != null && unicode.length() == 1 && unicode.charAt(0) < codes.length
+                    && codes[unicode.charAt(0)] < 0) {
+                codes[unicode.charAt(0)] = (short) code;
+            }
+        }
+        return codes;
+    }
+
+    private static float[] widthsOf(PDType1Font font) throws IOException {
+        float[] widths = new float[256];
+        for (int code = 0; code < widths.length; code++) {
+            widths[code] = font.getWidth(code);
+        }
+        return widths;
+    }
+
+    private static void writeText(ByteArrayOutputStream out, COSName font, float fontSize, float y, byte[] text)
+            throws IOException {
+        out.write(("BT /" + font.getName() + " " + number(fontSize) + " Tf " + number(MARGIN) + " " + number(y) + " Td ")
+                .getBytes(StandardCharsets.US_ASCII));
+        out.write(text);
+        out.write(" Tj ET\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length - 2];
+        System.arraycopy(first, 0, joined, 0, first.length - 1);
+        System.arraycopy(second, 1, joined, first.length - 1, second.length - 1);
+        return joined;
+    }
+
+    private static String number(float value) {
+        return value == (long) value ? Long.toString((long) value) : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private record DateSpans(LocalDate date, byte[] letterDate, String startDate) {
+    }
+
+    private static final class PageWriter {
+        private final List<ByteArrayOutputStream> pages = new ArrayList<>();
+        private float y = PAGE_TOP;
+
+        private PageWriter() {
+            newPage();
+        }
+
+        private ByteArrayOutputStream current() {
+            return pages.get(pages.size() - 1);
+        }
+
+        private void newPage() {
+            pages.add(new ByteArrayOutputStream(4096));
+            y = PAGE_TOP;
+        }
+
+        private void bodyLine(byte[] line) throws IOException {
+            if (y < MARGIN) {
+                newPage();
+            }
+            writeText(current(), REGULAR, FONT_SIZE_REGULAR, y, line);
+            y -= LEADING;
+        }
+
+        private void signature(List<byte[]> lines) throws IOException {
+            for (byte[] line : lines) {
+                writeText(current(), BOLD, FONT_SIZE_REGULAR, y, line);
+                y -= LEADING;
+            }
+        }
+
+        private byte[] toPdf() throws IOException {
+            try (PDDocument document = new PDDocument();
+                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+
+                PDResources resources = new PDResources();
+                resources.put(REGULAR, new PDType1Font(Standard14Fonts.FontName.HELVETICA));
+                resources.put(BOLD, new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD));
+
+                for (ByteArrayOutputStream content : pages) {
+                    PDPage page = new PDPage(PDRectangle.LETTER);
+                    page.setResources(resources);
+                    page.setContents(new PDStream(document, new ByteArrayInputStream(content.toByteArray()),
+                            COSName.FLATE_DECODE));
+                    document.addPage(page);
+                }
+
+                document.save(outputStream);
+                return outputStream.toByteArray();
+            }
+        }
+    }
+}
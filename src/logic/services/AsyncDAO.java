@@ -0,0 +1,51 @@
+package logic.services;
+
+import dataaccess.ConnectionDataBase;
+import dataaccess.DatabaseExecutor;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncDAO<D> {
+    private final D dao;
+
+    public AsyncDAO(D dao) {
+        this.dao = Objects.requireNonNull(dao, "El DAO no puede ser nulo");
+    }
+
+    public static <D> AsyncDAO<D> of(D dao) {
+        return new AsyncDAO<>(dao);
+    }
+
+    public <T> CompletableFuture<T> call(DAOFunction<D, T> function) {
+        Objects.requireNonNull(function, "La operación no puede ser nula");
+        return DatabaseExecutor.submit(() -> function.apply(dao));
+    }
+
+    public <T> CompletableFuture<T> read(DAOFunction<D, T> function) {
+        Objects.requireNonNull(function, "La operación no puede ser nula");
+        return DatabaseExecutor.submit(() -> ConnectionDataBase.readWithRetry(() -> function.apply(dao)));
+    }
+
+    public CompletableFuture<Void> run(DAOAction<D> action) {
+        Objects.requireNonNull(action, "La operación no puede ser nula");
+        return DatabaseExecutor.submit(() -> {
+            action.accept(dao);
+            return null;
+        });
+    }
+
+    public D getDAO() {
+        return dao;
+    }
+
+    @FunctionalInterface
+    public interface DAOFunction<D, T> {
+        T apply(D dao) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface DAOAction<D> {
+        void accept(D dao) throws Exception;
+    }
+}
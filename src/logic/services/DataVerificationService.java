@@ -1,25 +1,74 @@
 package logic.services;
 
 import logic.daos.*;
+import logic.enums.UniqueField;
 import logic.exceptions.*;
 import logic.logicclasses.LinkedOrganization;
+import logic.logicclasses.UniquenessResult;
 
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class DataVerificationService {
+
+    public static UniquenessResult checkAcademicData(String phone, String staffNumber, String email) throws SQLException {
+        requireCellPhone(phone);
+        requireValue(staffNumber, "El número de personal no debe ser nulo o vacío");
+        requireValue(email, "El correo electrónico no debe ser nulo o vacío");
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.CELL_PHONE, phone);
+        candidates.put(UniqueField.STAFF_NUMBER, staffNumber);
+        candidates.put(UniqueField.EMAIL, email);
+        return new UniquenessDAO().findConflicts(candidates);
+    }
+
+    public static UniquenessResult checkStudentData(String phone, String enrollment, String email) throws SQLException {
+        requireCellPhone(phone);
+        requireValue(email, "El correo electrónico no debe ser nulo o vacío");
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.CELL_PHONE, phone);
+        candidates.put(UniqueField.ENROLLMENT, enrollment);
+        candidates.put(UniqueField.EMAIL, email);
+        return new UniquenessDAO().findConflicts(candidates);
+    }
+
+    public static UniquenessResult checkLinkedOrganizationData(String name, String phone, String email) throws SQLException {
+        requireValue(name, "El nombre de la organización no debe ser nulo o vacío");
+        requireValue(phone, "El teléfono no debe ser nulo o vacío");
+        requireValue(email, "El correo electrónico no debe ser nulo o vacío");
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.ORGANIZATION_NAME, name);
+        candidates.put(UniqueField.ORGANIZATION_PHONE, phone);
+        candidates.put(UniqueField.ORGANIZATION_EMAIL, email);
+        return new UniquenessDAO().findConflicts(candidates);
+    }
+
+    public static UniquenessResult checkUserUpdate(String phone, String email, String originalPhone, String originalEmail)
+            throws SQLException {
+        requireCellPhone(phone);
+        requireValue(email, "El correo electrónico no debe ser nulo o vacío");
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        if (!phone.equals(originalPhone)) {
+            candidates.put(UniqueField.CELL_PHONE, phone);
+        }
+        if (!email.equals(originalEmail)) {
+            candidates.put(UniqueField.EMAIL, email);
+        }
+        return new UniquenessDAO().findConflicts(candidates);
+    }
+
     public static boolean verifyAcademicDataUniqueness(String phone, String staffNumber, String email)
             throws SQLException, RepeatedCellPhoneException, RepeatedStaffNumberException, RepeatedEmailException {
-        UserDAO userDAO = new UserDAO();
-        AcademicDAO academicDAO = new AcademicDAO();
-        AccountDAO accountDAO = new AccountDAO();
+        UniquenessResult result = checkAcademicData(phone, staffNumber, email);
 
-        if (userDAO.cellPhoneExists(phone)) {
+        if (result.isConflict(UniqueField.CELL_PHONE)) {
             throw new RepeatedCellPhoneException();
         }
-        if (academicDAO.academicExists(staffNumber)) {
+        if (result.isConflict(UniqueField.STAFF_NUMBER)) {
             throw new RepeatedStaffNumberException();
         }
-        if (accountDAO.accountExists(email)) {
+        if (result.isConflict(UniqueField.EMAIL)) {
             throw new RepeatedEmailException();
         }
         return true;
@@ -27,17 +76,15 @@ public class DataVerificationService {
 
     public static boolean verifyStudentDataUniqueness(String phone, String enrollment, String email)
             throws SQLException, RepeatedCellPhoneException, RepeatedEnrollmentException, RepeatedEmailException {
-        UserDAO userDAO = new UserDAO();
-        StudentDAO studentDAO = new StudentDAO();
-        AccountDAO accountDAO = new AccountDAO();
+        UniquenessResult result = checkStudentData(phone, enrollment, email);
 
-        if (userDAO.cellPhoneExists(phone)) {
+        if (result.isConflict(UniqueField.CELL_PHONE)) {
             throw new RepeatedCellPhoneException();
         }
-        if (studentDAO.enrollmentExists(enrollment)) {
+        if (result.isConflict(UniqueField.ENROLLMENT)) {
             throw new RepeatedEnrollmentException();
         }
-        if (accountDAO.accountExists(email)) {
+        if (result.isConflict(UniqueField.EMAIL)) {
             throw new RepeatedEmailException();
         }
         return true;
@@ -45,55 +92,70 @@ public class DataVerificationService {
 
     public static void verifyLinkedOrganizationDataUniqueness(String name, String phone, String email)
             throws SQLException, RepeatedNameLinkedOrganizationException, RepeatedCellPhoneException, RepeatedEmailException {
-        LinkedOrganizationDAO dao = new LinkedOrganizationDAO();
-        if (dao.linkedOrganizationExists(name)) {
+        UniquenessResult result = checkLinkedOrganizationData(name, phone, email);
+        if (result.isConflict(UniqueField.ORGANIZATION_NAME)) {
             throw new RepeatedNameLinkedOrganizationException("La organización ya está registrada");
         }
-        if (dao.phoneNumberExists(phone)) {
+        if (result.isConflict(UniqueField.ORGANIZATION_PHONE)) {
             throw new RepeatedCellPhoneException("El número de teléfono ya está registrado");
         }
-        if (dao.emailExists(email)) {
+        if (result.isConflict(UniqueField.ORGANIZATION_EMAIL)) {
             throw new RepeatedEmailException("El correo electrónico ya está registrado");
         }
     }
 
     public static void verifyAcademicUpdateUniqueness(String phone, String email, String originalPhone, String originalEmail)
             throws SQLException, RepeatedCellPhoneException, RepeatedEmailException {
-        UserDAO userDAO = new UserDAO();
-        AccountDAO accountDAO = new AccountDAO();
+        verifyUserUpdateUniqueness(phone, email, originalPhone, originalEmail);
+    }
 
-        if (!phone.equals(originalPhone) && userDAO.cellPhoneExists(phone)) {
-            throw new RepeatedCellPhoneException();
+    public static void verifyStudentUpdateUniqueness(String phone, String email, String originalPhone, String originalEmail)
+            throws SQLException, RepeatedCellPhoneException, RepeatedEmailException {
+        verifyUserUpdateUniqueness(phone, email, originalPhone, originalEmail);
+    }
+
+    public static void verifyLinkedOrganizationUpdateUniqueness(LinkedOrganization org, LinkedOrganization originalOrg)
+            throws SQLException, RepeatedCellPhoneException, RepeatedEmailException {
+        requireValue(org.getCellPhoneLinkedOrganization(), "El teléfono no debe ser nulo o vacío");
+        requireValue(org.getEmailLinkedOrganization(), "El correo electrónico no debe ser nulo o vacío");
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        if (!org.getCellPhoneLinkedOrganization().equals(originalOrg.getCellPhoneLinkedOrganization())) {
+            candidates.put(UniqueField.ORGANIZATION_PHONE, org.getCellPhoneLinkedOrganization());
         }
-        if (!email.equals(originalEmail) && accountDAO.accountExists(email)) {
-            throw new RepeatedEmailException();
+        if (!org.getEmailLinkedOrganization().equals(originalOrg.getEmailLinkedOrganization())) {
+            candidates.put(UniqueField.ORGANIZATION_EMAIL, org.getEmailLinkedOrganization());
+        }
+
+        UniquenessResult result = new UniquenessDAO().findConflicts(candidates);
+        if (result.isConflict(UniqueField.ORGANIZATION_PHONE)) {
+            throw new RepeatedCellPhoneException("Teléfono duplicado");
+        }
+        if (result.isConflict(UniqueField.ORGANIZATION_EMAIL)) {
+            throw new RepeatedEmailException("Email duplicado");
         }
     }
 
-    public static void verifyStudentUpdateUniqueness(String phone, String email, String originalPhone, String originalEmail)
+    private static void verifyUserUpdateUniqueness(String phone, String email, String originalPhone, String originalEmail)
             throws SQLException, RepeatedCellPhoneException, RepeatedEmailException {
-        UserDAO userDAO = new UserDAO();
-        AccountDAO accountDAO = new AccountDAO();
+        UniquenessResult result = checkUserUpdate(phone, email, originalPhone, originalEmail);
 
-        if (!phone.equals(originalPhone) && userDAO.cellPhoneExists(phone)) {
+        if (result.isConflict(UniqueField.CELL_PHONE)) {
             throw new RepeatedCellPhoneException();
         }
-        if (!email.equals(originalEmail) && accountDAO.accountExists(email)) {
+        if (result.isConflict(UniqueField.EMAIL)) {
             throw new RepeatedEmailException();
         }
     }
 
-    public static void verifyLinkedOrganizationUpdateUniqueness(LinkedOrganization org, LinkedOrganization originalOrg)
-            throws SQLException, RepeatedCellPhoneException, RepeatedEmailException {
-        LinkedOrganizationDAO dao = new LinkedOrganizationDAO();
-        if (!org.getCellPhoneLinkedOrganization().equals(originalOrg.getCellPhoneLinkedOrganization())
-                && dao.phoneNumberExists(org.getCellPhoneLinkedOrganization())) {
-            throw new RepeatedCellPhoneException("Teléfono duplicado");
+    private static void requireCellPhone(String phone) throws InvalidCellPhoneException {
+        if (phone == null || !phone.matches("^\\d{10}$")) {
+            throw new InvalidCellPhoneException();
         }
-        if (!org.getEmailLinkedOrganization().equals(originalOrg.getEmailLinkedOrganization())
-                && dao.emailExists(org.getEmailLinkedOrganization())) {
-            throw new RepeatedEmailException("Email duplicado");
+    }
+
+    private static void requireValue(String value, String message) throws IllegalArgumentException {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(message);
         }
     }
 }
-
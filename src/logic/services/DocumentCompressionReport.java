@@ -0,0 +1,148 @@
+package logic.services;
+
+import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentCodec;
+import dataaccess.ResultStreams;
+import logic.daos.DocumentReferenceDAO;
+import logic.daos.DocumentReferenceDAO.StoreUsage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class DocumentCompressionReport {
+    private static final Logger logger = LogManager.getLogger(DocumentCompressionReport.class);
+    private static final Map<String, String> TYPE_COLUMNS = Map.of(
+            DocumentReferenceDAO.ORGANIZATION_TABLE, "tipo_archivo",
+            DocumentReferenceDAO.ASSIGNMENT_TABLE, "'PDF'"
+    );
+
+    private final DocumentReferenceDAO referenceDAO;
+
+    public DocumentCompressionReport(DocumentReferenceDAO referenceDAO) {
+        this.referenceDAO = referenceDAO;
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        try {
+            System.out.println(new DocumentCompressionReport(new DocumentReferenceDAO()).generate().describe());
+        } finally {
+            ConnectionDataBase.shutdown();
+        }
+    }
+
+    public Report generate() throws SQLException, IOException {
+        boolean migrated = referenceDAO.hasSchema();
+        List<TableReport> tables = new ArrayList<>();
+        for (Map.Entry<String, String> table : DocumentReferenceDAO.DOCUMENT_TABLES.entrySet()) {
+            tables.add(analyzeTable(table.getKey(), table.getValue(), migrated));
+        }
+        Report report = new Report(tables, migrated ? referenceDAO.getUsage() : new StoreUsage(0, 0, 0, 0));
+        logger.info(report.describe());
+        return report;
+    }
+
+    private TableReport analyzeTable(String table, String blobColumn, boolean migrated) throws SQLException, IOException {
+        String storedQuery = "SELECT COUNT(*) AS documentos, COALESCE(SUM(a.tamano), 0) AS original, " +
+                "COALESCE(SUM(COALESCE(a.tamano_almacenado, a.tamano)), 0) AS almacenado " +
+                "FROM " + table + " d JOIN almacen_documentos a ON a.hash_contenido = d.hash_contenido";
+        String legacyQuery = "SELECT " + TYPE_COLUMNS.get(table) + " AS tipo, " + blobColumn + " AS cuerpo FROM " + table +
+                " WHERE " + (migrated ? "hash_contenido IS NULL AND " : "") + blobColumn + " IS NOT NULL";
+
+        int storedDocuments = 0;
+        long storedOriginal = 0;
+        long storedBytes = 0;
+        if (migrated) {
+            try (Connection connection = ConnectionDataBase.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(storedQuery);
+                 ResultSet resultSet = statement.executeQuery()) {
+
+                resultSet.next();
+                storedDocuments = resultSet.getInt("documentos");
+                storedOriginal = resultSet.getLong("original");
+                storedBytes = resultSet.getLong("almacenado");
+            }
+        }
+
+        int legacyDocuments = 0;
+        long legacyOriginal = 0;
+        long legacyEstimated = 0;
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(legacyQuery)) {
+
+            ResultStreams.enableStreaming(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    try (InputStream body = resultSet.getBinaryStream("cuerpo")) {
+                        DocumentCodec.Estimate estimate = DocumentCodec.estimate(body, resultSet.getString("tipo"));
+                        legacyDocuments++;
+                        legacyOriginal += estimate.originalSize();
+                        legacyEstimated += estimate.storedSize();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al analizar los documentos de {}", table, e);
+            throw e;
+        }
+
+        return new TableReport(table, storedDocuments, storedOriginal, storedBytes,
+                legacyDocuments, legacyOriginal, legacyEstimated);
+    }
+
+    public record TableReport(String table, int storedDocuments, long storedOriginalBytes, long storedBytes,
+                              int legacyDocuments, long legacyOriginalBytes, long legacyEstimatedBytes) {
+
+        public long originalBytes() {
+            return storedOriginalBytes + legacyOriginalBytes;
+        }
+
+        public long compressedBytes() {
+            return storedBytes + legacyEstimatedBytes;
+        }
+
+        public long savedBytes() {
+            return originalBytes() - compressedBytes();
+        }
+
+        public String describe() {
+            double ratio = originalBytes() == 0 ? 0 : 100.0 * savedBytes() / originalBytes();
+            return String.format(Locale.ROOT,
+                    "%s: %d documentos, %.1f MB originales, %.1f MB comprimidos, %.1f MB ahorrados (%.1f%%); " +
+                            "%d aún en la tabla estimados con el códec",
+                    table, storedDocuments + legacyDocuments, originalBytes() / 1_048_576.0,
+                    compressedBytes() / 1_048_576.0, savedBytes() / 1_048_576.0, ratio, legacyDocuments);
+        }
+    }
+
+    public record Report(List<TableReport> tables, StoreUsage usage) {
+
+        public long savedBytes() {
+            long saved = 0;
+            for (TableReport table : tables) {
+                saved += table.savedBytes();
+            }
+            return saved;
+        }
+
+        public String describe() {
+            StringBuilder builder = new StringBuilder("Espacio ahorrado por compresión de documentos");
+            for (TableReport table : tables) {
+                builder.append("\n- ").append(table.describe());
+            }
+            builder.append(String.format(Locale.ROOT,
+                    "\nTotal por compresión: %.1f MB; por deduplicación en el almacén: %.1f MB",
+                    savedBytes() / 1_048_576.0, usage.savedBytes() / 1_048_576.0));
+            return builder.toString();
+        }
+    }
+}
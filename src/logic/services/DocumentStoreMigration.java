@@ -0,0 +1,171 @@
+package logic.services;
+
+import dataaccess.ConfigLoader;
+import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentStore;
+import dataaccess.DocumentStore.StagedDocument;
+import dataaccess.TransactionScope;
+import logic.daos.DocumentReferenceDAO;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class DocumentStoreMigration {
+    private static final Logger logger = LogManager.getLogger(DocumentStoreMigration.class);
+    private static final int BATCH_SIZE = Math.max(1, ConfigLoader.getInt("documents.migration.batchSize", 50));
+
+    private final DocumentStore documentStore;
+    private final DocumentReferenceDAO referenceDAO;
+
+    public DocumentStoreMigration(DocumentStore documentStore, DocumentReferenceDAO referenceDAO) {
+        this.documentStore = documentStore;
+        this.referenceDAO = referenceDAO;
+    }
+
+    public static void main(String[] args) throws SQLException, IOException {
+        if (DocumentStore.getDefault() == null) {
+            System.out.println("Configure documents.store.dir con un directorio compartido por todos los equipos antes de migrar");
+            return;
+        }
+        DocumentStoreMigration migration = new DocumentStoreMigration(DocumentStore.getDefault(), new DocumentReferenceDAO());
+        try {
+            System.out.println(migration.migrate().describe());
+        } finally {
+            ConnectionDataBase.shutdown();
+        }
+    }
+
+    public MigrationReport migrate() throws SQLException, IOException {
+        referenceDAO.ensureSchema();
+        referenceDAO.verifyStore(documentStore);
+        MigrationReport report = new MigrationReport();
+        for (Map.Entry<String, String> table : DocumentReferenceDAO.DOCUMENT_TABLES.entrySet()) {
+            migrateTable(table.getKey(), table.getValue(), report);
+        }
+        logger.info(report.describe());
+        return report;
+    }
+
+    private void migrateTable(String table, String blobColumn, MigrationReport report) throws SQLException, IOException {
+        String primaryKey = primaryKeyOf(table);
+        String selectQuery = "SELECT " + primaryKey + ", " + blobColumn + " FROM " + table +
+                " WHERE hash_contenido IS NULL AND " + blobColumn + " IS NOT NULL ORDER BY " + primaryKey + " LIMIT ?";
+        String updateQuery = "UPDATE " + table + " SET hash_contenido = ?, tamano = ?, " + blobColumn + " = NULL " +
+                "WHERE " + primaryKey + " = ? AND hash_contenido IS NULL";
+
+        while (true) {
+            List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+            try {
+                try (Connection connection = ConnectionDataBase.getConnection();
+                     PreparedStatement statement = connection.prepareStatement(selectQuery)) {
+
+                    statement.setInt(1, BATCH_SIZE);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            try (InputStream content = resultSet.getBinaryStream(blobColumn)) {
+                                batch.add(new PendingRow(resultSet.getLong(primaryKey), documentStore.stage(content)));
+                            }
+                        }
+                    }
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                try (TransactionScope transaction = TransactionScope.begin()) {
+                    try (Connection connection = ConnectionDataBase.getConnection();
+                         PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+
+                        for (PendingRow row : batch) {
+                            statement.setString(1, row.document().hash());
+                            statement.setLong(2, row.document().size());
+                            statement.setLong(3, row.id());
+                            if (statement.executeUpdate() == 0) {
+                                continue;
+                            }
+                            boolean stored = referenceDAO.acquire(documentStore, row.document());
+                            report.record(row.document().size(), !stored);
+                        }
+                    }
+                    transaction.commit();
+                }
+                logger.info("Migrados {} documentos de {}", batch.size(), table);
+            } finally {
+                for (PendingRow row : batch) {
+                    row.document().close();
+                }
+            }
+        }
+    }
+
+    private String primaryKeyOf(String table) throws SQLException {
+        String query = "SELECT COLUMN_NAME FROM information_schema.KEY_COLUMN_USAGE " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_NAME = 'PRIMARY'";
+
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+
+            statement.setString(1, table);
+            List<String> columns = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    columns.add(resultSet.getString("COLUMN_NAME"));
+                }
+            }
+            if (columns.size() != 1) {
+                throw new SQLException("La tabla " + table + " necesita una llave primaria de una sola columna para migrarse");
+            }
+            return columns.get(0);
+        }
+    }
+
+    private record PendingRow(long id, StagedDocument document) {}
+
+    public static final class MigrationReport {
+        private int migratedRows;
+        private int deduplicatedRows;
+        private long migratedBytes;
+        private long deduplicatedBytes;
+
+        private void record(long size, boolean deduplicated) {
+            migratedRows++;
+            migratedBytes += size;
+            if (deduplicated) {
+                deduplicatedRows++;
+                deduplicatedBytes += size;
+            }
+        }
+
+        public int getMigratedRows() {
+            return migratedRows;
+        }
+
+        public int getDeduplicatedRows() {
+            return deduplicatedRows;
+        }
+
+        public long getMigratedBytes() {
+            return migratedBytes;
+        }
+
+        public long getDeduplicatedBytes() {
+            return deduplicatedBytes;
+        }
+
+        public String describe() {
+            return String.format(Locale.ROOT,
+                    "Migración al almacén de documentos: %d filas (%.1f MB) movidas, %d duplicadas (%.1f MB ahorrados)",
+                    migratedRows, migratedBytes / 1_048_576.0, deduplicatedRows, deduplicatedBytes / 1_048_576.0);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package logic.services;
 
+import logic.exceptions.AccountLockedException;
 import logic.exceptions.InvalidCellPhoneException;
 import logic.exceptions.InvalidCredentialsException;
 import logic.exceptions.RepeatedCellPhoneException;
@@ -30,6 +31,8 @@ public class ExceptionManager {
             userMessage = "El correo electrónico ya está registrado.";
         } else if (exception instanceof RepeatedCellPhoneException) {
             userMessage = "El número de teléfono ya está registrado.";
+        } else if (exception instanceof AccountLockedException) {
+            userMessage = exception.getMessage();
         } else if (exception instanceof InvalidCredentialsException) {
             userMessage = "Credenciales inválidas.";
         } else if (exception instanceof InvalidCellPhoneException) {
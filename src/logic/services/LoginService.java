@@ -1,11 +1,11 @@
 package logic.services;
 
+import dataaccess.DatabaseExecutor;
+import dataaccess.PasswordHasher;
 import logic.daos.AccountDAO;
-import logic.daos.AcademicDAO;
-import logic.daos.CoordinatorDAO;
-import logic.daos.StudentDAO;
+import logic.exceptions.AccountLockedException;
 import logic.exceptions.InvalidCredentialsException;
-import logic.logicclasses.Account;
+import logic.logicclasses.LoginProfile;
 import logic.logicclasses.User;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,16 +16,19 @@ public class LoginService {
     private static final Logger logger = LogManager.getLogger(LoginService.class);
 
     private final AccountDAO accountDAO;
-    private final CoordinatorDAO coordinatorDAO;
-    private final AcademicDAO academicDAO;
-    private final StudentDAO studentDAO;
+    private final LoginThrottle throttle;
 
-    public LoginService(AccountDAO accountDAO, CoordinatorDAO coordinatorDAO,
-                        AcademicDAO academicDAO, StudentDAO studentDAO) {
+    public LoginService(AccountDAO accountDAO) {
+        this(accountDAO, new LoginThrottle());
+    }
+
+    public LoginService(AccountDAO accountDAO, LoginThrottle throttle) {
         this.accountDAO = Objects.requireNonNull(accountDAO, "La cuenta no puede ser nula");
-        this.coordinatorDAO = Objects.requireNonNull(coordinatorDAO, "El coordinador no puede ser nulo");
-        this.academicDAO = Objects.requireNonNull(academicDAO, "El academico no puede ser nulo");
-        this.studentDAO = Objects.requireNonNull(studentDAO, "El estudiante no puede ser nulo");
+        this.throttle = Objects.requireNonNull(throttle, "El control de intentos no puede ser nulo");
+    }
+
+    public LoginThrottle getThrottle() {
+        return throttle;
     }
 
     public User login(String email, String password) throws InvalidCredentialsException, SQLException {
@@ -34,32 +37,54 @@ public class LoginService {
             throw new InvalidCredentialsException("Email o contraseña vacíos");
         }
 
-        if (!accountDAO.verifyCredentials(email, password)) {
+        throttle.checkAllowed(email);
+
+        LoginProfile profile = accountDAO.getLoginProfile(email);
+        if (profile.isLocked()) {
+            throttle.applyRemoteLockout(email, profile.lockouts(), profile.lockedSeconds());
+            logger.warn("Intento de acceso a cuenta bloqueada: {}", email);
+            throw new AccountLockedException(profile.lockedSeconds());
+        }
+        if (!profile.isFound() || !profile.isActive()) {
+            throttle.recordFailure(email);
             logger.warn("Credenciales inválidas para: {}", email);
             throw new InvalidCredentialsException("Credenciales inválidas");
         }
 
-        Account cuenta = accountDAO.getAccountByEmail(email);
-        if (cuenta == null) {
-            logger.error("Cuenta no encontrada para email: {}", email);
-            throw new SQLException("Cuenta no encontrada en la base de datos");
+        String storedHash = profile.passwordHash();
+        if (storedHash == null || storedHash.trim().isEmpty()) {
+            throw new SQLException("Contraseña invalida para el usuario: " + email);
         }
-
-        int userId = cuenta.getIdUser();
-        if (coordinatorDAO.existsForUser(userId)) {
-            logger.debug("Usuario identificado como coordinador");
-            return coordinatorDAO.getFullCoordinator(userId);
+        if (!PasswordHasher.verify(password, storedHash)) {
+            throttle.recordFailure(email);
+            logger.warn("Credenciales inválidas para: {}", email);
+            throw new InvalidCredentialsException("Credenciales inválidas");
         }
-        if (academicDAO.existsAcademic(userId)) {
-            logger.debug("Usuario identificado como académico");
-            return academicDAO.getAcademicById(userId);
+        throttle.recordSuccess(email, profile.lockouts());
+        if (PasswordHasher.needsRehash(storedHash)) {
+            rehashPassword(profile.userId(), password, storedHash);
         }
-        if (studentDAO.existsForUser(userId)) {
-            logger.debug("Usuario identificado como estudiante");
-            return studentDAO.getFullStudent(userId);
+
+        User user = profile.user();
+        if (user == null) {
+            logger.error("Usuario sin tipo asignado para: {}", email);
+            throw new IllegalStateException("Estado inválido: usuario sin tipo asignado");
         }
-        logger.error("Usuario sin tipo asignado para: {}", email);
-        throw new IllegalStateException("Estado inválido: usuario sin tipo asignado");
+        logger.debug("Usuario identificado como {}", user.getClass().getSimpleName());
+        return user;
     }
-}
 
+    private void rehashPassword(int userId, String password, String storedHash) {
+        PasswordHasher.hashAsync(password)
+                .thenCompose(newHash -> DatabaseExecutor.submit(
+                        () -> accountDAO.replacePasswordHash(userId, storedHash, newHash)))
+                .whenComplete((updated, error) -> {
+                    if (error != null) {
+                        logger.warn("No se pudo actualizar el costo del hash del usuario {}", userId, error);
+                    } else if (updated) {
+                        logger.info("Hash de contraseña del usuario {} actualizado al costo {}",
+                                userId, PasswordHasher.getCost());
+                    }
+                });
+    }
+}
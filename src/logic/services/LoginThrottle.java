@@ -0,0 +1,210 @@
+package logic.services;
+
+import dataaccess.ConfigLoader;
+import dataaccess.DatabaseExecutor;
+import logic.daos.LoginLockoutDAO;
+import logic.exceptions.AccountLockedException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class LoginThrottle {
+    private static final Logger logger = LogManager.getLogger(LoginThrottle.class);
+    private static final boolean ENABLED = ConfigLoader.getBoolean("security.lockout.enabled", true);
+    private static final long WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(
+            Math.max(1, ConfigLoader.getLong("security.lockout.windowSeconds", 900)));
+    private static final int MAX_EMAIL_FAILURES = Math.max(1, ConfigLoader.getInt("security.lockout.maxFailuresPerEmail", 5));
+    private static final int MAX_SOURCE_FAILURES = Math.max(1, ConfigLoader.getInt("security.lockout.maxFailuresPerSource", 20));
+    private static final long BASE_LOCK_SECONDS = Math.max(1, ConfigLoader.getLong("security.lockout.baseSeconds", 30));
+    private static final long MAX_LOCK_SECONDS = Math.max(BASE_LOCK_SECONDS,
+            ConfigLoader.getLong("security.lockout.maxSeconds", 3_600));
+    private static final int RETENTION_HOURS = Math.max(1, ConfigLoader.getInt("security.lockout.retentionHours", 24));
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final LoginLockoutDAO lockoutDAO;
+    private final String sourceKey;
+    private final LongSupplier clock;
+    private final Map<String, AttemptWindow> windows = new ConcurrentHashMap<>();
+
+    public LoginThrottle() {
+        this(new LoginLockoutDAO());
+    }
+
+    public LoginThrottle(LoginLockoutDAO lockoutDAO) {
+        this(lockoutDAO, ConfigLoader.get("security.lockout.source", localHostName()),
+                () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+    }
+
+    LoginThrottle(LoginLockoutDAO lockoutDAO, String source, LongSupplier clock) {
+        this.lockoutDAO = Objects.requireNonNull(lockoutDAO, "El DAO de bloqueos no puede ser nulo");
+        this.sourceKey = LoginLockoutDAO.SOURCE_PREFIX + source;
+        this.clock = clock;
+    }
+
+    public void checkAllowed(String email) throws AccountLockedException {
+        if (!ENABLED) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long remaining = Math.max(remainingMillis(emailKey(email), now), remainingMillis(sourceKey, now));
+        if (remaining > 0) {
+            throw new AccountLockedException(TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+        }
+    }
+
+    public void recordFailure(String email) {
+        if (!ENABLED) {
+            return;
+        }
+        long now = clock.getAsLong();
+        registerFailure(emailKey(email), MAX_EMAIL_FAILURES, now);
+        registerFailure(sourceKey, MAX_SOURCE_FAILURES, now);
+        if (windows.size() > CLEANUP_THRESHOLD) {
+            windows.values().removeIf(window -> window.isIdle(now));
+        }
+    }
+
+    public void recordSuccess(String email, int persistedLockouts) {
+        if (!ENABLED) {
+            return;
+        }
+        String key = emailKey(email);
+        AttemptWindow window = windows.remove(key);
+        if (persistedLockouts > 0 || (window != null && window.persisted)) {
+            persist(key, () -> lockoutDAO.clearLockout(key));
+        }
+    }
+
+    public void applyRemoteLockout(String email, int lockouts, long remainingSeconds) {
+        if (!ENABLED || remainingSeconds <= 0) {
+            return;
+        }
+        applyLockout(emailKey(email), lockouts, remainingSeconds, clock.getAsLong());
+    }
+
+    public CompletableFuture<Integer> loadPersistedLockouts() {
+        if (!ENABLED) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return DatabaseExecutor.submit(() -> {
+            lockoutDAO.purgeExpired(RETENTION_HOURS);
+            Map<String, LoginLockoutDAO.Lockout> lockouts = lockoutDAO.getActiveLockouts();
+            long now = clock.getAsLong();
+            for (LoginLockoutDAO.Lockout lockout : lockouts.values()) {
+                applyLockout(lockout.key(), lockout.lockouts(), lockout.remainingSeconds(), now);
+            }
+            logger.info("Se cargaron {} bloqueos de acceso activos", lockouts.size());
+            return lockouts.size();
+        }).whenComplete((count, error) -> {
+            if (error != null) {
+                logger.warn("No se pudieron cargar los bloqueos de acceso", error);
+            }
+        });
+    }
+
+    private long remainingMillis(String key, long now) {
+        AttemptWindow window = windows.get(key);
+        if (window == null) {
+            return 0;
+        }
+        synchronized (window) {
+            return Math.max(0, window.lockedUntil - now);
+        }
+    }
+
+    private void registerFailure(String key, int maxFailures, long now) {
+        AttemptWindow window = windows.computeIfAbsent(key, ignored -> new AttemptWindow());
+        int lockouts;
+        long lockSeconds;
+        synchronized (window) {
+            window.evictBefore(now - WINDOW_MILLIS);
+            window.failures.addLast(now);
+            window.lastActivity = now;
+            if (window.failures.size() < maxFailures) {
+                return;
+            }
+            window.failures.clear();
+            window.lockouts++;
+            lockSeconds = lockSeconds(window.lockouts);
+            window.lockedUntil = now + TimeUnit.SECONDS.toMillis(lockSeconds);
+            window.persisted = true;
+            lockouts = window.lockouts;
+        }
+
+        logger.warn("Acceso bloqueado para {} durante {} segundos (bloqueo #{})", key, lockSeconds, lockouts);
+        persist(key, () -> {
+            lockoutDAO.saveLockout(key, lockouts, lockSeconds);
+            return null;
+        });
+    }
+
+    private void applyLockout(String key, int lockouts, long remainingSeconds, long now) {
+        AttemptWindow window = windows.computeIfAbsent(key, ignored -> new AttemptWindow());
+        synchronized (window) {
+            window.lockouts = Math.max(window.lockouts, lockouts);
+            window.lockedUntil = Math.max(window.lockedUntil, now + TimeUnit.SECONDS.toMillis(remainingSeconds));
+            window.lastActivity = now;
+            window.persisted = true;
+        }
+    }
+
+    private static long lockSeconds(int lockouts) {
+        int doublings = Math.min(Math.max(0, lockouts - 1), 30);
+        return Math.min(MAX_LOCK_SECONDS, BASE_LOCK_SECONDS << doublings);
+    }
+
+    private void persist(String key, DatabaseExecutor.DatabaseCall<?> call) {
+        DatabaseExecutor.submit(call).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.warn("No se pudo sincronizar el bloqueo de acceso de {}", key, error);
+            }
+        });
+    }
+
+    private static String emailKey(String email) {
+        return LoginLockoutDAO.EMAIL_PREFIX + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String localHostName() {
+        String hostName = System.getenv("COMPUTERNAME");
+        if (hostName == null || hostName.isBlank()) {
+            hostName = System.getenv("HOSTNAME");
+        }
+        if (hostName != null && !hostName.isBlank()) {
+            return hostName;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    private static final class AttemptWindow {
+        private final ArrayDeque<Long> failures = new ArrayDeque<>();
+        private int lockouts;
+        private long lockedUntil;
+        private long lastActivity;
+        private boolean persisted;
+
+        private void evictBefore(long cutoff) {
+            while (!failures.isEmpty() && failures.peekFirst() < cutoff) {
+                failures.pollFirst();
+            }
+        }
+
+        private synchronized boolean isIdle(long now) {
+            return lockedUntil <= now && now - lastActivity > Math.max(WINDOW_MILLIS, TimeUnit.SECONDS.toMillis(MAX_LOCK_SECONDS));
+        }
+    }
+}
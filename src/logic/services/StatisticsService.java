@@ -0,0 +1,106 @@
+package logic.services;
+
+import dataaccess.ConfigLoader;
+import dataaccess.EntityCache;
+import dataaccess.EntityCaches;
+import logic.daos.StatisticsDAO;
+import logic.daos.StatisticsSnapshotDAO;
+import logic.interfaces.IStatisticsDAO;
+import logic.logicclasses.DashboardStatistics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class StatisticsService {
+    private static final Logger logger = LogManager.getLogger(StatisticsService.class);
+    private static final String DASHBOARD_KEY = "tablero";
+    private static final int REQUIRED_HOURS = ConfigLoader.getInt("statistics.requiredHours", 420);
+    private static final boolean AUTO_REBUILD = ConfigLoader.getBoolean("statistics.snapshot.autoRebuild", true);
+    private static final EntityCache<String, DashboardStatistics> dashboardCache =
+            EntityCaches.create("estadisticas", 60_000, 1);
+
+    private final IStatisticsDAO statisticsDAO;
+    private final StatisticsSnapshotDAO snapshotDAO;
+
+    public StatisticsService() {
+        this(new StatisticsDAO(), new StatisticsSnapshotDAO());
+    }
+
+    public StatisticsService(IStatisticsDAO statisticsDAO, StatisticsSnapshotDAO snapshotDAO) {
+        this.statisticsDAO = statisticsDAO;
+        this.snapshotDAO = snapshotDAO;
+    }
+
+    public static int getRequiredHours() {
+        return REQUIRED_HOURS;
+    }
+
+    public DashboardStatistics getDashboardStatistics() throws SQLException {
+        return dashboardCache.get(DASHBOARD_KEY, this::computeDashboardStatistics);
+    }
+
+    public DashboardStatistics refreshDashboardStatistics() throws SQLException {
+        dashboardCache.invalidate(DASHBOARD_KEY);
+        return getDashboardStatistics();
+    }
+
+    public void rebuildSnapshot() throws SQLException {
+        snapshotDAO.rebuild();
+        dashboardCache.invalidate(DASHBOARD_KEY);
+    }
+
+    private DashboardStatistics computeDashboardStatistics() throws SQLException {
+        long start = System.nanoTime();
+        boolean useSnapshot = prepareSnapshot();
+        DashboardStatistics statistics = new DashboardStatistics(
+                useSnapshot
+                        ? statisticsDAO.getStudentSummaryFromSnapshot(REQUIRED_HOURS)
+                        : statisticsDAO.getStudentSummary(REQUIRED_HOURS),
+                statisticsDAO.getProjectOccupancy(),
+                statisticsDAO.getGradeDistributionByGroup(),
+                useSnapshot ? loadPeriodActivity() : List.of(),
+                LocalDateTime.now()
+        );
+        logger.debug("Estadísticas del tablero calculadas en {} ms (resumen materializado: {})",
+                (System.nanoTime() - start) / 1_000_000, useSnapshot);
+        return statistics;
+    }
+
+    private boolean prepareSnapshot() {
+        if (!StatisticsSnapshotDAO.isEnabled()) {
+            return false;
+        }
+        if (snapshotDAO.isReady()) {
+            return true;
+        }
+        if (!AUTO_REBUILD) {
+            return false;
+        }
+        try {
+            snapshotDAO.rebuild();
+            return true;
+        } catch (SQLException e) {
+            logger.warn("No se pudo reconstruir el resumen de estadísticas; se usarán consultas agregadas", e);
+            return false;
+        }
+    }
+
+    private List<DashboardStatistics.PeriodActivity> loadPeriodActivity() throws SQLException {
+        List<DashboardStatistics.PeriodActivity> periods = new ArrayList<>();
+        Map<String, Map<String, Long>> counters = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_PERIOD);
+        counters.forEach((period, metrics) -> periods.add(new DashboardStatistics.PeriodActivity(
+                period,
+                metrics.getOrDefault(StatisticsSnapshotDAO.METRIC_REPORTS, 0L),
+                metrics.getOrDefault(StatisticsSnapshotDAO.METRIC_REPORTED_HOURS, 0L),
+                metrics.getOrDefault(StatisticsSnapshotDAO.METRIC_EVALUATIONS, 0L),
+                metrics.getOrDefault(StatisticsSnapshotDAO.METRIC_GRADE_SUM, 0L),
+                metrics.getOrDefault(StatisticsSnapshotDAO.METRIC_COMPLETED_ACTIVITIES, 0L)
+        )));
+        return periods;
+    }
+}
@@ -0,0 +1,349 @@
+package logic.services;
+
+import dataaccess.PasswordHasher;
+import dataaccess.TransactionScope;
+import logic.daos.AccountDAO;
+import logic.daos.StudentDAO;
+import logic.daos.UniquenessDAO;
+import logic.daos.UserDAO;
+import logic.enums.UniqueField;
+import logic.logicclasses.Account;
+import logic.logicclasses.Student;
+import logic.logicclasses.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import userinterface.utilities.Validators;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class StudentImportService {
+    private static final Logger logger = LogManager.getLogger(StudentImportService.class);
+    private static final int CHUNK_SIZE = 250;
+    private static final int EXPECTED_COLUMNS = 6;
+
+    private final UserDAO userDAO;
+    private final StudentDAO studentDAO;
+    private final AccountDAO accountDAO;
+    private final UniquenessDAO uniquenessDAO;
+    private final Validators validators;
+
+    public StudentImportService() {
+        this(new UserDAO(), new StudentDAO(), new AccountDAO());
+    }
+
+    public StudentImportService(UserDAO userDAO, StudentDAO studentDAO, AccountDAO accountDAO) {
+        this.userDAO = Objects.requireNonNull(userDAO, "UserDAO no puede ser nulo");
+        this.studentDAO = Objects.requireNonNull(studentDAO, "StudentDAO no puede ser nulo");
+        this.accountDAO = Objects.requireNonNull(accountDAO, "AccountDAO no puede ser nulo");
+        this.uniquenessDAO = new UniquenessDAO();
+        this.validators = new Validators();
+    }
+
+    public ImportReport importStudents(Reader source, int academicId) throws IOException, SQLException {
+        Objects.requireNonNull(source, "El origen del archivo no puede ser nulo");
+        ImportReport report = new ImportReport();
+        ImportState state = new ImportState();
+        long start = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (state.delimiter == 0) {
+                    state.delimiter = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+                    if (isHeader(line)) {
+                        continue;
+                    }
+                }
+
+                report.processedRows++;
+                ImportRow row = parseRow(lineNumber, line, state, report);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, academicId, report);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, academicId, report);
+            }
+        }
+
+        logger.info("Importación de estudiantes terminada en {} ms - procesados: {}, importados: {}, errores: {}",
+                (System.nanoTime() - start) / 1_000_000, report.processedRows, report.importedRows,
+                report.errors.size());
+        return report;
+    }
+
+    private ImportRow parseRow(int lineNumber, String line, ImportState state, ImportReport report) {
+        List<String> fields = splitFields(line, state.delimiter);
+        if (fields.size() != EXPECTED_COLUMNS) {
+            report.addError(lineNumber, "", "Se esperaban " + EXPECTED_COLUMNS + " columnas y se encontraron " + fields.size());
+            return null;
+        }
+
+        ImportRow row = new ImportRow(lineNumber, fields.get(0), fields.get(1).replaceAll("[^0-9]", ""),
+                fields.get(2), fields.get(3).toUpperCase(Locale.ROOT), fields.get(4), fields.get(5));
+
+        String error = validateRow(row);
+        if (error == null && !state.phones.add(row.phone)) {
+            error = "El teléfono está repetido en el archivo";
+        }
+        if (error == null && !state.enrollments.add(row.enrollment)) {
+            error = "La matrícula está repetida en el archivo";
+        }
+        if (error == null && !state.emails.add(row.email.toLowerCase(Locale.ROOT))) {
+            error = "El correo está repetido en el archivo";
+        }
+        if (error != null) {
+            report.addError(lineNumber, row.enrollment, error);
+            return null;
+        }
+        return row;
+    }
+
+    private String validateRow(ImportRow row) {
+        if (!validators.validateName(row.name)) {
+            return "El nombre solo debe contener letras y espacios";
+        }
+        if (!validators.validateCellPhone(row.phone)) {
+            return "Teléfono debe tener 10 dígitos";
+        }
+        if (!validators.validatePhoneExtension(row.extension)) {
+            return "Extensión debe ser numérica y máximo 5 dígitos";
+        }
+        if (!validators.validateEnrollment(row.enrollment)) {
+            return "Matrícula debe comenzar con S y tener 8 dígitos";
+        }
+        if (!validators.validateEmail(row.email)) {
+            return "Formato de email inválido";
+        }
+        if (!validators.validatePassword(row.password)) {
+            return "Contraseña debe tener al menos 8 caracteres";
+        }
+        return null;
+    }
+
+    private void importChunk(List<ImportRow> rows, int academicId, ImportReport report)
+            throws SQLException {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            hashes.add(PasswordHasher.hashAsync(row.password));
+        }
+
+        List<String> phones = new ArrayList<>(rows.size());
+        List<String> enrollments = new ArrayList<>(rows.size());
+        List<String> emails = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            phones.add(row.phone);
+            enrollments.add(row.enrollment);
+            emails.add(row.email);
+        }
+        Map<UniqueField, List<String>> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.CELL_PHONE, phones);
+        candidates.put(UniqueField.ENROLLMENT, enrollments);
+        candidates.put(UniqueField.EMAIL, emails);
+        Map<UniqueField, Set<String>> existing = uniquenessDAO.findExisting(candidates);
+        Set<String> existingPhones = existing.get(UniqueField.CELL_PHONE);
+        Set<String> existingEnrollments = upperCase(existing.get(UniqueField.ENROLLMENT));
+        Set<String> existingEmails = lowerCase(existing.get(UniqueField.EMAIL));
+
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String error = null;
+            if (existingPhones.contains(row.phone)) {
+                error = "El número de teléfono ya está registrado";
+            } else if (existingEnrollments.contains(row.enrollment)) {
+                error = "La matrícula ya está registrada";
+            } else if (existingEmails.contains(row.email.toLowerCase(Locale.ROOT))) {
+                error = "El email ya está registrado";
+            }
+
+            if (error != null) {
+                hashes.get(i).cancel(false);
+                report.addError(row.lineNumber, row.enrollment, error);
+                continue;
+            }
+            try {
+                row.passwordHash = hashes.get(i).join();
+                accepted.add(row);
+            } catch (CompletionException e) {
+                report.addError(row.lineNumber, row.enrollment, "No se pudo cifrar la contraseña");
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            insertRows(accepted, academicId);
+            report.importedRows += accepted.size();
+        } catch (SQLException | RuntimeException e) {
+            if (accepted.size() == 1) {
+                report.addError(accepted.get(0).lineNumber, accepted.get(0).enrollment, describeFailure(e));
+                return;
+            }
+            logger.warn("Falló el lote de {} filas, se reintentará fila por fila: {}", accepted.size(), e.getMessage());
+            for (ImportRow row : accepted) {
+                try {
+                    insertRows(Collections.singletonList(row), academicId);
+                    report.importedRows++;
+                } catch (SQLException | RuntimeException rowError) {
+                    report.addError(row.lineNumber, row.enrollment, describeFailure(rowError));
+                }
+            }
+        }
+    }
+
+    private void insertRows(List<ImportRow> rows, int academicId) throws SQLException {
+        List<User> users = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            users.add(new User(0, row.name, row.phone, row.extension, 'A'));
+        }
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            userDAO.addUsers(users);
+
+            List<Student> students = new ArrayList<>(rows.size());
+            List<Account> accounts = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                User user = users.get(i);
+                ImportRow row = rows.get(i);
+                students.add(new Student(user.getIdUser(), user.getFullName(), user.getCellPhone(),
+                        user.getPhoneExtension(), 'A', row.enrollment, 0));
+                accounts.add(new Account(user.getIdUser(), row.email, row.passwordHash));
+            }
+            studentDAO.addStudents(students, academicId);
+            accountDAO.addAccounts(accounts);
+
+            transaction.commit();
+        }
+    }
+
+    private String describeFailure(Exception e) {
+        if (e instanceof SQLException) {
+            return ExceptionManager.handleException((SQLException) e);
+        }
+        return e.getMessage() != null ? e.getMessage() : "Error al registrar la fila";
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).replace("\"", "").startsWith("nombre");
+    }
+
+    private List<String> splitFields(String line, char delimiter) {
+        List<String> fields = new ArrayList<>(EXPECTED_COLUMNS);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (character == delimiter && !quoted) {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(character);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static Set<String> upperCase(Set<String> values) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(value.toUpperCase(Locale.ROOT));
+        }
+        return result;
+    }
+
+    private static Set<String> lowerCase(Set<String> values) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(value.toLowerCase(Locale.ROOT));
+        }
+        return result;
+    }
+
+    public record RowError(int lineNumber, String enrollment, String message) {}
+
+    public static final class ImportReport {
+        private final List<RowError> errors = new ArrayList<>();
+        private int processedRows;
+        private int importedRows;
+
+        private void addError(int lineNumber, String enrollment, String message) {
+            errors.add(new RowError(lineNumber, enrollment, message));
+        }
+
+        public int getProcessedRows() {
+            return processedRows;
+        }
+
+        public int getImportedRows() {
+            return importedRows;
+        }
+
+        public List<RowError> getErrors() {
+            List<RowError> sorted = new ArrayList<>(errors);
+            sorted.sort((first, second) -> Integer.compare(first.lineNumber(), second.lineNumber()));
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+
+    private static final class ImportState {
+        private final Set<String> phones = new HashSet<>();
+        private final Set<String> enrollments = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private char delimiter;
+    }
+
+    private static final class ImportRow {
+        private final int lineNumber;
+        private final String name;
+        private final String phone;
+        private final String extension;
+        private final String enrollment;
+        private final String email;
+        private final String password;
+        private String passwordHash;
+
+        private ImportRow(int lineNumber, String name, String phone, String extension,
+                          String enrollment, String email, String password) {
+            this.lineNumber = lineNumber;
+            this.name = name;
+            this.phone = phone;
+            this.extension = extension;
+            this.enrollment = enrollment;
+            this.email = email;
+            this.password = password;
+        }
+    }
+}
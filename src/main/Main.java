@@ -3,23 +3,38 @@ package main;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import dataaccess.ChangeLog;
+import dataaccess.ConnectionDataBase;
+import dataaccess.DatabaseWarmUp;
+import dataaccess.PasswordHasher;
 import logic.daos.*;
 import logic.services.LoginService;
+import logic.services.LoginThrottle;
 import logic.services.PasswordRecoveryService;
 import userinterface.controllers.ControllerLoginWindow;
 import userinterface.windows.LoginWindow;
 
+import java.util.concurrent.CompletableFuture;
+
 public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
+        LoginThrottle loginThrottle = new LoginThrottle();
+        CompletableFuture<Boolean> databaseReadiness = DatabaseWarmUp.start();
+        databaseReadiness.thenAccept(ready -> {
+            if (ready) {
+                ChangeLog.startPolling();
+                loginThrottle.loadPersistedLockouts();
+            }
+        });
+        PasswordHasher.calibrate();
+
         AccountDAO accountDAO = new AccountDAO();
         CoordinatorDAO coordinatorDAO = new CoordinatorDAO();
         AcademicDAO academicDAO = new AcademicDAO();
         StudentDAO studentDAO = new StudentDAO();
 
-        LoginService loginService = new LoginService(
-                accountDAO, coordinatorDAO, academicDAO, studentDAO
-        );
+        LoginService loginService = new LoginService(accountDAO, loginThrottle);
 
         PasswordRecoveryService recoveryService = new PasswordRecoveryService(
                 accountDAO, coordinatorDAO, academicDAO, studentDAO
@@ -34,6 +49,7 @@ public class Main extends Application {
                 loginService,
                 recoveryService
         );
+        loginController.showDatabaseReadiness(databaseReadiness);
 
         primaryStage.setTitle("Sistema de Login");
         primaryStage.setScene(scene);
@@ -41,6 +57,12 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        ConnectionDataBase.shutdown();
+        PasswordHasher.shutdown();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
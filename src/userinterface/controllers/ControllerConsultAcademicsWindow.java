@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.PageRequest;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -8,8 +9,10 @@ import javafx.scene.control.TableColumn;
 import javafx.stage.Stage;
 import logic.daos.AcademicDAO;
 import logic.daos.AccountDAO;
+import logic.daos.UserDAO;
 import logic.logicclasses.Academic;
 import logic.services.ExceptionManager;
+import userinterface.utilities.PagedTableLoader;
 import userinterface.utilities.Validators;
 import userinterface.windows.ConsultAcademicsWindow;
 import userinterface.windows.UpdateAcademicWindow;
@@ -22,7 +25,7 @@ public class ControllerConsultAcademicsWindow {
     private final AcademicDAO academicDAO;
     private final Stage currentStage;
     private final Validators validators;
-    private ObservableList<Academic> allAcademics;
+    private final PagedTableLoader<Academic> academicsLoader;
     private boolean hasSearchResults = false;
 
     public ControllerConsultAcademicsWindow(ConsultAcademicsWindow view, Stage stage) {
@@ -30,7 +33,11 @@ public class ControllerConsultAcademicsWindow {
         this.academicDAO = new AcademicDAO();
         this.currentStage = Objects.requireNonNull(stage, "El stage no puede ser nulo");
         this.validators = new Validators();
-        this.allAcademics = FXCollections.observableArrayList();
+        this.academicsLoader = new PagedTableLoader<>(view.getAcademicTable(), PageRequest.DEFAULT_SIZE,
+                request -> academicDAO.getAcademicsByStatusPage('A', request),
+                e -> showAlert(Alert.AlertType.ERROR, "Error",
+                        "No se pudieron cargar los académicos: " + ExceptionManager.handleException(e)));
+        academicsLoader.reloadOnChange(AcademicDAO.CHANGE_ENTITY, UserDAO.CHANGE_ENTITY);
 
         TableColumn<Academic, Void> manageCol = view.createManageButtonColumn(this::handleManageAcademic);
         view.getAcademicTable().getColumns().add(manageCol);
@@ -47,16 +54,9 @@ public class ControllerConsultAcademicsWindow {
     }
 
     private void loadAcademicData() {
-        try {
-            allAcademics.setAll(academicDAO.getAcademicsByStatusFromView('A'));
-            view.setAcademicData(allAcademics);
-            view.getSearchField().clear();
-            hasSearchResults = false;
-        } catch (SQLException e) {
-            String message = ExceptionManager.handleException(e);
-            showAlert(Alert.AlertType.ERROR, "Error",
-                    "No se pudieron cargar los académicos: " + message);
-        }
+        academicsLoader.reload();
+        view.getSearchField().clear();
+        hasSearchResults = false;
     }
 
     private void searchAcademicByStaffNumber() {
@@ -93,7 +93,7 @@ public class ControllerConsultAcademicsWindow {
         if (hasSearchResults) {
             loadAcademicData();
         } else {
-            view.setAcademicData(allAcademics);
+            view.setAcademicData(academicsLoader.getItems());
         }
     }
 
@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.BlobStreams;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
@@ -12,8 +13,8 @@ import logic.services.ExceptionManager;
 import logic.services.PDFAssignmentGenerator;
 import userinterface.windows.ConsultAssignedProjectWindow;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -96,54 +97,40 @@ public class ControllerConsultAssignedProjectWindow implements EventHandler<Acti
     }
 
     private void handleDownloadAssignment() {
+        File file = chooseTargetFile();
+        if (file == null) {
+            return;
+        }
+
         try {
-            byte[] pdfContent = assignmentDocumentDAO.getAssignmentDocument(
-                    studentId
-            );
+            if (assignmentDocumentDAO.exportAssignmentDocument(studentId, file.toPath()) > 0) {
+                view.showMessage("Oficio descargado correctamente", false);
+                return;
+            }
 
-            if (pdfContent != null && pdfContent.length > 0) {
-                FileChooser fileChooser = new FileChooser();
-                fileChooser.setTitle("Guardar Oficio de Asignación");
-                fileChooser.setInitialFileName(
-                        "Oficio_Asignacion_" + studentDAO.getStudentById(studentId).getEnrollment() + ".pdf"
-                );
-                fileChooser.getExtensionFilters().add(
-                        new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
-                );
-
-                File file = fileChooser.showSaveDialog(stage);
-
-                if (file != null) {
-                    try (FileOutputStream fos = new FileOutputStream(file)) {
-                        fos.write(pdfContent);
-                        view.showMessage("Oficio descargado correctamente", false);
-                    } catch (IOException e) {
-                        view.showMessage("Error al guardar el archivo: " + e.getMessage(), true);
-                    }
-                }
+            byte[] generatedPdf = generateAssignmentPDFContent();
+            if (generatedPdf.length > 0) {
+                BlobStreams.copyToFile(new ByteArrayInputStream(generatedPdf), file.toPath());
+                view.showMessage("Oficio generado y descargado correctamente", false);
             } else {
-                byte[] generatedPdf = generateAssignmentPDFContent();
-                if (generatedPdf != null && generatedPdf.length > 0) {
-                    saveAssignmentToFile(generatedPdf);
-                } else {
-                    view.showMessage("No se pudo generar el oficio de asignación.", true);
-                }
+                view.showMessage("No se pudo generar el oficio de asignación.", true);
             }
         } catch (SQLException e) {
             String message = ExceptionManager.handleException(e);
             view.showMessage("Error al obtener el oficio: " + message, true);
+        } catch (IOException e) {
+            view.showMessage("Error al guardar el archivo: " + e.getMessage(), true);
         }
     }
 
     private byte[] generateAssignmentPDFContent() {
         try {
-            PDFAssignmentGenerator pdfGenerator = new PDFAssignmentGenerator();
             Student student = studentDAO.getStudentById(studentId);
             if (student == null) {
                 student = new Student();
             }
 
-            byte[] pdfContent = pdfGenerator.generateAssignmentPDF(student, assignedProject);
+            byte[] pdfContent = PDFAssignmentGenerator.generateAssignmentPDF(student, assignedProject);
 
             assignmentDocumentDAO.saveAssignmentDocument(
                     assignedProject.getIdProyect(),
@@ -158,7 +145,7 @@ public class ControllerConsultAssignedProjectWindow implements EventHandler<Acti
         }
     }
 
-    private void saveAssignmentToFile(byte[] pdfContent) {
+    private File chooseTargetFile() {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Guardar Oficio de Asignación");
         try {
@@ -176,16 +163,7 @@ public class ControllerConsultAssignedProjectWindow implements EventHandler<Acti
                 new FileChooser.ExtensionFilter("PDF Files", "*.pdf")
         );
 
-        File file = fileChooser.showSaveDialog(stage);
-
-        if (file != null) {
-            try (FileOutputStream fos = new FileOutputStream(file)) {
-                fos.write(pdfContent);
-                view.showMessage("Oficio generado y descargado correctamente", false);
-            } catch (IOException e) {
-                view.showMessage("Error al guardar el archivo: " + e.getMessage(), true);
-            }
-        }
+        return fileChooser.showSaveDialog(stage);
     }
 
     public void show() {
@@ -10,7 +10,10 @@ import logic.logicclasses.Report;
 import userinterface.windows.ConsultGroupStudentReportsWindow;
 import logic.services.ExceptionManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ControllerConsultGroupStudentReportsWindow {
     private final ConsultGroupStudentReportsWindow view;
@@ -19,6 +22,7 @@ public class ControllerConsultGroupStudentReportsWindow {
     private final GroupDAO groupDAO = new GroupDAO();
     private final ReportDAO reportDAO = new ReportDAO();
     private final StudentDAO studentDAO = new StudentDAO();
+    private final Map<Integer, List<Report>> reportsByStudent = new HashMap<>();
 
     public ControllerConsultGroupStudentReportsWindow(ConsultGroupStudentReportsWindow view, Stage stage, Academic academic) {
         this.view = view;
@@ -33,6 +37,7 @@ public class ControllerConsultGroupStudentReportsWindow {
         try {
             List<Student> students = studentDAO.getStudentsByGroup(groupDAO.getGroupByAcademicId(academic.getIdUser()).getNrc());
             view.setStudents(students);
+            prefetchReports(students);
         } catch (Exception e) {
             ExceptionManager.handleException(e);
         }
@@ -41,12 +46,23 @@ public class ControllerConsultGroupStudentReportsWindow {
     private void setupListeners() {
         view.setOnViewReportsListener(student -> {
             try {
-                List<Report> reports = reportDAO.getReportsByStudent(student.getIdUser());
+                List<Report> reports = reportsByStudent.get(student.getIdUser());
+                if (reports == null) {
+                    reports = reportDAO.getReportsByStudent(student.getIdUser());
+                }
                 view.setReports(reports);
             } catch (Exception e) {
                 ExceptionManager.handleException(e);
             }
         });
     }
-}
 
+    private void prefetchReports(List<Student> students) throws Exception {
+        List<Integer> studentIds = new ArrayList<>();
+        for (Student student : students) {
+            studentIds.add(student.getIdUser());
+        }
+        reportsByStudent.clear();
+        reportsByStudent.putAll(reportDAO.getReportsByStudents(studentIds));
+    }
+}
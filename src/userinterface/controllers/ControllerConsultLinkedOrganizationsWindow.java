@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.PageRequest;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -14,12 +15,12 @@ import logic.daos.LinkedOrganizationDAO;
 import logic.daos.LinkedOrganizationDocumentDAO;
 import logic.logicclasses.LinkedOrganization;
 import logic.services.ExceptionManager;
+import userinterface.utilities.PagedTableLoader;
 import userinterface.windows.ConsultLinkedOrganizationsWindow;
 import userinterface.windows.UpdateLinkedOrganizationWindow;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.Objects;
 
@@ -28,7 +29,7 @@ public class ControllerConsultLinkedOrganizationsWindow {
     private final LinkedOrganizationDAO organizationDAO;
     private final Stage currentStage;
     private final LinkedOrganizationDocumentDAO documentDAO;
-    private ObservableList<LinkedOrganization> allOrganizations;
+    private final PagedTableLoader<LinkedOrganization> organizationsLoader;
     private boolean hasSearchResults = false;
 
     public ControllerConsultLinkedOrganizationsWindow(ConsultLinkedOrganizationsWindow view, Stage stage) {
@@ -36,7 +37,11 @@ public class ControllerConsultLinkedOrganizationsWindow {
         this.documentDAO = new LinkedOrganizationDocumentDAO();
         this.organizationDAO = new LinkedOrganizationDAO();
         this.currentStage = Objects.requireNonNull(stage, "El stage no puede ser nulo");
-        this.allOrganizations = FXCollections.observableArrayList();
+        this.organizationsLoader = new PagedTableLoader<>(view.getOrganizationTable(), PageRequest.DEFAULT_SIZE,
+                organizationDAO::getLinkedOrganizationsPage,
+                e -> showAlert(Alert.AlertType.ERROR, "Error",
+                        "No se pudieron cargar las organizaciones: " + ExceptionManager.handleException(e)));
+        organizationsLoader.reloadOnChange(LinkedOrganizationDAO.CHANGE_ENTITY);
 
         TableColumn<LinkedOrganization, Void> manageCol = view.createManageButtonColumn(this::handleManageOrganization);
         TableColumn<LinkedOrganization, Void> documentsCol = view.createDocumentsButtonColumn(this::handleViewDocuments);
@@ -54,16 +59,9 @@ public class ControllerConsultLinkedOrganizationsWindow {
     }
 
     private void loadOrganizationData() {
-        try {
-            allOrganizations.setAll(organizationDAO.getAllLinkedOrganizations());
-            view.setOrganizationData(allOrganizations);
-            view.getSearchField().clear();
-            hasSearchResults = false;
-        } catch (SQLException e) {
-            String message = ExceptionManager.handleException(e);
-            showAlert(Alert.AlertType.ERROR, "Error",
-                    "No se pudieron cargar las organizaciones: " + message);
-        }
+        organizationsLoader.reload();
+        view.getSearchField().clear();
+        hasSearchResults = false;
     }
 
     private void searchOrganizationByName() {
@@ -100,7 +98,7 @@ public class ControllerConsultLinkedOrganizationsWindow {
         if (hasSearchResults) {
             loadOrganizationData();
         } else {
-            view.setOrganizationData(allOrganizations);
+            view.setOrganizationData(organizationsLoader.getItems());
         }
     }
 
@@ -147,7 +145,6 @@ public class ControllerConsultLinkedOrganizationsWindow {
     private void openDocumentsWindow(LinkedOrganization org) {
         try {
             if (documentDAO.documentExists(org.getIdLinkedOrganization())) {
-                byte[] fileBytes = documentDAO.getDocumentByOrganizationId(org.getIdLinkedOrganization());
                 String fileType = documentDAO.getDocumentType(org.getIdLinkedOrganization());
 
                 Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -174,7 +171,7 @@ public class ControllerConsultLinkedOrganizationsWindow {
 
                 alert.showAndWait().ifPresent(buttonType -> {
                     if (buttonType == downloadButton) {
-                        saveDocumentToFile(fileBytes, org.getNameLinkedOrganization(), fileType);
+                        saveDocumentToFile(org, fileType);
                     }
                 });
             } else {
@@ -188,13 +185,13 @@ public class ControllerConsultLinkedOrganizationsWindow {
         }
     }
 
-    private void saveDocumentToFile(byte[] fileBytes, String orgName, String fileType) {
+    private void saveDocumentToFile(LinkedOrganization org, String fileType) {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Guardar Documento");
 
         String extension = getFileExtension(fileType);
         fileChooser.setInitialFileName(
-                "documento_" + orgName.replace(" ", "_") + extension
+                "documento_" + org.getNameLinkedOrganization().replace(" ", "_") + extension
         );
 
         FileChooser.ExtensionFilter extFilter = new FileChooser.ExtensionFilter(
@@ -212,10 +209,14 @@ public class ControllerConsultLinkedOrganizationsWindow {
                     file = new File(filePath + extension);
                 }
 
-                Files.write(file.toPath(), fileBytes);
-                showAlert(Alert.AlertType.INFORMATION, "Éxito",
-                        "Documento guardado como: " + file.getName());
-            } catch (IOException e) {
+                if (documentDAO.exportDocumentByOrganizationId(org.getIdLinkedOrganization(), file.toPath()) > 0) {
+                    showAlert(Alert.AlertType.INFORMATION, "Éxito",
+                            "Documento guardado como: " + file.getName());
+                } else {
+                    showAlert(Alert.AlertType.INFORMATION, "Documentos",
+                            "No hay documentos registrados para esta organización");
+                }
+            } catch (IOException | SQLException e) {
                 String message = ExceptionManager.handleException(e);
                 showAlert(Alert.AlertType.ERROR, "Error",
                         "No se pudo guardar el documento: " + message);
@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.PageRequest;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import javafx.stage.Stage;
 import logic.daos.ProjectDAO;
 import logic.logicclasses.Project;
 import logic.services.ExceptionManager;
+import userinterface.utilities.PagedTableLoader;
 import userinterface.windows.ConsultProjectsWindow;
 import userinterface.windows.UpdateProyectWindow;
 
@@ -19,12 +21,17 @@ import java.util.Objects;
 public class ControllerConsultProjectsWindow implements EventHandler<ActionEvent> {
     private final ConsultProjectsWindow view;
     private final ProjectDAO projectDAO;
+    private final PagedTableLoader<Project> projectsLoader;
     private ObservableList<Project> projectsList;
 
     public ControllerConsultProjectsWindow(ConsultProjectsWindow consultProjectsWindow) {
         this.view = Objects.requireNonNull(consultProjectsWindow, "La vista no puede ser nula");
         this.projectDAO = new ProjectDAO();
         this.projectsList = FXCollections.observableArrayList();
+        this.projectsLoader = new PagedTableLoader<>(view.getProjectsTable(), PageRequest.DEFAULT_SIZE,
+                request -> projectDAO.getProjectsByStatusPage('A', request),
+                e -> showError("Error al cargar proyectos: " + ExceptionManager.handleException(e)));
+        projectsLoader.reloadOnChange(ProjectDAO.CHANGE_ENTITY);
 
         view.getProjectsTable().getProperties().put("controller", this);
 
@@ -50,14 +57,8 @@ public class ControllerConsultProjectsWindow implements EventHandler<ActionEvent
     }
 
     private void loadAllProjects() {
-        try {
-            projectsList.setAll(projectDAO.getProyectsByStatus('A'));
-            view.setProjectsList(projectsList);
-            view.getResultLabel().setText("");
-        } catch (SQLException e) {
-            String message = ExceptionManager.handleException(e);
-            showError("Error al cargar proyectos: " + message);
-        }
+        projectsLoader.reload();
+        view.getResultLabel().setText("");
     }
 
     private void handleSearch() {
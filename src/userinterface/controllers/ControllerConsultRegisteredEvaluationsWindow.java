@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.IdentityMap;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.stage.Stage;
@@ -15,7 +16,9 @@ import logic.logicclasses.Student;
 import logic.services.ExceptionManager;
 import userinterface.windows.ConsultRegisteredEvaluationsWindow;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ControllerConsultRegisteredEvaluationsWindow {
     private final ConsultRegisteredEvaluationsWindow view;
@@ -30,7 +33,7 @@ public class ControllerConsultRegisteredEvaluationsWindow {
     }
 
     private void loadEvaluations() {
-        try {
+        try (IdentityMap identityMap = IdentityMap.open()) {
             EvaluationDAO evaluationDAO = new EvaluationDAO();
             ProjectStudentDAO projectStudentDAO = new ProjectStudentDAO();
             ProjectDAO projectDAO = new ProjectDAO();
@@ -38,6 +41,7 @@ public class ControllerConsultRegisteredEvaluationsWindow {
             List<Evaluation> evaluations = evaluationDAO.getEvaluationsByAcademic(evaluator.getIdUser());
 
             StudentDAO studentDAO = new StudentDAO();
+            Map<Integer, String> projectTitlesByStudent = new HashMap<>();
             for (Evaluation evaluation : evaluations) {
                 Presentation presentation = evaluation.getPresentation();
                 if (presentation != null && presentation.getStudent() != null && presentation.getStudent().getIdUser() > 0) {                    Student student = presentation.getStudent();
@@ -45,13 +49,17 @@ public class ControllerConsultRegisteredEvaluationsWindow {
                     if (fullStudent != null) {
                         presentation.setStudent(fullStudent);
                     }
-                    Integer projectId = projectStudentDAO.getProyectByStudent(student.getIdUser());
-                    String projectTitle = "";
-                    if (projectId != null && projectId > 0) {
-                        Project project = projectDAO.getProyectById(projectId);
-                        if (project != null) {
-                            projectTitle = project.getTitle();
+                    String projectTitle = projectTitlesByStudent.get(student.getIdUser());
+                    if (projectTitle == null) {
+                        projectTitle = "";
+                        Integer projectId = projectStudentDAO.getProyectByStudent(student.getIdUser());
+                        if (projectId != null && projectId > 0) {
+                            Project project = projectDAO.getProyectById(projectId);
+                            if (project != null) {
+                                projectTitle = project.getTitle();
+                            }
                         }
+                        projectTitlesByStudent.put(student.getIdUser(), projectTitle);
                     }
                     presentation.getStudent().setCellphone(projectTitle);
                 }
@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.PageRequest;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -13,6 +14,7 @@ import logic.daos.RepresentativeDAO;
 import logic.logicclasses.LinkedOrganization;
 import logic.logicclasses.Representative;
 import logic.services.ExceptionManager;
+import userinterface.utilities.PagedTableLoader;
 import userinterface.windows.ConsultRepresentativesWindow;
 import userinterface.windows.LinkOrganizationWindow;
 
@@ -25,7 +27,7 @@ public class ControllerConsultRepresentativesWindow {
     private final RepresentativeDAO representativeDAO;
     private final LinkedOrganizationDAO organizationDAO;
     private final Stage currentStage;
-    private ObservableList<Representative> allRepresentatives;
+    private final PagedTableLoader<Representative> representativesLoader;
     private boolean hasSearchResults = false;
 
     private static final Representative EMPTY_REPRESENTATIVE = new Representative(-1, "", "", "", null);
@@ -36,7 +38,11 @@ public class ControllerConsultRepresentativesWindow {
         this.representativeDAO = new RepresentativeDAO();
         this.organizationDAO = new LinkedOrganizationDAO();
         this.currentStage = Objects.requireNonNull(stage, "El stage no puede ser nulo");
-        this.allRepresentatives = FXCollections.observableArrayList();
+        this.representativesLoader = new PagedTableLoader<>(view.getRepresentativeTable(), PageRequest.DEFAULT_SIZE,
+                representativeDAO::getRepresentativesPage,
+                e -> showAlert(Alert.AlertType.ERROR, "Error",
+                        "No se pudieron cargar los representantes: " + ExceptionManager.handleException(e)));
+        representativesLoader.reloadOnChange(RepresentativeDAO.CHANGE_ENTITY, LinkedOrganizationDAO.CHANGE_ENTITY);
 
         addAssignColumnIfNeeded();
         setupEventHandlers();
@@ -59,16 +65,9 @@ public class ControllerConsultRepresentativesWindow {
     }
 
     private void loadRepresentativeData() {
-        try {
-            List<Representative> reps = representativeDAO.getAllRepresentativesWithOrganizationName();
-            allRepresentatives.setAll(reps);
-            view.setRepresentativeData(allRepresentatives);
-            view.getSearchField().clear();
-            hasSearchResults = false;
-        } catch (SQLException e) {
-            showAlert(Alert.AlertType.ERROR, "Error",
-                    "No se pudieron cargar los representantes: " + ExceptionManager.handleException(e));
-        }
+        representativesLoader.reload();
+        view.getSearchField().clear();
+        hasSearchResults = false;
     }
 
     private void searchRepresentativeByName() {
@@ -104,7 +103,7 @@ public class ControllerConsultRepresentativesWindow {
         if (hasSearchResults) {
             loadRepresentativeData();
         } else {
-            view.setRepresentativeData(allRepresentatives);
+            view.setRepresentativeData(representativesLoader.getItems());
         }
     }
 
@@ -2,9 +2,9 @@ package userinterface.controllers;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import dataaccess.BatchLoader;
 import javafx.stage.Stage;
 import logic.daos.EvaluationDAO;
-import logic.daos.ProjectStudentDAO;
 import logic.daos.ProjectDAO;
 import logic.daos.AcademicDAO;
 import logic.daos.StudentDAO;
@@ -16,6 +16,7 @@ import logic.logicclasses.Student;
 import logic.services.ExceptionManager;
 import userinterface.windows.ConsultStudentEvaluationsWindow;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ControllerConsultStudentEvaluationsWindow {
@@ -42,28 +43,34 @@ public class ControllerConsultStudentEvaluationsWindow {
 
     private List<Evaluation> loadEvaluationsData() throws Exception {
         EvaluationDAO evaluationDAO = new EvaluationDAO();
-        ProjectStudentDAO projectStudentDAO = new ProjectStudentDAO();
         ProjectDAO projectDAO = new ProjectDAO();
         AcademicDAO academicDAO = new AcademicDAO();
+        BatchLoader<Integer, Student> studentLoader = new BatchLoader<>("estudiantes", new StudentDAO()::getStudentsByIds);
+        BatchLoader<Integer, Project> projectLoader = new BatchLoader<>("proyectosPorEstudiante", projectDAO::getProjectsByStudents);
 
         List<Evaluation> evaluations = evaluationDAO.getEvaluationsByStudent(student.getIdUser());
 
+        List<Integer> studentIds = new ArrayList<>();
+        for (Evaluation evaluation : evaluations) {
+            Presentation presentation = evaluation.getPresentation();
+            if (presentation != null && presentation.getStudent() != null && presentation.getStudent().getIdUser() > 0) {
+                studentIds.add(presentation.getStudent().getIdUser());
+            }
+        }
+        studentLoader.getAll(studentIds);
+        projectLoader.getAll(studentIds);
+
         for (Evaluation evaluation : evaluations) {
             Presentation presentation = evaluation.getPresentation();
 
             if (presentation != null && presentation.getStudent() != null && presentation.getStudent().getIdUser() > 0) {
-                Student fullStudent = new StudentDAO().getStudentById(presentation.getStudent().getIdUser());
+                int studentId = presentation.getStudent().getIdUser();
+                Student fullStudent = studentLoader.get(studentId);
                 if (fullStudent != null) {
                     presentation.setStudent(fullStudent);
                 }
-                Integer projectId = projectStudentDAO.getProyectByStudent(presentation.getStudent().getIdUser());
-                String projectTitle = "";
-                if (projectId != null && projectId > 0) {
-                    Project project = projectDAO.getProyectById(projectId);
-                    if (project != null) {
-                        projectTitle = project.getTitle();
-                    }
-                }
+                Project project = projectLoader.get(studentId);
+                String projectTitle = project != null ? project.getTitle() : "";
                 presentation.getStudent().setCellphone(projectTitle);
             }
 
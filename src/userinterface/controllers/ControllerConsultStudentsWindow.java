@@ -1,82 +1,159 @@
 package userinterface.controllers;
 
+import dataaccess.ConnectionDataBase;
+import dataaccess.DatabaseExecutor;
+import dataaccess.Page;
+import dataaccess.PageRequest;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.TableColumn;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import logic.daos.GroupDAO;
 import logic.daos.StudentDAO;
 import logic.logicclasses.Academic;
 import logic.logicclasses.Student;
+import logic.services.AsyncDAO;
 import logic.services.ExceptionManager;
+import logic.services.StudentImportService;
+import userinterface.utilities.FxAsyncScope;
+import userinterface.utilities.PagedTableLoader;
 import userinterface.utilities.Validators;
 import userinterface.windows.AssignGradeWindow;
 import userinterface.windows.ConsultStudentsWindow;
 import userinterface.windows.UpdateStudentWindow;
-import java.sql.SQLException;
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Objects;
 
 public class ControllerConsultStudentsWindow {
+    private static final int MAX_REPORTED_ERRORS = 20;
     private final ConsultStudentsWindow view;
-    private final StudentDAO studentDAO;
+    private final AsyncDAO<StudentDAO> studentDAO;
+    private final GroupDAO groupDAO;
+    private final FxAsyncScope asyncScope;
     private final Stage currentStage;
     private final Validators validators;
     private final Academic academic;
-    private ObservableList<Student> allStudents;
-    private GroupDAO groupDAO;
+    private final PagedTableLoader<Student> studentsLoader;
+    private volatile int groupNrc;
+    private boolean initialLoad;
     private boolean hasSearchResults = false;
 
     public ControllerConsultStudentsWindow(ConsultStudentsWindow view, Stage stage, Academic academic) {
         this.view = Objects.requireNonNull(view, "La vista no puede ser nula");
-        this.studentDAO = new StudentDAO();
+        this.studentDAO = AsyncDAO.of(new StudentDAO());
+        this.groupDAO = new GroupDAO();
         this.currentStage = Objects.requireNonNull(stage, "El stage no puede ser nulo");
+        this.asyncScope = FxAsyncScope.forWindow(stage);
         this.validators = new Validators();
-        this.allStudents = FXCollections.observableArrayList();
         this.academic = Objects.requireNonNull(academic, "El académico no puede ser nulo");
+        this.studentsLoader = new PagedTableLoader<>(view.getStudentTable(), PageRequest.DEFAULT_SIZE,
+                this::fetchStudentPage,
+                this::handleStudentPageError);
 
         TableColumn<Student, Void> manageCol = view.createManageButtonColumn(this::handleManageStudent);
         TableColumn<Student, Void> assignGradeCol = view.createAssignGradeButtonColumn(this::handleAssignGrade);
         view.getStudentTable().getColumns().addAll(manageCol, assignGradeCol);
 
         setupEventHandlers();
-        try {
-            loadStudentData();
-        } catch (SQLException ex) {
-            String message = ExceptionManager.handleException(ex);
-            showAlert(Alert.AlertType.ERROR, "Error de inicialización",
-                    "No se pudieron cargar los datos de estudiantes: " + message);
-            currentStage.close();
-        }
+        loadStudentData(true);
     }
 
     private void setupEventHandlers() {
         view.getSearchButton().setOnAction(e -> searchStudentByEnrollment());
         view.getSearchField().setOnAction(e -> searchStudentByEnrollment());
-        view.getClearButton().setOnAction(e -> {
-            try {
-                clearSearch();
-            } catch (SQLException ex) {
-                String message = ExceptionManager.handleException(ex);
-                showAlert(Alert.AlertType.ERROR, "Error",
-                        "No se pudieron recargar los datos: " + message);
-            }
-        });
+        view.getClearButton().setOnAction(e -> clearSearch());
         view.getBackButton().setOnAction(e -> currentStage.close());
+        view.getImportButton().setOnAction(e -> importStudentsFromCsv());
+    }
+
+    private void importStudentsFromCsv() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Seleccionar archivo de estudiantes");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Archivos CSV", "*.csv"));
+        File file = fileChooser.showOpenDialog(currentStage);
+        if (file == null) {
+            return;
+        }
+
+        view.getImportButton().setDisable(true);
+        asyncScope.onFxThread(
+                DatabaseExecutor.submit(() -> {
+                    try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                        return new StudentImportService().importStudents(reader, academic.getIdUser());
+                    }
+                }),
+                report -> {
+                    view.getImportButton().setDisable(false);
+                    showImportReport(report);
+                    loadStudentData(false);
+                },
+                ex -> {
+                    view.getImportButton().setDisable(false);
+                    String message = ExceptionManager.handleException(ex);
+                    showAlert(Alert.AlertType.ERROR, "Error de importación",
+                            "No se pudo importar el archivo: " + message);
+                });
+    }
+
+    private void showImportReport(StudentImportService.ImportReport report) {
+        StringBuilder content = new StringBuilder();
+        content.append("Filas procesadas: ").append(report.getProcessedRows()).append('\n');
+        content.append("Estudiantes registrados: ").append(report.getImportedRows()).append('\n');
+        content.append("Filas con error: ").append(report.getErrors().size());
+
+        int shown = 0;
+        for (StudentImportService.RowError error : report.getErrors()) {
+            if (shown++ == MAX_REPORTED_ERRORS) {
+                content.append("\n...");
+                break;
+            }
+            content.append("\nLínea ").append(error.lineNumber());
+            if (!error.enrollment().isEmpty()) {
+                content.append(" (").append(error.enrollment()).append(')');
+            }
+            content.append(": ").append(error.message());
+        }
+
+        showAlert(report.getErrors().isEmpty() ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING,
+                "Resultado de la importación", content.toString());
     }
 
-    private void loadStudentData() throws SQLException {
-        groupDAO = new GroupDAO();
-        allStudents.setAll(studentDAO.getActiveStudentsByGroup(
-                groupDAO.getGroupByAcademicId(academic.getIdUser()).getNrc()));
-        view.setStudentData(allStudents);
+    private void loadStudentData(boolean initialLoad) {
+        this.initialLoad = initialLoad;
+        studentsLoader.reload();
         view.getSearchField().clear();
         hasSearchResults = false;
     }
 
+    private Page<Student> fetchStudentPage(PageRequest request) throws Exception {
+        return ConnectionDataBase.readWithRetry(() -> {
+            if (groupNrc <= 0) {
+                groupNrc = groupDAO.getGroupByAcademicId(academic.getIdUser()).getNrc();
+            }
+            return studentDAO.getDAO().getActiveStudentsByGroupPage(groupNrc, request);
+        });
+    }
+
+    private void handleStudentPageError(Exception ex) {
+        String message = ExceptionManager.handleException(ex);
+        if (initialLoad) {
+            showAlert(Alert.AlertType.ERROR, "Error de inicialización",
+                    "No se pudieron cargar los datos de estudiantes: " + message);
+            currentStage.close();
+        } else {
+            showAlert(Alert.AlertType.ERROR, "Error",
+                    "No se pudieron actualizar los datos: " + message);
+        }
+    }
+
     private void searchStudentByEnrollment() {
         String enrollment = view.getSearchField().getText().trim();
 
@@ -86,33 +163,34 @@ public class ControllerConsultStudentsWindow {
             return;
         }
 
-        try {
-            Student student = studentDAO.getStudentByEnrollment(enrollment);
-
-            if (student != null && student.getIdUser() != -1) {
-                ObservableList<Student> searchResult = FXCollections.observableArrayList();
-                searchResult.add(student);
-                view.setStudentData(searchResult);
-                hasSearchResults = true;
-            } else {
-                view.setStudentData(FXCollections.observableArrayList());
-                hasSearchResults = false;
-                showAlert(Alert.AlertType.INFORMATION, "Búsqueda",
-                        "No se encontró ningún estudiante con la matrícula: " + enrollment);
-            }
-        } catch (SQLException e) {
-            String message = ExceptionManager.handleException(e);
-            showAlert(Alert.AlertType.ERROR, "Error de búsqueda",
-                    "Ocurrió un error al buscar el estudiante: " + message);
-        }
+        asyncScope.onFxThread(
+                studentDAO.read(dao -> dao.getStudentByEnrollment(enrollment)),
+                student -> {
+                    if (student != null && student.getIdUser() != -1) {
+                        ObservableList<Student> searchResult = FXCollections.observableArrayList();
+                        searchResult.add(student);
+                        view.setStudentData(searchResult);
+                        hasSearchResults = true;
+                    } else {
+                        view.setStudentData(FXCollections.observableArrayList());
+                        hasSearchResults = false;
+                        showAlert(Alert.AlertType.INFORMATION, "Búsqueda",
+                                "No se encontró ningún estudiante con la matrícula: " + enrollment);
+                    }
+                },
+                ex -> {
+                    String message = ExceptionManager.handleException(ex);
+                    showAlert(Alert.AlertType.ERROR, "Error de búsqueda",
+                            "Ocurrió un error al buscar el estudiante: " + message);
+                });
     }
 
-    private void clearSearch() throws SQLException {
+    private void clearSearch() {
         view.getSearchField().clear();
         if (hasSearchResults) {
-            loadStudentData();
+            loadStudentData(false);
         } else {
-            view.setStudentData(allStudents);
+            view.setStudentData(studentsLoader.getItems());
         }
     }
 
@@ -139,15 +217,7 @@ public class ControllerConsultStudentsWindow {
                     updateWindow,
                     student,
                     updateStage,
-                    () -> {
-                        try {
-                            loadStudentData();
-                        } catch (SQLException ex) {
-                            String message = ExceptionManager.handleException(ex);
-                            showAlert(Alert.AlertType.ERROR, "Error",
-                                    "No se pudieron actualizar los datos: " + message);
-                        }
-                    }
+                    () -> loadStudentData(false)
             );
 
             Scene scene = new Scene(updateWindow.getView(), 600, 400);
@@ -169,15 +239,7 @@ public class ControllerConsultStudentsWindow {
             new ControllerAssignGradeWindow(
                     gradeWindow,
                     student,
-                    () -> {
-                        try {
-                            loadStudentData();
-                        } catch (SQLException ex) {
-                            String message = ExceptionManager.handleException(ex);
-                            showAlert(Alert.AlertType.ERROR, "Error",
-                                    "No se pudieron actualizar los datos: " + message);
-                        }
-                    }
+                    () -> loadStudentData(false)
             );
 
             gradeStage.setScene(new javafx.scene.Scene(gradeWindow.getView()));
@@ -1,5 +1,7 @@
 package userinterface.controllers;
 
+import dataaccess.DatabaseExecutor;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -9,30 +11,31 @@ import javafx.stage.Stage;
 import logic.daos.*;
 import logic.logicclasses.Project;
 import logic.logicclasses.ProjectRequest;
-
-import logic.services.PDFAssignmentGenerator;
+import logic.services.AssignmentApprovalService;
+import logic.services.AssignmentApprovalService.ApprovalReport;
 import logic.services.ExceptionManager;
+import userinterface.utilities.FxAsyncScope;
 import userinterface.windows.CoordinatorProjectsWindow;
 import userinterface.windows.ProjectRequestsWindow;
 
-import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ControllerCoordinatorProjectsWindow implements EventHandler<ActionEvent> {
     private final CoordinatorProjectsWindow view;
     private final ProjectDAO projectDAO;
     private final ProjectRequestDAO requestDAO;
-    private final ProjectStudentDAO projectStudentDAO;
-    private final AssignmentDocumentDAO assignmentDocumentDAO;
+    private final AssignmentApprovalService approvalService;
     private final ObservableList<Project> projectsList;
     private ProjectRequestsWindow requestsWindow;
+    private FxAsyncScope requestsScope;
 
     public ControllerCoordinatorProjectsWindow(CoordinatorProjectsWindow window) {
         this.view = window;
         this.projectDAO = new ProjectDAO();
         this.requestDAO = new ProjectRequestDAO();
-        this.projectStudentDAO = new ProjectStudentDAO();
-        this.assignmentDocumentDAO = new AssignmentDocumentDAO();
+        this.approvalService = new AssignmentApprovalService();
         this.projectsList = FXCollections.observableArrayList();
 
         view.getProjectsTable().getProperties().put("controller", this);
@@ -66,6 +69,7 @@ public class ControllerCoordinatorProjectsWindow implements EventHandler<ActionE
             Stage stage = new Stage();
             stage.setScene(new Scene(requestsWindow.getView(), 500, 400));
             stage.setTitle("Solicitudes - " + project.getTitle());
+            this.requestsScope = FxAsyncScope.forWindow(stage);
             stage.show();
         } catch (SQLException e) {
             String message = ExceptionManager.handleException(e);
@@ -74,45 +78,57 @@ public class ControllerCoordinatorProjectsWindow implements EventHandler<ActionE
     }
 
     private void handleApproveRequests(Project project, ObservableList<ProjectRequest> requests) {
-        ObservableList<ProjectRequest> selectedRequests = requestsWindow.getRequestsTable().getSelectionModel().getSelectedItems();
-        try {
-            for (ProjectRequest request : selectedRequests) {
-                if (request.isPending() && project.getCapacity() > 0) {
-                    approveRequestAndGenerateDocument(request, project);
-                } else if (project.getCapacity() <= 0) {
-                    rejectSingleRequest(request);
-                }
-            }
-            loadProjects();
-            view.showMessage("Solicitudes aprobadas y documentos generados correctamente", false);
-        } catch (SQLException | IOException e) {
-            String message = ExceptionManager.handleException(e);
-            view.showMessage("Error al procesar solicitudes: " + message, true);
+        List<ProjectRequest> selectedRequests = new ArrayList<>(
+                requestsWindow.getRequestsTable().getSelectionModel().getSelectedItems());
+        if (selectedRequests.isEmpty()) {
+            requestsWindow.showMessage("Seleccione al menos una solicitud", true);
+            return;
         }
-    }
-
-    private void approveRequestAndGenerateDocument(ProjectRequest request, Project project) throws SQLException, IOException {
-        requestDAO.approveRequest(request.getRequestId(), projectStudentDAO);
 
-        StudentDAO studentDAO = new StudentDAO();
-        byte[] pdfContent = generateAssignmentPDFContent(studentDAO.getStudentById(request.getStudentId()), project);
+        ProjectRequestsWindow window = requestsWindow;
+        window.getApproveButton().setDisable(true);
+        window.getRejectButton().setDisable(true);
+        window.showMessage("Procesando " + selectedRequests.size() + " solicitudes...", false);
+
+        requestsScope.onFxThread(
+                DatabaseExecutor.submit(() -> approvalService.approveRequests(List.of(project), selectedRequests,
+                        (stage, completed, total) -> Platform.runLater(() -> window.showMessage(
+                                "Procesando " + stage.getDisplayName() + ": " + completed + " de " + total, false)))),
+                report -> {
+                    window.getApproveButton().setDisable(false);
+                    window.getRejectButton().setDisable(false);
+                    refreshRequests(project, requests);
+                    loadProjects();
+                    showApprovalReport(window, report);
+                },
+                ex -> {
+                    window.getApproveButton().setDisable(false);
+                    window.getRejectButton().setDisable(false);
+                    String message = ExceptionManager.handleException(ex);
+                    window.showMessage("Error al procesar solicitudes: " + message, true);
+                    view.showMessage("Error al procesar solicitudes: " + message, true);
+                });
+    }
 
-        saveAssignmentDocument(project.getIdProyect(), request.getStudentId(), pdfContent);
+    private void showApprovalReport(ProjectRequestsWindow window, ApprovalReport report) {
+        if (report.hasFailures()) {
+            window.showMessage("Algunas solicitudes no se procesaron: " + report.describe(), true);
+            view.showMessage(report.getFailures().size() + " solicitudes con errores, revise la ventana de solicitudes", true);
+        } else {
+            window.showMessage("Solicitudes procesadas: " + report.describe(), false);
+            view.showMessage("Solicitudes aprobadas y documentos generados correctamente", false);
+        }
     }
 
-    private byte[] generateAssignmentPDFContent(logic.logicclasses.Student student, Project project) throws IOException {
-        PDFAssignmentGenerator pdfAssignmentGenerator = new PDFAssignmentGenerator();
+    private void refreshRequests(Project project, ObservableList<ProjectRequest> requests) {
         try {
-            return pdfAssignmentGenerator.generateAssignmentPDF(student, project);
+            requests.setAll(requestDAO.getRequestsByProject(project.getIdProyect()));
         } catch (SQLException e) {
-            throw new RuntimeException(e);
+            String message = ExceptionManager.handleException(e);
+            view.showMessage("Error al cargar solicitudes: " + message, true);
         }
     }
 
-    private void saveAssignmentDocument(int projectId, int studentId, byte[] pdfContent) throws SQLException {
-        assignmentDocumentDAO.saveAssignmentDocument(projectId, studentId, pdfContent);
-    }
-
     private void rejectSingleRequest(ProjectRequest request) throws SQLException {
         requestDAO.rejectRequest(request.getRequestId());
     }
@@ -1,6 +1,7 @@
 package userinterface.controllers;
 
 import dataaccess.PasswordUtils;
+import dataaccess.TransactionScope;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -18,9 +19,11 @@ import logic.daos.AccountDAO;
 import logic.daos.AcademicDAO;
 import logic.daos.UserDAO;
 import logic.enums.AcademicType;
+import logic.enums.UniqueField;
 import logic.exceptions.*;
 import logic.logicclasses.Academic;
 import logic.logicclasses.Account;
+import logic.logicclasses.UniquenessResult;
 import logic.logicclasses.User;
 import logic.services.DataVerificationService;
 import logic.services.ExceptionManager;
@@ -80,19 +83,16 @@ public class ControllerCreateAcademicWindow implements EventHandler<ActionEvent>
             AcademicData academicData = null;
             if (canContinue) {
                 academicData = collectAcademicData();
-                canContinue = DataVerificationService.verifyAcademicDataUniqueness(
+                UniquenessResult uniqueness = DataVerificationService.checkAcademicData(
                     academicData.phone(), academicData.staffNumber(), academicData.email());
+                if (uniqueness.hasConflicts()) {
+                    showConflicts(uniqueness);
+                    canContinue = false;
+                }
             }
 
             if (canContinue) {
-                User user = createUser(academicData.name(), academicData.phone());
-                saveUser(user);
-
-                Academic academic = createAcademic(user, academicData.staffNumber(), academicData.type());
-                saveAcademic(academic, user);
-
-                createAndSaveAccount(user, academicData.email(), PasswordUtils.hashPassword(academicData.password()));
-
+                registerNewAcademic(academicData);
                 showSuccessAndReset();
             }
 
@@ -200,9 +200,8 @@ public class ControllerCreateAcademicWindow implements EventHandler<ActionEvent>
         );
     }
 
-    private void saveAcademic(Academic academic, User user) throws SQLException {
+    private void saveAcademic(Academic academic) throws SQLException {
         if (!academicDAO.addAcademic(academic)) {
-            userDAO.deleteUser(user.getIdUser());
             throw new SQLException("No se pudo registrar el académico");
         }
     }
@@ -210,11 +209,26 @@ public class ControllerCreateAcademicWindow implements EventHandler<ActionEvent>
     private void createAndSaveAccount(User user, String email, String password) throws SQLException {
         Account account = new Account(user.getIdUser(), email, password);
         if (!accountDAO.addAccount(account)) {
-            userDAO.deleteUser(user.getIdUser());
             throw new SQLException("No se pudo registrar la cuenta");
         }
     }
 
+    private void registerNewAcademic(AcademicData academicData) throws SQLException {
+        String hashedPassword = PasswordUtils.hashPassword(academicData.password());
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            User user = createUser(academicData.name(), academicData.phone());
+            saveUser(user);
+
+            Academic academic = createAcademic(user, academicData.staffNumber(), academicData.type());
+            saveAcademic(academic);
+
+            createAndSaveAccount(user, academicData.email(), hashedPassword);
+
+            transaction.commit();
+        }
+    }
+
     private void showSuccessAndReset() {
         Platform.runLater(() -> {
             showCustomSuccessDialog();
@@ -264,6 +278,19 @@ public class ControllerCreateAcademicWindow implements EventHandler<ActionEvent>
         field.setStyle(ERROR_STYLE);
     }
 
+    private void showConflicts(UniquenessResult uniqueness) {
+        showError(uniqueness.describe());
+        if (uniqueness.isConflict(UniqueField.CELL_PHONE)) {
+            highlightField(view.getPhoneField());
+        }
+        if (uniqueness.isConflict(UniqueField.STAFF_NUMBER)) {
+            highlightField(view.getStaffNumberField());
+        }
+        if (uniqueness.isConflict(UniqueField.EMAIL)) {
+            highlightField(view.getEmailField());
+        }
+    }
+
     private void showFieldError(String message, TextField field) {
         showError(message);
         highlightField(field);
@@ -1,6 +1,7 @@
 package userinterface.controllers;
 
 import dataaccess.PasswordUtils;
+import dataaccess.TransactionScope;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -17,12 +18,14 @@ import javafx.scene.layout.VBox;
 import logic.daos.AccountDAO;
 import logic.daos.StudentDAO;
 import logic.daos.UserDAO;
+import logic.enums.UniqueField;
 import logic.exceptions.RepeatedCellPhoneException;
 import logic.exceptions.RepeatedEmailException;
 import logic.exceptions.RepeatedEnrollmentException;
 import logic.logicclasses.Academic;
 import logic.logicclasses.Account;
 import logic.logicclasses.Student;
+import logic.logicclasses.UniquenessResult;
 import logic.logicclasses.User;
 import logic.services.DataVerificationService;
 import logic.services.ExceptionManager;
@@ -80,8 +83,10 @@ public class ControllerCreateStudentWindow implements EventHandler<ActionEvent>
 
             StudentRegistrationData data = collectRegistrationData();
 
-            if (!DataVerificationService.verifyStudentDataUniqueness(
-                    data.phone(), data.enrollment(), data.email())) {
+            UniquenessResult uniqueness = DataVerificationService.checkStudentData(
+                    data.phone(), data.enrollment(), data.email());
+            if (uniqueness.hasConflicts()) {
+                showConflicts(uniqueness);
                 return;
             }
 
@@ -172,7 +177,6 @@ public class ControllerCreateStudentWindow implements EventHandler<ActionEvent>
 
     private void saveStudent(Student student, int academicId) throws SQLException {
         if (!studentDAO.addStudent(student, academicId)) {
-            userDAO.deleteUser(student.getIdUser());
             throw new SQLException("No se pudo registrar el estudiante");
         }
     }
@@ -181,23 +185,25 @@ public class ControllerCreateStudentWindow implements EventHandler<ActionEvent>
         return new Account(user.getIdUser(), email, password);
     }
 
-    private void saveAccount(Account account, int userId) throws SQLException {
+    private void saveAccount(Account account) throws SQLException {
         if (!accountDAO.addAccount(account)) {
-            studentDAO.deleteStudent(userId);
-            userDAO.deleteUser(userId);
             throw new SQLException("No se pudo registrar la cuenta");
         }
     }
 
     private void registerNewStudent(StudentRegistrationData data) throws SQLException {
-        User user = createUser(data.name(), data.phone());
-        saveUser(user);
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            User user = createUser(data.name(), data.phone());
+            saveUser(user);
 
-        Student student = createStudent(user, data.enrollment());
-        saveStudent(student, academic.getIdUser());
+            Student student = createStudent(user, data.enrollment());
+            saveStudent(student, academic.getIdUser());
 
-        Account account = createAccount(user, data.email(), data.passwordHashed());
-        saveAccount(account, user.getIdUser());
+            Account account = createAccount(user, data.email(), data.passwordHashed());
+            saveAccount(account);
+
+            transaction.commit();
+        }
     }
 
     private void showSuccessAndReset() {
@@ -264,6 +270,19 @@ public class ControllerCreateStudentWindow implements EventHandler<ActionEvent>
         view.getEmailField().setStyle("");
     }
 
+    private void showConflicts(UniquenessResult uniqueness) {
+        showError(uniqueness.describe());
+        if (uniqueness.isConflict(UniqueField.CELL_PHONE)) {
+            highlightField(view.getPhoneField());
+        }
+        if (uniqueness.isConflict(UniqueField.ENROLLMENT)) {
+            highlightField(view.getEnrollmentField());
+        }
+        if (uniqueness.isConflict(UniqueField.EMAIL)) {
+            highlightField(view.getEmailField());
+        }
+    }
+
     private void showFieldError(String message, TextField field) {
         showError(message);
         highlightField(field);
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.Logger;
 import userinterface.windows.DocumentUploadWindow;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Optional;
 import java.util.Objects;
@@ -73,13 +74,16 @@ public class ControllerDocumentUploadWindow implements EventHandler<ActionEvent>
         try {
             String fileName = view.getFileName();
             String selectedExtension = view.getFileType();
+            Path selectedPath = view.getSelectedPath();
 
-            if (validateFileExtension(fileName, selectedExtension)) {
+            if (selectedPath == null) {
+                showError("Seleccione un archivo para subir");
+            } else if (validateFileExtension(fileName, selectedExtension)) {
                 boolean uploadSuccessful = documentDAO.insertDocument(
                         view.getOrganizationId(),
                         fileName,
                         selectedExtension,
-                        view.getFileBytes()
+                        selectedPath
                 );
                 handleUploadResult(uploadSuccessful);
             }
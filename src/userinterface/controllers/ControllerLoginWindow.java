@@ -1,9 +1,11 @@
 package userinterface.controllers;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.control.Alert;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import javafx.scene.Scene;
 import logic.logicclasses.Academic;
 import logic.logicclasses.Coordinator;
@@ -12,14 +14,21 @@ import logic.logicclasses.User;
 import logic.services.ExceptionManager;
 import logic.services.LoginService;
 import logic.services.PasswordRecoveryService;
+import dataaccess.CircuitBreaker;
+import dataaccess.ConnectionDataBase;
+import dataaccess.DatabaseExecutor;
+import userinterface.utilities.FxAsyncScope;
 import userinterface.windows.LoginWindow;
 
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class ControllerLoginWindow implements EventHandler<ActionEvent> {
     private static final String SUCCESS_COLOR = "-fx-text-fill: #27ae60;";
     private static final String ERROR_COLOR = "-fx-text-fill: #e74c3c;";
+    private static final String PENDING_COLOR = "-fx-text-fill: #7f8c8d;";
     private static final int WINDOW_WIDTH = 600;
     private static final int WINDOW_HEIGHT = 600;
 
@@ -27,6 +36,7 @@ public class ControllerLoginWindow implements EventHandler<ActionEvent> {
     private final LoginService loginService;
     private final PasswordRecoveryService recoveryService;
     private final Stage primaryStage;
+    private final FxAsyncScope asyncScope;
 
     public ControllerLoginWindow(Stage primaryStage, LoginWindow view,
                                  LoginService loginService,
@@ -35,6 +45,7 @@ public class ControllerLoginWindow implements EventHandler<ActionEvent> {
         this.view = Objects.requireNonNull(view, "La vista de inicio de sesión no puede ser nula");
         this.loginService = Objects.requireNonNull(loginService, "El servicio de inicio de sesión no puede ser nulo");
         this.recoveryService = Objects.requireNonNull(recoveryService, "El servicio de recuperación de contraseña no puede ser nulo");
+        this.asyncScope = FxAsyncScope.forWindow(primaryStage);
 
         setupEventHandlers();
     }
@@ -45,6 +56,44 @@ public class ControllerLoginWindow implements EventHandler<ActionEvent> {
         view.getRecoveryPasswordLink().setOnAction(this::handlePasswordRecovery);
     }
 
+    public void showDatabaseReadiness(CompletableFuture<Boolean> readiness) {
+        if (!readiness.isDone()) {
+            showConnectionStatus("Conectando con la base de datos...", PENDING_COLOR);
+        }
+        readiness.thenAccept(ready -> Platform.runLater(() -> {
+            if (ready) {
+                showConnectionStatus("Base de datos lista", SUCCESS_COLOR);
+            } else {
+                showConnectionStatus("Base de datos no disponible, se reintentará al ingresar", ERROR_COLOR);
+            }
+        }));
+
+        CircuitBreaker circuitBreaker = ConnectionDataBase.getCircuitBreaker();
+        Consumer<CircuitBreaker.State> stateListener = state -> Platform.runLater(() -> showCircuitState(state));
+        circuitBreaker.addStateListener(stateListener);
+        primaryStage.addEventHandler(WindowEvent.WINDOW_HIDDEN,
+                event -> circuitBreaker.removeStateListener(stateListener));
+    }
+
+    private void showCircuitState(CircuitBreaker.State state) {
+        switch (state) {
+            case OPEN:
+                showConnectionStatus("Base de datos fuera de línea", ERROR_COLOR);
+                break;
+            case HALF_OPEN:
+                showConnectionStatus("Reintentando conexión con la base de datos...", PENDING_COLOR);
+                break;
+            default:
+                showConnectionStatus("Base de datos lista", SUCCESS_COLOR);
+                break;
+        }
+    }
+
+    private void showConnectionStatus(String message, String style) {
+        view.getConnectionStatusLabel().setText(message);
+        view.getConnectionStatusLabel().setStyle(style);
+    }
+
     private void handlePasswordRecovery(ActionEvent event) {
         Stage recoveryStage = new Stage();
         recoveryStage.setTitle("Recuperar Contraseña");
@@ -60,16 +109,22 @@ public class ControllerLoginWindow implements EventHandler<ActionEvent> {
             return;
         }
 
-        try {
-            User user = loginService.login(email, password);
-            handleSuccessfulLogin(user);
-        } catch (SQLException e) {
-            String message = ExceptionManager.handleException(e);
-            showAlert(message, ERROR_COLOR);
-        } catch (Exception e) {
-            String message = ExceptionManager.handleException(e);
-            showMessage(message, ERROR_COLOR);
-        }
+        view.getLoginButton().setDisable(true);
+        asyncScope.onFxThread(
+                DatabaseExecutor.submit(() -> loginService.login(email, password)),
+                user -> {
+                    view.getLoginButton().setDisable(false);
+                    handleSuccessfulLogin(user);
+                },
+                e -> {
+                    view.getLoginButton().setDisable(false);
+                    String message = ExceptionManager.handleException(e);
+                    if (e instanceof SQLException) {
+                        showAlert(message, ERROR_COLOR);
+                    } else {
+                        showMessage(message, ERROR_COLOR);
+                    }
+                });
     }
 
     private boolean areFieldsValid(String email, String password) {
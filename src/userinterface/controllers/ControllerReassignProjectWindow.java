@@ -1,11 +1,13 @@
 package userinterface.controllers;
 
+import dataaccess.IdentityMap;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import logic.daos.*;
 import logic.logicclasses.Project;
 import logic.logicclasses.Student;
@@ -20,6 +22,7 @@ public class ControllerReassignProjectWindow implements EventHandler<ActionEvent
     private final ProjectStudentDAO projectStudentDAO;
     private final StudentDAO studentDAO;
     private final ProjectDAO projectDAO;
+    private final IdentityMap identityMap;
     private final Stage stage;
 
     public ControllerReassignProjectWindow(Stage parentStage) {
@@ -27,8 +30,10 @@ public class ControllerReassignProjectWindow implements EventHandler<ActionEvent
         this.projectStudentDAO = new ProjectStudentDAO();
         this.studentDAO = new StudentDAO();
         this.projectDAO = new ProjectDAO();
+        this.identityMap = IdentityMap.create();
 
         this.stage = new Stage();
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> identityMap.close());
         stage.initOwner(parentStage);
         stage.setScene(new Scene(view.getView(), 600, 500));
         stage.setTitle("Reasignar Proyecto");
@@ -67,7 +72,7 @@ public class ControllerReassignProjectWindow implements EventHandler<ActionEvent
     }
 
     private void updateCurrentProjectDisplay(int studentId) {
-        try {
+        try (IdentityMap.Binding ignored = identityMap.bind()) {
             Integer projectId = projectStudentDAO.getProyectByStudent(studentId);
             if (projectId != null) {
                 Project project = projectDAO.getProyectById(projectId);
@@ -101,7 +106,7 @@ public class ControllerReassignProjectWindow implements EventHandler<ActionEvent
             return;
         }
 
-        try {
+        try (IdentityMap.Binding ignored = identityMap.bind()) {
             Integer currentProjectId = projectStudentDAO.getProyectByStudent(selectedStudent.getIdUser());
 
             deleteAssignmentDocumentForStudent(selectedStudent.getIdUser());
@@ -1,5 +1,6 @@
 package userinterface.controllers;
 
+import dataaccess.DatabaseExecutor;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -9,10 +10,12 @@ import javafx.stage.Stage;
 import logic.services.PasswordRecoveryService;
 import logic.exceptions.UserNotFoundException;
 import logic.services.ExceptionManager;
+import userinterface.utilities.FxAsyncScope;
 
 public class ControllerRecoveryPasswordWindow {
     private final PasswordRecoveryService recoveryService;
     private final Stage stage;
+    private final FxAsyncScope asyncScope;
 
     private final TextField emailField = new TextField();
     private final TextField identifierField = new TextField();
@@ -30,6 +33,7 @@ public class ControllerRecoveryPasswordWindow {
     public ControllerRecoveryPasswordWindow(Stage stage, PasswordRecoveryService recoveryService) {
         this.stage = stage;
         this.recoveryService = recoveryService;
+        this.asyncScope = FxAsyncScope.forWindow(stage);
         showEmailAndIdentifierForm();
     }
 
@@ -133,16 +137,23 @@ public class ControllerRecoveryPasswordWindow {
         }
 
         if (canContinue) {
-            try {
-                recoveryService.updatePassword(validatedEmail, newPassword);
-                passwordMessageLabel.setStyle("-fx-text-fill: #388e3c;");
-                passwordMessageLabel.setText("Contraseña actualizada exitosamente.");
-                submitButton.setDisable(true);
-            } catch (Exception ex) {
-                String message = ExceptionManager.handleException(ex);
-                passwordMessageLabel.setStyle("-fx-text-fill: #d32f2f;");
-                passwordMessageLabel.setText(message);
-            }
+            String email = validatedEmail;
+            submitButton.setDisable(true);
+            asyncScope.onFxThread(
+                    DatabaseExecutor.submit(() -> {
+                        recoveryService.updatePassword(email, newPassword);
+                        return null;
+                    }),
+                    ignored -> {
+                        passwordMessageLabel.setStyle("-fx-text-fill: #388e3c;");
+                        passwordMessageLabel.setText("Contraseña actualizada exitosamente.");
+                    },
+                    ex -> {
+                        submitButton.setDisable(false);
+                        String message = ExceptionManager.handleException(ex);
+                        passwordMessageLabel.setStyle("-fx-text-fill: #d32f2f;");
+                        passwordMessageLabel.setText(message);
+                    });
         }
     }
 }
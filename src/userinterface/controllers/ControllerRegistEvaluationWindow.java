@@ -75,9 +75,10 @@ public class ControllerRegistEvaluationWindow {
                 ProjectStudentDAO projectStudentDAO = new ProjectStudentDAO();
                 StudentDAO studentDAO = new StudentDAO();
                 List<Integer> studentIds = projectStudentDAO.getStudentsByProyect(selectedProject.getIdProyect());
+                Map<Integer, Student> studentsById = studentDAO.getStudentsByIds(studentIds);
                 List<Student> students = new ArrayList<>();
                 for (Integer id : studentIds) {
-                    Student s = studentDAO.getStudentById(id);
+                    Student s = studentsById.get(id);
                     if (s != null && s.getIdUser() > 0) {
                         students.add(s);
                     }
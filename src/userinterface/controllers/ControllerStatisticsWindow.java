@@ -4,32 +4,24 @@ import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
-import logic.daos.ProjectDAO;
-import logic.daos.ProjectStudentDAO;
-import logic.daos.StudentDAO;
-import logic.logicclasses.Project;
-import logic.logicclasses.Student;
+import logic.logicclasses.DashboardStatistics;
+import logic.services.StatisticsService;
 import userinterface.windows.StatisticsWindow;
 import logic.services.ExceptionManager;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 
 public class ControllerStatisticsWindow implements EventHandler<ActionEvent> {
     private final StatisticsWindow view;
-    private final StudentDAO studentDAO;
-    private final ProjectStudentDAO projectStudentDAO;
-    private final ProjectDAO projectDAO;
+    private final StatisticsService statisticsService;
     private final Stage stage;
     private final Consumer<Void> refreshCallback;
 
     public ControllerStatisticsWindow(Stage parentStage, Consumer<Void> refreshCallback) {
         this.view = new StatisticsWindow();
-        this.studentDAO = new StudentDAO();
-        this.projectStudentDAO = new ProjectStudentDAO();
-        this.projectDAO = new ProjectDAO();
+        this.statisticsService = new StatisticsService();
         this.refreshCallback = refreshCallback;
 
         this.stage = new Stage();
@@ -38,29 +30,38 @@ public class ControllerStatisticsWindow implements EventHandler<ActionEvent> {
         stage.setTitle("Estadísticas Académicas");
 
         setupEventHandlers();
-        loadStatistics();
+        loadStatistics(false);
     }
 
     private void setupEventHandlers() {
         view.getRefreshButton().setOnAction(this);
+        view.getRebuildButton().setOnAction(this);
         view.getCloseButton().setOnAction(this);
     }
 
     @Override
     public void handle(ActionEvent event) {
         if (event.getSource() == view.getRefreshButton()) {
-            loadStatistics();
+            loadStatistics(true);
             if (refreshCallback != null) {
                 refreshCallback.accept(null);
             }
+        } else if (event.getSource() == view.getRebuildButton()) {
+            rebuildStatistics();
         } else if (event.getSource() == view.getCloseButton()) {
             stage.close();
         }
     }
 
-    private void loadStatistics() {
+    private void loadStatistics(boolean forceRefresh) {
         try {
-            loadProjectStatistics();
+            DashboardStatistics statistics = forceRefresh
+                    ? statisticsService.refreshDashboardStatistics()
+                    : statisticsService.getDashboardStatistics();
+            loadProjectStatistics(statistics);
+            loadHoursStatistics(statistics.students());
+            loadGradeStatistics(statistics);
+            loadPeriodStatistics(statistics);
 
             view.showMessage("Datos actualizados correctamente", false);
 
@@ -70,21 +71,56 @@ public class ControllerStatisticsWindow implements EventHandler<ActionEvent> {
         }
     }
 
-    private void loadProjectStatistics() throws SQLException {
-        List<Student> activeStudents = studentDAO.getSudentsByStatus('A');
-        int withProject = 0;
-        int withoutProject = 0;
-
-        for (Student student : activeStudents) {
-            Integer projectId = projectStudentDAO.getProyectByStudent(student.getIdUser());
-            if (projectId != null && projectId > 0) {
-                withProject++;
-            } else {
-                withoutProject++;
-            }
+    private void rebuildStatistics() {
+        try {
+            statisticsService.rebuildSnapshot();
+            loadStatistics(true);
+        } catch (SQLException e) {
+            String message = ExceptionManager.handleException(e);
+            view.showMessage("Error al reconciliar estadísticas: " + message, true);
         }
+    }
+
+    private void loadProjectStatistics(DashboardStatistics statistics) {
+        DashboardStatistics.StudentSummary students = statistics.students();
+        view.updateProjectsChart(students.withProject(), students.withoutProject());
 
-        view.updateProjectsChart(withProject, withoutProject);
+        Map<String, Integer> studentsPerProject = new LinkedHashMap<>();
+        Map<String, int[]> capacityStats = new LinkedHashMap<>();
+        for (DashboardStatistics.ProjectOccupancy project : statistics.projects()) {
+            studentsPerProject.put(project.title(), project.currentStudents());
+            capacityStats.put(project.title(),
+                    new int[]{project.currentStudents(), project.capacity(), project.pendingRequests()});
+        }
+        view.updateStudentsPerProjectChart(studentsPerProject);
+        view.updateCapacityChart(capacityStats);
+    }
+
+    private void loadHoursStatistics(DashboardStatistics.StudentSummary students) {
+        view.updateHoursChart(students.hoursDistribution(), students.requiredHours(), students.averageHours());
+    }
+
+    private void loadGradeStatistics(DashboardStatistics statistics) {
+        Map<String, Map<String, Integer>> gradesByGroup = new LinkedHashMap<>();
+        for (DashboardStatistics.GroupGrades group : statistics.groups()) {
+            Map<String, Integer> ranges = new LinkedHashMap<>();
+            ranges.put("Sin calificar", group.ungraded());
+            ranges.put("Reprobado (1-5)", group.failing());
+            ranges.put("Suficiente (6-7)", group.sufficient());
+            ranges.put("Bien (8)", group.good());
+            ranges.put("Excelente (9-10)", group.excellent());
+            gradesByGroup.put(group.nrc() + " " + group.groupName(), ranges);
+        }
+        view.updateGradesChart(gradesByGroup);
+    }
+
+    private void loadPeriodStatistics(DashboardStatistics statistics) {
+        Map<String, long[]> periodStats = new LinkedHashMap<>();
+        for (DashboardStatistics.PeriodActivity period : statistics.periods()) {
+            periodStats.put(period.period(),
+                    new long[]{period.reports(), period.evaluations(), period.completedActivities()});
+        }
+        view.updatePeriodsChart(periodStats);
     }
 
     public void show() {
@@ -0,0 +1,116 @@
+package userinterface.utilities;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class FxAsyncScope {
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> closeActions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public static FxAsyncScope forWindow(Window window) {
+        FxAsyncScope scope = new FxAsyncScope();
+        window.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> scope.close());
+        return scope;
+    }
+
+    public static FxAsyncScope forNode(Node node) {
+        FxAsyncScope scope = new FxAsyncScope();
+        Set<Window> observedWindows = ConcurrentHashMap.newKeySet();
+        Consumer<Window> bindWindow = window -> {
+            if (window != null && observedWindows.add(window)) {
+                window.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> scope.close());
+            }
+        };
+        Consumer<Scene> bindScene = scene -> {
+            if (scene != null) {
+                bindWindow.accept(scene.getWindow());
+                scene.windowProperty().addListener((observable, oldWindow, newWindow) -> bindWindow.accept(newWindow));
+            }
+        };
+        bindScene.accept(node.getScene());
+        node.sceneProperty().addListener((observable, oldScene, newScene) -> bindScene.accept(newScene));
+        return scope;
+    }
+
+    public <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        if (closed) {
+            future.cancel(true);
+            return future;
+        }
+        pending.add(future);
+        future.whenComplete((result, error) -> pending.remove(future));
+        return future;
+    }
+
+    public <T> void onFxThread(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Exception> onError) {
+        track(future).whenComplete((result, error) -> {
+            if (closed || future.isCancelled()) {
+                return;
+            }
+            Platform.runLater(() -> {
+                if (closed) {
+                    return;
+                }
+                if (error == null) {
+                    onSuccess.accept(result);
+                } else {
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof Exception && !(cause instanceof CancellationException)) {
+                        onError.accept((Exception) cause);
+                    } else if (!(cause instanceof Exception)) {
+                        onError.accept(new Exception(cause));
+                    }
+                }
+            });
+        });
+    }
+
+    public void onClose(Runnable action) {
+        if (closed) {
+            action.run();
+            return;
+        }
+        closeActions.add(action);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public void close() {
+        closed = true;
+        for (CompletableFuture<?> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        for (Runnable action : closeActions) {
+            closeActions.remove(action);
+            action.run();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
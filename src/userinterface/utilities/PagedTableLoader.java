@@ -0,0 +1,152 @@
+package userinterface.utilities;
+
+import dataaccess.ChangeLog;
+import dataaccess.DatabaseExecutor;
+import dataaccess.Page;
+import dataaccess.PageRequest;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableView;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class PagedTableLoader<T> {
+    private static final double LOAD_THRESHOLD = 0.9;
+
+    private final TableView<T> table;
+    private final PageSource<T> source;
+    private final Consumer<Exception> onError;
+    private final FxAsyncScope asyncScope;
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final AtomicBoolean changeReloadPending = new AtomicBoolean();
+    private PageRequest firstRequest;
+    private PageRequest nextRequest;
+    private CompletableFuture<Page<T>> loading;
+    private ScrollBar verticalBar;
+    private int generation;
+
+    public PagedTableLoader(TableView<T> table, int pageSize, PageSource<T> source, Consumer<Exception> onError) {
+        this.table = Objects.requireNonNull(table, "La tabla no puede ser nula");
+        this.source = Objects.requireNonNull(source, "La fuente de páginas no puede ser nula");
+        this.onError = Objects.requireNonNull(onError, "El manejador de errores no puede ser nulo");
+        this.asyncScope = FxAsyncScope.forNode(table);
+        this.firstRequest = PageRequest.first(pageSize);
+
+        table.skinProperty().addListener((observable, oldSkin, newSkin) -> Platform.runLater(this::attachScrollBar));
+        if (table.getSkin() != null) {
+            attachScrollBar();
+        }
+    }
+
+    public ObservableList<T> getItems() {
+        return items;
+    }
+
+    public void reload() {
+        reload(firstRequest.getFilter());
+    }
+
+    public void reload(String filter) {
+        generation++;
+        if (loading != null) {
+            loading.cancel(true);
+            loading = null;
+        }
+        firstRequest = firstRequest.withFilter(filter);
+        nextRequest = firstRequest;
+        items.clear();
+        table.setItems(items);
+        loadNextPage();
+    }
+
+    public void reloadOnChange(String... entities) {
+        ChangeLog.Subscription subscription = ChangeLog.subscribe(event -> {
+            if (changeReloadPending.compareAndSet(false, true)) {
+                Platform.runLater(this::reloadAfterChange);
+            }
+        }, entities);
+        asyncScope.onClose(subscription::close);
+    }
+
+    public boolean hasMore() {
+        return nextRequest != null;
+    }
+
+    public boolean isLoading() {
+        return loading != null;
+    }
+
+    private void reloadAfterChange() {
+        changeReloadPending.set(false);
+        if (asyncScope.isClosed() || table.getItems() != items) {
+            return;
+        }
+        reload();
+    }
+
+    private void loadNextPage() {
+        if (loading != null || nextRequest == null || asyncScope.isClosed()) {
+            return;
+        }
+
+        PageRequest request = nextRequest;
+        int requestGeneration = generation;
+        loading = DatabaseExecutor.submit(() -> source.fetch(request));
+        asyncScope.onFxThread(loading,
+                page -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    loading = null;
+                    items.addAll(page.items());
+                    nextRequest = page.hasNext() ? request.after(page.nextCursor()) : null;
+                    Platform.runLater(this::loadMoreIfViewportNotFilled);
+                },
+                error -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    loading = null;
+                    onError.accept(error);
+                });
+    }
+
+    private void loadMoreIfViewportNotFilled() {
+        if (verticalBar == null) {
+            attachScrollBar();
+        }
+        if (verticalBar != null && !verticalBar.isVisible()) {
+            loadNextPage();
+        }
+    }
+
+    private void attachScrollBar() {
+        if (verticalBar != null) {
+            return;
+        }
+        for (Node node : table.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar && ((ScrollBar) node).getOrientation() == Orientation.VERTICAL) {
+                verticalBar = (ScrollBar) node;
+                verticalBar.valueProperty().addListener((observable, oldValue, newValue) -> {
+                    double range = verticalBar.getMax() - verticalBar.getMin();
+                    if (range > 0 && (newValue.doubleValue() - verticalBar.getMin()) / range >= LOAD_THRESHOLD) {
+                        loadNextPage();
+                    }
+                });
+                return;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface PageSource<T> {
+        Page<T> fetch(PageRequest request) throws Exception;
+    }
+}
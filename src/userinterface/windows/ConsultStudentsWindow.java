@@ -24,6 +24,7 @@ public class ConsultStudentsWindow {
     private final Button searchButton;
     private final Button clearButton;
     private final Button backButton;
+    private final Button importButton;
 
     public ConsultStudentsWindow() {
         studentTable = new TableView<>();
@@ -65,7 +66,10 @@ public class ConsultStudentsWindow {
         backButton = new Button("Regresar");
         backButton.setStyle("-fx-background-color: #ff4a4a; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 8 16;");
 
-        HBox buttonBox = new HBox(15, backButton);
+        importButton = new Button("Importar CSV");
+        importButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 8 16;");
+
+        HBox buttonBox = new HBox(15, backButton, importButton);
         buttonBox.setPadding(new Insets(15, 0, 0, 0));
 
         view = new VBox(15);
@@ -151,6 +155,10 @@ public class ConsultStudentsWindow {
         return backButton;
     }
 
+    public Button getImportButton() {
+        return importButton;
+    }
+
     public void setStudentData(ObservableList<Student> students) {
         studentTable.setItems(students);
     }
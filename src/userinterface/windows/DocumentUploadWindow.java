@@ -9,8 +9,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class DocumentUploadWindow {
     private final VBox view;
@@ -79,11 +78,8 @@ public class DocumentUploadWindow {
         }
     }
 
-    public byte[] getFileBytes() throws IOException {
-        if (selectedFile != null) {
-            return Files.readAllBytes(selectedFile.toPath());
-        }
-        return new byte[0];
+    public Path getSelectedPath() {
+        return selectedFile != null ? selectedFile.toPath() : null;
     }
 
     public String getFileType() {
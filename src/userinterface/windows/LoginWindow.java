@@ -23,6 +23,7 @@ public class LoginWindow {
     private final Button loginButton;
     private final Button exitButton;
     private final Label messageLabel;
+    private final Label connectionStatusLabel;
     private final Hyperlink recoveryPasswordLink;
 
     public LoginWindow() {
@@ -86,6 +87,11 @@ public class LoginWindow {
         grid.add(messageLabel, 0, 6, 2, 1);
         GridPane.setHalignment(messageLabel, javafx.geometry.HPos.CENTER);
 
+        connectionStatusLabel = new Label();
+        connectionStatusLabel.setStyle("-fx-text-fill: #7f8c8d; -fx-font-size: 11px;");
+        grid.add(connectionStatusLabel, 0, 7, 2, 1);
+        GridPane.setHalignment(connectionStatusLabel, HPos.CENTER);
+
         this.view = grid;
     }
 
@@ -96,6 +102,7 @@ public class LoginWindow {
     public Button getLoginButton() { return loginButton; }
     public Button getExitButton() { return exitButton; }
     public Label getMessageLabel() { return messageLabel; }
+    public Label getConnectionStatusLabel() { return connectionStatusLabel; }
     public Hyperlink getRecoveryPasswordLink() {
         return recoveryPasswordLink;
     }
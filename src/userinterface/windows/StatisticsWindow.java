@@ -10,6 +10,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class StatisticsWindow {
@@ -17,7 +18,11 @@ public class StatisticsWindow {
     private final PieChart projectsChart;
     private final BarChart<String, Number> studentsPerProjectChart;
     private final BarChart<String, Number> capacityChart;
+    private final BarChart<String, Number> hoursChart;
+    private final StackedBarChart<String, Number> gradesChart;
+    private final BarChart<String, Number> periodsChart;
     private final Button refreshButton;
+    private final Button rebuildButton;
     private final Button closeButton;
     private final Label statusLabel;
 
@@ -47,22 +52,56 @@ public class StatisticsWindow {
         capacityChart.setTitle("Capacidad vs Estudiantes Actuales");
         capacityChart.setMinSize(800, 300);
 
+        CategoryAxis hoursXAxis = new CategoryAxis();
+        hoursXAxis.setLabel("Horas reportadas");
+        NumberAxis hoursYAxis = new NumberAxis();
+        hoursYAxis.setLabel("Cantidad de Estudiantes");
+
+        hoursChart = new BarChart<>(hoursXAxis, hoursYAxis);
+        hoursChart.setTitle("Avance de horas");
+        hoursChart.setLegendVisible(false);
+        hoursChart.setMinSize(800, 300);
+
+        CategoryAxis gradesXAxis = new CategoryAxis();
+        gradesXAxis.setLabel("Grupos");
+        NumberAxis gradesYAxis = new NumberAxis();
+        gradesYAxis.setLabel("Cantidad de Estudiantes");
+
+        gradesChart = new StackedBarChart<>(gradesXAxis, gradesYAxis);
+        gradesChart.setTitle("Distribución de calificaciones por grupo");
+        gradesChart.setMinSize(800, 300);
+
+        CategoryAxis periodsXAxis = new CategoryAxis();
+        periodsXAxis.setLabel("Periodos");
+        NumberAxis periodsYAxis = new NumberAxis();
+        periodsYAxis.setLabel("Cantidad");
+
+        periodsChart = new BarChart<>(periodsXAxis, periodsYAxis);
+        periodsChart.setTitle("Actividad por periodo");
+        periodsChart.setMinSize(800, 300);
+
         refreshButton = new Button("Actualizar");
         refreshButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white;");
 
+        rebuildButton = new Button("Reconciliar");
+        rebuildButton.setStyle("-fx-background-color: #FF9800; -fx-text-fill: white;");
+
         closeButton = new Button("Cerrar");
         closeButton.setStyle("-fx-background-color: #f44336; -fx-text-fill: white;");
 
         statusLabel = new Label();
         statusLabel.setTextFill(Color.RED);
 
-        HBox buttonsBox = new HBox(10, refreshButton, closeButton);
+        HBox buttonsBox = new HBox(10, refreshButton, rebuildButton, closeButton);
         buttonsBox.setAlignment(Pos.CENTER);
 
         VBox chartsBox = new VBox(20,
                 projectsChart,
                 studentsPerProjectChart,
                 capacityChart,
+                hoursChart,
+                gradesChart,
+                periodsChart,
                 buttonsBox,
                 statusLabel
         );
@@ -108,18 +147,82 @@ public class StatisticsWindow {
         XYChart.Series<String, Number> capacitySeries = new XYChart.Series<>();
         capacitySeries.setName("Capacidad Total");
 
+        XYChart.Series<String, Number> pendingSeries = new XYChart.Series<>();
+        pendingSeries.setName("Solicitudes Pendientes");
+
         capacityStats.forEach((project, stats) -> {
             currentSeries.getData().add(new XYChart.Data<>(project, stats[0]));
             capacitySeries.getData().add(new XYChart.Data<>(project, stats[1]));
+            if (stats.length > 2) {
+                pendingSeries.getData().add(new XYChart.Data<>(project, stats[2]));
+            }
         });
 
         capacityChart.getData().addAll(currentSeries, capacitySeries);
+        if (!pendingSeries.getData().isEmpty()) {
+            capacityChart.getData().add(pendingSeries);
+        }
+    }
+
+    public void updateHoursChart(Map<String, Integer> hoursDistribution, int requiredHours, double averageHours) {
+        hoursChart.getData().clear();
+        hoursChart.setTitle(String.format("Avance de horas (meta: %d, promedio: %.1f)", requiredHours, averageHours));
+
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName("Estudiantes");
+
+        hoursDistribution.forEach((range, count) -> {
+            series.getData().add(new XYChart.Data<>(range, count));
+        });
+
+        hoursChart.getData().add(series);
+    }
+
+    public void updateGradesChart(Map<String, Map<String, Integer>> gradesByGroup) {
+        gradesChart.getData().clear();
+
+        Map<String, XYChart.Series<String, Number>> seriesByRange = new LinkedHashMap<>();
+        gradesByGroup.forEach((group, ranges) -> ranges.forEach((range, count) -> {
+            XYChart.Series<String, Number> series = seriesByRange.computeIfAbsent(range, name -> {
+                XYChart.Series<String, Number> newSeries = new XYChart.Series<>();
+                newSeries.setName(name);
+                return newSeries;
+            });
+            series.getData().add(new XYChart.Data<>(group, count));
+        }));
+
+        gradesChart.getData().addAll(seriesByRange.values());
+    }
+
+    public void updatePeriodsChart(Map<String, long[]> periodStats) {
+        periodsChart.getData().clear();
+
+        XYChart.Series<String, Number> reportsSeries = new XYChart.Series<>();
+        reportsSeries.setName("Reportes");
+
+        XYChart.Series<String, Number> evaluationsSeries = new XYChart.Series<>();
+        evaluationsSeries.setName("Evaluaciones");
+
+        XYChart.Series<String, Number> activitiesSeries = new XYChart.Series<>();
+        activitiesSeries.setName("Actividades Completadas");
+
+        periodStats.forEach((period, stats) -> {
+            reportsSeries.getData().add(new XYChart.Data<>(period, stats[0]));
+            evaluationsSeries.getData().add(new XYChart.Data<>(period, stats[1]));
+            activitiesSeries.getData().add(new XYChart.Data<>(period, stats[2]));
+        });
+
+        periodsChart.getData().addAll(reportsSeries, evaluationsSeries, activitiesSeries);
     }
 
     public Button getRefreshButton() {
         return refreshButton;
     }
 
+    public Button getRebuildButton() {
+        return rebuildButton;
+    }
+
     public Button getCloseButton() {
         return closeButton;
     }
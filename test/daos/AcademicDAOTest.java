@@ -1,6 +1,7 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCaches;
 import logic.daos.AcademicDAO;
 import logic.daos.UserDAO;
 import logic.enums.AcademicType;
@@ -84,6 +85,7 @@ class AcademicDAOTest {
             statement.execute("DELETE FROM academico WHERE id_usuario > 3");
             statement.execute("DELETE FROM usuario WHERE id_usuario > 3");
         }
+        EntityCaches.invalidateAll();
     }
 
     @Test
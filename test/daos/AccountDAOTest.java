@@ -3,9 +3,11 @@ package daos;
 import dataaccess.ConnectionDataBase;
 import dataaccess.PasswordUtils;
 import logic.daos.AccountDAO;
+import logic.daos.LoginLockoutDAO;
 import logic.daos.UserDAO;
 import logic.exceptions.RepeatedEmailException;
 import logic.logicclasses.Account;
+import logic.logicclasses.LoginProfile;
 import logic.logicclasses.User;
 import org.junit.jupiter.api.*;
 
@@ -244,6 +246,38 @@ class AccountDAOTest {
         assertThrows(IllegalArgumentException.class, () -> accountDAO.verifyCredentials(null, "password"));
     }
 
+    @Test
+    void testGetLoginProfile_Exists() throws SQLException {
+        Account expected = testAccounts.get(0);
+        LoginProfile profile = accountDAO.getLoginProfile(expected.getEmail());
+
+        assertTrue(profile.isFound());
+        assertEquals(expected.getIdUser(), profile.userId());
+        assertEquals(expected.getPassword(), profile.passwordHash());
+        assertNull(profile.user(), "Un usuario sin rol no debería tener perfil asociado");
+    }
+
+    @Test
+    void testGetLoginProfile_NotExists() throws SQLException {
+        assertFalse(accountDAO.getLoginProfile("nonexistent@test.com").isFound());
+    }
+
+    @Test
+    void testGetLoginProfile_Locked() throws SQLException {
+        Account expected = testAccounts.get(0);
+        LoginLockoutDAO lockoutDAO = new LoginLockoutDAO();
+        String key = LoginLockoutDAO.EMAIL_PREFIX + expected.getEmail().toLowerCase();
+        lockoutDAO.saveLockout(key, 2, 120);
+
+        try {
+            LoginProfile profile = accountDAO.getLoginProfile(expected.getEmail());
+            assertTrue(profile.isLocked(), "El perfil debería reportar el bloqueo vigente");
+            assertEquals(2, profile.lockouts());
+        } finally {
+            lockoutDAO.clearLockout(key);
+        }
+    }
+
     @Test
     void testGetAccountByUserId_Exists() throws SQLException {
         Account expected = testAccounts.get(0);
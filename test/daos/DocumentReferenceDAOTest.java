@@ -0,0 +1,116 @@
+package daos;
+
+import dataaccess.ConnectionDataBase;
+import dataaccess.DocumentStore;
+import dataaccess.DocumentStore.StagedDocument;
+import dataaccess.TransactionScope;
+import logic.daos.DocumentReferenceDAO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentReferenceDAOTest {
+    private static final byte[] CONTENT = "oficio de asignación".getBytes(StandardCharsets.UTF_8);
+
+    private static DocumentReferenceDAO referenceDAO;
+
+    @TempDir
+    Path tempDir;
+
+    private DocumentStore store;
+
+    @BeforeAll
+    static void setUpAll() throws SQLException {
+        referenceDAO = new DocumentReferenceDAO();
+        referenceDAO.ensureSchema();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("DELETE FROM almacen_documentos");
+            statement.execute("DELETE FROM almacen_registro");
+        }
+        store = new DocumentStore(tempDir.resolve("almacen"));
+    }
+
+    @Test
+    void testAcquireCountsReferencesAndPublishesOnce() throws SQLException, IOException {
+        String hash;
+        try (StagedDocument first = store.stage(CONTENT, "PDF");
+             StagedDocument second = store.stage(CONTENT, "PDF")) {
+            assertTrue(referenceDAO.acquire(store, first), "La primera referencia debería guardar el documento");
+            assertFalse(referenceDAO.acquire(store, second), "Una referencia repetida no debería guardarlo de nuevo");
+            hash = first.hash();
+        }
+
+        assertEquals(2, referenceDAO.getReferenceCount(hash), "Deberían contarse ambas referencias");
+        assertArrayEquals(CONTENT, store.readAllBytes(hash), "El documento debería poder leerse");
+    }
+
+    @Test
+    void testReleaseDeletesUnreferencedDocument() throws SQLException, IOException {
+        String hash;
+        try (StagedDocument staged = store.stage(CONTENT, "PDF")) {
+            referenceDAO.acquire(store, staged);
+            hash = staged.hash();
+        }
+
+        assertEquals(1, referenceDAO.release(store, List.of(hash)), "El documento debería quedar sin referencias");
+        assertEquals(0, referenceDAO.getReferenceCount(hash), "No deberían quedar referencias");
+        assertFalse(store.contains(hash), "El documento sin referencias debería eliminarse del almacén");
+    }
+
+    @Test
+    void testReleaseKeepsDocumentAcquiredAgainBeforeCommit() throws SQLException, IOException {
+        String hash;
+        try (StagedDocument staged = store.stage(CONTENT, "PDF")) {
+            referenceDAO.acquire(store, staged);
+            hash = staged.hash();
+        }
+
+        try (TransactionScope transaction = TransactionScope.begin();
+             StagedDocument staged = store.stage(CONTENT, "PDF")) {
+            referenceDAO.release(store, List.of(hash));
+            assertTrue(referenceDAO.acquire(store, staged), "La fila recreada debería volver a publicar el documento");
+            transaction.commit();
+        }
+
+        assertEquals(1, referenceDAO.getReferenceCount(hash), "La nueva referencia debería conservarse");
+        assertTrue(store.contains(hash), "El documento referenciado de nuevo no debería eliminarse");
+    }
+
+    @Test
+    void testAcquireRepublishesWhenRowIsCreated() throws SQLException, IOException {
+        String hash;
+        try (StagedDocument orphan = store.stage(CONTENT, "PDF")) {
+            store.publish(orphan);
+            hash = orphan.hash();
+        }
+
+        try (StagedDocument staged = store.stage(CONTENT, "PDF")) {
+            assertTrue(referenceDAO.acquire(store, staged), "Una fila nueva debería publicar aunque exista el archivo");
+        }
+        assertArrayEquals(CONTENT, store.readAllBytes(hash), "El documento debería seguir disponible");
+    }
+
+    @Test
+    void testVerifyStoreRejectsUnregisteredDirectory() throws SQLException, IOException {
+        referenceDAO.verifyStore(store);
+        DocumentStore other = new DocumentStore(tempDir.resolve("otro"));
+        other.createIdentity();
+
+        assertThrows(SQLException.class, () -> referenceDAO.verifyStore(other),
+                "Un directorio distinto al registrado debería rechazarse");
+        assertThrows(SQLException.class, () -> referenceDAO.verifyStore(null),
+                "Un almacén no configurado debería rechazarse");
+    }
+}
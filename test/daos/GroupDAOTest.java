@@ -1,6 +1,7 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCaches;
 import logic.daos.GroupDAO;
 import logic.daos.StudentDAO;
 import logic.daos.UserDAO;
@@ -117,6 +118,7 @@ class GroupDAOTest {
 
     @BeforeEach
     void setUp() throws SQLException {
+        EntityCaches.invalidateAll();
         try (var statement = testConnection.createStatement()) {
             statement.execute("DELETE FROM grupo_estudiante");
             statement.execute("DELETE FROM grupo");
@@ -1,6 +1,7 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCaches;
 import logic.daos.LinkedOrganizationDAO;
 import logic.logicclasses.LinkedOrganization;
 import org.junit.jupiter.api.*;
@@ -69,6 +70,7 @@ class LinkedOrganizationDAOTest {
 
     @BeforeEach
     void setUp() throws SQLException {
+        EntityCaches.invalidateAll();
         try (Statement statement = testConnection.createStatement()) {
             statement.execute("DELETE FROM organizacion_vinculada");
             statement.execute("ALTER TABLE organizacion_vinculada AUTO_INCREMENT = 1");
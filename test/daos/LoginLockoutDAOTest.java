@@ -0,0 +1,67 @@
+package daos;
+
+import dataaccess.ConnectionDataBase;
+import logic.daos.LoginLockoutDAO;
+import org.junit.jupiter.api.*;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginLockoutDAOTest {
+    private static final String EMAIL_KEY = LoginLockoutDAO.EMAIL_PREFIX + "prueba@test.com";
+    private static LoginLockoutDAO lockoutDAO;
+
+    @BeforeAll
+    static void setUpAll() throws SQLException {
+        lockoutDAO = new LoginLockoutDAO();
+        lockoutDAO.ensureTable();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bloqueo_acceso");
+        }
+    }
+
+    @Test
+    void testSaveLockout_IsActive() throws SQLException {
+        lockoutDAO.saveLockout(EMAIL_KEY, 1, 60);
+
+        LoginLockoutDAO.Lockout lockout = lockoutDAO.getLockout(EMAIL_KEY);
+        assertNotNull(lockout, "El bloqueo debería guardarse");
+        assertTrue(lockout.isActive(), "El bloqueo debería estar vigente");
+        assertEquals(1, lockout.lockouts(), "Debería registrarse un bloqueo");
+    }
+
+    @Test
+    void testSaveLockout_KeepsLongestLockout() throws SQLException {
+        lockoutDAO.saveLockout(EMAIL_KEY, 3, 600);
+        lockoutDAO.saveLockout(EMAIL_KEY, 1, 30);
+
+        LoginLockoutDAO.Lockout lockout = lockoutDAO.getLockout(EMAIL_KEY);
+        assertEquals(3, lockout.lockouts(), "No debería reducirse la cantidad de bloqueos");
+        assertTrue(lockout.remainingSeconds() > 30, "No debería acortarse un bloqueo vigente");
+    }
+
+    @Test
+    void testGetActiveLockouts_ExcludesExpired() throws SQLException {
+        lockoutDAO.saveLockout(EMAIL_KEY, 1, 60);
+        lockoutDAO.saveLockout(LoginLockoutDAO.SOURCE_PREFIX + "equipo", 1, 0);
+
+        Map<String, LoginLockoutDAO.Lockout> active = lockoutDAO.getActiveLockouts();
+        assertEquals(1, active.size(), "Solo deberían obtenerse los bloqueos vigentes");
+        assertTrue(active.containsKey(EMAIL_KEY));
+    }
+
+    @Test
+    void testClearLockout() throws SQLException {
+        lockoutDAO.saveLockout(EMAIL_KEY, 2, 60);
+
+        assertTrue(lockoutDAO.clearLockout(EMAIL_KEY), "El bloqueo debería eliminarse");
+        assertNull(lockoutDAO.getLockout(EMAIL_KEY), "No debería quedar registro del bloqueo");
+    }
+}
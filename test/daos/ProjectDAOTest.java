@@ -1,6 +1,7 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCaches;
 import logic.daos.ProjectDAO;
 import logic.logicclasses.Project;
 import org.junit.jupiter.api.*;
@@ -74,6 +75,7 @@ class ProjectDAOTest {
 
     @BeforeEach
     void setUp() throws SQLException {
+        EntityCaches.invalidateAll();
         try (Statement statement = testConnection.createStatement()) {
             statement.execute("DELETE FROM proyecto");
             statement.execute("ALTER TABLE proyecto AUTO_INCREMENT = 1");
@@ -1,6 +1,7 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.EntityCaches;
 import logic.daos.LinkedOrganizationDAO;
 import logic.daos.RepresentativeDAO;
 import logic.logicclasses.LinkedOrganization;
@@ -81,6 +82,7 @@ class RepresentativeDAOTest {
 
     @BeforeEach
     void setUp() throws SQLException {
+        EntityCaches.invalidateAll();
         try (Statement statement = testConnection.createStatement()) {
             statement.execute("DELETE FROM representante");
             statement.execute("ALTER TABLE representante AUTO_INCREMENT = 1");
@@ -0,0 +1,88 @@
+package daos;
+
+import dataaccess.ConnectionDataBase;
+import logic.daos.StatisticsDAO;
+import logic.logicclasses.DashboardStatistics;
+import org.junit.jupiter.api.*;
+
+import java.sql.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsDAOTest {
+    private static StatisticsDAO statisticsDAO;
+
+    @BeforeAll
+    static void setUpAll() {
+        statisticsDAO = new StatisticsDAO();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("TRUNCATE TABLE grupo_estudiante");
+            statement.execute("TRUNCATE TABLE estudiante");
+            statement.execute("TRUNCATE TABLE solicitud_proyecto");
+            statement.execute("TRUNCATE TABLE proyecto_estudiante");
+            statement.execute("TRUNCATE TABLE proyecto");
+            statement.execute("TRUNCATE TABLE reporte");
+            statement.execute("TRUNCATE TABLE grupo");
+            statement.execute("TRUNCATE TABLE usuario");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+    }
+
+    @Test
+    void testStudentSummaryWithoutStudents() throws SQLException {
+        DashboardStatistics.StudentSummary summary = statisticsDAO.getStudentSummary(420);
+
+        assertEquals(0, summary.activeStudents(), "No debería haber estudiantes activos");
+        assertEquals(0, summary.withoutProject(), "No debería haber estudiantes sin proyecto");
+        assertEquals(5, summary.hoursDistribution().size(), "Deberían existir cinco rangos de horas");
+        assertTrue(summary.hoursDistribution().containsKey("420+"), "Debería existir el rango de horas completadas");
+    }
+
+    @Test
+    void testStudentSummaryInvalidHours() {
+        assertThrows(IllegalArgumentException.class, () -> statisticsDAO.getStudentSummary(0),
+                "Debería rechazar horas requeridas no positivas");
+    }
+
+    @Test
+    void testProjectOccupancyCountsPendingRequests() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("INSERT INTO proyecto (id_proyecto, titulo, descripcion, fecha_inicial, fecha_terminal, estado, cupo, estudiantes_actuales) " +
+                    "VALUES (1, 'Proyecto Activo', 'Descripción', NOW(), NOW(), 'A', 5, 2)");
+            statement.execute("INSERT INTO proyecto (id_proyecto, titulo, descripcion, fecha_inicial, fecha_terminal, estado, cupo, estudiantes_actuales) " +
+                    "VALUES (2, 'Proyecto Inactivo', 'Descripción', NOW(), NOW(), 'I', 5, 0)");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("INSERT INTO solicitud_proyecto (id_proyecto, id_estudiante) VALUES (1, 10), (1, 11)");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+
+        List<DashboardStatistics.ProjectOccupancy> projects = statisticsDAO.getProjectOccupancy();
+
+        assertEquals(1, projects.size(), "Solo deberían incluirse proyectos activos");
+        DashboardStatistics.ProjectOccupancy project = projects.get(0);
+        assertEquals(2, project.currentStudents(), "Debería reportar los estudiantes actuales");
+        assertEquals(3, project.availableSpots(), "Debería calcular los lugares disponibles");
+        assertEquals(2, project.pendingRequests(), "Debería contar las solicitudes pendientes");
+    }
+
+    @Test
+    void testGradeDistributionIncludesEmptyGroups() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("INSERT INTO grupo (nrc, nombre) VALUES (12345, 'Grupo Prueba')");
+        }
+
+        List<DashboardStatistics.GroupGrades> groups = statisticsDAO.getGradeDistributionByGroup();
+
+        assertEquals(1, groups.size(), "Debería incluirse el grupo sin estudiantes");
+        assertEquals(0, groups.get(0).students(), "El grupo no debería tener estudiantes");
+    }
+}
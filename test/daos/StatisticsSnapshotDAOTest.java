@@ -0,0 +1,103 @@
+package daos;
+
+import dataaccess.ConnectionDataBase;
+import logic.daos.ActivityTrackingDAO;
+import logic.daos.StatisticsSnapshotDAO;
+import logic.enums.ActivityStatus;
+import org.junit.jupiter.api.*;
+
+import java.sql.*;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsSnapshotDAOTest {
+    private static StatisticsSnapshotDAO snapshotDAO;
+
+    @BeforeAll
+    static void setUpAll() {
+        snapshotDAO = new StatisticsSnapshotDAO();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("TRUNCATE TABLE grupo_estudiante");
+            statement.execute("TRUNCATE TABLE proyecto_estudiante");
+            statement.execute("TRUNCATE TABLE reporte");
+            statement.execute("TRUNCATE TABLE evaluacion");
+            statement.execute("TRUNCATE TABLE presentacion");
+            statement.execute("TRUNCATE TABLE seguimiento_actividad");
+            statement.execute("INSERT INTO grupo_estudiante (nrc, id_usuario) VALUES (11111, 7)");
+            statement.execute("INSERT INTO reporte (tipo, horas, fecha_reporte, metodologia, descripcion, id_estudiante) " +
+                    "VALUES ('Mensual', 20, '2025-03-15', 'Metodología', 'Descripción', 7)");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+        snapshotDAO.rebuild();
+    }
+
+    @Test
+    void testRebuildAggregatesExistingRows() throws SQLException {
+        Map<String, Long> global = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_GLOBAL).get("todos");
+
+        assertTrue(snapshotDAO.isReady(), "El resumen debería estar listo después de reconstruirlo");
+        assertEquals(1L, global.get(StatisticsSnapshotDAO.METRIC_REPORTS), "Debería contarse el reporte existente");
+        assertEquals(20L, global.get(StatisticsSnapshotDAO.METRIC_REPORTED_HOURS), "Deberían sumarse las horas existentes");
+        assertTrue(snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_PERIOD).containsKey("2025-1"),
+                "El reporte de marzo debería asignarse al periodo febrero-julio");
+    }
+
+    @Test
+    void testRecordReportUpdatesEveryScope() throws SQLException {
+        snapshotDAO.recordReport(7, 15, Timestamp.valueOf("2025-09-01 10:00:00"));
+
+        Map<String, Long> group = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_GROUP).get("11111");
+        Map<String, Long> student = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_STUDENT).get("7");
+        assertEquals(2L, group.get(StatisticsSnapshotDAO.METRIC_REPORTS), "El grupo debería acumular el nuevo reporte");
+        assertEquals(35L, student.get(StatisticsSnapshotDAO.METRIC_REPORTED_HOURS), "El estudiante debería acumular las horas");
+        assertTrue(snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_PERIOD).containsKey("2025-2"),
+                "El reporte de septiembre debería asignarse al periodo agosto-enero");
+    }
+
+    @Test
+    void testIncrementsSkipInvalidatedSnapshot() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM estadisticas_resumen WHERE ambito = 'control'");
+        }
+
+        snapshotDAO.recordReport(7, 15, Timestamp.valueOf("2025-09-01 10:00:00"));
+
+        Map<String, Long> student = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_STUDENT).get("7");
+        assertEquals(20L, student.get(StatisticsSnapshotDAO.METRIC_REPORTED_HOURS),
+                "Un resumen invalidado no debería seguir incrementándose");
+    }
+
+    @Test
+    void testActivityStatusChangesUpdateCompletedCounter() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("INSERT INTO seguimiento_actividad (id_estudiante, id_actividad, completada, estado) " +
+                    "VALUES (7, 1, FALSE, 'Pendiente')");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+        ActivityTrackingDAO trackingDAO = new ActivityTrackingDAO();
+
+        trackingDAO.updateActivityStatus(7, 1, ActivityStatus.Completada);
+        trackingDAO.updateActivityStatus(7, 1, ActivityStatus.Completada);
+        Map<String, Long> student = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_STUDENT).get("7");
+        assertEquals(1L, student.get(StatisticsSnapshotDAO.METRIC_COMPLETED_ACTIVITIES),
+                "Completar de nuevo una actividad completada no debería contarse dos veces");
+        assertTrue(snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_PERIOD).values().stream()
+                        .anyMatch(period -> period.getOrDefault(StatisticsSnapshotDAO.METRIC_COMPLETED_ACTIVITIES, 0L) == 1L),
+                "La actividad completada debería asignarse a un periodo");
+
+        trackingDAO.updateActivityStatus(7, 1, ActivityStatus.En_progreso);
+        student = snapshotDAO.getCounters(StatisticsSnapshotDAO.SCOPE_STUDENT).get("7");
+        assertEquals(0L, student.get(StatisticsSnapshotDAO.METRIC_COMPLETED_ACTIVITIES),
+                "Reabrir la actividad debería descontarla");
+    }
+}
@@ -1,6 +1,8 @@
 package daos;
 
 import dataaccess.ConnectionDataBase;
+import dataaccess.Page;
+import dataaccess.PageRequest;
 import logic.daos.StudentDAO;
 import logic.logicclasses.Student;
 import logic.exceptions.RepeatedEnrollmentException;
@@ -397,4 +399,40 @@ class StudentDAOTest {
         assertEquals(0, studentDAO.countStudents());
         setUp();
     }
+
+    @Test
+    void testGetStudentsPage_WalksAllStudentsInOrder() throws SQLException {
+        List<Integer> expectedIds = new ArrayList<>();
+        for (Student student : studentDAO.getAllStudents()) {
+            expectedIds.add(student.getIdUser());
+        }
+        expectedIds.sort(Integer::compare);
+
+        List<Integer> pagedIds = new ArrayList<>();
+        PageRequest request = PageRequest.first(2);
+        Page<Student> page;
+        do {
+            page = studentDAO.getStudentsPage(request);
+            assertTrue(page.items().size() <= 2, "Cada página debería respetar el tamaño solicitado");
+            for (Student student : page.items()) {
+                pagedIds.add(student.getIdUser());
+            }
+            request = request.after(page.nextCursor());
+        } while (page.hasNext());
+
+        assertEquals(expectedIds, pagedIds, "La paginación debería recorrer todos los estudiantes sin repetir");
+    }
+
+    @Test
+    void testGetStudentsPage_SortedByEnrollmentWithFilter() throws SQLException {
+        Page<Student> page = studentDAO.getStudentsPage(PageRequest.first(50)
+                .withFilter("S")
+                .sortedBy("matricula", false));
+
+        for (int i = 1; i < page.items().size(); i++) {
+            assertTrue(page.items().get(i - 1).getEnrollment()
+                            .compareTo(page.items().get(i).getEnrollment()) <= 0,
+                    "Los estudiantes deberían venir ordenados por matrícula");
+        }
+    }
 }
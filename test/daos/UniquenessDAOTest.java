@@ -0,0 +1,84 @@
+package daos;
+
+import dataaccess.ConnectionDataBase;
+import logic.daos.UniquenessDAO;
+import logic.enums.UniqueField;
+import logic.logicclasses.UniquenessResult;
+import org.junit.jupiter.api.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniquenessDAOTest {
+    private static UniquenessDAO uniquenessDAO;
+
+    @BeforeAll
+    static void setUpAll() {
+        uniquenessDAO = new UniquenessDAO();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (var connection = ConnectionDataBase.getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+            statement.execute("TRUNCATE TABLE estudiante");
+            statement.execute("TRUNCATE TABLE cuenta");
+            statement.execute("TRUNCATE TABLE usuario");
+            statement.execute("INSERT INTO usuario (id_usuario, nombre_completo, telefono, estado) " +
+                    "VALUES (1, 'Estudiante Prueba', '5551234567', 'A')");
+            statement.execute("INSERT INTO estudiante (id_usuario, matricula, calificacion) VALUES (1, 'S12345678', 0)");
+            statement.execute("INSERT INTO cuenta (id_usuario, correo_e, contraseña) VALUES (1, 'prueba@test.com', 'hash')");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        }
+    }
+
+    @Test
+    void testFindConflicts_ReportsEveryConflictingField() throws SQLException {
+        Map<UniqueField, String> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.CELL_PHONE, "5551234567");
+        candidates.put(UniqueField.ENROLLMENT, "S87654321");
+        candidates.put(UniqueField.EMAIL, "prueba@test.com");
+
+        UniquenessResult result = uniquenessDAO.findConflicts(candidates);
+
+        assertTrue(result.hasConflicts());
+        assertTrue(result.isConflict(UniqueField.CELL_PHONE), "El teléfono debería estar en conflicto");
+        assertTrue(result.isConflict(UniqueField.EMAIL), "El correo debería estar en conflicto");
+        assertFalse(result.isConflict(UniqueField.ENROLLMENT), "La matrícula nueva no debería estar en conflicto");
+    }
+
+    @Test
+    void testFindConflicts_NoCandidates() throws SQLException {
+        assertFalse(uniquenessDAO.findConflicts(new EnumMap<>(UniqueField.class)).hasConflicts());
+    }
+
+    @Test
+    void testFindExisting_LargeCandidateSet() throws SQLException {
+        List<String> phones = new ArrayList<>();
+        List<String> enrollments = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            phones.add(String.format("44400%05d", i));
+            enrollments.add(String.format("S%08d", i));
+        }
+        phones.add("5551234567");
+        enrollments.add("S12345678");
+
+        Map<UniqueField, List<String>> candidates = new EnumMap<>(UniqueField.class);
+        candidates.put(UniqueField.CELL_PHONE, phones);
+        candidates.put(UniqueField.ENROLLMENT, enrollments);
+        candidates.put(UniqueField.EMAIL, List.of());
+
+        Map<UniqueField, Set<String>> existing = uniquenessDAO.findExisting(candidates);
+
+        assertEquals(Set.of("5551234567"), existing.get(UniqueField.CELL_PHONE));
+        assertEquals(Set.of("S12345678"), existing.get(UniqueField.ENROLLMENT));
+        assertTrue(existing.get(UniqueField.EMAIL).isEmpty(), "Sin candidatos no debería haber coincidencias");
+    }
+}
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.*;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -258,4 +260,44 @@ class UserDAOTest {
 
         assertEquals(initialCount + 1, userDAO.countUsers());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAddUsers_AssignsGeneratedIds() throws SQLException {
+        List<User> batch = List.of(
+                new User(0, "Lote Uno", "5557000001", "", 'A'),
+                new User(0, "Lote Dos", "5557000002", "", 'A'),
+                new User(0, "Lote Tres", "5557000003", "", 'A'));
+
+        assertEquals(3, userDAO.addUsers(batch));
+        for (User user : batch) {
+            assertTrue(user.getIdUser() > 0, "Cada usuario del lote debería recibir su ID");
+            assertEquals(user.getFullName(), userDAO.getUserById(user.getIdUser()).getFullName());
+        }
+    }
+
+    @Test
+    void testAddUsers_RejectsExistingPhone() {
+        List<User> batch = List.of(
+                new User(0, "Lote Nuevo", "5557000004", "", 'A'),
+                new User(0, "Lote Repetido", "5550000010", "", 'A'));
+
+        assertThrows(RepeatedCellPhoneException.class, () -> userDAO.addUsers(batch));
+    }
+
+    @Test
+    void testFindExistingCellPhones() throws SQLException {
+        assertEquals(Set.of("5550000010", "5550000030"),
+                userDAO.findExistingCellPhones(List.of("5550000010", "5559999999", "5550000030")));
+    }
+
+    @Test
+    void testStreamAllUsers_MatchesList() throws SQLException {
+        List<User> listed = userDAO.getAllUsers();
+
+        try (Stream<User> stream = userDAO.streamAllUsers()) {
+            List<Integer> streamedIds = stream.map(User::getIdUser).toList();
+            assertEquals(listed.stream().map(User::getIdUser).toList(), streamedIds,
+                    "El flujo debería devolver los mismos usuarios que la lista");
+        }
+    }
+}
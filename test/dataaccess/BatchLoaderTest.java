@@ -0,0 +1,81 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+    private static final Executor MANUAL_DISPATCH = task -> { };
+
+    @Test
+    void testLoadsAreCoalescedIntoSingleBatch() throws SQLException {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        BatchLoader<Integer, String> loader = new BatchLoader<>("prueba", keys -> toNames(batches, keys), 500, MANUAL_DISPATCH);
+
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> second = loader.load(2);
+        CompletableFuture<String> repeated = loader.load(1);
+        loader.dispatch();
+
+        assertEquals("entidad-1", first.join(), "La primera clave debería resolverse");
+        assertEquals("entidad-2", second.join(), "La segunda clave debería resolverse");
+        assertSame(first, repeated, "Una clave repetida debería compartir el mismo resultado");
+        assertEquals(1, batches.size(), "Las claves deberían resolverse en una sola consulta");
+    }
+
+    @Test
+    void testLargeKeySetsAreChunked() throws SQLException {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        BatchLoader<Integer, String> loader = new BatchLoader<>("prueba", keys -> toNames(batches, keys), 2, MANUAL_DISPATCH);
+
+        Map<Integer, String> values = loader.getAll(List.of(1, 2, 3, 4, 5));
+
+        assertEquals(5, values.size(), "Deberían resolverse todas las claves");
+        assertEquals(3, batches.size(), "Las claves deberían dividirse según el tamaño de lote");
+    }
+
+    @Test
+    void testExplicitGetDoesNotScheduleTick() throws SQLException {
+        List<Runnable> ticks = new CopyOnWriteArrayList<>();
+        BatchLoader<Integer, String> loader = new BatchLoader<>("prueba", keys -> toNames(new CopyOnWriteArrayList<>(), keys),
+                500, ticks::add);
+
+        loader.getAll(List.of(1, 2));
+        loader.get(3);
+
+        assertTrue(ticks.isEmpty(), "Una carga resuelta explícitamente no debería programar otro despacho");
+    }
+
+    @Test
+    void testMissingKeysResolveToNull() throws SQLException {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("prueba", keys -> new HashMap<>());
+
+        assertNull(loader.get(9), "Una clave sin resultado debería resolverse como nula");
+    }
+
+    @Test
+    void testBatchFailureIsPropagated() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>("prueba", keys -> {
+            throw new SQLException("falla simulada");
+        });
+
+        assertThrows(SQLException.class, () -> loader.get(1), "El error de la consulta debería propagarse");
+    }
+
+    private static Map<Integer, String> toNames(List<List<Integer>> batches, List<Integer> keys) {
+        batches.add(List.copyOf(keys));
+        Map<Integer, String> names = new HashMap<>();
+        for (Integer key : keys) {
+            names.put(key, "entidad-" + key);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,75 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlobStreamsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCopyToFileWritesWholeStream() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        Path target = tempDir.resolve("convenio.pdf");
+
+        long written = BlobStreams.copyToFile(new ByteArrayInputStream(content), target);
+
+        assertEquals(content.length, written, "Deberían escribirse todos los bytes del flujo");
+        assertArrayEquals(content, Files.readAllBytes(target), "El archivo debería contener el flujo completo");
+        assertFalse(Files.exists(tempDir.resolve("convenio.pdf.part")), "No debería quedar el archivo temporal");
+    }
+
+    @Test
+    void testCopyToFileReplacesExistingFile() throws IOException {
+        Path target = tempDir.resolve("oficio.pdf");
+        Files.write(target, new byte[1024]);
+
+        long written = BlobStreams.copyToFile(new ByteArrayInputStream(new byte[] {1, 2, 3}), target);
+
+        assertEquals(3, written, "Deberían escribirse solo los bytes nuevos");
+        assertEquals(3, Files.size(target), "El archivo anterior debería reemplazarse por completo");
+    }
+
+    @Test
+    void testCopyToFileKeepsTargetWhenStreamFails() throws IOException {
+        Path target = tempDir.resolve("existente.pdf");
+        Files.write(target, new byte[] {9, 9});
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Conexión interrumpida");
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Conexión interrumpida");
+            }
+        };
+
+        assertThrows(IOException.class, () -> BlobStreams.copyToFile(failing, target),
+                "Un error en el flujo debería propagarse");
+        assertArrayEquals(new byte[] {9, 9}, Files.readAllBytes(target), "El archivo existente no debería modificarse");
+        assertFalse(Files.exists(tempDir.resolve("existente.pdf.part")), "El archivo temporal debería eliminarse");
+    }
+
+    @Test
+    void testOpenFileStreamsContent() throws IOException {
+        Path source = tempDir.resolve("origen.png");
+        Files.write(source, new byte[] {4, 5, 6});
+
+        try (InputStream input = BlobStreams.openFile(source)) {
+            assertArrayEquals(new byte[] {4, 5, 6}, input.readAllBytes(), "Debería leerse el contenido del archivo");
+        }
+    }
+}
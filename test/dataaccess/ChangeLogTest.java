@@ -0,0 +1,48 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    @Test
+    void testRecordChangeNotifiesLocalSubscribers() {
+        List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+        try (ChangeLog.Subscription ignored = ChangeLog.subscribe(received::add, "entidad_prueba")) {
+            ChangeLog.recordChange("entidad_prueba", 7);
+        }
+
+        assertEquals(1, received.size(), "El suscriptor debería recibir un evento");
+        ChangeEvent event = received.get(0);
+        assertTrue(event.local(), "El evento debería marcarse como local");
+        assertEquals(Integer.valueOf(7), event.entityIdAsInt(), "El evento debería conservar el id de la entidad");
+    }
+
+    @Test
+    void testClosedSubscriptionStopsNotifications() {
+        List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+        ChangeLog.Subscription subscription = ChangeLog.subscribe(received::add, "entidad_prueba");
+        subscription.close();
+
+        ChangeLog.recordChange("entidad_prueba", null);
+
+        assertTrue(received.isEmpty(), "No deberían llegar eventos después de cancelar la suscripción");
+    }
+
+    @Test
+    void testChangeInsideTransactionIsPublishedAfterCompletion() throws Exception {
+        List<ChangeEvent> received = new CopyOnWriteArrayList<>();
+        try (ChangeLog.Subscription ignored = ChangeLog.subscribe(received::add, "entidad_prueba")) {
+            try (TransactionScope transaction = TransactionScope.begin()) {
+                ChangeLog.recordChange("entidad_prueba", 3);
+                assertTrue(received.isEmpty(), "El evento no debería publicarse antes de terminar la transacción");
+                transaction.commit();
+            }
+            assertEquals(1, received.size(), "El evento debería publicarse al terminar la transacción");
+        }
+    }
+}
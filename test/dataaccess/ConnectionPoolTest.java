@@ -0,0 +1,74 @@
+package dataaccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ConnectionPool(
+                ConfigLoader.get("db.url"),
+                ConfigLoader.get("db.user"),
+                ConfigLoader.get("db.password"),
+                0, 2, 60_000, 500, 2, 0, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testConnectionIsReusedAfterClose() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            assertTrue(connection.isValid(2), "La conexión debería ser válida");
+        }
+        try (Connection connection = pool.getConnection()) {
+            assertTrue(connection.isValid(2), "La conexión reutilizada debería ser válida");
+        }
+
+        assertEquals(1, pool.getTotalConnections(), "Debería reutilizarse la misma conexión física");
+        assertEquals(1, pool.getIdleConnections(), "La conexión debería volver al pool");
+    }
+
+    @Test
+    void testBorrowTimesOutWhenPoolIsExhausted() throws SQLException {
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+
+        assertThrows(SQLTimeoutException.class, () -> pool.getConnection(),
+                "Debería agotarse el tiempo de espera con el pool lleno");
+
+        first.close();
+        second.close();
+        assertEquals(0, pool.getActiveConnections(), "No deberían quedar conexiones prestadas");
+    }
+
+    @Test
+    void testClosedConnectionCannotBeUsed() throws SQLException {
+        Connection connection = pool.getConnection();
+        connection.close();
+
+        assertTrue(connection.isClosed(), "La conexión devuelta debería reportarse cerrada");
+        assertThrows(SQLException.class, connection::createStatement,
+                "No debería poder usarse una conexión devuelta");
+    }
+
+    @Test
+    void testAutoCommitIsRestoredOnReturn() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+        try (Connection connection = pool.getConnection()) {
+            assertTrue(connection.getAutoCommit(), "AutoCommit debería restablecerse al devolver la conexión");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package dataaccess;
+
+import dataaccess.DocumentStore.StagedDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentStoreTest {
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path tempDir;
+
+    private DocumentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DocumentStore(tempDir.resolve("almacen"));
+    }
+
+    @Test
+    void testStageComputesHashAndSize() throws IOException {
+        try (StagedDocument staged = store.stage("hello".getBytes(StandardCharsets.UTF_8), "PDF")) {
+            assertEquals(HELLO_SHA256, staged.hash(), "El hash debería ser el SHA-256 del contenido");
+            assertEquals(5, staged.size(), "El tamaño debería coincidir con el contenido");
+            assertFalse(store.contains(staged.hash()), "El documento no debería publicarse al prepararse");
+        }
+    }
+
+    @Test
+    void testStreamAndBytesProduceSameHash() throws IOException {
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+
+        try (StagedDocument fromBytes = store.stage(content, "PDF");
+             StagedDocument fromStream = store.stage(new ByteArrayInputStream(content))) {
+            assertEquals(fromBytes.hash(), fromStream.hash(), "El hash no debería depender de la forma de lectura");
+            assertEquals(fromBytes.size(), fromStream.size(), "El tamaño no debería depender de la forma de lectura");
+        }
+    }
+
+    @Test
+    void testPublishUsesShardedPath() throws IOException {
+        try (StagedDocument staged = store.stage("hello".getBytes(StandardCharsets.UTF_8), "PDF")) {
+            assertTrue(store.publish(staged), "El primer documento debería guardarse");
+        }
+
+        Path expected = tempDir.resolve("almacen").resolve("2c").resolve("f2").resolve(HELLO_SHA256);
+        assertEquals(expected, store.pathOf(HELLO_SHA256), "La ruta debería dividirse por los primeros bytes del hash");
+        assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), store.readAllBytes(HELLO_SHA256),
+                "El contenido publicado debería poder leerse");
+    }
+
+    @Test
+    void testPublishDeduplicatesIdenticalContent() throws IOException {
+        byte[] content = "convenio firmado".getBytes(StandardCharsets.UTF_8);
+        StagedDocument first = store.stage(content, "PDF");
+        StagedDocument second = store.stage(content, "PDF");
+
+        assertTrue(store.publish(first), "El primer documento debería guardarse");
+        assertFalse(store.publish(second), "Un documento idéntico no debería guardarse de nuevo");
+        assertFalse(Files.exists(second.file()), "El archivo temporal del duplicado debería eliminarse");
+
+        try (var files = Files.list(tempDir.resolve("almacen").resolve("tmp"))) {
+            assertEquals(0, files.count(), "No deberían quedar archivos temporales");
+        }
+    }
+
+    @Test
+    void testCopyToAndDelete() throws IOException {
+        try (StagedDocument staged = store.stage("hello".getBytes(StandardCharsets.UTF_8), "PDF")) {
+            store.publish(staged);
+        }
+        Path target = tempDir.resolve("descarga.pdf");
+
+        assertEquals(5, store.copyTo(HELLO_SHA256, target), "Deberían copiarse todos los bytes");
+        assertTrue(store.delete(HELLO_SHA256), "El documento debería eliminarse");
+        assertFalse(store.contains(HELLO_SHA256), "El documento eliminado no debería existir");
+    }
+
+    @Test
+    void testCompressesRepetitiveDocuments() throws IOException {
+        byte[] content = "Oficio de asignación de proyecto de prácticas profesionales. "
+                .repeat(2_000).getBytes(StandardCharsets.UTF_8);
+        String hash;
+        try (StagedDocument staged = store.stage(content, "PDF")) {
+            assertEquals(DocumentCodec.DEFLATE, staged.codec(), "Un documento repetitivo debería comprimirse");
+            assertTrue(staged.storedSize() < content.length / 10, "El tamaño en disco debería reducirse");
+            assertEquals(content.length, staged.size(), "Debería registrarse el tamaño original");
+            store.publish(staged);
+            hash = staged.hash();
+        }
+
+        assertTrue(Files.exists(store.pathOf(hash, DocumentCodec.DEFLATE)), "El archivo debería guardarse comprimido");
+        assertArrayEquals(content, store.readAllBytes(hash), "La lectura debería descomprimir el contenido");
+    }
+
+    @Test
+    void testSkipsAlreadyCompressedTypes() throws IOException {
+        byte[] content = "A".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        try (StagedDocument staged = store.stage(content, "JPG")) {
+            assertEquals(DocumentCodec.NONE, staged.codec(), "Un JPG no debería comprimirse de nuevo");
+            assertEquals(content.length, staged.storedSize(), "El tamaño en disco debería ser el original");
+        }
+    }
+
+    @Test
+    void testKeepsHighEntropyDocumentsUncompressed() throws IOException {
+        byte[] content = new byte[100_000];
+        new Random(7).nextBytes(content);
+
+        try (StagedDocument staged = store.stage(content, "PDF")) {
+            assertEquals(DocumentCodec.NONE, staged.codec(), "Un contenido aleatorio no debería comprimirse");
+        }
+        assertTrue(DocumentCodec.entropy(content, content.length) > 7.9, "La entropía aleatoria debería ser cercana a 8 bits");
+    }
+
+    @Test
+    void testRejectsInvalidHash() {
+        assertFalse(DocumentStore.isValidHash("../../etc/passwd"), "Una ruta no debería aceptarse como hash");
+        assertThrows(IllegalArgumentException.class, () -> store.pathOf("ABC"),
+                "Un hash inválido debería rechazarse");
+    }
+}
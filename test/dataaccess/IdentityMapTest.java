@@ -0,0 +1,63 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityMapTest {
+
+    @Test
+    void testLookupSharesInstanceWithinScope() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        try (IdentityMap ignored = IdentityMap.open()) {
+            StringBuilder first = IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+            StringBuilder second = IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+
+            assertSame(first, second, "La misma fila debería compartirse por referencia");
+            assertEquals(1, loads.get(), "La entidad debería cargarse una sola vez");
+        }
+    }
+
+    @Test
+    void testLookupOutsideScopeAlwaysLoads() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+        IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+
+        assertEquals(2, loads.get(), "Sin un ámbito abierto no debería reutilizarse ninguna instancia");
+    }
+
+    @Test
+    void testEvictEverywhereForcesReload() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        try (IdentityMap ignored = IdentityMap.open()) {
+            StringBuilder first = IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+            IdentityMap.evictEverywhere(StringBuilder.class, 1);
+            StringBuilder second = IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+
+            assertNotSame(first, second, "La entidad desalojada debería recargarse");
+        }
+    }
+
+    @Test
+    void testExplicitScopeIsOnlyVisibleWhileBound() throws SQLException {
+        AtomicInteger loads = new AtomicInteger();
+        try (IdentityMap identityMap = IdentityMap.create()) {
+            try (IdentityMap.Binding ignored = identityMap.bind()) {
+                IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+            }
+            IdentityMap.lookup(StringBuilder.class, 1, () -> newEntity(loads));
+
+            assertEquals(2, loads.get(), "Fuera de la vinculación no debería usarse el mapa");
+            assertEquals(1, identityMap.size(), "El mapa debería conservar la entidad cargada mientras estaba vinculado");
+        }
+    }
+
+    private static StringBuilder newEntity(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new StringBuilder("entidad");
+    }
+}
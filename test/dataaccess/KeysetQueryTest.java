@@ -0,0 +1,62 @@
+package dataaccess;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetQueryTest {
+
+    @BeforeAll
+    static void setUpAll() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS keyset_prueba");
+            statement.execute("CREATE TABLE keyset_prueba (id INT PRIMARY KEY, nombre VARCHAR(32) NULL)");
+            statement.execute("INSERT INTO keyset_prueba (id, nombre) VALUES " +
+                    "(1, 'Beatriz'), (2, NULL), (3, 'Ana'), (4, NULL), (5, 'Ana'), (6, NULL), (7, 'Carlos')");
+        }
+    }
+
+    @AfterAll
+    static void tearDownAll() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS keyset_prueba");
+        }
+    }
+
+    @Test
+    void testAscendingPagesIncludeNullSortValues() throws SQLException {
+        assertEquals(List.of(2, 4, 6, 3, 5, 1, 7), fetchAll(false),
+                "Los nulos deberían aparecer primero y ninguna fila debería perderse ni repetirse");
+    }
+
+    @Test
+    void testDescendingPagesIncludeNullSortValues() throws SQLException {
+        assertEquals(List.of(7, 1, 5, 3, 6, 4, 2), fetchAll(true),
+                "Los nulos deberían aparecer al final y ninguna fila debería perderse ni repetirse");
+    }
+
+    private List<Integer> fetchAll(boolean descending) throws SQLException {
+        KeysetQuery query = new KeysetQuery("id, nombre", "keyset_prueba", "id")
+                .sortable("nombre", "nombre");
+        PageRequest request = PageRequest.first(2).sortedBy("nombre", descending);
+        List<Integer> ids = new ArrayList<>();
+
+        Page<Integer> page;
+        do {
+            page = query.fetch(request, resultSet -> resultSet.getInt("id"));
+            ids.addAll(page.items());
+            request = request.after(page.nextCursor());
+        } while (page.hasNext());
+        return ids;
+    }
+}
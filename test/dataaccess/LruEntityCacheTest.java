@@ -0,0 +1,58 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruEntityCacheTest {
+
+    @Test
+    void testReadThroughCountsHitsAndMisses() throws SQLException {
+        LruEntityCache<Integer, String> cache = new LruEntityCache<>("prueba", 60_000, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("uno", cache.get(1, () -> { loads.incrementAndGet(); return "uno"; }));
+        assertEquals("uno", cache.get(1, () -> { loads.incrementAndGet(); return "otro"; }));
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1, loads.get(), "El segundo acceso debería resolverse desde la caché");
+        assertEquals(1, stats.hits(), "Debería registrarse un acierto");
+        assertEquals(1, stats.misses(), "Debería registrarse un fallo");
+        assertEquals(0.5, stats.hitRatio(), 0.0001, "La tasa de aciertos debería ser del 50%");
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() throws SQLException {
+        LruEntityCache<Integer, String> cache = new LruEntityCache<>("prueba", 60_000, 2);
+        cache.get(1, () -> "uno");
+        cache.get(2, () -> "dos");
+        cache.get(1, () -> "uno");
+        cache.get(3, () -> "tres");
+
+        assertEquals("uno", cache.get(1, () -> "recargado"), "La entrada usada recientemente debería conservarse");
+        assertEquals("recargado", cache.get(2, () -> "recargado"), "La entrada menos usada debería desalojarse");
+        assertTrue(cache.getStats().evictions() >= 1, "Debería registrarse al menos un desalojo");
+    }
+
+    @Test
+    void testInvalidateForcesReload() throws SQLException {
+        LruEntityCache<Integer, String> cache = new LruEntityCache<>("prueba", 60_000, 10);
+        cache.get(1, () -> "antes");
+        cache.invalidate(1);
+
+        assertEquals("despues", cache.get(1, () -> "despues"), "La entrada invalidada debería recargarse");
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() throws SQLException, InterruptedException {
+        LruEntityCache<Integer, String> cache = new LruEntityCache<>("prueba", 1, 10);
+        cache.get(1, () -> "antes");
+        Thread.sleep(5);
+
+        assertEquals("despues", cache.get(1, () -> "despues"), "La entrada expirada debería recargarse");
+        assertEquals(1, cache.getStats().expirations(), "Debería registrarse una expiración");
+    }
+}
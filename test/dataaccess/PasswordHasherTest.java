@@ -0,0 +1,43 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    @Test
+    void testHashAndVerifyRoundTrip() {
+        String hash = PasswordHasher.hash("contraseñaSegura");
+
+        assertEquals(PasswordHasher.getCost(), PasswordHasher.costOf(hash), "El hash debería usar el costo configurado");
+        assertTrue(PasswordHasher.verify("contraseñaSegura", hash), "La contraseña correcta debería verificarse");
+        assertFalse(PasswordHasher.verify("otraContraseña", hash), "Una contraseña distinta no debería verificarse");
+    }
+
+    @Test
+    void testNeedsRehashOnlyForLowerCost() {
+        String staleHash = BCrypt.hashpw("contraseñaSegura", BCrypt.gensalt(4));
+
+        assertTrue(PasswordHasher.needsRehash(staleHash), "Un hash con costo menor debería rehacerse");
+        assertFalse(PasswordHasher.needsRehash("$2a$31$abcdefghijklmnopqrstuv"), "Un hash con costo mayor no debería rehacerse");
+        assertFalse(PasswordHasher.needsRehash("texto-plano"), "Un valor que no es BCrypt no debería rehacerse");
+    }
+
+    @Test
+    void testRecommendCostScalesWithHostSpeed() {
+        assertEquals(10, PasswordHasher.recommendCost(300, 250), "Un equipo lento debería quedarse en el costo mínimo");
+        assertEquals(12, PasswordHasher.recommendCost(60, 250), "El costo debería duplicar el tiempo hasta el objetivo");
+        assertEquals(16, PasswordHasher.recommendCost(0.5, 250), "El costo recomendado no debería superar el máximo");
+    }
+
+    @Test
+    void testBenchmarkReportsThroughput() {
+        PasswordHasher.BenchmarkResult result = PasswordHasher.benchmark(4, 2);
+
+        assertEquals(PasswordHasher.getPoolSize() * 2, result.hashes(), "Deberían medirse todos los hashes solicitados");
+        assertTrue(result.hashesPerSecond() > 0, "El rendimiento debería ser positivo");
+        assertTrue(result.hashesPerSecondPerCore() <= result.hashesPerSecond(), "El rendimiento por núcleo no debería superar el total");
+    }
+}
@@ -0,0 +1,38 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsTest {
+
+    @Test
+    void testNormalizeReplacesLiteralsAndCollapsesWhitespace() {
+        String normalized = QueryMetrics.normalize(
+                "SELECT *   FROM usuario\n WHERE id_usuario = 15 AND estado = 'A'");
+
+        assertEquals("SELECT * FROM usuario WHERE id_usuario = ? AND estado = ?", normalized,
+                "Los literales y espacios deberían normalizarse");
+    }
+
+    @Test
+    void testNormalizeCollapsesInLists() {
+        String first = QueryMetrics.normalize("SELECT * FROM estudiante WHERE id_usuario IN (?, ?, ?)");
+        String second = QueryMetrics.normalize("SELECT * FROM estudiante WHERE id_usuario IN (?,?)");
+
+        assertEquals(first, second, "Las listas IN de distinto tamaño deberían agruparse");
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000_000);
+        }
+        histogram.record(500_000_000);
+
+        assertEquals(100, histogram.getCount(), "Deberían registrarse cien muestras");
+        assertTrue(histogram.getPercentileMillis(50) <= 2.1, "La mediana debería estar cerca de 1 ms");
+        assertEquals(500.0, histogram.getMaxMillis(), 0.001, "El máximo debería ser 500 ms");
+        assertTrue(histogram.getPercentileMillis(100) >= 500.0, "El percentil 100 debería alcanzar el máximo");
+    }
+}
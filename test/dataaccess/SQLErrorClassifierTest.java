@@ -0,0 +1,91 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SQLErrorClassifierTest {
+
+    @Test
+    void testCommunicationsLinkFailureIsTransient() {
+        SQLException exception = new SQLException("Communications link failure", "08S01", 0);
+
+        assertEquals(SQLErrorClassifier.Category.TRANSIENT, SQLErrorClassifier.classify(exception),
+                "La falla de comunicación debería ser transitoria");
+    }
+
+    @Test
+    void testDuplicateKeyIsConstraint() {
+        SQLException exception = new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062);
+
+        assertEquals(SQLErrorClassifier.Category.CONSTRAINT, SQLErrorClassifier.classify(exception),
+                "La llave duplicada debería clasificarse como restricción");
+    }
+
+    @Test
+    void testSyntaxErrorIsFatal() {
+        SQLException exception = new SQLException("You have an error in your SQL syntax", "42000", 1064);
+
+        assertEquals(SQLErrorClassifier.Category.FATAL, SQLErrorClassifier.classify(exception),
+                "El error de sintaxis debería ser fatal");
+    }
+
+    @Test
+    void testRetryPolicyRetriesTransientReads() throws Exception {
+        RetryPolicy policy = new RetryPolicy(3, 0, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.executeRead(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new SQLException("Communications link failure", "08S01", 0);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result, "La lectura debería completarse tras los reintentos");
+        assertEquals(3, attempts.get(), "Deberían realizarse tres intentos");
+    }
+
+    @Test
+    void testRetryPolicyDoesNotRetryConstraintErrors() {
+        RetryPolicy policy = new RetryPolicy(3, 0, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(SQLException.class, () -> policy.executeRead(() -> {
+            attempts.incrementAndGet();
+            throw new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062);
+        }), "El error de restricción debería propagarse");
+        assertEquals(1, attempts.get(), "No debería reintentarse un error de restricción");
+    }
+
+    @Test
+    void testCircuitBreakerOpensAfterThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 60_000, () -> false);
+        SQLException failure = new SQLException("Communications link failure", "08S01", 0);
+
+        breaker.recordFailure(failure);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "Un solo fallo no debería abrir el circuito");
+
+        breaker.recordFailure(failure);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(), "El circuito debería abrirse tras el umbral");
+        assertThrows(CircuitBreakerOpenException.class, breaker::checkAvailable,
+                "Con el circuito abierto debería fallarse de inmediato");
+        breaker.shutdown();
+    }
+
+    @Test
+    void testCircuitBreakerIgnoresPoolExhaustionAndLockTimeouts() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 60_000, () -> false);
+
+        breaker.recordFailure(new PoolExhaustedException("No hay conexiones disponibles"));
+        breaker.recordFailure(new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(),
+                "Solo las fallas de conexión deberían abrir el circuito");
+        assertTrue(SQLErrorClassifier.isTransient(new PoolExhaustedException("No hay conexiones disponibles")),
+                "El pool agotado debería seguir siendo transitorio para los reintentos");
+        breaker.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package dataaccess;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    @Test
+    void testRedactsPasswordInInsert() {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        parameters.put(1, 10);
+        parameters.put(2, "ana@uv.mx");
+        parameters.put(3, "$2a$12$hash");
+
+        String result = SlowQueryLog.redactParameters(
+                "INSERT INTO cuenta (id_usuario, correo_e, contraseña) VALUES (?, ?, ?)", parameters);
+
+        assertEquals("[1=10, 2='ana@uv.mx', 3=<oculto>]", result, "La contraseña debería ocultarse");
+    }
+
+    @Test
+    void testRedactsPasswordInUpdate() {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        parameters.put(1, "$2a$12$hash");
+        parameters.put(2, "ana@uv.mx");
+
+        String result = SlowQueryLog.redactParameters(
+                "UPDATE cuenta SET contraseña = ? WHERE correo_e = ?", parameters);
+
+        assertEquals("[1=<oculto>, 2='ana@uv.mx']", result, "Solo el valor de la contraseña debería ocultarse");
+    }
+
+    @Test
+    void testKeepsParametersWithoutPasswordColumn() {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        parameters.put(1, 7);
+
+        String result = SlowQueryLog.redactParameters(
+                "SELECT * FROM evaluacion WHERE id_estudiante = ?", parameters);
+
+        assertEquals("[1=7]", result, "Los parámetros sin contraseña deberían conservarse");
+    }
+}
@@ -0,0 +1,105 @@
+package dataaccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionScopeTest {
+
+    private static final String TEST_PHONE = "5559990001";
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM usuario WHERE telefono = ?")) {
+            statement.setString(1, TEST_PHONE);
+            statement.executeUpdate();
+        }
+    }
+
+    @Test
+    void testDaoCallsShareTheScopeConnection() throws SQLException {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            Connection first = ConnectionDataBase.getConnection();
+            Connection second = ConnectionDataBase.getConnection();
+
+            assertSame(first, second, "Las llamadas dentro del alcance deberían compartir la conexión");
+            assertFalse(first.getAutoCommit(), "La conexión compartida no debería usar autocommit");
+            transaction.commit();
+        }
+        assertFalse(TransactionScope.isActive(), "El alcance debería liberarse al cerrarse");
+    }
+
+    @Test
+    void testUncommittedScopeRollsBack() throws SQLException {
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            insertTestUser();
+        }
+
+        assertFalse(testUserExists(), "La inserción sin confirmar debería revertirse");
+    }
+
+    @Test
+    void testCommittedScopePersists() throws SQLException {
+        TransactionScope.execute(() -> {
+            insertTestUser();
+            return null;
+        });
+
+        assertTrue(testUserExists(), "La inserción confirmada debería persistir");
+    }
+
+    @Test
+    void testNestedScopeWithoutCommitMarksRollbackOnly() throws SQLException {
+        try (TransactionScope outer = TransactionScope.begin()) {
+            try (TransactionScope inner = TransactionScope.begin()) {
+                insertTestUser();
+            }
+            assertThrows(SQLException.class, outer::commit,
+                    "No debería confirmarse si una operación anidada falló");
+        }
+
+        assertFalse(testUserExists(), "La transacción debería revertirse completa");
+    }
+
+    @Test
+    void testAfterCommitRunsOnlyOnSuccessfulCommit() throws SQLException {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            TransactionScope.afterCommit(calls::incrementAndGet);
+        }
+        assertEquals(0, calls.get(), "La acción no debería ejecutarse si la transacción se revierte");
+
+        try (TransactionScope transaction = TransactionScope.begin()) {
+            TransactionScope.afterCommit(calls::incrementAndGet);
+            assertEquals(0, calls.get(), "La acción debería esperar a la confirmación");
+            transaction.commit();
+        }
+        assertEquals(1, calls.get(), "La acción debería ejecutarse tras confirmar");
+    }
+
+    private void insertTestUser() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "INSERT INTO usuario (nombre_completo, telefono) VALUES ('Transaction Test', ?)")) {
+            statement.setString(1, TEST_PHONE);
+            statement.executeUpdate();
+        }
+    }
+
+    private boolean testUserExists() throws SQLException {
+        try (Connection connection = ConnectionDataBase.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM usuario WHERE telefono = ?")) {
+            statement.setString(1, TEST_PHONE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+}
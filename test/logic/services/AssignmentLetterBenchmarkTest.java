@@ -0,0 +1,207 @@
+package logic.services;
+
+import logic.logicclasses.AssignmentLetter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static logic.services.AssignmentLetterTemplate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentLetterBenchmarkTest {
+    private static final Logger logger = LogManager.getLogger(AssignmentLetterBenchmarkTest.class);
+    private static final byte[] PDF_SIGNATURE = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testCompiledTemplateProducesPdfLikePerCallRenderer() throws IOException {
+        AssignmentLetter letter = sampleLetters(1).get(0);
+
+        byte[] perCall = renderPerCall(letter);
+        byte[] compiled = PDFAssignmentGenerator.template().render(letter);
+
+        assertArrayEquals(PDF_SIGNATURE, Arrays.copyOf(perCall, PDF_SIGNATURE.length), "El renderizado anterior debería generar un PDF");
+        assertArrayEquals(PDF_SIGNATURE, Arrays.copyOf(compiled, PDF_SIGNATURE.length), "La plantilla compilada debería generar un PDF");
+    }
+
+    @Test
+    void testBenchmarkReportsThroughput() throws IOException {
+        Result result = run(50);
+
+        assertEquals(50, result.documents(), "Deberían medirse todos los documentos solicitados");
+        assertTrue(result.perCallDocumentsPerSecond() > 0, "El rendimiento anterior debería ser positivo");
+        assertTrue(result.compiledDocumentsPerSecond() > 0, "El rendimiento de la plantilla debería ser positivo");
+    }
+
+    private static Result run(int documents) throws IOException {
+        List<AssignmentLetter> letters = sampleLetters(documents);
+        AssignmentLetterTemplate template = PDFAssignmentGenerator.template();
+        int warmUp = Math.min(documents, 20);
+        for (int i = 0; i < warmUp; i++) {
+            renderPerCall(letters.get(i));
+            template.render(letters.get(i));
+        }
+
+        long start = System.nanoTime();
+        for (AssignmentLetter letter : letters) {
+            renderPerCall(letter);
+        }
+        long perCallNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (AssignmentLetter letter : letters) {
+            template.render(letter);
+        }
+        long compiledNanos = System.nanoTime() - start;
+
+        Result result = new Result(documents, perCallNanos, compiledNanos);
+        logger.info(result.describe());
+        return result;
+    }
+
+    private static List<AssignmentLetter> sampleLetters(int documents) {
+        List<AssignmentLetter> letters = new ArrayList<>(documents);
+        LocalDate date = LocalDate.now();
+        for (int i = 0; i < documents; i++) {
+            letters.add(new AssignmentLetter("Estudiante de Prueba Número " + i, String.format("S%08d", i),
+                    "Sistema de Gestión de Prácticas Profesionales " + (i % 7), "Representante " + (i % 13), date));
+        }
+        return letters;
+    }
+
+    private static byte[] renderPerCall(AssignmentLetter letter) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+
+            PDPage page = new PDPage(PDRectangle.LETTER);
+            document.addPage(page);
+            PDType1Font fontBold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+            PDType1Font fontRegular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            PDPageContentStream contentStream = new PDPageContentStream(document, page);
+            float yPosition = PDRectangle.LETTER.getHeight() - MARGIN;
+
+            try {
+                showLine(contentStream, fontBold, FONT_SIZE_REGULAR, yPosition, HEADER);
+                yPosition -= LEADING;
+                for (String line : ADDRESS_LINES) {
+                    showLine(contentStream, fontRegular, FONT_SIZE_SMALL, yPosition, line);
+                    yPosition -= LEADING;
+                }
+                yPosition -= LEADING;
+                showLine(contentStream, fontRegular, FONT_SIZE_REGULAR, yPosition,
+                        DATE_PREFIX + letter.date().format(DATE_FORMAT));
+                yPosition -= LEADING * 2;
+                showLine(contentStream, fontBold, FONT_SIZE_REGULAR, yPosition, letter.representativeName());
+                yPosition -= LEADING;
+                for (String line : INSTITUTION_LINES) {
+                    showLine(contentStream, fontRegular, FONT_SIZE_REGULAR, yPosition, line);
+                    yPosition -= LEADING;
+                }
+                yPosition -= LEADING;
+
+                String[] startDate = letter.date().format(DATE_FORMAT).split(" ");
+                List<String> paragraphs = new ArrayList<>();
+                paragraphs.add(OPENING_LINE);
+                paragraphs.add(String.format(ASSIGNMENT_PARAGRAPH, letter.studentName().toUpperCase(),
+                        letter.enrollment(), letter.projectTitle().toUpperCase(),
+                        startDate[0] + " DE " + startDate[2].toUpperCase(Locale.ROOT)));
+                paragraphs.addAll(List.of(CLOSING_PARAGRAPHS));
+
+                float width = PDRectangle.LETTER.getWidth() - 2 * MARGIN;
+                for (String paragraph : paragraphs) {
+                    if (paragraph.isEmpty()) {
+                        yPosition -= LEADING;
+                        continue;
+                    }
+                    for (String line : splitTextIntoLines(paragraph, fontRegular, FONT_SIZE_REGULAR, width)) {
+                        if (yPosition < MARGIN) {
+                            contentStream.close();
+                            PDPage newPage = new PDPage(PDRectangle.LETTER);
+                            document.addPage(newPage);
+                            contentStream = new PDPageContentStream(document, newPage);
+                            yPosition = PDRectangle.LETTER.getHeight() - MARGIN;
+                        }
+                        showLine(contentStream, fontRegular, FONT_SIZE_REGULAR, yPosition, line);
+                        yPosition -= LEADING;
+                    }
+                }
+
+                for (String line : SIGNATURE_LINES) {
+                    showLine(contentStream, fontBold, FONT_SIZE_REGULAR, yPosition, line);
+                    yPosition -= LEADING;
+                }
+            } finally {
+                contentStream.close();
+            }
+
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static void showLine(PDPageContentStream contentStream, PDType1Font font, float fontSize,
+                                 float yPosition, String text) throws IOException {
+        contentStream.beginText();
+        contentStream.setFont(font, fontSize);
+        contentStream.newLineAtOffset(MARGIN, yPosition);
+        contentStream.showText(text);
+        contentStream.endText();
+    }
+
+    private static String[] splitTextIntoLines(String text, PDType1Font font, float fontSize, float width)
+            throws IOException {
+        StringBuilder builder = new StringBuilder();
+        String line = "";
+
+        for (String word : text.split(" ")) {
+            if (line.isEmpty()) {
+                line = word;
+            } else {
+                String testLine = line + " " + word;
+                if (font.getStringWidth(testLine) / 1000 * fontSize < width) {
+                    line = testLine;
+                } else {
+                    builder.append(line).append("\n");
+                    line = word;
+                }
+            }
+        }
+        builder.append(line);
+        return builder.toString().split("\n");
+    }
+
+    private record Result(int documents, long perCallNanos, long compiledNanos) {
+
+        public double perCallDocumentsPerSecond() {
+            return documents / (perCallNanos / 1_000_000_000.0);
+        }
+
+        public double compiledDocumentsPerSecond() {
+            return documents / (compiledNanos / 1_000_000_000.0);
+        }
+
+        public double speedup() {
+            return (double) perCallNanos / compiledNanos;
+        }
+
+        public String describe() {
+            return String.format(Locale.ROOT,
+                    "Cartas de asignación (%d documentos): antes %.1f docs/s, plantilla compilada %.1f docs/s (%.2fx)",
+                    documents, perCallDocumentsPerSecond(), compiledDocumentsPerSecond(), speedup());
+        }
+    }
+}